@@ -72,8 +72,7 @@ public class ModelAssembler {
 	 * Process the model
 	 */
 	public void processModel(boolean initial) {
-		IExtensionPoint extPoint = registry.getExtensionPoint(extensionPointID);
-		IExtension[] extensions = new ExtensionsSort().sort(extPoint.getExtensions());
+		IExtension[] extensions = getExtensions();
 
 		List<MApplicationElement> imports = new ArrayList<MApplicationElement>();
 		List<MApplicationElement> addedElements = new ArrayList<MApplicationElement>();
@@ -87,6 +86,59 @@ public class ModelAssembler {
 		resolveImports(imports, addedElements);
 	}
 
+	/**
+	 * Merges the model fragments into the model, without running any processors. The imports of
+	 * the fragments are not resolved, as {@link #processModel(boolean)} resolves them only after
+	 * the processors have run.
+	 *
+	 * @param imports
+	 *            receives the imports of the merged fragments
+	 * @param addedElements
+	 *            receives the elements that have been added to the model
+	 * @param initial
+	 *            whether the model is the initial model
+	 * @see #hasProcessorsBeforeFragments(boolean)
+	 * @see #resolveImports(List, List)
+	 */
+	public void processFragments(List<MApplicationElement> imports,
+			List<MApplicationElement> addedElements, boolean initial) {
+		processFragments(getExtensions(), imports, addedElements, initial);
+	}
+
+	/**
+	 * Runs the processors which are marked to run after fragments.
+	 *
+	 * @param initial
+	 *            whether the model is the initial model
+	 */
+	public void runProcessorsAfterFragments(boolean initial) {
+		runProcessors(getExtensions(), initial, true);
+	}
+
+	/**
+	 * @param initial
+	 *            whether the model is the initial model
+	 * @return {@code true} if there are processors which are marked to run before fragments.
+	 *         Fragments can only be merged independently of processors if there are none.
+	 */
+	public boolean hasProcessorsBeforeFragments(boolean initial) {
+		for (IExtension extension : getExtensions()) {
+			for (IConfigurationElement ce : extension.getConfigurationElements()) {
+				if ("processor".equals(ce.getName()) //$NON-NLS-1$
+						&& Boolean.parseBoolean(ce.getAttribute("beforefragment")) //$NON-NLS-1$
+						&& (initial || !INITIAL.equals(ce.getAttribute("apply")))) { //$NON-NLS-1$
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private IExtension[] getExtensions() {
+		IExtensionPoint extPoint = registry.getExtensionPoint(extensionPointID);
+		return new ExtensionsSort().sort(extPoint.getExtensions());
+	}
+
 	/**
 	 * @param extensions
 	 * @param imports
@@ -261,7 +313,16 @@ public class ModelAssembler {
 		}
 	}
 
-	private void resolveImports(List<MApplicationElement> imports,
+	/**
+	 * Replaces the references of the added elements to imports by the elements of the model with
+	 * the same element id.
+	 *
+	 * @param imports
+	 *            the imports of the merged fragments
+	 * @param addedElements
+	 *            the elements that have been added to the model
+	 */
+	public void resolveImports(List<MApplicationElement> imports,
 			List<MApplicationElement> addedElements) {
 		if (imports.isEmpty())
 			return;
@@ -0,0 +1,535 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.commands.MBindingContext;
+import org.eclipse.e4.ui.model.application.commands.MBindingTable;
+import org.eclipse.e4.ui.model.application.commands.MCommand;
+import org.eclipse.e4.ui.model.application.commands.MHandler;
+import org.eclipse.e4.ui.model.application.commands.MKeyBinding;
+import org.eclipse.e4.ui.model.application.ui.MElementContainer;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MArea;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.e4.ui.workbench.UIEvents.EventTags;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Indexes the elements of an application model by element id, tag and class, so that
+ * {@link ModelServiceImpl#findElements(MUIElement, String, Class, List, int)} does not have to
+ * walk the whole model. The index is kept in sync through the UIEvents which the
+ * {@link UIEventPublisher} sends for all model changes.
+ * <p>
+ * The index only provides the candidates of a search. Whether a candidate is found from the
+ * search root with the given search flags is decided by following the containment (and
+ * placeholder references) from the candidate up to the search root, applying the same rules as
+ * the recursive search. Candidates are returned in the order of the recursive search.
+ * </p>
+ */
+final class ModelIndex implements EventHandler {
+
+	private static final int[] ROOT_KEY = new int[0];
+	// marks a search that cannot be answered from the index
+	private static final int[] UNKNOWN = new int[0];
+
+	private static final int APPLICATION_ELEMENTS = 1;
+	private static final int BINDING_CONTEXT_CHILDREN = 2;
+	private static final int BINDINGS = 3;
+	private static final int CHILDREN = 4;
+	private static final int TRIM_BARS = 5;
+	private static final int DETACHED_WINDOWS = 6;
+	private static final int MAIN_MENU = 7;
+	private static final int WINDOW_HANDLERS = 8;
+	private static final int PERSPECTIVE_WINDOWS = 9;
+	private static final int PLACEHOLDER_REF = 10;
+	private static final int PART_MENUS = 11;
+	private static final int PART_TOOLBAR = 12;
+	private static final int PART_HANDLERS = 13;
+
+	private static final Comparator<int[]> KEY_ORDER = new Comparator<int[]>() {
+		@Override
+		public int compare(int[] key1, int[] key2) {
+			int length = Math.min(key1.length, key2.length);
+			for (int i = 0; i < length; i++) {
+				if (key1[i] != key2[i]) {
+					return key1[i] < key2[i] ? -1 : 1;
+				}
+			}
+			return key1.length - key2.length;
+		}
+	};
+
+	private final MApplication application;
+	private final Set<MApplicationElement> elements = new HashSet<MApplicationElement>();
+	private final Map<String, Set<MApplicationElement>> elementsById = new HashMap<String, Set<MApplicationElement>>();
+	private final Map<String, Set<MApplicationElement>> elementsByTag = new HashMap<String, Set<MApplicationElement>>();
+	private final Map<Class<?>, Set<MApplicationElement>> elementsByClass = new HashMap<Class<?>, Set<MApplicationElement>>();
+	private final Map<MUIElement, Set<MPlaceholder>> placeholdersByRef = new HashMap<MUIElement, Set<MPlaceholder>>();
+
+	ModelIndex(MApplication application) {
+		this.application = application;
+		addTree((EObject) application);
+	}
+
+	MApplication getApplication() {
+		return application;
+	}
+
+	/**
+	 * @return {@code true} if changes of the given application are published as UIEvents
+	 */
+	static boolean isObservable(MApplication application) {
+		for (Adapter adapter : ((Notifier) application).eAdapters()) {
+			if (adapter instanceof UIEventPublisher) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the elements that the recursive search would find for the given criteria, in the
+	 * same order.
+	 *
+	 * @return the elements found or {@code null} if the search cannot be answered from the index
+	 */
+	synchronized <T> List<T> findElements(MApplicationElement searchRoot, String id,
+			Class<T> clazz, List<String> tagsToMatch, int searchFlags) {
+		if (!contains((EObject) searchRoot)) {
+			return null;
+		}
+		Collection<MApplicationElement> candidates = getCandidates(id, clazz, tagsToMatch);
+		if (candidates == null) {
+			return null;
+		}
+		List<T> result = new ArrayList<T>();
+		if (searchFlags == 0 || candidates.isEmpty()) {
+			return result;
+		}
+		final Map<Object, int[]> keys = new IdentityHashMap<Object, int[]>();
+		List<MApplicationElement> found = new ArrayList<MApplicationElement>();
+		for (MApplicationElement candidate : candidates) {
+			if (matches(candidate, id, clazz, tagsToMatch)) {
+				int[] key = getKey(candidate, searchRoot, clazz, searchFlags, keys, 0);
+				if (key == UNKNOWN) {
+					return null;
+				}
+				if (key != null) {
+					found.add(candidate);
+				}
+			}
+		}
+		Collections.sort(found, new Comparator<MApplicationElement>() {
+			@Override
+			public int compare(MApplicationElement element1, MApplicationElement element2) {
+				return KEY_ORDER.compare(keys.get(element1), keys.get(element2));
+			}
+		});
+		for (MApplicationElement element : found) {
+			@SuppressWarnings("unchecked")
+			T typedElement = (T) element;
+			result.add(typedElement);
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized void handleEvent(Event event) {
+		Object changedElement = event.getProperty(EventTags.ELEMENT);
+		if (!(changedElement instanceof EObject) || !contains((EObject) changedElement)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) changedElement;
+		String attribute = (String) event.getProperty(EventTags.ATTNAME);
+		if (UIEvents.ApplicationElement.ELEMENTID.equals(attribute)) {
+			if (elements.contains(element)) {
+				remove(elementsById, (String) event.getProperty(EventTags.OLD_VALUE), element);
+				add(elementsById, element.getElementId(), element);
+			}
+		} else if (UIEvents.ApplicationElement.TAGS.equals(attribute)) {
+			if (elements.contains(element)) {
+				if (UIEvents.isREMOVE(event)) {
+					for (Object tag : UIEvents.asIterable(event, EventTags.OLD_VALUE)) {
+						if (!element.getTags().contains(tag)) {
+							remove(elementsByTag, (String) tag, element);
+						}
+					}
+				}
+				for (String tag : element.getTags()) {
+					add(elementsByTag, tag, element);
+				}
+			}
+		} else if (UIEvents.Placeholder.REF.equals(attribute)
+				&& element instanceof MPlaceholder) {
+			if (elements.contains(element)) {
+				Object oldRef = event.getProperty(EventTags.OLD_VALUE);
+				if (oldRef instanceof MUIElement) {
+					remove(placeholdersByRef, (MUIElement) oldRef, (MPlaceholder) element);
+				}
+				addPlaceholder((MPlaceholder) element);
+			}
+		} else {
+			if (UIEvents.isREMOVE(event) || UIEvents.isSET(event)) {
+				for (Object oldValue : UIEvents.asIterable(event, EventTags.OLD_VALUE)) {
+					if (oldValue instanceof EObject && !contains((EObject) oldValue)) {
+						removeTree((EObject) oldValue);
+					}
+				}
+			}
+			if (UIEvents.isADD(event) || UIEvents.isSET(event)) {
+				for (Object newValue : UIEvents.asIterable(event, EventTags.NEW_VALUE)) {
+					if (newValue instanceof EObject
+							&& ((EObject) newValue).eContainer() == changedElement) {
+						addTree((EObject) newValue);
+					}
+				}
+			}
+		}
+	}
+
+	private Collection<MApplicationElement> getCandidates(String id, Class<?> clazz,
+			List<String> tagsToMatch) {
+		if (id != null) {
+			return getElements(elementsById, id);
+		}
+		if (tagsToMatch != null && !tagsToMatch.isEmpty()) {
+			Set<MApplicationElement> result = null;
+			for (String tag : tagsToMatch) {
+				Set<MApplicationElement> tagged = getElements(elementsByTag, tag);
+				if (result == null || tagged.size() < result.size()) {
+					result = tagged;
+				}
+			}
+			return result;
+		}
+		if (clazz != null) {
+			return getElementsByClass(clazz);
+		}
+		return null;
+	}
+
+	private Set<MApplicationElement> getElementsByClass(Class<?> clazz) {
+		Set<MApplicationElement> result = elementsByClass.get(clazz);
+		if (result == null) {
+			result = new HashSet<MApplicationElement>();
+			for (MApplicationElement element : elements) {
+				if (clazz.isInstance(element)) {
+					result.add(element);
+				}
+			}
+			elementsByClass.put(clazz, result);
+		}
+		return result;
+	}
+
+	private static boolean matches(MApplicationElement element, String id, Class<?> clazz,
+			List<String> tagsToMatch) {
+		if (id != null && !id.equals(element.getElementId())) {
+			return false;
+		}
+		if (clazz != null && !clazz.isInstance(element)) {
+			return false;
+		}
+		return tagsToMatch == null || element.getTags().containsAll(tagsToMatch);
+	}
+
+	/**
+	 * Computes the position at which the recursive search finds the given element. The key
+	 * consists of pairs of the kind of reference that is followed and the index within this
+	 * reference for every step from the search root down to the element. The recursive search
+	 * visits elements in the lexicographic order of their keys.
+	 *
+	 * @return the key, {@code null} if the element is not found or {@link #UNKNOWN}
+	 */
+	private int[] getKey(Object element, Object searchRoot, Class<?> clazz, int searchFlags,
+			Map<Object, int[]> keys, int depth) {
+		if (element == searchRoot) {
+			return ROOT_KEY;
+		}
+		if (keys.containsKey(element)) {
+			return keys.get(element);
+		}
+		if (depth > elements.size()) {
+			// cyclic placeholder references, the recursive search would not terminate either
+			return UNKNOWN;
+		}
+		// prevents cycles through placeholders
+		keys.put(element, null);
+		int[] result = null;
+		EObject parent = ((EObject) element).eContainer();
+		if (parent != null) {
+			int[] step = getStep(parent, element, clazz, searchFlags);
+			if (step != null) {
+				int[] parentKey = getKey(parent, searchRoot, clazz, searchFlags, keys, depth + 1);
+				// an unknown step only matters if the parent is found from the search root
+				if (parentKey == UNKNOWN || (parentKey != null && step == UNKNOWN)) {
+					return UNKNOWN;
+				}
+				if (parentKey != null) {
+					result = min(result, append(parentKey, step));
+				}
+			}
+		}
+		Set<MPlaceholder> placeholders = placeholdersByRef.get(element);
+		if (placeholders != null
+				&& (!(element instanceof MArea) || (searchFlags & EModelService.IN_SHARED_AREA) != 0)) {
+			for (MPlaceholder placeholder : placeholders) {
+				int[] placeholderKey = getKey(placeholder, searchRoot, clazz, searchFlags, keys,
+						depth + 1);
+				if (placeholderKey == UNKNOWN) {
+					return UNKNOWN;
+				}
+				result = min(result, append(placeholderKey, new int[] { PLACEHOLDER_REF, 0 }));
+			}
+		}
+		keys.put(element, result);
+		return result;
+	}
+
+	/**
+	 * Mirrors the rules of the recursive search for descending from the given parent to the
+	 * given child.
+	 *
+	 * @return the kind of reference and the index of the child, {@code null} if the recursive
+	 *         search does not descend to the child or {@link #UNKNOWN}
+	 */
+	private static int[] getStep(Object parent, Object child, Class<?> clazz, int searchFlags) {
+		int index;
+		if (parent instanceof MApplication && searchFlags == EModelService.ANYWHERE
+				&& clazz != null) {
+			MApplication app = (MApplication) parent;
+			List<?> children = null;
+			if (clazz.equals(MHandler.class)) {
+				children = app.getHandlers();
+			} else if (clazz.equals(MCommand.class)) {
+				children = app.getCommands();
+			} else if (clazz.equals(MBindingContext.class)) {
+				children = app.getBindingContexts();
+			} else if (clazz.equals(MBindingTable.class) || clazz.equals(MKeyBinding.class)) {
+				children = app.getBindingTables();
+			}
+			if (children != null && (index = children.indexOf(child)) >= 0) {
+				return step(APPLICATION_ELEMENTS, index);
+			}
+		}
+		if (parent instanceof MBindingContext
+				&& (index = ((MBindingContext) parent).getChildren().indexOf(child)) >= 0) {
+			return searchFlags == EModelService.ANYWHERE ? step(BINDING_CONTEXT_CHILDREN, index)
+					: null;
+		}
+		if (parent instanceof MBindingTable
+				&& (index = ((MBindingTable) parent).getBindings().indexOf(child)) >= 0) {
+			return step(BINDINGS, index);
+		}
+		if (parent instanceof MElementContainer<?>
+				&& (index = ((MElementContainer<?>) parent).getChildren().indexOf(child)) >= 0) {
+			if (parent instanceof MPerspectiveStack) {
+				if ((searchFlags & EModelService.IN_ANY_PERSPECTIVE) != 0) {
+					return step(CHILDREN, index);
+				} else if ((searchFlags & EModelService.IN_ACTIVE_PERSPECTIVE) != 0) {
+					return ((MPerspectiveStack) parent).getSelectedElement() == child ? step(
+							CHILDREN, 0) : null;
+				} else if ((searchFlags & EModelService.IN_SHARED_AREA) != 0) {
+					// the recursive search looks for areas anywhere below the stack
+					return UNKNOWN;
+				}
+				return null;
+			}
+			return step(CHILDREN, index);
+		}
+		if (parent instanceof MTrimmedWindow
+				&& (index = ((MTrimmedWindow) parent).getTrimBars().indexOf(child)) >= 0) {
+			return (searchFlags & EModelService.IN_TRIM) != 0 ? step(TRIM_BARS, index) : null;
+		}
+		if (parent instanceof MWindow) {
+			MWindow window = (MWindow) parent;
+			if ((index = window.getWindows().indexOf(child)) >= 0) {
+				return step(DETACHED_WINDOWS, index);
+			}
+			if (window.getMainMenu() == child) {
+				return (searchFlags & EModelService.IN_MAIN_MENU) != 0 ? step(MAIN_MENU, 0)
+						: null;
+			}
+			if ((index = window.getHandlers().indexOf(child)) >= 0) {
+				return searchFlags == EModelService.ANYWHERE && MHandler.class.equals(clazz) ? step(
+						WINDOW_HANDLERS, index) : null;
+			}
+		}
+		if (parent instanceof MPerspective
+				&& (index = ((MPerspective) parent).getWindows().indexOf(child)) >= 0) {
+			return step(PERSPECTIVE_WINDOWS, index);
+		}
+		if (parent instanceof MPart && (searchFlags & EModelService.IN_PART) != 0) {
+			MPart part = (MPart) parent;
+			if ((index = part.getMenus().indexOf(child)) >= 0) {
+				return step(PART_MENUS, index);
+			}
+			if (part.getToolbar() == child) {
+				return step(PART_TOOLBAR, 0);
+			}
+			if ((index = part.getHandlers().indexOf(child)) >= 0) {
+				return MHandler.class.equals(clazz) ? step(PART_HANDLERS, index) : null;
+			}
+		}
+		return null;
+	}
+
+	private static int[] step(int reference, int index) {
+		return new int[] { reference, index };
+	}
+
+	private static int[] append(int[] key, int[] step) {
+		int[] result = new int[key.length + step.length];
+		System.arraycopy(key, 0, result, 0, key.length);
+		System.arraycopy(step, 0, result, key.length, step.length);
+		return result;
+	}
+
+	private static int[] min(int[] key1, int[] key2) {
+		if (key1 == null) {
+			return key2;
+		}
+		return KEY_ORDER.compare(key1, key2) <= 0 ? key1 : key2;
+	}
+
+	private boolean contains(EObject object) {
+		return EcoreUtil.getRootContainer(object) == application;
+	}
+
+	private void addTree(EObject root) {
+		add(root);
+		TreeIterator<EObject> iterator = root.eAllContents();
+		while (iterator.hasNext()) {
+			add(iterator.next());
+		}
+	}
+
+	private void removeTree(EObject root) {
+		remove(root);
+		TreeIterator<EObject> iterator = root.eAllContents();
+		while (iterator.hasNext()) {
+			remove(iterator.next());
+		}
+	}
+
+	private void add(EObject object) {
+		if (!(object instanceof MApplicationElement)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) object;
+		if (!elements.add(element)) {
+			return;
+		}
+		add(elementsById, element.getElementId(), element);
+		for (String tag : element.getTags()) {
+			add(elementsByTag, tag, element);
+		}
+		for (Map.Entry<Class<?>, Set<MApplicationElement>> entry : elementsByClass.entrySet()) {
+			if (entry.getKey().isInstance(element)) {
+				entry.getValue().add(element);
+			}
+		}
+		if (element instanceof MPlaceholder) {
+			addPlaceholder((MPlaceholder) element);
+		}
+	}
+
+	private void remove(EObject object) {
+		if (!(object instanceof MApplicationElement) || !elements.remove(object)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) object;
+		removeFromAll(elementsById, element);
+		removeFromAll(elementsByTag, element);
+		for (Set<MApplicationElement> classElements : elementsByClass.values()) {
+			classElements.remove(element);
+		}
+		if (element instanceof MPlaceholder) {
+			removeFromAll(placeholdersByRef, (MPlaceholder) element);
+		}
+	}
+
+	private void addPlaceholder(MPlaceholder placeholder) {
+		MUIElement ref = placeholder.getRef();
+		if (ref != null) {
+			add(placeholdersByRef, ref, placeholder);
+		}
+	}
+
+	private static Set<MApplicationElement> getElements(Map<String, Set<MApplicationElement>> map,
+			String key) {
+		Set<MApplicationElement> result = map.get(key);
+		return result == null ? Collections.<MApplicationElement> emptySet() : result;
+	}
+
+	private static <K, V> void add(Map<K, Set<V>> map, K key, V value) {
+		if (key == null) {
+			return;
+		}
+		Set<V> values = map.get(key);
+		if (values == null) {
+			values = new HashSet<V>();
+			map.put(key, values);
+		}
+		values.add(value);
+	}
+
+	private static <K, V> void remove(Map<K, Set<V>> map, K key, V value) {
+		if (key == null) {
+			return;
+		}
+		Set<V> values = map.get(key);
+		if (values != null) {
+			values.remove(value);
+			if (values.isEmpty()) {
+				map.remove(key);
+			}
+		}
+	}
+
+	// the key of an element may have changed without notice, e.g. the id of an element that is
+	// not part of the model
+	private static <K, V> void removeFromAll(Map<K, Set<V>> map, V value) {
+		for (Iterator<Set<V>> iterator = map.values().iterator(); iterator.hasNext();) {
+			Set<V> values = iterator.next();
+			if (values.remove(value) && values.isEmpty()) {
+				iterator.remove();
+			}
+		}
+	}
+}
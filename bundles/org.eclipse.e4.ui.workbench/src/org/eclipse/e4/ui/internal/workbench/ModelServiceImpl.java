@@ -73,6 +73,16 @@ public class ModelServiceImpl implements EModelService {
 	/** Factory which is able to create {@link MApplicationElement}s in a generic way. */
 	private GenericMApplicationElementFactoryImpl mApplicationElementFactory;
 
+	// RAP: index of the application model, created on the first search
+	/**
+	 * System property that enables the index for searches by id, tag and type. Disabled by
+	 * default.
+	 */
+	static final String MODEL_INDEX_PROPERTY = "org.eclipse.e4.ui.workbench.modelIndex"; //$NON-NLS-1$
+
+	private ModelIndex modelIndex;
+	// RAPEND
+
 	// Cleans up after a hosted element is disposed
 	private EventHandler hostedElementHandler = new EventHandler() {
 
@@ -294,17 +304,59 @@ public class ModelServiceImpl implements EModelService {
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch) {
-		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, ANYWHERE, matcher);
+		return findElements(searchRoot, id, clazz, tagsToMatch, ANYWHERE);
 	}
 
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch, int searchFlags) {
+		// RAP: answer searches for ids, tags and types from the model index
+		Assert.isLegal(searchRoot != null);
+		ModelIndex index = getModelIndex();
+		if (index != null) {
+			List<T> elements = index.findElements(searchRoot, id, clazz, tagsToMatch, searchFlags);
+			if (elements != null) {
+				return elements;
+			}
+		}
+		// RAPEND
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
 		return findElements(searchRoot, clazz, searchFlags, matcher);
 	}
 
+	// RAP: the index is only used if enabled and as long as all changes of the model are
+	// published as events
+	private synchronized ModelIndex getModelIndex() {
+		boolean enabled = Boolean.getBoolean(MODEL_INDEX_PROPERTY);
+		MApplication application = appContext.get(MApplication.class);
+		if (modelIndex != null
+				&& (!enabled || modelIndex.getApplication() != application || !ModelIndex
+						.isObservable(application))) {
+			disposeModelIndex();
+		}
+		if (enabled && modelIndex == null && application != null
+				&& ModelIndex.isObservable(application)) {
+			IEventBroker eventBroker = appContext.get(IEventBroker.class);
+			if (eventBroker != null) {
+				modelIndex = new ModelIndex(application);
+				String topic = UIEvents.UIModelTopicBase + UIEvents.TOPIC_SEP
+						+ UIEvents.ALL_SUB_TOPICS;
+				// headless, the index has to be updated synchronously with the model
+				eventBroker.subscribe(topic, null, modelIndex, true);
+			}
+		}
+		return modelIndex;
+	}
+
+	private void disposeModelIndex() {
+		IEventBroker eventBroker = appContext.get(IEventBroker.class);
+		if (eventBroker != null) {
+			eventBroker.unsubscribe(modelIndex);
+		}
+		modelIndex = null;
+	}
+	// RAPEND
+
 	@Override
 	public <T> List<T> findElements(MApplicationElement searchRoot, Class<T> clazz,
 			int searchFlags, Selector matcher) {
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryEventListener;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * An application model that has been loaded from an application definition and, if possible,
+ * assembled with the model fragments. Every UI session starts with a copy of the template of its
+ * application definition instead of loading and merging the XMI files again.
+ * <p>
+ * The imports of the fragments are left unresolved in the template. Every session resolves them
+ * in its copy after the processors have run, in the same order as
+ * {@link ModelAssembler#processModel(boolean)}.
+ * </p>
+ * <p>
+ * Templates are shared by all UI sessions. They are discarded when extensions of the model
+ * extension point are added or removed.
+ * </p>
+ */
+final class ModelTemplate {
+
+	private static final String MODEL_EXTENSION_POINT = "org.eclipse.e4.workbench.model"; //$NON-NLS-1$
+
+	private static final Map<URI, ModelTemplate> templates = new HashMap<URI, ModelTemplate>();
+	private static boolean listening;
+	private static int generation;
+
+	private final Resource resource;
+	private final boolean fragmentsMerged;
+	private final List<MApplicationElement> imports;
+	private final List<MApplicationElement> addedElements;
+
+	ModelTemplate(Resource resource, boolean fragmentsMerged, List<MApplicationElement> imports,
+			List<MApplicationElement> addedElements) {
+		this.resource = resource;
+		this.fragmentsMerged = fragmentsMerged;
+		this.imports = imports;
+		this.addedElements = addedElements;
+	}
+
+	/**
+	 * @return {@code true} if the model fragments have already been merged into the template
+	 */
+	boolean isFragmentsMerged() {
+		return fragmentsMerged;
+	}
+
+	/**
+	 * @return the unresolved imports of the merged fragments, shared by all copies
+	 */
+	List<MApplicationElement> getImports() {
+		return imports;
+	}
+
+	/**
+	 * Adds a copy of the application model to the given resource. The copy keeps the XMI ids of
+	 * the template. References to imports are not resolved, see
+	 * {@link ModelAssembler#resolveImports(List, List)}.
+	 *
+	 * @param target
+	 *            an empty resource
+	 * @param copiedElements
+	 *            receives the copies of the elements that the fragments have added
+	 * @return the given resource
+	 */
+	Resource copyInto(Resource target, List<MApplicationElement> copiedElements) {
+		// copying may resolve proxies and create ids in the template
+		synchronized (this) {
+			EcoreUtil.Copier copier = new EcoreUtil.Copier();
+			EObject application = copier.copy(resource.getContents().get(0));
+			copier.copyReferences();
+			for (MApplicationElement addedElement : addedElements) {
+				EObject copy = copier.get(addedElement);
+				if (copy != null) {
+					copiedElements.add((MApplicationElement) copy);
+				}
+			}
+			target.getContents().add(application);
+			if (resource instanceof E4XMIResource && target instanceof E4XMIResource) {
+				E4XMIResource source = (E4XMIResource) resource;
+				for (Entry<EObject, EObject> entry : copier.entrySet()) {
+					((E4XMIResource) target).setID(entry.getValue(), source.getID(entry.getKey()));
+				}
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * @return the template for the given application definition or {@code null} if there is
+	 *         none
+	 */
+	static synchronized ModelTemplate get(URI applicationDefinition) {
+		return templates.get(applicationDefinition);
+	}
+
+	/**
+	 * Returns the current generation of templates. The generation changes whenever the
+	 * templates are discarded. A template has to be built from the extensions of the generation
+	 * it is registered for.
+	 */
+	static synchronized int getGeneration(IExtensionRegistry registry) {
+		if (!listening) {
+			registry.addListener(new InvalidationListener(), MODEL_EXTENSION_POINT);
+			listening = true;
+		}
+		return generation;
+	}
+
+	/**
+	 * Registers a template for the given application definition, unless there is one already or
+	 * the template is outdated.
+	 *
+	 * @return the registered template or the given one if it has not been registered
+	 */
+	static synchronized ModelTemplate register(URI applicationDefinition, ModelTemplate template,
+			int templateGeneration) {
+		if (templateGeneration != generation) {
+			return template;
+		}
+		ModelTemplate existing = templates.get(applicationDefinition);
+		if (existing != null) {
+			return existing;
+		}
+		templates.put(applicationDefinition, template);
+		return template;
+	}
+
+	static synchronized void clear() {
+		templates.clear();
+		generation++;
+	}
+
+	private static final class InvalidationListener implements IRegistryEventListener {
+
+		@Override
+		public void added(IExtension[] extensions) {
+			clear();
+		}
+
+		@Override
+		public void removed(IExtension[] extensions) {
+			clear();
+		}
+
+		@Override
+		public void added(IExtensionPoint[] extensionPoints) {
+			clear();
+		}
+
+		@Override
+		public void removed(IExtensionPoint[] extensionPoints) {
+			clear();
+		}
+	}
+}
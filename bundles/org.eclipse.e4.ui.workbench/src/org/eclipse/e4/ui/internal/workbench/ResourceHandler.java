@@ -20,14 +20,17 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.eclipse.core.internal.runtime.PlatformURLPluginConnection;
+import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -107,7 +110,11 @@ public class ResourceHandler implements IModelResourceHandler {
 
 	@PostConstruct
 	void init() {
-		resourceSetImpl = new ResourceSetImpl();
+		resourceSetImpl = createResourceSet();
+	}
+
+	private static ResourceSetImpl createResourceSet() {
+		ResourceSetImpl resourceSetImpl = new ResourceSetImpl();
 		resourceSetImpl.getResourceFactoryRegistry().getExtensionToFactoryMap()
 				.put(Resource.Factory.Registry.DEFAULT_EXTENSION, new E4XMIResourceFactory());
 
@@ -126,7 +133,7 @@ public class ResourceHandler implements IModelResourceHandler {
 				.getPackageRegistry()
 				.put(org.eclipse.e4.ui.model.application.descriptor.basic.impl.BasicPackageImpl.eNS_URI,
 						org.eclipse.e4.ui.model.application.descriptor.basic.impl.BasicPackageImpl.eINSTANCE);
-
+		return resourceSetImpl;
 	}
 
 	/**
@@ -239,10 +246,17 @@ public class ResourceHandler implements IModelResourceHandler {
 				resource = null;
 			}
 		}
+		ModelTemplate template = null;
+		List<MApplicationElement> addedElements = new ArrayList<MApplicationElement>();
 		if (resource == null) {
-			Resource applicationResource = loadResource(applicationDefinitionInstance);
-			MApplication theApp = (MApplication) applicationResource.getContents().get(0);
-			resource = createResourceWithApp(theApp);
+			template = getTemplate();
+			if (template != null) {
+				resource = template.copyInto(createResource(), addedElements);
+			} else {
+				Resource applicationResource = loadResource(applicationDefinitionInstance);
+				MApplication theApp = (MApplication) applicationResource.getContents().get(0);
+				resource = createResourceWithApp(theApp);
+			}
 			context.set(E4Workbench.NO_SAVED_MODEL_FOUND, Boolean.TRUE);
 			initialModel = true;
 		} else {
@@ -256,7 +270,13 @@ public class ResourceHandler implements IModelResourceHandler {
 		this.context.set(MApplication.class, appElement);
 		ModelAssembler contribProcessor = ContextInjectionFactory.make(ModelAssembler.class,
 				context);
-		contribProcessor.processModel(initialModel);
+		if (template != null && template.isFragmentsMerged()) {
+			// same order as processModel, imports may refer to elements added by processors
+			contribProcessor.runProcessorsAfterFragments(initialModel);
+			contribProcessor.resolveImports(template.getImports(), addedElements);
+		} else {
+			contribProcessor.processModel(initialModel);
+		}
 
 		if (!hasTopLevelWindows(resource) && logger != null) {
 			logger.error(new Exception(), // log a stack trace to help debug the
@@ -274,6 +294,43 @@ public class ResourceHandler implements IModelResourceHandler {
 		return resource;
 	}
 
+	/**
+	 * Returns the template for the initial model, creates it if necessary. The template contains
+	 * the application definition with all model fragments merged, unless there are processors
+	 * that have to run before the fragments.
+	 *
+	 * @return the template or {@code null} if the application definition cannot be loaded
+	 */
+	private ModelTemplate getTemplate() {
+		ModelTemplate template = ModelTemplate.get(applicationDefinitionInstance);
+		if (template != null) {
+			return template;
+		}
+		IExtensionRegistry registry = context.get(IExtensionRegistry.class);
+		int generation = ModelTemplate.getGeneration(registry);
+		Resource templateResource = loadResource(createResourceSet(), applicationDefinitionInstance);
+		if (templateResource == null || templateResource.getContents().isEmpty()) {
+			return null;
+		}
+		IEclipseContext templateContext = context.createChild("ModelTemplate"); //$NON-NLS-1$
+		try {
+			templateContext.set(MApplication.class,
+					(MApplication) templateResource.getContents().get(0));
+			ModelAssembler assembler = ContextInjectionFactory.make(ModelAssembler.class,
+					templateContext);
+			boolean mergeFragments = !assembler.hasProcessorsBeforeFragments(true);
+			List<MApplicationElement> imports = new ArrayList<MApplicationElement>();
+			List<MApplicationElement> addedElements = new ArrayList<MApplicationElement>();
+			if (mergeFragments) {
+				assembler.processFragments(imports, addedElements, true);
+			}
+			template = new ModelTemplate(templateResource, mergeFragments, imports, addedElements);
+		} finally {
+			templateContext.dispose();
+		}
+		return ModelTemplate.register(applicationDefinitionInstance, template, generation);
+	}
+
 	@Override
 	public void save() throws IOException {
 		if (saveAndRestore)
@@ -322,9 +379,13 @@ public class ResourceHandler implements IModelResourceHandler {
 
 	// Ensures that even models with error are loaded!
 	private Resource loadResource(URI uri) {
+		return loadResource(resourceSetImpl, uri);
+	}
+
+	private Resource loadResource(ResourceSetImpl resourceSet, URI uri) {
 		Resource resource;
 		try {
-			resource = getResource(uri);
+			resource = getResource(resourceSet, uri);
 		} catch (Exception e) {
 			// TODO We could use diagnostics for better analyzing the error
 			logger.error(e, "Unable to load resource " + uri.toString()); //$NON-NLS-1$
@@ -345,17 +406,17 @@ public class ResourceHandler implements IModelResourceHandler {
 		return resource;
 	}
 
-	private Resource getResource(URI uri) throws Exception {
+	private Resource getResource(ResourceSetImpl resourceSet, URI uri) throws Exception {
 		Resource resource;
 		if (saveAndRestore) {
-			resource = resourceSetImpl.getResource(uri, true);
+			resource = resourceSet.getResource(uri, true);
 		} else {
 			// Workaround for java.lang.IllegalStateException: No instance data can be specified
 			// thrown by org.eclipse.core.internal.runtime.DataArea.assertLocationInitialized
 			// The DataArea.assertLocationInitialized is called by ResourceSetImpl.getResource(URI,
 			// boolean)
-			resource = resourceSetImpl.createResource(uri);
-			resource.load(new URL(uri.toString()).openStream(), resourceSetImpl.getLoadOptions());
+			resource = resourceSet.createResource(uri);
+			resource.load(new URL(uri.toString()).openStream(), resourceSet.getLoadOptions());
 		}
 
 		return resource;
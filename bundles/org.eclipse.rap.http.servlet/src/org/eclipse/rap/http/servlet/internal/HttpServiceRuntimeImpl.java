@@ -234,6 +234,8 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 		preprocessorServiceTracker.close();
 
 		controllerMap.clear();
+		dispatchTargetsCache.clear();
+		contextPathIndex = null;
 		preprocessorMap.clear();
 		registeredObjects.clear();
 		legacyContextMap.clear();
@@ -259,6 +261,35 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 		String queryString = path.getQueryString();
 		String requestURI = path.getRequestURI();
 
+		// the request info has to be collected from the registrations, and a query string makes
+		// the difference for a request to '/'
+		if ((requestInfoDTO != null) || ((queryString != null) && Const.SLASH.equals(requestURI))) {
+			return findDispatchTargets(pathString, path, requestInfoDTO);
+		}
+
+		// the cached targets are valid as long as the change count has not changed, a change
+		// during the lookup discards the result with the next request
+		long changecount = serviceChangecount.get();
+		CachedDispatchTargets cached = dispatchTargetsCache.get(requestURI);
+
+		if ((cached == null) || (cached.changecount != changecount)) {
+			cached = new CachedDispatchTargets(changecount, findDispatchTargets(pathString, path, null));
+
+			if (dispatchTargetsCache.size() >= DISPATCH_TARGETS_CACHE_SIZE) {
+				dispatchTargetsCache.clear();
+			}
+
+			dispatchTargetsCache.put(requestURI, cached);
+		}
+
+		return (cached.dispatchTargets == null) ? null : cached.dispatchTargets.copy(queryString);
+	}
+
+	private DispatchTargets findDispatchTargets(String pathString, Path path, RequestInfoDTO requestInfoDTO) {
+
+		String queryString = path.getQueryString();
+		String requestURI = path.getRequestURI();
+
 		// perfect match
 		DispatchTargets dispatchTargets = getDispatchTargets(requestURI, null, queryString, Match.EXACT,
 				requestInfoDTO);
@@ -447,18 +478,14 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 	}
 
 	Collection<ContextController> getContextControllers(String requestURI) {
+		Map<String, List<ContextController>> controllersByPath = getContextPathIndex();
+
 		int pos = requestURI.lastIndexOf('/');
 
 		do {
-			List<ContextController> contextControllers = new ArrayList<>();
+			List<ContextController> contextControllers = controllersByPath.get(requestURI);
 
-			for (ContextController contextController : controllerMap.values()) {
-				if (contextController.getContextPath().equals(requestURI)) {
-					contextControllers.add(contextController);
-				}
-			}
-
-			if (!contextControllers.isEmpty()) {
+			if (contextControllers != null) {
 				return contextControllers;
 			}
 
@@ -479,6 +506,18 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 		return controllerMap.values();
 	}
 
+	private Map<String, List<ContextController>> getContextPathIndex() {
+		long changecount = serviceChangecount.get();
+		ContextPathIndex index = contextPathIndex;
+
+		if ((index == null) || (index.changecount != changecount)) {
+			index = new ContextPathIndex(changecount, controllerMap.values());
+			contextPathIndex = index;
+		}
+
+		return index.controllers;
+	}
+
 	public DispatchTargets getDispatchTargets(String requestURI, String extension, String queryString, Match match,
 			RequestInfoDTO requestInfoDTO) {
 
@@ -1297,6 +1336,10 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 	private final AtomicReference<ServiceRegistration<HttpServiceRuntime>> hsrRegistration = new AtomicReference<>();
 
 	private final AtomicLong serviceChangecount = new AtomicLong();
+	// bounds the number of request paths that are remembered, the cache is cleared when full
+	private static final int DISPATCH_TARGETS_CACHE_SIZE = 1000;
+	private final ConcurrentMap<String, CachedDispatchTargets> dispatchTargetsCache = new ConcurrentHashMap<>();
+	private volatile ContextPathIndex contextPathIndex;
 	private final ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
 	private final Semaphore semaphore = new Semaphore(1);
 
@@ -1489,4 +1532,41 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 		}
 	}
 
+	static class CachedDispatchTargets {
+
+		CachedDispatchTargets(long changecount, DispatchTargets dispatchTargets) {
+			this.changecount = changecount;
+			this.dispatchTargets = dispatchTargets;
+		}
+
+		final long changecount;
+		// null if no registration matches the request path
+		final DispatchTargets dispatchTargets;
+	}
+
+	static class ContextPathIndex {
+
+		ContextPathIndex(long changecount, Collection<ContextController> contextControllers) {
+			Map<String, List<ContextController>> map = new HashMap<>();
+
+			// keeps the ranking order of the controllers for each context path
+			for (ContextController contextController : contextControllers) {
+				List<ContextController> list = map.get(contextController.getContextPath());
+
+				if (list == null) {
+					list = new ArrayList<>();
+					map.put(contextController.getContextPath(), list);
+				}
+
+				list.add(contextController);
+			}
+
+			this.changecount = changecount;
+			this.controllers = map;
+		}
+
+		final long changecount;
+		final Map<String, List<ContextController>> controllers;
+	}
+
 }
@@ -54,6 +54,15 @@ public class DispatchTargets {
 		this.queryString = queryString;
 	}
 
+	/**
+	 * Creates the targets for another request to the same path. The copy does not share any
+	 * request state with this instance.
+	 */
+	public DispatchTargets copy(String newQueryString) {
+		return new DispatchTargets(contextController, endpointRegistration, matchingFilterRegistrations, servletName,
+				requestURI, servletPath, pathInfo, newQueryString);
+	}
+
 	public void addRequestParameters(HttpServletRequest request) {
 		currentRequest = request;
 	}
@@ -27,6 +27,8 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.internal.util.SerializableRunnable;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.Util;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Font;
@@ -366,8 +368,14 @@ public class FontRegistry extends ResourceRegistry {
         stringToFontData.put( JFaceResources.HEADER_FONT,
                               new FontData[] { makeFontData( headerFont ) } );
 
-        ResourceBundle bundle = ResourceBundle.getBundle(location);
-        readResourceBundle(bundle, location);
+        FontDefinitions definitions = FontDefinitions.getInstance();
+        Map fontDefinitions = definitions.getFontData(location);
+        Iterator iterator = fontDefinitions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry entry = (Map.Entry) iterator.next();
+            FontData[] fontData = (FontData[]) entry.getValue();
+            stringToFontData.put(entry.getKey(), copyFontData(fontData));
+        }
 
     	// RAPEND: [bm] 
 
@@ -790,14 +798,57 @@ public class FontRegistry extends ResourceRegistry {
     /**
      * Converts a String into a FontData object.
      */
-    private FontData makeFontData(String value) throws MissingResourceException {
+    private static FontData makeFontData(String value) throws MissingResourceException {
         try {
             return StringConverter.asFontData(value.trim());
         } catch (DataFormatException e) {
             throw new MissingResourceException(
-                    "Wrong font data format. Value is: \"" + value + "\"", getClass().getName(), value); //$NON-NLS-2$//$NON-NLS-1$
+                    "Wrong font data format. Value is: \"" + value + "\"", FontRegistry.class.getName(), value); //$NON-NLS-2$//$NON-NLS-1$
+        }
+    }
+
+    // RAP: font data is mutable, every registry gets its own copy
+    private static FontData[] copyFontData(FontData[] fontData) {
+        FontData[] result = new FontData[fontData.length];
+        for (int i = 0; i < fontData.length; i++) {
+            FontData element = fontData[i];
+            if (element != null) {
+                result[i] = new FontData(element.getName(), element.getHeight(),
+                        element.getStyle());
+                result[i].setLocale(element.getLocale());
+            }
+        }
+        return result;
+    }
+
+    /*
+     * The font definitions of a location are read and parsed once per
+     * application. The parsed font data must not be modified.
+     */
+    private static final class FontDefinitions {
+
+        private final Map definitions = new HashMap();
+
+        private FontDefinitions() {
+        }
+
+        static FontDefinitions getInstance() {
+            return SingletonUtil.getUniqueInstance(FontDefinitions.class,
+                    RWT.getApplicationContext());
+        }
+
+        synchronized Map getFontData(String location) {
+            Map result = (Map) definitions.get(location);
+            if (result == null) {
+                result = new HashMap();
+                ResourceBundle bundle = ResourceBundle.getBundle(location);
+                readResourceBundle(bundle, location, result);
+                definitions.put(location, result);
+            }
+            return result;
         }
     }
+    // RAPEND
 
     /**
      * Adds (or replaces) a font to this font registry under the given
@@ -857,7 +908,8 @@ public class FontRegistry extends ResourceRegistry {
      * in the mapping table.  These will lazily be turned into
      * real Font objects when requested.
      */
-    private void readResourceBundle(ResourceBundle bundle, String bundleName)
+    private static void readResourceBundle(ResourceBundle bundle,
+            String bundleName, Map stringToFontData)
             throws MissingResourceException {
         Enumeration keys = bundle.getKeys();
         while (keys.hasMoreElements()) {
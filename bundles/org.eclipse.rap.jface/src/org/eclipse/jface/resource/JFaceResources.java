@@ -166,7 +166,12 @@ public class JFaceResources {
     private final ImageRegistry imageRegistry;
     private ImageRegistryStore() {
       imageRegistry = new ImageRegistry();
-      initializeDefaultImages();
+      DefaultImages defaultImages = DefaultImages.getInstance();
+      Iterator iterator = defaultImages.getDescriptors().entrySet().iterator();
+      while( iterator.hasNext() ) {
+        Map.Entry entry = ( Map.Entry )iterator.next();
+        imageRegistry.put( ( String )entry.getKey(), ( ImageDescriptor )entry.getValue() );
+      }
     }
     public static ImageRegistryStore getInstance() {
       return SingletonUtil.getSessionInstance( ImageRegistryStore.class );
@@ -174,7 +179,24 @@ public class JFaceResources {
     public ImageRegistry getImageRegistry() {
       return imageRegistry;
     }
-    
+  }
+
+  /*
+   * The descriptors of the default images are shared by all UI sessions of an application. Image
+   * descriptors are immutable, the images are created per session by the session's image registry.
+   */
+  private final static class DefaultImages {
+    private final Map descriptors = new LinkedHashMap();
+    private DefaultImages() {
+      initializeDefaultImages();
+    }
+    public static DefaultImages getInstance() {
+      return SingletonUtil.getUniqueInstance( DefaultImages.class, RWT.getApplicationContext() );
+    }
+    public Map getDescriptors() {
+      return descriptors;
+    }
+
 	/**
 	 * Initialize default images in JFace's image registry.
 	 * 
@@ -251,7 +273,7 @@ public class JFaceResources {
 		if (descriptor == null)
 			descriptor = ImageDescriptor.createFromFile(fallback, fallbackPath);
 
-		imageRegistry.put(key, descriptor);
+		descriptors.put(key, descriptor);
 
 	}
   }
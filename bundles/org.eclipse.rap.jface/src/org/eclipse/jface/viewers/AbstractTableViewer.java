@@ -67,6 +67,9 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 				 */
 				public void handleEvent(Event event) {
 					Item item = (Item) event.item;
+					// RAP: the item has been cleared
+					clearLabelFingerprints(item);
+					// RAPEND
 					final int index = doIndexOf(item);
 
 					if (index == -1) {
@@ -403,7 +406,9 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 						cellToUpdate = new ViewerCell(cellToUpdate.getViewerRow(), cellToUpdate.getColumnIndex(), element);
 					}
 
-					columnViewer.refresh(cellToUpdate);
+					// RAP: only pass the labels of changed cells to the items
+					refreshCell(columnViewer, cellToUpdate);
+					// RAPEND
 
 					// clear cell (see bug 201280)
 					updateCell(null, 0, null);
@@ -933,7 +933,9 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				cellToUpdate = new ViewerCell(cellToUpdate.getViewerRow(), cellToUpdate.getColumnIndex(), element);
 			}
 
-			columnViewer.refresh(cellToUpdate);
+			// RAP: only pass the labels of changed cells to the items
+			refreshCell(columnViewer, cellToUpdate);
+			// RAPEND
 
 			// clear cell (see bug 201280)
 			updateCell(null, 0, null);
@@ -13,6 +13,9 @@
 
 package org.eclipse.jface.viewers;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -57,6 +60,14 @@ public abstract class ColumnViewer extends StructuredViewer {
 	// after logging for the first
 	// time
 
+	// RAP: only pass the labels of changed cells to the items
+	private boolean trackChangedCells;
+
+	private transient Map<Widget, ViewerCell.Labels[]> labelFingerprints;
+
+	private int changedCellCount;
+	// RAPEND
+
 	/**
 	 * Create a new instance of the receiver.
 	 */
@@ -317,6 +328,133 @@ public abstract class ColumnViewer extends StructuredViewer {
 		return cell;
 	}
 
+	// RAP: only pass the labels of changed cells to the items
+	/**
+	 * Refreshes the given cell with the given column. If the changed cells are
+	 * tracked, the labels are only passed to the item if they differ from the
+	 * labels of the last refresh of the cell. The cell is then counted as
+	 * changed.
+	 *
+	 * @param columnViewer
+	 * @param cellToUpdate
+	 */
+	/* package */void refreshCell(ViewerColumn columnViewer,
+			ViewerCell cellToUpdate) {
+		if (!trackChangedCells) {
+			columnViewer.refresh(cellToUpdate);
+			return;
+		}
+		cellToUpdate.startBuffering();
+		ViewerCell.Labels labels;
+		try {
+			columnViewer.refresh(cellToUpdate);
+		} finally {
+			labels = cellToUpdate.stopBuffering();
+		}
+		Widget item = cellToUpdate.getItem();
+		if (item.isDisposed()) {
+			return;
+		}
+		int column = cellToUpdate.getColumnIndex();
+		if (labelFingerprints == null) {
+			labelFingerprints = new WeakHashMap<Widget, ViewerCell.Labels[]>();
+		}
+		ViewerCell.Labels[] fingerprints = labelFingerprints.get(item);
+		if (fingerprints == null || column >= fingerprints.length) {
+			int length = Math.max(column + 1, doGetColumnCount());
+			ViewerCell.Labels[] newFingerprints = new ViewerCell.Labels[length];
+			if (fingerprints != null) {
+				System.arraycopy(fingerprints, 0, newFingerprints, 0,
+						fingerprints.length);
+			}
+			fingerprints = newFingerprints;
+			labelFingerprints.put(item, fingerprints);
+		}
+		if (!labels.equals(fingerprints[column])) {
+			cellToUpdate.applyLabels(labels);
+			fingerprints[column] = labels;
+			changedCellCount++;
+		}
+	}
+
+	/**
+	 * Forgets the labels of the last refresh of the given item. Must be called
+	 * whenever the item is cleared or shows another element, otherwise the next
+	 * refresh would leave the cleared cells empty.
+	 *
+	 * @param item
+	 */
+	/* package */void clearLabelFingerprints(Widget item) {
+		if (labelFingerprints != null) {
+			labelFingerprints.remove(item);
+		}
+	}
+
+	protected void disassociate(Item item) {
+		clearLabelFingerprints(item);
+		super.disassociate(item);
+	}
+
+	/**
+	 * Sets whether the viewer only passes the labels of changed cells to the
+	 * items when elements are refreshed or updated. If enabled, the viewer
+	 * remembers the labels of every cell and compares the labels that the label
+	 * provider sets with them. Cells whose labels are unchanged are not touched
+	 * and therefore not rendered to the client again. The number of changed
+	 * cells is counted.
+	 * <p>
+	 * Changes that are made to the items outside of the viewer are not
+	 * detected, they are only overwritten once the labels of the cell change.
+	 * </p>
+	 *
+	 * @param trackChangedCells
+	 *            <code>true</code> to only update the changed cells
+	 * @see #getChangedCellCount()
+	 * @since 4.4
+	 */
+	public void setTrackChangedCells(boolean trackChangedCells) {
+		this.trackChangedCells = trackChangedCells;
+		if (!trackChangedCells) {
+			labelFingerprints = null;
+		}
+	}
+
+	/**
+	 * Returns whether the viewer only updates the cells whose labels change.
+	 *
+	 * @return <code>true</code> if the changed cells are tracked
+	 * @see #setTrackChangedCells(boolean)
+	 * @since 4.4
+	 */
+	public boolean isTrackChangedCells() {
+		return trackChangedCells;
+	}
+
+	/**
+	 * Returns the number of cells whose labels have changed since the changed
+	 * cells are tracked or the count has been reset. A cell that is shown for
+	 * the first time counts as changed.
+	 *
+	 * @return the number of changed cells
+	 * @see #setTrackChangedCells(boolean)
+	 * @see #resetChangedCellCount()
+	 * @since 4.4
+	 */
+	public int getChangedCellCount() {
+		return changedCellCount;
+	}
+
+	/**
+	 * Resets the number of changed cells to zero.
+	 *
+	 * @see #getChangedCellCount()
+	 * @since 4.4
+	 */
+	public void resetChangedCellCount() {
+		changedCellCount = 0;
+	}
+	// RAPEND
+
 	/**
 	 * Returns the {@link Item} at the given widget-relative coordinates, or
 	 * <code>null</code> if there is no item at the given coordinates.
@@ -284,6 +284,9 @@ public class TreeViewer extends AbstractTreeViewer {
 			treeControl.addListener(SWT.SetData, new Listener() {
 
 				public void handleEvent(Event event) {
+					// RAP: the item has been cleared
+					clearLabelFingerprints(event.item);
+					// RAPEND
 					if (contentProviderIsLazy) {
 						TreeItem item = (TreeItem) event.item;
 						TreeItem parentItem = item.getParentItem();
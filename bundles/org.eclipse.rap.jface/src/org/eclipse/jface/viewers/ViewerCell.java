@@ -15,6 +15,7 @@ package org.eclipse.jface.viewers;
 
 //import org.eclipse.swt.custom.StyleRange;
 import java.io.Serializable;
+import java.util.Arrays;
 
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
@@ -37,6 +38,10 @@ public class ViewerCell implements Serializable {
 
 	private Object element;
 
+	// RAP: buffered labels, see ColumnViewer#setTrackChangedCells(boolean)
+	private transient Labels bufferedLabels;
+	// RAPEND
+
 	/**
 	 * Constant denoting the cell above current one (value is 1).
 	 */
@@ -111,6 +116,11 @@ public class ViewerCell implements Serializable {
 	 * @return {@link String}
 	 */
 	public String getText() {
+		// RAP: buffered labels
+		if (bufferedLabels != null && bufferedLabels.isSet(Labels.TEXT)) {
+			return (String) bufferedLabels.get(Labels.TEXT);
+		}
+		// RAPEND
 		return row.getText(columnIndex);
 	}
 
@@ -120,6 +130,11 @@ public class ViewerCell implements Serializable {
 	 * @return {@link Image} or <code>null</code>
 	 */
 	public Image getImage() {
+		// RAP: buffered labels
+		if (bufferedLabels != null && bufferedLabels.isSet(Labels.IMAGE)) {
+			return (Image) bufferedLabels.get(Labels.IMAGE);
+		}
+		// RAPEND
 		return row.getImage(columnIndex);
 	}
 
@@ -129,6 +144,12 @@ public class ViewerCell implements Serializable {
 	 * @param background
 	 */
 	public void setBackground(Color background) {
+		// RAP: buffered labels
+		if (bufferedLabels != null) {
+			bufferedLabels.set(Labels.BACKGROUND, background);
+			return;
+		}
+		// RAPEND
 		row.setBackground(columnIndex, background);
 
 	}
@@ -139,6 +160,12 @@ public class ViewerCell implements Serializable {
 	 * @param foreground
 	 */
 	public void setForeground(Color foreground) {
+		// RAP: buffered labels
+		if (bufferedLabels != null) {
+			bufferedLabels.set(Labels.FOREGROUND, foreground);
+			return;
+		}
+		// RAPEND
 		row.setForeground(columnIndex, foreground);
 
 	}
@@ -149,6 +176,12 @@ public class ViewerCell implements Serializable {
 	 * @param font
 	 */
 	public void setFont(Font font) {
+		// RAP: buffered labels
+		if (bufferedLabels != null) {
+			bufferedLabels.set(Labels.FONT, font);
+			return;
+		}
+		// RAPEND
 		row.setFont(columnIndex, font);
 
 	}
@@ -159,6 +192,12 @@ public class ViewerCell implements Serializable {
 	 * @param text
 	 */
 	public void setText(String text) {
+		// RAP: buffered labels
+		if (bufferedLabels != null) {
+			bufferedLabels.set(Labels.TEXT, text);
+			return;
+		}
+		// RAPEND
 		row.setText(columnIndex, text);
 
 	}
@@ -169,6 +208,12 @@ public class ViewerCell implements Serializable {
 	 * @param image
 	 */
 	public void setImage(Image image) {
+		// RAP: buffered labels
+		if (bufferedLabels != null) {
+			bufferedLabels.set(Labels.IMAGE, image);
+			return;
+		}
+		// RAPEND
 		row.setImage(columnIndex, image);
 
 	}
@@ -221,6 +266,98 @@ public class ViewerCell implements Serializable {
 		this.element = element;
 	}
 
+	// RAP: buffered labels, see ColumnViewer#setTrackChangedCells(boolean)
+	/**
+	 * Starts to buffer the labels that are set on the receiver instead of
+	 * passing them to the item.
+	 */
+	void startBuffering() {
+		bufferedLabels = new Labels();
+	}
+
+	/**
+	 * Stops buffering the labels.
+	 *
+	 * @return the labels that have been set since {@link #startBuffering()}
+	 */
+	Labels stopBuffering() {
+		Labels result = bufferedLabels;
+		bufferedLabels = null;
+		return result;
+	}
+
+	/**
+	 * Passes the given labels to the item of the receiver.
+	 *
+	 * @param labels
+	 */
+	void applyLabels(Labels labels) {
+		if (labels.isSet(Labels.BACKGROUND)) {
+			row.setBackground(columnIndex, (Color) labels.get(Labels.BACKGROUND));
+		}
+		if (labels.isSet(Labels.FOREGROUND)) {
+			row.setForeground(columnIndex, (Color) labels.get(Labels.FOREGROUND));
+		}
+		if (labels.isSet(Labels.FONT)) {
+			row.setFont(columnIndex, (Font) labels.get(Labels.FONT));
+		}
+		if (labels.isSet(Labels.TEXT)) {
+			row.setText(columnIndex, (String) labels.get(Labels.TEXT));
+		}
+		if (labels.isSet(Labels.IMAGE)) {
+			row.setImage(columnIndex, (Image) labels.get(Labels.IMAGE));
+		}
+	}
+
+	/**
+	 * The labels that a label provider has set on a cell. Serves as the
+	 * fingerprint of the cell. It holds the labels themselves rather than a
+	 * hash of them, so that a hash collision can't hide a change.
+	 */
+	static final class Labels {
+
+		static final int BACKGROUND = 0;
+
+		static final int FOREGROUND = 1;
+
+		static final int FONT = 2;
+
+		static final int TEXT = 3;
+
+		static final int IMAGE = 4;
+
+		private final Object[] values = new Object[5];
+
+		private int setMask;
+
+		void set(int kind, Object value) {
+			values[kind] = value;
+			setMask |= 1 << kind;
+		}
+
+		boolean isSet(int kind) {
+			return (setMask & 1 << kind) != 0;
+		}
+
+		Object get(int kind) {
+			return values[kind];
+		}
+
+		public boolean equals(Object object) {
+			if (!(object instanceof Labels)) {
+				return false;
+			}
+			Labels other = (Labels) object;
+			return setMask == other.setMask
+					&& Arrays.equals(values, other.values);
+		}
+
+		public int hashCode() {
+			return 31 * setMask + Arrays.hashCode(values);
+		}
+	}
+	// RAPEND
+
 	/**
 	 * Return the item for the receiver.
 	 *
@@ -356,6 +493,11 @@ public class ViewerCell implements Serializable {
 	 * @since 1.1
 	 */
 	public Color getForeground() {
+		// RAP: buffered labels
+		if (bufferedLabels != null && bufferedLabels.isSet(Labels.FOREGROUND)) {
+			return (Color) bufferedLabels.get(Labels.FOREGROUND);
+		}
+		// RAPEND
 		return row.getForeground(columnIndex);
 	}
 	
@@ -368,6 +510,11 @@ public class ViewerCell implements Serializable {
 	 * @since 1.1
 	 */
 	public Color getBackground() {
+		// RAP: buffered labels
+		if (bufferedLabels != null && bufferedLabels.isSet(Labels.BACKGROUND)) {
+			return (Color) bufferedLabels.get(Labels.BACKGROUND);
+		}
+		// RAPEND
 		return row.getBackground(columnIndex);
 	}
 	
@@ -379,6 +526,11 @@ public class ViewerCell implements Serializable {
 	 * @since 1.1
 	 */
 	public Font getFont() {
+		// RAP: buffered labels
+		if (bufferedLabels != null && bufferedLabels.isSet(Labels.FONT)) {
+			return (Font) bufferedLabels.get(Labels.FONT);
+		}
+		// RAPEND
 		return row.getFont(columnIndex);
 	}
 	
@@ -15,8 +15,13 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.nebula.widgets.grid.internal.IGridAdapter;
 import org.eclipse.nebula.widgets.grid.internal.IScrollBarProxy;
@@ -72,8 +77,11 @@ public class Grid extends Composite {
 
   private List<GridItem> items = new ArrayList<GridItem>();
   private List<GridItem> rootItems = new ArrayList<GridItem>();
-  private List<GridItem> selectedItems = new ArrayList<GridItem>();
-  private List<Point> selectedCells = new ArrayList<Point>();
+  // hashed sets in selection order, the cells must not be modified while in the set
+  private Set<GridItem> selectedItems = new LinkedHashSet<GridItem>();
+  private Set<Point> selectedCells = new LinkedHashSet<Point>();
+  // the flat indices of the items below this index are up to date, see internalIndexOf
+  private int validFlatIndices;
   private List<GridColumn> columns = new ArrayList<GridColumn>();
   private List<GridColumn> displayOrderedColumns = new ArrayList<GridColumn>();
   private List<GridColumnGroup> columnGroups = new ArrayList<GridColumnGroup>();
@@ -453,7 +461,7 @@ public class Grid extends Composite {
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    return item.getParent() == this ? items.indexOf( item ) : -1;
+    return item.getParent() == this ? internalIndexOf( item ) : -1;
   }
 
   /**
@@ -521,7 +529,7 @@ public class Grid extends Composite {
   public GridItem getNextVisibleItem( GridItem item ) {
     checkWidget();
     GridItem result = null;
-    int index = items.indexOf( item );
+    int index = internalIndexOf( item );
     if( index != items.size() - 1 ) {
       result = items.get( index + 1 );
       while( result != null && !result.isVisible() ) {
@@ -556,7 +564,7 @@ public class Grid extends Composite {
     if( item == null ) {
       index = items.size();
     } else {
-      index = items.indexOf( item );
+      index = internalIndexOf( item );
     }
     if( index > 0 ) {
       result = items.get( index - 1 );
@@ -1782,7 +1790,7 @@ public class Grid extends Composite {
           if( item.isDisposed() ) {
             SWT.error( SWT.ERROR_INVALID_ARGUMENT );
           }
-          internalSelect( this.items.indexOf( item ) );
+          internalSelect( internalIndexOf( item ) );
         }
       }
     }
@@ -1810,14 +1818,11 @@ public class Grid extends Composite {
   public GridItem[] getSelection() {
     checkWidget();
     if( cellSelectionEnabled ) {
-      List<GridItem> items = new ArrayList<>();
+      Set<GridItem> items = new LinkedHashSet<>();
       int itemCount = getItemCount();
       for( Point cell : selectedCells ) {
         if( cell.y >= 0 && cell.y < itemCount ) {
-          GridItem item = getItem( cell.y );
-          if( !items.contains( item ) ) {
-            items.add( item );
-          }
+          items.add( getItem( cell.y ) );
         }
       }
       return items.toArray( new GridItem[] {} );
@@ -1840,12 +1845,9 @@ public class Grid extends Composite {
   public int getSelectionCount() {
     checkWidget();
     if( cellSelectionEnabled ) {
-      List<GridItem> items = new ArrayList<>();
+      Set<GridItem> items = new LinkedHashSet<>();
       for( Point cell : selectedCells ) {
-        GridItem item = getItem( cell.y );
-        if( !items.contains( item ) ) {
-          items.add( item );
-        }
+        items.add( getItem( cell.y ) );
       }
       return items.size();
     }
@@ -1971,7 +1973,12 @@ public class Grid extends Composite {
    */
   public Point[] getCellSelection() {
     checkWidget();
-    return selectedCells.toArray( new Point[ selectedCells.size() ] );
+    Point[] result = new Point[ selectedCells.size() ];
+    int index = 0;
+    for( Point cell : selectedCells ) {
+      result[ index++ ] = new Point( cell.x, cell.y );
+    }
+    return result;
   }
 
   /**
@@ -1992,11 +1999,11 @@ public class Grid extends Composite {
     int result = -1;
     if( cellSelectionEnabled ) {
       if( selectedCells.size() != 0 ) {
-        result = selectedCells.get( 0 ).y;
+        result = selectedCells.iterator().next().y;
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        result = items.indexOf( selectedItems.get( 0 ) );
+        result = internalIndexOf( selectedItems.iterator().next() );
       }
     }
     return result;
@@ -2025,24 +2032,13 @@ public class Grid extends Composite {
     checkWidget();
     int[] result = new int[ 0 ];
     if( cellSelectionEnabled ) {
-      List<GridItem> selectedRows = new ArrayList<GridItem>();
+      Set<GridItem> selectedRows = new LinkedHashSet<GridItem>();
       for( Point cell : selectedCells ) {
-        GridItem item = getItem( cell.y );
-        if( !selectedRows.contains( item ) ) {
-          selectedRows.add( item );
-        }
-      }
-      result = new int[ selectedRows.size() ];
-      for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedRows.get( i );
-        result[ i ] = items.indexOf( item );
+        selectedRows.add( getItem( cell.y ) );
       }
+      result = getIndices( selectedRows );
     } else {
-      result = new int[ selectedItems.size() ];
-      for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedItems.get( i );
-        result[ i ] = items.indexOf( item );
-      }
+      result = getIndices( selectedItems );
     }
     return result;
   }
@@ -2103,7 +2099,7 @@ public class Grid extends Composite {
     }
     boolean result = false;
     if( cellSelectionEnabled ) {
-      int index = items.indexOf( item );
+      int index = internalIndexOf( item );
       if( index != -1 ) {
         for( Point cell : selectedCells ) {
           if( cell.y == index ) {
@@ -2266,6 +2262,9 @@ public class Grid extends Composite {
         SWT.error( SWT.ERROR_INVALID_RANGE );
       }
     }
+    // removing from the end keeps the flat indices of the remaining items valid
+    updateFlatIndices();
+    Arrays.sort( removeThese, ( item1, item2 ) -> Integer.compare( item2.flatIndex, item1.flatIndex ) );
     for( int i = 0; i < removeThese.length; i++ ) {
       removeThese[ i ].dispose();
     }
@@ -2704,7 +2703,7 @@ public class Grid extends Composite {
             if( item.isVisible() ) {
               row--;
               if( row == 0 ) {
-                firstVisibleIndex = items.indexOf( item );
+                firstVisibleIndex = internalIndexOf( item );
               }
             }
           }
@@ -2752,7 +2751,7 @@ public class Grid extends Composite {
           parent = parent.getParentItem();
         }
         if( !isShown( item ) ) {
-          setTopIndex( items.indexOf( item ) );
+          setTopIndex( internalIndexOf( item ) );
         }
       }
     }
@@ -2820,7 +2819,7 @@ public class Grid extends Composite {
     GridItem item = null;
     if( cellSelectionEnabled ) {
       if( selectedCells.size() != 0 ) {
-        Point cell = selectedCells.get( 0 );
+        Point cell = selectedCells.iterator().next();
         item = getItem( cell.y );
         showItem( item );
         GridColumn column = getColumn( cell.x );
@@ -2828,7 +2827,7 @@ public class Grid extends Composite {
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        item = selectedItems.get( 0 );
+        item = selectedItems.iterator().next();
         showItem( item );
       }
     }
@@ -3055,7 +3054,7 @@ public class Grid extends Composite {
       if( index >= rootItems.size() ) {
         flatIndex = -1;
       } else {
-        flatIndex = items.indexOf( rootItems.get( index ) );
+        flatIndex = internalIndexOf( rootItems.get( index ) );
       }
     } else if( !root ) {
       if( index >= parentItem.getItemCount() || index == -1 ) {
@@ -3064,18 +3063,23 @@ public class Grid extends Composite {
           int lastChildIndex = rightMostDescendent.getItemCount() - 1;
           rightMostDescendent = rightMostDescendent.getItem( lastChildIndex );
         }
-        flatIndex = items.indexOf( rightMostDescendent ) + 1;
+        flatIndex = internalIndexOf( rightMostDescendent ) + 1;
       } else {
-        flatIndex = items.indexOf( parentItem.getItem( index ) );
+        flatIndex = internalIndexOf( parentItem.getItem( index ) );
       }
     }
     if( flatIndex == -1 ) {
       items.add( item );
       row = items.size() - 1;
+      if( validFlatIndices == row ) {
+        validFlatIndices++;
+      }
     } else {
       items.add( flatIndex, item );
       row = flatIndex;
+      validFlatIndices = Math.min( validFlatIndices, row );
     }
+    item.flatIndex = row;
     updateVisibleItems( 1 );
     scheduleRedraw();
     return row;
@@ -3083,6 +3087,8 @@ public class Grid extends Composite {
 
   void removeItem( int index ) {
     GridItem item = items.remove( index );
+    item.flatIndex = -1;
+    validFlatIndices = Math.min( validFlatIndices, index );
     if( !disposing ) {
       selectedItems.remove (item );
       Point[] cells = getCells( item );
@@ -3155,11 +3161,15 @@ public class Grid extends Composite {
       if( removeSelectedCells.size() > 0 ) {
         selectedCells.removeAll( removeSelectedCells );
       }
+      // the cells are hashed, shifted cells have to be added again
+      Set<Point> shiftedCells = new LinkedHashSet<>();
       for( Point cell : selectedCells ) {
         if( cell.x >= index ) {
           cell.x-- ;
         }
+        shiftedCells.add( cell );
       }
+      selectedCells = shiftedCells;
     }
     columns.remove( index );
     displayOrderedColumns.remove( column );
@@ -3173,6 +3183,7 @@ public class Grid extends Composite {
     if( column.isCheck() ) {
       layoutCache.invalidateItemHeight();
     }
+    layoutCache.invalidateTextHeights( column );
     layoutCache.invalidateHeaderHeight();
     layoutCache.invalidateFooterHeight();
     scheduleRedraw();
@@ -3188,6 +3199,7 @@ public class Grid extends Composite {
 
   void removeColumnGroup( GridColumnGroup group ) {
     columnGroups.remove( group );
+    layoutCache.invalidateTextHeights( group );
     if( columnGroups.size() == 0 ) {
       layoutCache.invalidateHeaderHeight();
     }
@@ -3247,7 +3259,7 @@ public class Grid extends Composite {
         y += getHeaderHeight();
       }
       int topIndex = getTopIndex();
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3274,7 +3286,7 @@ public class Grid extends Composite {
     checkWidget();
     boolean result = false;
     if( item.isVisible() ) {
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3394,6 +3406,7 @@ public class Grid extends Composite {
   private void onResize() {
     if( TextSizeUtil.isTemporaryResize() ) {
       isTemporaryResize = true;
+      layoutCache.invalidateTextHeights();
       layoutCache.invalidateHeaderHeight();
       layoutCache.invalidateFooterHeight();
       layoutCache.invalidateItemHeight();
@@ -3489,7 +3502,7 @@ public class Grid extends Composite {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
         selectCells( getCells( item ) );
-      } else if( !selectedItems.contains( item ) ) {
+      } else {
         selectedItems.add( item );
       }
     }
@@ -3509,7 +3522,7 @@ public class Grid extends Composite {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
         deselectCells( getCells( item ) );
-      } else if( selectedItems.contains( item ) ) {
+      } else {
         selectedItems.remove( item );
       }
     }
@@ -3525,7 +3538,7 @@ public class Grid extends Composite {
 
   private Point[] getCells( GridItem item ) {
     List<Point> cells = new ArrayList<>();
-    int itemIndex = items.indexOf( item );
+    int itemIndex = internalIndexOf( item );
     int span = 0;
     for( GridColumn nextCol : displayOrderedColumns ) {
       if( span > 0 ) {
@@ -3600,23 +3613,23 @@ public class Grid extends Composite {
     if( newCell.y < 0 || newCell.y >= items.size() ) {
       return;
     }
-    Iterator<Point> it = selectedCells.iterator();
-    boolean found = false;
-    while( it.hasNext() ) {
-      Point p = it.next();
-      if( newCell.equals( p ) ) {
-        found = true;
-        break;
-      }
-    }
-    if( !found ) {
+    if( !selectedCells.contains( newCell ) ) {
       if( selectionType == SWT.SINGLE && selectedCells.size() > 0 ) {
         return;
       }
-      selectedCells.add( newCell );
+      selectedCells.add( new Point( newCell.x, newCell.y ) );
     }
   }
 
+  private int[] getIndices( Set<GridItem> items ) {
+    int[] result = new int[ items.size() ];
+    int i = 0;
+    for( GridItem item : items ) {
+      result[ i++ ] = internalIndexOf( item );
+    }
+    return result;
+  }
+
   private void updatePrimaryCheckColumn() {
     if( ( getStyle() & SWT.CHECK ) == SWT.CHECK ) {
       for( GridColumn column : columns ) {
@@ -3653,7 +3666,8 @@ public class Grid extends Composite {
         String text = column.getText();
         Image image = column.getImage();
         int wrapWidth = autoHeight && column.getHeaderWordWrap() ? column.getHeaderWrapWidth() : 0;
-        int computedHeight = computeColumnHeight( font, text, image, 0, wrapWidth );
+        int textHeight = getTextHeight( layoutCache.headerTextHeights, column, font, text, wrapWidth );
+        int computedHeight = computeColumnHeight( textHeight, image, 0 );
         columnHeaderHeight = Math.max( columnHeaderHeight, computedHeight );
       }
       for( int i = 0; i < getColumnGroupCount(); i++ ) {
@@ -3663,7 +3677,8 @@ public class Grid extends Composite {
         Image image = group.getImage();
         int chevronHeight = group.getChevronHeight();
         int wrapWidth = autoHeight && group.getHeaderWordWrap() ? group.getHeaderWrapWidth() : 0;
-        int computedHeight = computeColumnHeight( font, text, image, chevronHeight, wrapWidth );
+        int textHeight = getTextHeight( layoutCache.headerTextHeights, group, font, text, wrapWidth );
+        int computedHeight = computeColumnHeight( textHeight, image, chevronHeight );
         groupHeaderHeight = Math.max( groupHeaderHeight, computedHeight );
       }
       result = columnHeaderHeight + groupHeaderHeight;
@@ -3681,7 +3696,8 @@ public class Grid extends Composite {
         String text = column.getFooterText();
         Image image = column.getFooterImage();
         int wrapWidth = autoHeight && column.getHeaderWordWrap() ? column.getFooterWrapWidth() : 0;
-        int computedHeight = computeColumnHeight( font, text, image, 0, wrapWidth );
+        int textHeight = getTextHeight( layoutCache.footerTextHeights, column, font, text, wrapWidth );
+        int computedHeight = computeColumnHeight( textHeight, image, 0 );
         columnFooterHeight= Math.max( columnFooterHeight, computedHeight );
       }
       result = columnFooterHeight;
@@ -3689,20 +3705,28 @@ public class Grid extends Composite {
     return result;
   }
 
-  private int computeColumnHeight( Font font,
-                                   String text,
-                                   Image image,
-                                   int minHeight,
-                                   int wrapWidth )
+  private static int getTextHeight( Map<Item, TextHeight> textHeights,
+                                    Item item,
+                                    Font font,
+                                    String text,
+                                    int wrapWidth )
   {
-    int result = minHeight;
-    int textHeight = 0;
-    if( text.contains( "\n" ) || wrapWidth > 0 ) {
-      textHeight = TextSizeUtil.textExtent( font, text, wrapWidth ).y;
-    } else {
-      textHeight = TextSizeUtil.getCharHeight( font );
+    TextHeight textHeight = textHeights.get( item );
+    if( textHeight == null || !textHeight.matches( font, text, wrapWidth ) ) {
+      int height;
+      if( text.contains( "\n" ) || wrapWidth > 0 ) {
+        height = TextSizeUtil.textExtent( font, text, wrapWidth ).y;
+      } else {
+        height = TextSizeUtil.getCharHeight( font );
+      }
+      textHeight = new TextHeight( font, text, wrapWidth, height );
+      textHeights.put( item, textHeight );
     }
-    result = Math.max( result, textHeight );
+    return textHeight.height;
+  }
+
+  private int computeColumnHeight( int textHeight, Image image, int minHeight ) {
+    int result = Math.max( minHeight, textHeight );
     int imageHeight = image == null ? 0 : image.getBounds().height;
     result = Math.max( result, imageHeight );
     BoxDimensions headerPadding = getHeaderPadding();
@@ -4041,7 +4065,25 @@ public class Grid extends Composite {
   }
 
   int internalIndexOf( GridItem item ) {
-    return items.indexOf( item );
+    if( item == null ) {
+      return -1;
+    }
+    int index = item.flatIndex;
+    if( index < 0 || index >= items.size() || items.get( index ) != item ) {
+      updateFlatIndices();
+      index = item.flatIndex;
+      if( index < 0 || index >= items.size() || items.get( index ) != item ) {
+        return -1;
+      }
+    }
+    return index;
+  }
+
+  private void updateFlatIndices() {
+    for( int i = validFlatIndices; i < items.size(); i++ ) {
+      items.get( i ).flatIndex = i;
+    }
+    validFlatIndices = items.size();
   }
 
   void scheduleRedraw() {
@@ -4315,6 +4357,8 @@ public class Grid extends Composite {
     BoxDimensions headerPadding;
     BoxDimensions checkBoxMargin;
     Size checkBoxImageSize;
+    final Map<Item, TextHeight> headerTextHeights = new HashMap<>();
+    final Map<Item, TextHeight> footerTextHeights = new HashMap<>();
 
     public boolean hasHeaderPadding() {
       return headerPadding != null;
@@ -4388,7 +4432,18 @@ public class Grid extends Composite {
       checkBoxImageSize = null;
     }
 
+    public void invalidateTextHeights( Item item ) {
+      headerTextHeights.remove( item );
+      footerTextHeights.remove( item );
+    }
+
+    public void invalidateTextHeights() {
+      headerTextHeights.clear();
+      footerTextHeights.clear();
+    }
+
     public void invalidateAll() {
+      invalidateTextHeights();
       invalidateHeaderPadding();
       invalidateHeaderHeight();
       invalidateFooterHeight();
@@ -4402,4 +4457,28 @@ public class Grid extends Composite {
 
   }
 
+  /*
+   * The measured height of a header or footer text. Only valid as long as text, font and wrap
+   * width don't change, a column resize must not measure the texts of the other columns again.
+   */
+  static final class TextHeight implements SerializableCompatibility {
+
+    private final Font font;
+    private final String text;
+    private final int wrapWidth;
+    final int height;
+
+    TextHeight( Font font, String text, int wrapWidth, int height ) {
+      this.font = font;
+      this.text = text;
+      this.wrapWidth = wrapWidth;
+      this.height = height;
+    }
+
+    boolean matches( Font font, String text, int wrapWidth ) {
+      return this.wrapWidth == wrapWidth && this.font.equals( font ) && this.text.equals( text );
+    }
+
+  }
+
 }
@@ -59,6 +59,8 @@ public class GridItem extends Item {
   private boolean cached;
   private transient IGridItemAdapter gridItemAdapter;
   int index;
+  // the index in the flat list of items of the parent, maintained by the parent
+  int flatIndex = -1;
 
   /**
    * Creates a new instance of this class and places the item at the end of
@@ -52,7 +52,8 @@ import jakarta.servlet.http.HttpSession;
  * In a traditional web application (without OSGi), this servlet must be
  * registered in the application's deployment descriptor like shown below. Note
  * that the RWT servlet has to be registered for every entrypoint of the
- * application.
+ * application. If the servlet is registered with asynchronous support enabled,
+ * server push requests are suspended instead of blocking a container thread.
  * </p>
  *
  * <pre>
@@ -68,6 +69,7 @@ import jakarta.servlet.http.HttpSession;
  * &lt;servlet&gt;
  *   &lt;servlet-name&gt;rwtServlet&lt;/servlet-name&gt;
  *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTServlet&lt;/servlet-class&gt;
+ *   &lt;async-supported&gt;true&lt;/async-supported&gt;
  * &lt;/servlet&gt;
  *
  * &lt;servlet-mapping&gt;
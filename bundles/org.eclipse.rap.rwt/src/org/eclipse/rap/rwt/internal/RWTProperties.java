@@ -21,6 +21,98 @@ public final class RWTProperties {
   public static final String TEXT_SIZE_STORE_SESSION_SCOPED = "org.eclipse.rap.rwt.textSizeStoreSessionScoped";
   public static final String ENABLE_LOAD_TESTS = "org.eclipse.rap.rwt.enableLoadTests";
 
+  /*
+   * When set to true, the life cycle only visits widgets that have been touched since the last
+   * render phase instead of walking the whole widget tree of every shell.
+   */
+  public static final String DIRTY_TRACKING = "org.eclipse.rap.rwt.dirtyTracking";
+
+  /*
+   * When set to true, the UI threads of the RWTLifeCycle are created as virtual threads if the
+   * runtime supports them. Falls back to platform threads otherwise.
+   */
+  public static final String VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.virtualUIThreads";
+
+  /*
+   * The maximal number of threads that are shared by all sessions of an application to dispatch
+   * the runnables scheduled with Display#timerExec.
+   */
+  public static final String TIMER_EXEC_THREADS = "org.eclipse.rap.rwt.timerExecThreads";
+
+  /*
+   * When set to true, the operations of a response message are serialized while they are
+   * rendered instead of being kept as objects until the end of the request.
+   */
+  public static final String STREAMING_PROTOCOL_WRITER
+    = "org.eclipse.rap.rwt.streamingProtocolWriter";
+
+  /*
+   * Controls how the last response of a UI session is kept to answer duplicate requests. One of
+   * "none", "plain", "compressed" or "auto" (compresses only responses that exceed the
+   * REPLAY_BUFFER_LIMIT). Defaults to "plain".
+   */
+  public static final String REPLAY_BUFFER_POLICY = "org.eclipse.rap.rwt.replayBufferPolicy";
+
+  /*
+   * The maximal number of bytes that are kept for the last response of a UI session, after
+   * compression if the policy compresses. Larger responses are not kept, a duplicate request
+   * then fails with an invalid request counter error. Not limited by default.
+   */
+  public static final String REPLAY_BUFFER_LIMIT = "org.eclipse.rap.rwt.replayBufferLimit";
+
+  /*
+   * The path of a directory that keeps the application scoped text size stores across restarts.
+   * Every application uses a file of its own, named after its context path and the servlet paths
+   * of its entry points. The snapshot is loaded when the application context is activated and
+   * written when it is deactivated. Of several applications that resolve to the same file, only
+   * the first one activated uses it. Not set by default.
+   */
+  public static final String TEXT_SIZE_SNAPSHOT_DIRECTORY
+    = "org.eclipse.rap.rwt.textSizeSnapshotDirectory";
+
+  /*
+   * The maximal number of bytes of decoded image data that an application keeps in memory.
+   * Least recently used image data is discarded first.
+   */
+  public static final String IMAGE_DATA_CACHE_SIZE = "org.eclipse.rap.rwt.imageDataCacheSize";
+
+  /*
+   * The maximal number of bytes of a single image data to be cached. Larger images are decoded
+   * whenever their image data is requested.
+   */
+  public static final String IMAGE_DATA_CACHE_ENTRY_SIZE
+    = "org.eclipse.rap.rwt.imageDataCacheEntrySize";
+
+  /*
+   * When set to true, cached image data is only softly referenced and may be reclaimed by the
+   * garbage collector before the cache size is reached.
+   */
+  public static final String IMAGE_DATA_CACHE_SOFT_VALUES
+    = "org.eclipse.rap.rwt.imageDataCacheSoftValues";
+
+  /*
+   * The maximal number of markup texts that a UI session remembers as valid. Remembered texts
+   * are not validated again when they are set on another widget. Defaults to 100, a value of 0
+   * disables the cache. Texts longer than 1024 characters are never remembered.
+   */
+  public static final String MARKUP_VALIDATION_CACHE_SIZE
+    = "org.eclipse.rap.rwt.markupValidationCacheSize";
+
+  /*
+   * The number of milliseconds that a FileSettingStore delays writing its file after a change.
+   * Further changes within this time are written together. A value of 0 (the default) writes
+   * every change immediately.
+   */
+  public static final String SETTING_STORE_WRITE_DELAY
+    = "org.eclipse.rap.rwt.settingStoreWriteDelay";
+
+  /*
+   * The maximal number of setting stores of an application with delayed writes. Stores that are
+   * changed while the limit is reached write their changes immediately.
+   */
+  public static final String SETTING_STORE_WRITE_QUEUE_SIZE
+    = "org.eclipse.rap.rwt.settingStoreWriteQueueSize";
+
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
    * to activate support for custom widget ids.</p>
@@ -55,6 +147,58 @@ public final class RWTProperties {
     return getBooleanProperty( ENABLE_LOAD_TESTS, false );
   }
 
+  public static boolean isDirtyTrackingEnabled() {
+    return getBooleanProperty( DIRTY_TRACKING, false );
+  }
+
+  public static boolean isVirtualUIThreadsEnabled() {
+    return getBooleanProperty( VIRTUAL_UI_THREADS, false );
+  }
+
+  public static int getTimerExecThreads( int defaultValue ) {
+    return getIntProperty( TIMER_EXEC_THREADS, defaultValue );
+  }
+
+  public static boolean isStreamingProtocolWriterEnabled() {
+    return getBooleanProperty( STREAMING_PROTOCOL_WRITER, false );
+  }
+
+  public static String getReplayBufferPolicy() {
+    return System.getProperty( REPLAY_BUFFER_POLICY );
+  }
+
+  public static int getReplayBufferLimit( int defaultValue ) {
+    return getIntProperty( REPLAY_BUFFER_LIMIT, defaultValue );
+  }
+
+  public static String getTextSizeSnapshotDirectory() {
+    return System.getProperty( TEXT_SIZE_SNAPSHOT_DIRECTORY );
+  }
+
+  public static int getImageDataCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_DATA_CACHE_SIZE, defaultValue );
+  }
+
+  public static int getImageDataCacheEntrySize( int defaultValue ) {
+    return getIntProperty( IMAGE_DATA_CACHE_ENTRY_SIZE, defaultValue );
+  }
+
+  public static boolean isImageDataCacheSoftValuesEnabled() {
+    return getBooleanProperty( IMAGE_DATA_CACHE_SOFT_VALUES, false );
+  }
+
+  public static int getMarkupValidationCacheSize( int defaultValue ) {
+    return getIntProperty( MARKUP_VALIDATION_CACHE_SIZE, defaultValue );
+  }
+
+  public static int getSettingStoreWriteDelay( int defaultValue ) {
+    return getIntProperty( SETTING_STORE_WRITE_DELAY, defaultValue );
+  }
+
+  public static int getSettingStoreWriteQueueSize( int defaultValue ) {
+    return getIntProperty( SETTING_STORE_WRITE_QUEUE_SIZE, defaultValue );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
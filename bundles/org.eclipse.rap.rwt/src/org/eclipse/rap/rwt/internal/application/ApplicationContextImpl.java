@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.application;
 
+import java.io.File;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -23,6 +25,7 @@ import jakarta.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
@@ -41,8 +44,10 @@ import org.eclipse.rap.rwt.internal.service.LifeCycleServiceHandler;
 import org.eclipse.rap.rwt.internal.service.RWTMessageHandler;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
+import org.eclipse.rap.rwt.internal.service.SettingStoreWriter;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeSnapshot;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
@@ -61,6 +66,7 @@ import org.eclipse.swt.internal.graphics.ImageFactory;
 import org.eclipse.swt.internal.graphics.InternalImageFactory;
 import org.eclipse.swt.internal.graphics.ResourceFactory;
 import org.eclipse.swt.internal.widgets.DisplaysHolder;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 
 
 public class ApplicationContextImpl implements ApplicationContext {
@@ -89,6 +95,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final MessageChainReference messageChainReference;
   private final EntryPointManager entryPointManager;
   private final SettingStoreManager settingStoreManager;
+  private final SettingStoreWriter settingStoreWriter;
   private final ServiceManagerImpl serviceManager;
   private final ResourceRegistry resourceRegistry;
   private final ApplicationStoreImpl applicationStore;
@@ -99,6 +106,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final FontDataFactory fontDataFactory;
   private final StartupPage startupPage;
   private final DisplaysHolder displaysHolder;
+  private final TimerExecService timerExecService;
   private final TextSizeStorage textSizeStorage;
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
@@ -108,6 +116,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final SerializableLock listenersLock;
   private final AtomicReference<State> state;
   private ExceptionHandler exceptionHandler;
+  private File textSizeSnapshot;
 
   public ApplicationContextImpl( ApplicationConfiguration applicationConfiguration,
                                  ServletContext servletContext )
@@ -129,10 +138,12 @@ public class ApplicationContextImpl implements ApplicationContext {
     imageDataFactory = new ImageDataFactory( resourceManager );
     fontDataFactory = new FontDataFactory();
     settingStoreManager = new SettingStoreManager();
+    settingStoreWriter = new SettingStoreWriter();
     resourceRegistry = new ResourceRegistry( getResourceManager() );
     startupPage = new StartupPage( this );
     serviceManager = createServiceManager();
     displaysHolder = new DisplaysHolder();
+    timerExecService = new TimerExecService();
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
@@ -283,6 +294,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     return settingStoreManager;
   }
 
+  public SettingStoreWriter getSettingStoreWriter() {
+    return settingStoreWriter;
+  }
+
   public PhaseListenerManager getPhaseListenerManager() {
     return phaseListenerManager;
   }
@@ -332,6 +347,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     return displaysHolder;
   }
 
+  public TimerExecService getTimerExecService() {
+    return timerExecService;
+  }
+
   public TextSizeStorage getTextSizeStorage() {
     return textSizeStorage;
   }
@@ -370,6 +389,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     themeManager.initialize();
     applicationConfiguration.configure( new ApplicationImpl( this, applicationConfiguration ) );
     resourceDirectory.configure( getContextDirectory() );
+    loadTextSizeSnapshot();
     addInternalServiceHandlers();
     setInternalSettingStoreFactory();
     startupPage.activate();
@@ -385,6 +405,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   }
 
   void doDeactivate() {
+    saveTextSizeSnapshot();
     startupPage.deactivate();
     lifeCycleFactory.deactivate();
     serviceManager.clear();
@@ -393,8 +414,10 @@ public class ApplicationContextImpl implements ApplicationContext {
       resourceDirectory.deleteDirectory();
     }
     entryPointManager.deregisterAll();
+    timerExecService.dispose();
     phaseListenerManager.clear();
     resourceRegistry.clear();
+    settingStoreWriter.dispose();
     settingStoreManager.deregisterFactory();
     resourceDirectory.reset();
     applicationStore.reset();
@@ -413,6 +436,38 @@ public class ApplicationContextImpl implements ApplicationContext {
     return location;
   }
 
+  private void loadTextSizeSnapshot() {
+    String directory = RWTProperties.getTextSizeSnapshotDirectory();
+    if( directory != null ) {
+      String fileName = TextSizeSnapshot.getFileName( servletContext.getContextPath(),
+                                                      entryPointManager.getServletPaths() );
+      File snapshot = new File( directory, fileName );
+      if( TextSizeSnapshot.acquire( snapshot ) ) {
+        textSizeSnapshot = snapshot;
+        try {
+          TextSizeSnapshot.load( textSizeStorage, snapshot );
+        } catch( IOException exception ) {
+          servletContext.log( "Could not load text size snapshot from " + snapshot, exception );
+        }
+      } else {
+        servletContext.log( "Text size snapshot " + snapshot + " is used by another application" );
+      }
+    }
+  }
+
+  private void saveTextSizeSnapshot() {
+    if( textSizeSnapshot != null ) {
+      try {
+        TextSizeSnapshot.save( textSizeStorage, textSizeSnapshot );
+      } catch( IOException exception ) {
+        servletContext.log( "Could not save text size snapshot to " + textSizeSnapshot, exception );
+      } finally {
+        TextSizeSnapshot.release( textSizeSnapshot );
+        textSizeSnapshot = null;
+      }
+    }
+  }
+
   private void addInternalServiceHandlers() {
     serviceManager.registerServiceHandler( ServerPushServiceHandler.HANDLER_ID,
                                            new ServerPushServiceHandler() );
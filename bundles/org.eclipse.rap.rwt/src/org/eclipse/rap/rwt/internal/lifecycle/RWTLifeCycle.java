@@ -12,10 +12,12 @@
 package org.eclipse.rap.rwt.internal.lifecycle;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
 
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.IPhase.IInterruptible;
 import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
@@ -184,13 +186,14 @@ public class RWTLifeCycle extends LifeCycle {
     UISession uiSession = ContextProvider.getUISession();
     IUIThreadHolder uiThread = getUIThreadHolder();
     if( uiThread == null ) {
-      uiThread = createUIThread();
+      IUIThreadHolder newUIThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
-      uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
-        uiThread.getThread().start();
-        uiThread.switchThread();
-      }
+      newUIThread.setServiceContext( context );
+      runLocked( newUIThread, () -> {
+        newUIThread.getThread().start();
+        newUIThread.switchThread();
+      } );
+      uiThread = newUIThread;
     } else {
       uiThread.setServiceContext( context );
       // See bug 354368
@@ -237,7 +240,12 @@ public class RWTLifeCycle extends LifeCycle {
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
+    IUIThreadHolder result;
+    if( RWTProperties.isVirtualUIThreadsEnabled() && VirtualUIThread.isSupported() ) {
+      result = new VirtualUIThread( uiRunnable );
+    } else {
+      result = new UIThread( uiRunnable );
+    }
     result.getThread().setDaemon( true );
     result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
@@ -270,6 +278,31 @@ public class RWTLifeCycle extends LifeCycle {
     return LifeCycleUtil.getUIThread( ContextProvider.getUISession() );
   }
 
+  /*
+   * Executes the given runnable while holding the lock of the given UI thread holder. Virtual UI
+   * threads use a ReentrantLock, as waiting on an object monitor would pin them to their carrier.
+   */
+  public static void runLocked( IUIThreadHolder uiThread, Runnable runnable ) {
+    Object lock = uiThread.getLock();
+    if( lock instanceof Lock ) {
+      ( ( Lock )lock ).lock();
+      try {
+        runnable.run();
+      } finally {
+        ( ( Lock )lock ).unlock();
+      }
+    } else {
+      synchronized( lock ) {
+        runnable.run();
+      }
+    }
+  }
+
+  private static IUIThreadHolder getCurrentUIThreadHolder() {
+    Thread thread = Thread.currentThread();
+    return thread instanceof IUIThreadHolder ? ( IUIThreadHolder )thread : VirtualUIThread.getCurrent();
+  }
+
   private static final class PhaseExecutionError extends ThreadDeath {
     public PhaseExecutionError( Throwable cause ) {
       initCause( cause );
@@ -279,10 +312,10 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      IUIThreadHolder uiThread = getCurrentUIThreadHolder();
       try {
         // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
+        runLocked( uiThread, () -> {
           try {
             uiThread.updateServiceContext();
             ServerPushManager.getInstance().notifyUIThreadStart();
@@ -303,7 +336,7 @@ public class RWTLifeCycle extends LifeCycle {
           uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
           // In any case: wait for the thread to be terminated by session timeout
           uiThread.switchThread();
-        }
+        } );
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
         ( ( ISessionShutdownAdapter )uiThread ).processShutdown();
@@ -163,6 +163,10 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
   @Override
   public void processShutdown() {
     updateServiceContext();
+    processShutdown( uiSession, shutdownCallback );
+  }
+
+  static void processShutdown( UISession uiSession, Runnable shutdownCallback ) {
     try {
       // Simulate PROCESS_ACTION phase if the session times out
       CurrentPhase.set( PhaseId.PROCESS_ACTION );
@@ -175,7 +179,7 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
       //                deactivation of ApplicationContext instances. In case the HttpService
       //                gets halted the corresponding ApplicationContext instances have already
       //                been deactivated and this will cause a NPE.
-      if( isApplicationContextActive() && display != null ) {
+      if( isApplicationContextActive( uiSession ) && display != null ) {
         display.dispose();
       }
       shutdownCallback.run();
@@ -184,7 +188,7 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     }
   }
 
-  private boolean isApplicationContextActive() {
+  private static boolean isApplicationContextActive( UISession uiSession ) {
     ApplicationContextImpl applicationContext = ( ( UISessionImpl )uiSession ).getApplicationContext();
     return applicationContext != null && applicationContext.isActive();
   }
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/*
+ * A UI thread holder that runs the UI code on a virtual thread (see
+ * RWTProperties#VIRTUAL_UI_THREADS). A parked session then only occupies a heap-allocated
+ * stack instead of a platform thread.
+ *
+ * The hand-off between request thread and UI thread follows the same protocol as UIThread, but
+ * uses a ReentrantLock instead of the object monitor, as waiting on a monitor pins the virtual
+ * thread to its carrier thread. Callers must therefore not synchronize on getLock() but use
+ * RWTLifeCycle#runLocked.
+ *
+ * Virtual threads require Java 21, whereas the bundle targets Java 17. The thread factory is
+ * therefore looked up reflectively, see isSupported().
+ */
+final class VirtualUIThread implements IUIThreadHolder, ISessionShutdownAdapter {
+
+  private static final ThreadFactory THREAD_FACTORY = createThreadFactory();
+  private static final ThreadLocal<VirtualUIThread> CURRENT = new ThreadLocal<>();
+
+  private final ReentrantLock lock;
+  private final Condition switched;
+  private final Thread thread;
+  private long switchCount;
+  private ServiceContext serviceContext;
+  private UISession uiSession;
+  private Runnable shutdownCallback;
+  private volatile boolean uiThreadTerminating;
+
+  VirtualUIThread( Runnable runnable ) {
+    this( runnable, THREAD_FACTORY );
+  }
+
+  /*
+   * Allows to test the hand-off protocol with platform threads on runtimes without virtual
+   * threads.
+   */
+  VirtualUIThread( Runnable runnable, ThreadFactory threadFactory ) {
+    lock = new ReentrantLock();
+    switched = lock.newCondition();
+    thread = threadFactory.newThread( () -> {
+      CURRENT.set( this );
+      try {
+        runnable.run();
+      } finally {
+        CURRENT.remove();
+      }
+    } );
+  }
+
+  static boolean isSupported() {
+    return THREAD_FACTORY != null;
+  }
+
+  static IUIThreadHolder getCurrent() {
+    return CURRENT.get();
+  }
+
+  //////////////////////////
+  // interface IThreadHolder
+
+  @Override
+  public void setServiceContext( ServiceContext serviceContext ) {
+    this.serviceContext = serviceContext;
+  }
+
+  @Override
+  public void updateServiceContext() {
+    if( ContextProvider.hasContext() ) {
+      ContextProvider.releaseContextHolder();
+    }
+    ContextProvider.setContext( serviceContext );
+  }
+
+  @Override
+  public void switchThread() {
+    lock.lock();
+    try {
+      checkAndReportTerminatedUIThread();
+      // wait until the other side switches back, guards against spurious wake-ups
+      long count = ++switchCount;
+      switched.signalAll();
+      while( switchCount == count ) {
+        try {
+          switched.await();
+        } catch( InterruptedException e ) {
+          handleInterruptInSwitchThread( e );
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void checkAndReportTerminatedUIThread() {
+    if( !thread.isAlive() ) {
+      String msg
+        = "Thread '"
+        + Thread.currentThread()
+        + "' is waiting for already terminated UIThread";
+      ServletLog.log( "", new RuntimeException( msg ) );
+    }
+  }
+
+  // PhaseId has no replacement yet, the current phase is still tracked with it (see UIThread)
+  @SuppressWarnings( "deprecation" )
+  private void handleInterruptInSwitchThread( InterruptedException e )
+    throws UIThreadTerminatedError
+  {
+    Thread.interrupted();
+    if( uiThreadTerminating ) {
+      // see UIThread#handleInterruptInSwitchThread
+      updateServiceContext();
+      CurrentPhase.set( PhaseId.PROCESS_ACTION );
+      uiThreadTerminating = false;
+      throw new UIThreadTerminatedError();
+    }
+    if( Thread.currentThread() != thread ) {
+      String msg = "Received InterruptedException on request thread";
+      ServletLog.log( msg, e );
+    }
+  }
+
+  @Override
+  public void terminateThread() {
+    ServiceContext serviceContext = ContextUtil.createFakeContext( uiSession );
+    setServiceContext( serviceContext );
+    uiThreadTerminating = true;
+    lock.lock();
+    try {
+      thread.interrupt();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      thread.join();
+    } catch( InterruptedException e ) {
+      String msg = "Received InterruptedException while terminating UIThread";
+      ServletLog.log( msg, e );
+    }
+    uiThreadTerminating = false;
+  }
+
+  @Override
+  public Thread getThread() {
+    return thread;
+  }
+
+  @Override
+  public Object getLock() {
+    return lock;
+  }
+
+  ////////////////////////////////////
+  // interface ISessionShutdownAdapter
+
+  @Override
+  public void setUISession( UISession uiSession ) {
+    this.uiSession = uiSession;
+  }
+
+  @Override
+  public void setShutdownCallback( Runnable shutdownCallback ) {
+    this.shutdownCallback = shutdownCallback;
+  }
+
+  @Override
+  public void interceptShutdown() {
+    terminateThread();
+  }
+
+  @Override
+  public void processShutdown() {
+    updateServiceContext();
+    UIThread.processShutdown( uiSession, shutdownCallback );
+  }
+
+  private static ThreadFactory createThreadFactory() {
+    try {
+      Method ofVirtual = Thread.class.getMethod( "ofVirtual" );
+      Method factory = Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" );
+      return ( ThreadFactory )factory.invoke( ofVirtual.invoke( null ) );
+    } catch( @SuppressWarnings( "unused" ) ReflectiveOperationException exception ) {
+      return null;
+    }
+  }
+
+}
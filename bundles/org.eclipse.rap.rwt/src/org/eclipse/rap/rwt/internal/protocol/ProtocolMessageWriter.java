@@ -118,6 +118,18 @@ public class ProtocolMessageWriter {
 
   private ResponseMessage createMessageObject() {
     appendPendingOperation();
+    return createMessage( head );
+  }
+
+  /*
+   * Called once for every operation of the message as soon as it can no longer be merged with
+   * subsequent operations.
+   */
+  protected void writeOperation( Operation operation ) {
+    operations.add( operation );
+  }
+
+  protected ResponseMessage createMessage( JsonObject head ) {
     return new ResponseMessage( head, operations );
   }
 
@@ -131,7 +143,8 @@ public class ProtocolMessageWriter {
 
   private void appendPendingOperation() {
     if( pendingOperation != null ) {
-      operations.add( pendingOperation );
+      writeOperation( pendingOperation );
+      pendingOperation = null;
     }
   }
 
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonObject;
@@ -25,4 +27,8 @@ public class ResponseMessage extends Message {
     super( head, operations );
   }
 
+  public void writeTo( Writer writer ) throws IOException {
+    toJson().writeTo( writer );
+  }
+
 }
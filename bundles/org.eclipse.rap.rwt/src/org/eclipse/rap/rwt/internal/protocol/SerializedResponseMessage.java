@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+
+
+/*
+ * A response message that only holds the JSON representation of its operations, as created by
+ * the StreamingProtocolMessageWriter. The operations are only parsed when they are requested.
+ *
+ * The head is kept as an object and serialized whenever the message is written, changes that
+ * message filters make to the head are therefore included. The operations can not be changed.
+ */
+public class SerializedResponseMessage extends ResponseMessage {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String operationsJson;
+  private transient List<Operation> operations;
+
+  SerializedResponseMessage( JsonObject head, String operationsJson ) {
+    super( head, Collections.<Operation>emptyList() );
+    this.operationsJson = operationsJson;
+  }
+
+  @Override
+  public List<Operation> getOperations() {
+    if( operations == null ) {
+      operations = Collections.unmodifiableList( new ResponseMessage( toJson() ).getOperations() );
+    }
+    return operations;
+  }
+
+  @Override
+  public JsonObject toJson() {
+    return new JsonObject()
+      .add( "head", getHead() )
+      .add( "operations", JsonArray.readFrom( operationsJson ) );
+  }
+
+  @Override
+  public void writeTo( Writer writer ) throws IOException {
+    writer.write( "{\"head\":" );
+    getHead().writeTo( writer );
+    writer.write( ",\"operations\":" );
+    writer.write( operationsJson );
+    writer.write( '}' );
+  }
+
+  @Override
+  public String toString() {
+    StringWriter writer = new StringWriter( operationsJson.length() + 64 );
+    try {
+      writeTo( writer );
+    } catch( IOException exception ) {
+      // StringWriter does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+    return writer.toString();
+  }
+
+}
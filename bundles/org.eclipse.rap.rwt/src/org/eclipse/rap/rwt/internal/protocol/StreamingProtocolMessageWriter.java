@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.eclipse.rap.json.JsonObject;
+
+
+/*
+ * A protocol message writer that serializes every operation as soon as it can no longer be merged
+ * with subsequent operations, instead of keeping all operations until the message is created
+ * (see RWTProperties#STREAMING_PROTOCOL_WRITER). The operations are written to a buffer that is
+ * taken from a small pool and returned when the message is created.
+ */
+public class StreamingProtocolMessageWriter extends ProtocolMessageWriter {
+
+  private static final int POOL_SIZE = 8;
+  private static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+  private static final BlockingQueue<StringWriter> POOL = new ArrayBlockingQueue<>( POOL_SIZE );
+
+  private StringWriter buffer;
+  private boolean empty;
+
+  public StreamingProtocolMessageWriter() {
+    buffer = acquireBuffer();
+    buffer.write( '[' );
+    empty = true;
+  }
+
+  @Override
+  protected void writeOperation( Operation operation ) {
+    if( !empty ) {
+      buffer.write( ',' );
+    }
+    empty = false;
+    try {
+      operation.toJson().writeTo( buffer );
+    } catch( IOException exception ) {
+      // StringWriter does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+  }
+
+  @Override
+  protected ResponseMessage createMessage( JsonObject head ) {
+    buffer.write( ']' );
+    // the only copy of the operations, the buffer is reused by the next writer
+    String operations = buffer.toString();
+    releaseBuffer( buffer );
+    buffer = null;
+    // the head is serialized when the message is written
+    return new SerializedResponseMessage( head, operations );
+  }
+
+  private static StringWriter acquireBuffer() {
+    StringWriter result = POOL.poll();
+    return result != null ? result : new StringWriter( 4096 );
+  }
+
+  private static void releaseBuffer( StringWriter buffer ) {
+    StringBuffer content = buffer.getBuffer();
+    if( content.capacity() <= MAX_POOLED_CAPACITY ) {
+      content.setLength( 0 );
+      POOL.offer( buffer );
+    }
+  }
+
+}
@@ -11,6 +11,13 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.serverpush;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
@@ -40,6 +47,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   private int requestCheckInterval;
   private int requestReleaseInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  private transient List<SuspendedRequest> suspendedRequests;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -48,6 +56,7 @@ public final class ServerPushManager implements SerializableCompatibility {
     requestCheckInterval = DEFAULT_REQUEST_CHECK_INTERVAL;
     requestReleaseInterval = DEFAULT_REQUEST_RELEASE_INTERVAL;
     serverPushRequestTracker = new ServerPushRequestTracker();
+    suspendedRequests = new ArrayList<>();
   }
 
   public static ServerPushManager getInstance() {
@@ -71,6 +80,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      resumeSuspendedRequests();
     }
   }
 
@@ -128,31 +138,95 @@ public final class ServerPushManager implements SerializableCompatibility {
     return isServerPushActive() || forceServerPushForPendingRunnables();
   }
 
-  void processRequest( HttpServletResponse response ) {
+  void processRequest( HttpServletRequest request, HttpServletResponse response ) {
     synchronized( lock ) {
       if( isCallBackRequestBlocked() ) {
         releaseBlockedRequest();
       }
       long requestStartTime = System.currentTimeMillis();
       if( mustBlockCallBackRequest( requestStartTime ) ) {
-        serverPushRequestTracker.activate( Thread.currentThread() );
-        TerminationListener listener = attachTerminationListener();
-        try {
-          boolean canRelease = false;
-          while( !canRelease ) {
-            lock.wait( requestCheckInterval );
-            canRelease = canReleaseBlockedRequest( response, requestStartTime );
-          }
-        } catch( @SuppressWarnings( "unused" ) InterruptedException ie ) {
-          Thread.interrupted(); // Reset interrupted state, see bug 300254
-        } finally {
-          listener.detach();
-          serverPushRequestTracker.deactivate( Thread.currentThread() );
+        if( request.isAsyncSupported() ) {
+          suspendRequest( request, requestStartTime );
+        } else {
+          blockRequest( response, requestStartTime );
+        }
+      }
+    }
+  }
+
+  /*
+   * Suspends the request without occupying the container thread. The request is completed by
+   * releaseBlockedRequest or by the container when the request check interval has elapsed.
+   */
+  private void suspendRequest( HttpServletRequest request, long requestStartTime ) {
+    AsyncContext asyncContext = request.startAsync();
+    asyncContext.setTimeout( requestCheckInterval );
+    UISession uiSession = ContextProvider.getUISession();
+    SuspendedRequest suspendedRequest
+      = new SuspendedRequest( asyncContext, uiSession, requestStartTime );
+    asyncContext.addListener( suspendedRequest );
+    serverPushRequestTracker.activate( suspendedRequest );
+    suspendedRequests.add( suspendedRequest );
+    suspendedRequest.listener.attach();
+    // previously suspended requests are released in favor of the new one
+    resumeSuspendedRequests();
+  }
+
+  private void resumeSuspendedRequests() {
+    if( !suspendedRequests.isEmpty() ) {
+      long currentTime = System.currentTimeMillis();
+      for( SuspendedRequest suspendedRequest : new ArrayList<>( suspendedRequests ) ) {
+        if( canResumeSuspendedRequest( suspendedRequest, currentTime ) ) {
+          resume( suspendedRequest );
         }
       }
     }
   }
 
+  private boolean canResumeSuspendedRequest( SuspendedRequest suspendedRequest, long currentTime ) {
+    long requestStartTime = suspendedRequest.requestStartTime;
+    return !mustBlockCallBackRequest( requestStartTime, currentTime )
+        || isSessionExpired( suspendedRequest.uiSession, requestStartTime, currentTime )
+        || !serverPushRequestTracker.isActive( suspendedRequest );
+  }
+
+  private void resume( SuspendedRequest suspendedRequest ) {
+    synchronized( lock ) {
+      if( suspendedRequests.remove( suspendedRequest ) ) {
+        suspendedRequest.listener.detach();
+        serverPushRequestTracker.deactivate( suspendedRequest );
+        suspendedRequest.asyncContext.complete();
+      }
+    }
+  }
+
+  private void discard( SuspendedRequest suspendedRequest ) {
+    synchronized( lock ) {
+      if( suspendedRequests.remove( suspendedRequest ) ) {
+        suspendedRequest.listener.detach();
+        serverPushRequestTracker.deactivate( suspendedRequest );
+      }
+    }
+  }
+
+  private void blockRequest( HttpServletResponse response, long requestStartTime ) {
+    serverPushRequestTracker.activate( Thread.currentThread() );
+    resumeSuspendedRequests();
+    TerminationListener listener = attachTerminationListener();
+    try {
+      boolean canRelease = false;
+      while( !canRelease ) {
+        lock.wait( requestCheckInterval );
+        canRelease = canReleaseBlockedRequest( response, requestStartTime );
+      }
+    } catch( @SuppressWarnings( "unused" ) InterruptedException ie ) {
+      Thread.interrupted(); // Reset interrupted state, see bug 300254
+    } finally {
+      listener.detach();
+      serverPushRequestTracker.deactivate( Thread.currentThread() );
+    }
+  }
+
   @SuppressWarnings( "unused" )
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
     boolean result = false;
@@ -182,12 +256,14 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   private Object readResolve() {
     serverPushRequestTracker = new ServerPushRequestTracker();
+    suspendedRequests = new ArrayList<>();
     return this;
   }
 
   private static TerminationListener attachTerminationListener() {
     UISession uiSession = ContextProvider.getUISession();
-    TerminationListener result = new TerminationListener( uiSession );
+    Thread currentThread = Thread.currentThread();
+    TerminationListener result = new TerminationListener( uiSession, () -> currentThread.interrupt() );
     result.attach();
     return result;
   }
@@ -197,7 +273,13 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
+  }
+
+  private static boolean isSessionExpired( UISession uiSession,
+                                           long requestStartTime,
+                                           long currentTime )
+  {
     if( uiSession == null ) {
       return true;
     }
@@ -220,12 +302,12 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   private static class TerminationListener implements UISessionListener {
 
-    private transient final Thread currentThread;
     private transient final UISession uiSession;
+    private transient final Runnable releaseRequest;
 
-    private TerminationListener( UISession uiSession ) {
+    private TerminationListener( UISession uiSession, Runnable releaseRequest ) {
       this.uiSession = uiSession;
-      currentThread = Thread.currentThread();
+      this.releaseRequest = releaseRequest;
     }
 
     public void attach() {
@@ -238,7 +320,46 @@ public final class ServerPushManager implements SerializableCompatibility {
 
     @Override
     public void beforeDestroy( UISessionEvent event ) {
-      currentThread.interrupt();
+      releaseRequest.run();
+    }
+
+  }
+
+  private class SuspendedRequest implements AsyncListener {
+
+    private final AsyncContext asyncContext;
+    private final UISession uiSession;
+    private final long requestStartTime;
+    private final TerminationListener listener;
+
+    private SuspendedRequest( AsyncContext asyncContext,
+                              UISession uiSession,
+                              long requestStartTime )
+    {
+      this.asyncContext = asyncContext;
+      this.uiSession = uiSession;
+      this.requestStartTime = requestStartTime;
+      listener = new TerminationListener( uiSession, () -> resume( this ) );
+    }
+
+    @Override
+    public void onTimeout( AsyncEvent event ) {
+      resume( this );
+    }
+
+    @Override
+    public void onError( AsyncEvent event ) {
+      discard( this );
+    }
+
+    @Override
+    public void onComplete( AsyncEvent event ) {
+      discard( this );
+    }
+
+    @Override
+    public void onStartAsync( AsyncEvent event ) {
+      // nothing to do
     }
 
   }
@@ -16,26 +16,27 @@ import java.util.List;
 
 class ServerPushRequestTracker {
 
-  private transient List<Thread> callBackRequests;
+  // holds the threads of blocked requests and the handles of suspended requests
+  private transient List<Object> callBackRequests;
 
   ServerPushRequestTracker() {
     callBackRequests = new LinkedList<>();
   }
 
-  void deactivate( Thread thread ) {
-    callBackRequests.remove( thread );
+  void deactivate( Object request ) {
+    callBackRequests.remove( request );
   }
 
-  void activate( Thread thread ) {
-    callBackRequests.add( 0, thread );
+  void activate( Object request ) {
+    callBackRequests.add( 0, request );
   }
 
   boolean hasActive() {
     return callBackRequests.isEmpty();
   }
 
-  boolean isActive( Thread thread ) {
-    return !hasActive() && callBackRequests.get( 0 ) == thread;
+  boolean isActive( Object request ) {
+    return !hasActive() && callBackRequests.get( 0 ) == request;
   }
 
 }
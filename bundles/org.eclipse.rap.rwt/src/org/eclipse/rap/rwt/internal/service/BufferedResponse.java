@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+
+
+/*
+ * The serialized last response of a UI session, kept to answer a duplicate request after a
+ * network failure (see RWTProperties#REPLAY_BUFFER_POLICY and RWTProperties#REPLAY_BUFFER_LIMIT).
+ *
+ * By default, the UTF-8 bytes of every response are kept as they are. Compression is only applied
+ * when configured, with the AUTO policy only to responses that exceed the limit and would
+ * otherwise not be kept.
+ */
+final class BufferedResponse implements Serializable {
+
+  enum Policy { NONE, PLAIN, COMPRESSED, AUTO }
+
+  /*
+   * Passes everything to the given writer and keeps a UTF-8 encoded copy, to buffer a response
+   * while it is written.
+   */
+  static final class Recorder extends Writer {
+
+    private final Writer writer;
+    private final ByteArrayOutputStream bytes;
+    private final Writer copy;
+
+    Recorder( Writer writer ) {
+      this.writer = writer;
+      bytes = new ByteArrayOutputStream( 8192 );
+      copy = new OutputStreamWriter( bytes, UTF_8 );
+    }
+
+    @Override
+    public void write( int character ) throws IOException {
+      writer.write( character );
+      copy.write( character );
+    }
+
+    @Override
+    public void write( char[] buffer, int offset, int length ) throws IOException {
+      writer.write( buffer, offset, length );
+      copy.write( buffer, offset, length );
+    }
+
+    @Override
+    public void write( String string, int offset, int length ) throws IOException {
+      writer.write( string, offset, length );
+      copy.write( string, offset, length );
+    }
+
+    @Override
+    public void flush() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.close();
+    }
+
+    byte[] getBytes() throws IOException {
+      copy.flush();
+      return bytes.toByteArray();
+    }
+
+  }
+
+  private static final long serialVersionUID = 1L;
+  // responses of any size are kept unless a limit is configured
+  private static final int NO_LIMIT = 0;
+
+  private final byte[] data;
+  private final boolean compressed;
+
+  private BufferedResponse( byte[] data, boolean compressed ) {
+    this.data = data;
+    this.compressed = compressed;
+  }
+
+  static BufferedResponse create( byte[] bytes ) {
+    return create( bytes, getPolicy(), RWTProperties.getReplayBufferLimit( NO_LIMIT ) );
+  }
+
+  /*
+   * Returns null if the response is not to be kept, either because of the policy NONE or because
+   * it exceeds the limit.
+   */
+  static BufferedResponse create( byte[] bytes, Policy policy, int limit ) {
+    if( policy == Policy.NONE ) {
+      return null;
+    }
+    boolean exceedsLimit = exceedsLimit( bytes, limit );
+    boolean compress =    policy == Policy.COMPRESSED
+                       || policy == Policy.AUTO && exceedsLimit;
+    byte[] data = compress ? compress( bytes ) : bytes;
+    if( compress ? exceedsLimit( data, limit ) : exceedsLimit ) {
+      return null;
+    }
+    return new BufferedResponse( data, compress );
+  }
+
+  int getSize() {
+    return data.length;
+  }
+
+  boolean isCompressed() {
+    return compressed;
+  }
+
+  void writeTo( OutputStream outputStream ) throws IOException {
+    if( compressed ) {
+      try( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( data ) ) ) {
+        byte[] buffer = new byte[ 8192 ];
+        int read = inputStream.read( buffer );
+        while( read != -1 ) {
+          outputStream.write( buffer, 0, read );
+          read = inputStream.read( buffer );
+        }
+      }
+    } else {
+      outputStream.write( data );
+    }
+  }
+
+  static Policy getPolicy() {
+    String value = RWTProperties.getReplayBufferPolicy();
+    if( value != null ) {
+      try {
+        return Policy.valueOf( value.trim().toUpperCase( Locale.ENGLISH ) );
+      } catch( @SuppressWarnings( "unused" ) IllegalArgumentException exception ) {
+        // fall back to default
+      }
+    }
+    return Policy.PLAIN;
+  }
+
+  private static boolean exceedsLimit( byte[] data, int limit ) {
+    return limit > NO_LIMIT && data.length > limit;
+  }
+
+  private static byte[] compress( byte[] bytes ) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream( bytes.length / 4 );
+    try( GZIPOutputStream outputStream = new GZIPOutputStream( result ) ) {
+      outputStream.write( bytes );
+    } catch( IOException exception ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+    return result.toByteArray();
+  }
+
+}
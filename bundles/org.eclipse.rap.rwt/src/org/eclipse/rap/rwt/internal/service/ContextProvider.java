@@ -11,8 +11,11 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.service;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -44,10 +47,12 @@ public class ContextProvider {
   private final static ThreadLocal<ServiceContext> CONTEXT_HOLDER = new ThreadLocal<>();
 
   // Used to map contexts to background threads from another thread
-  // Note: this map could also be used to replace the CONTEXT_HOLDER, but we prefer the thread
-  // local for the common use case because of its smaller synchronization impact.
-  private final static Map<Thread, ServiceContext> CONTEXT_HOLDER_FOR_BG_THREADS
-    = new WeakHashMap<>();
+  // Note: the map is weakly keyed by the threads and can be read without locking, as background
+  // threads look up their context whenever the thread local is empty. Entries of threads that
+  // have been garbage collected are removed whenever the map is modified.
+  private final static Map<Object, ServiceContext> CONTEXT_HOLDER_FOR_BG_THREADS
+    = new ConcurrentHashMap<>();
+  private final static ReferenceQueue<Thread> COLLECTED_THREADS = new ReferenceQueue<>();
 
   /**
    * Maps the given service context to the currently processed request.
@@ -75,12 +80,11 @@ public class ContextProvider {
   public static void setContext( ServiceContext context, Thread thread ) {
     ParamCheck.notNull( context, "context" );
     ParamCheck.notNull( thread, "thread" );
-    synchronized( CONTEXT_HOLDER_FOR_BG_THREADS ){
-      if( CONTEXT_HOLDER_FOR_BG_THREADS.containsKey( thread ) ) {
-        String msg = "The given thread has already a context instance mapped.";
-        throw new IllegalStateException( msg );
-      }
-      CONTEXT_HOLDER_FOR_BG_THREADS.put( thread, context );
+    removeCollectedThreads();
+    ThreadKey key = new ThreadKey( thread, COLLECTED_THREADS );
+    if( CONTEXT_HOLDER_FOR_BG_THREADS.putIfAbsent( key, context ) != null ) {
+      String msg = "The given thread has already a context instance mapped.";
+      throw new IllegalStateException( msg );
     }
   }
 
@@ -139,11 +143,10 @@ public class ContextProvider {
    */
   public static void disposeContext( Thread thread ) {
     ParamCheck.notNull( thread, "thread" );
-    synchronized( CONTEXT_HOLDER_FOR_BG_THREADS ) {
-      ServiceContext removed = CONTEXT_HOLDER_FOR_BG_THREADS.remove( thread );
-      if( removed != null ) {
-        removed.dispose();
-      }
+    removeCollectedThreads();
+    ServiceContext removed = CONTEXT_HOLDER_FOR_BG_THREADS.remove( new LookupKey( thread ) );
+    if( removed != null ) {
+      removed.dispose();
     }
   }
 
@@ -152,22 +155,27 @@ public class ContextProvider {
       CONTEXT_HOLDER.set( null );
       return false;
     }
-    synchronized( CONTEXT_HOLDER_FOR_BG_THREADS ) {
-      CONTEXT_HOLDER_FOR_BG_THREADS.remove( Thread.currentThread() );
-    }
+    removeCollectedThreads();
+    CONTEXT_HOLDER_FOR_BG_THREADS.remove( new LookupKey( Thread.currentThread() ) );
     return true;
   }
 
   private static ServiceContext getContextInternal() {
     ServiceContext result = CONTEXT_HOLDER.get();
-    if( result == null ) {
-      synchronized( CONTEXT_HOLDER_FOR_BG_THREADS ) {
-        result = CONTEXT_HOLDER_FOR_BG_THREADS.get( Thread.currentThread() );
-      }
+    if( result == null && !CONTEXT_HOLDER_FOR_BG_THREADS.isEmpty() ) {
+      result = CONTEXT_HOLDER_FOR_BG_THREADS.get( new LookupKey( Thread.currentThread() ) );
     }
     return result;
   }
 
+  private static void removeCollectedThreads() {
+    Reference<? extends Thread> reference = COLLECTED_THREADS.poll();
+    while( reference != null ) {
+      CONTEXT_HOLDER_FOR_BG_THREADS.remove( reference );
+      reference = COLLECTED_THREADS.poll();
+    }
+  }
+
   /**
    * Returns the UI session that is associated with the currently processed request.
    */
@@ -216,4 +224,64 @@ public class ContextProvider {
     return getContext().getProtocolWriter();
   }
 
+  /*
+   * The key of a mapped thread. Equal to keys and lookup keys of the same thread as long as the
+   * thread has not been garbage collected. Afterwards only equal to itself, so that the entry can
+   * still be removed.
+   */
+  static final class ThreadKey extends WeakReference<Thread> {
+
+    private final int hashCode;
+
+    ThreadKey( Thread thread, ReferenceQueue<Thread> queue ) {
+      super( thread, queue );
+      hashCode = System.identityHashCode( thread );
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      return object == this || isKeyOf( object, get() );
+    }
+
+  }
+
+  /*
+   * Finds the entry of a thread without creating a weak reference for every lookup.
+   */
+  static final class LookupKey {
+
+    private final Thread thread;
+
+    LookupKey( Thread thread ) {
+      this.thread = thread;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode( thread );
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      return object == this || isKeyOf( object, thread );
+    }
+
+  }
+
+  // compares both kinds of keys in the same way to keep equals symmetric
+  private static boolean isKeyOf( Object key, Thread thread ) {
+    Thread keyThread = null;
+    if( key instanceof ThreadKey ) {
+      keyThread = ( ( ThreadKey )key ).get();
+    } else if( key instanceof LookupKey ) {
+      keyThread = ( ( LookupKey )key ).thread;
+    }
+    return thread != null && keyThread == thread;
+  }
+
 }
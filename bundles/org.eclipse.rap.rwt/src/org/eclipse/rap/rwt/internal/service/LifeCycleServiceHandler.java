@@ -35,6 +35,8 @@ import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
+import org.eclipse.rap.rwt.internal.service.BufferedResponse.Policy;
+import org.eclipse.rap.rwt.internal.service.BufferedResponse.Recorder;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 import org.eclipse.rap.rwt.service.UISession;
 
@@ -91,7 +93,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       shutdownUISession();
       writeEmptyMessage( response );
     } else if( !isRequestCounterValid( requestMessage ) ) {
-      if( isDuplicateRequest( requestMessage ) ) {
+      if( isDuplicateRequest( requestMessage ) && getBufferedResponse() != null ) {
         writeBufferedResponse( response );
       } else {
         writeInvalidRequestCounterError( response );
@@ -185,23 +187,37 @@ public class LifeCycleServiceHandler implements ServiceHandler {
                                             ServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    UISession uiSession = getUISession();
+    if( uiSession != null && BufferedResponse.getPolicy() != Policy.NONE ) {
+      // the serialized message is buffered instead of the message object to keep sessions small,
+      // it is recorded while it is written to serialize it only once
+      Recorder recorder = new Recorder( response.getWriter() );
+      responseMessage.writeTo( recorder );
+      bufferMessage( uiSession, BufferedResponse.create( recorder.getBytes() ) );
+    } else {
+      responseMessage.writeTo( response.getWriter() );
+      if( uiSession != null ) {
+        bufferMessage( uiSession, null );
+      }
+    }
   }
 
   private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+    // a plain byte copy, the buffered response is already serialized
+    getBufferedResponse().writeTo( response.getOutputStream() );
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
-    UISession uiSession = getUISession();
-    if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+  private static void bufferMessage( UISession uiSession, BufferedResponse bufferedResponse ) {
+    if( bufferedResponse != null ) {
+      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, bufferedResponse );
+    } else {
+      // never replay an outdated response
+      uiSession.removeAttribute( ATTR_LAST_RESPONSE_MESSAGE );
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static BufferedResponse getBufferedResponse() {
+    return ( BufferedResponse )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
   }
 
 }
@@ -14,8 +14,10 @@ package org.eclipse.rap.rwt.internal.service;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
+import org.eclipse.rap.rwt.internal.protocol.StreamingProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.service.UISession;
 
@@ -86,13 +88,20 @@ public final class ServiceContext {
   public ProtocolMessageWriter getProtocolWriter() {
     checkState();
     if( protocolWriter == null ) {
-      protocolWriter = new ProtocolMessageWriter();
+      protocolWriter = createProtocolWriter();
     }
     return protocolWriter;
   }
 
   public void resetProtocolWriter() {
-    protocolWriter = new ProtocolMessageWriter();
+    protocolWriter = createProtocolWriter();
+  }
+
+  private static ProtocolMessageWriter createProtocolWriter() {
+    if( RWTProperties.isStreamingProtocolWriterEnabled() ) {
+      return new StreamingProtocolMessageWriter();
+    }
+    return new ProtocolMessageWriter();
   }
 
   public UISession getUISession() {
@@ -14,8 +14,11 @@ package org.eclipse.rap.rwt.internal.service;
 
 import jakarta.servlet.http.Cookie;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
 import org.eclipse.rap.rwt.service.SettingStore;
 import org.eclipse.rap.rwt.service.SettingStoreFactory;
 
@@ -35,6 +38,9 @@ public class SettingStoreManager {
     if( result == null ) {
       result = factory.createSettingStore( storeId );
       uiSession.setAttribute( storeId, result );
+      if( ContextProvider.getApplicationContext().getSettingStoreWriter().isEnabled() ) {
+        uiSession.addUISessionListener( new PendingWriteFlusher( result ) );
+      }
     }
     return result;
   }
@@ -127,4 +133,24 @@ public class SettingStoreManager {
     return false;
   }
 
+  private static final class PendingWriteFlusher implements UISessionListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SettingStore store;
+
+    PendingWriteFlusher( SettingStore store ) {
+      this.store = store;
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      UISession uiSession = event.getUISession();
+      ApplicationContextImpl applicationContext
+        = ( ApplicationContextImpl )uiSession.getApplicationContext();
+      applicationContext.getSettingStoreWriter().flush( store );
+    }
+
+  }
+
 }
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+
+
+/*
+ * Application scoped queue for the pending writes of setting stores (see
+ * RWTProperties#SETTING_STORE_WRITE_DELAY). Consecutive changes of a store are coalesced into a
+ * single write that is executed by a daemon thread after the configured delay. The number of
+ * pending writes is bounded (see RWTProperties#SETTING_STORE_WRITE_QUEUE_SIZE), stores that do
+ * not fit into the queue have to write immediately. Pending writes are executed when the
+ * application context is deactivated, later writes are rejected and have to write immediately.
+ */
+public class SettingStoreWriter {
+
+  private static final String THREAD_NAME = "RWT setting store writer";
+  private static final int DEFAULT_QUEUE_SIZE = 1000;
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final long delay;
+  private final int queueSize;
+  private final Object lock;
+  private final Map<Object, Runnable> pendingWrites;
+  private ScheduledThreadPoolExecutor executor;
+  private ScheduledFuture<?> scheduledFlush;
+  private boolean disposed;
+
+  public SettingStoreWriter() {
+    this( RWTProperties.getSettingStoreWriteDelay( 0 ),
+          RWTProperties.getSettingStoreWriteQueueSize( DEFAULT_QUEUE_SIZE ) );
+  }
+
+  SettingStoreWriter( long delay, int queueSize ) {
+    this.delay = delay;
+    this.queueSize = queueSize;
+    lock = new Object();
+    pendingWrites = new LinkedHashMap<>();
+  }
+
+  /**
+   * Returns whether writes are delayed.
+   */
+  public boolean isEnabled() {
+    return delay > 0;
+  }
+
+  /**
+   * Schedules a write for the given store. Replaces a pending write of the same store.
+   *
+   * @return <code>false</code> if writes are not delayed, the queue is full or the writer has
+   *         been disposed, the store has to write immediately in this case
+   */
+  public boolean schedule( Object store, Runnable write ) {
+    if( !isEnabled() ) {
+      return false;
+    }
+    synchronized( lock ) {
+      // a new executor would outlive the deactivated application context
+      if( disposed ) {
+        return false;
+      }
+      if( !pendingWrites.containsKey( store ) && pendingWrites.size() >= queueSize ) {
+        return false;
+      }
+      pendingWrites.put( store, write );
+      if( scheduledFlush == null ) {
+        Runnable flush = this::flush;
+        scheduledFlush = getExecutor().schedule( flush, delay, TimeUnit.MILLISECONDS );
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Executes the pending write of the given store, if any.
+   */
+  public void flush( Object store ) {
+    Runnable write;
+    synchronized( lock ) {
+      write = pendingWrites.remove( store );
+    }
+    if( write != null ) {
+      write.run();
+    }
+  }
+
+  /**
+   * Executes all pending writes.
+   */
+  public void flush() {
+    List<Runnable> writes;
+    synchronized( lock ) {
+      writes = new ArrayList<>( pendingWrites.values() );
+      pendingWrites.clear();
+      scheduledFlush = null;
+    }
+    for( Runnable write : writes ) {
+      try {
+        write.run();
+      } catch( RuntimeException exception ) {
+        ServletLog.log( "Failed to write setting store", exception );
+      }
+    }
+  }
+
+  public int getPendingCount() {
+    synchronized( lock ) {
+      return pendingWrites.size();
+    }
+  }
+
+  public void dispose() {
+    synchronized( lock ) {
+      disposed = true;
+      if( scheduledFlush != null ) {
+        scheduledFlush.cancel( false );
+      }
+      if( executor != null ) {
+        executor.shutdown();
+        executor = null;
+      }
+    }
+    flush();
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    if( executor == null ) {
+      executor = new ScheduledThreadPoolExecutor( 1, runnable -> {
+        Thread thread = new Thread( runnable, THREAD_NAME );
+        thread.setDaemon( true );
+        return thread;
+      } );
+      executor.setKeepAliveTime( KEEP_ALIVE_SECONDS, TimeUnit.SECONDS );
+      executor.allowCoreThreadTimeOut( true );
+    }
+    return executor;
+  }
+
+}
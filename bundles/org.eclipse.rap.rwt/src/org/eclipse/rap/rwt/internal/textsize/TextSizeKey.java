@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/*
+ * Identifies a measured text size in the TextSizeStorage. Unlike a plain hash code, two keys are
+ * only equal if all parts of the measurement are equal, hence different texts can never share a
+ * stored size.
+ */
+final class TextSizeKey implements SerializableCompatibility {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String probeText;
+  private final Point probeSize;
+  private final FontData fontData;
+  private final String text;
+  private final int wrapWidth;
+  private final int mode;
+  private final int hashCode;
+
+  TextSizeKey( ProbeResult probeResult, FontData fontData, String text, int wrapWidth, int mode ) {
+    this( probeResult.getProbe().getText(), probeResult.getSize(), fontData, text, wrapWidth, mode );
+  }
+
+  TextSizeKey( String probeText,
+               Point probeSize,
+               FontData fontData,
+               String text,
+               int wrapWidth,
+               int mode )
+  {
+    this.probeText = probeText;
+    this.probeSize = new Point( probeSize.x, probeSize.y );
+    this.fontData = fontData;
+    this.text = text;
+    this.wrapWidth = wrapWidth;
+    this.mode = mode;
+    hashCode = computeHashCode();
+  }
+
+  String getProbeText() {
+    return probeText;
+  }
+
+  Point getProbeSize() {
+    return probeSize;
+  }
+
+  FontData getFontData() {
+    return fontData;
+  }
+
+  String getText() {
+    return text;
+  }
+
+  int getWrapWidth() {
+    return wrapWidth;
+  }
+
+  int getMode() {
+    return mode;
+  }
+
+  @Override
+  public boolean equals( Object obj ) {
+    if( obj == this ) {
+      return true;
+    }
+    if( !( obj instanceof TextSizeKey ) ) {
+      return false;
+    }
+    TextSizeKey other = ( TextSizeKey )obj;
+    return    hashCode == other.hashCode
+           && wrapWidth == other.wrapWidth
+           && mode == other.mode
+           && text.equals( other.text )
+           && fontData.equals( other.fontData )
+           && probeSize.equals( other.probeSize )
+           && probeText.equals( other.probeText );
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int result = 1;
+    result = 31 * result + probeText.hashCode();
+    result = 31 * result + probeSize.hashCode();
+    result = 31 * result + fontData.hashCode();
+    result = 31 * result + text.hashCode();
+    result = 31 * result + wrapWidth;
+    result = 31 * result + mode;
+    return result;
+  }
+
+}
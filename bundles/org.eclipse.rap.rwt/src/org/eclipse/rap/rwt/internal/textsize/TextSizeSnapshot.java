@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/**
+ * Writes the content of a <code>TextSizeStorage</code> to a file and reads it back, so that a
+ * restarted application does not need to measure all texts again.
+ * <p>
+ * Stored sizes are only found for clients that report the same probe sizes, as the probe
+ * measurement is part of every <code>TextSizeKey</code>. The restored fonts are probed with the
+ * startup request of the first session.
+ * </p>
+ */
+public final class TextSizeSnapshot {
+
+  private static final int MAGIC = 0x52545353;
+  private static final int VERSION = 1;
+  // limits what a corrupt snapshot can allocate, longer texts are not saved
+  static final int MAX_FONT_COUNT = 1000;
+  static final int MAX_STRING_LENGTH = 1 << 16;
+  private static final Set<File> ACQUIRED_FILES = ConcurrentHashMap.newKeySet();
+
+  /*
+   * Returns the name of the snapshot file of an application, derived from its context path and the
+   * servlet paths of its entry points, e.g. "myapp_admin_app.textsize" for the context path
+   * "/myapp" and the servlet paths "/app" and "/admin".
+   */
+  public static String getFileName( String contextPath, Collection<String> servletPaths ) {
+    StringBuilder name = new StringBuilder();
+    name.append( contextPath == null || contextPath.isEmpty() ? "ROOT" : contextPath );
+    for( String servletPath : new TreeSet<>( servletPaths ) ) {
+      name.append( '_' ).append( servletPath );
+    }
+    String result = name.toString().replaceAll( "[^A-Za-z0-9.-]+", "_" );
+    return result.replaceAll( "^_|_$", "" ) + ".textsize";
+  }
+
+  /*
+   * Reserves the given file for the calling application. Returns false if another application
+   * of this VM already uses it, a snapshot must neither be loaded nor saved in this case.
+   */
+  public static boolean acquire( File file ) {
+    return ACQUIRED_FILES.add( file.getAbsoluteFile() );
+  }
+
+  public static void release( File file ) {
+    ACQUIRED_FILES.remove( file.getAbsoluteFile() );
+  }
+
+  public static void save( TextSizeStorage storage, File file ) throws IOException {
+    File directory = file.getAbsoluteFile().getParentFile();
+    if( directory != null && !directory.isDirectory() && !directory.mkdirs() ) {
+      throw new IOException( "Could not create directory " + directory );
+    }
+    File tmpFile = new File( file.getPath() + ".tmp" );
+    try( DataOutputStream out = createOutputStream( tmpFile ) ) {
+      write( storage, out );
+    }
+    try {
+      Files.move( tmpFile.toPath(),
+                  file.toPath(),
+                  StandardCopyOption.REPLACE_EXISTING,
+                  StandardCopyOption.ATOMIC_MOVE );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+  }
+
+  /*
+   * Does nothing if the file does not exist. Throws an IOException if the file is not a valid
+   * snapshot, the storage is left unchanged in this case.
+   */
+  public static void load( TextSizeStorage storage, File file ) throws IOException {
+    if( file.isFile() ) {
+      try( DataInputStream in = createInputStream( file ) ) {
+        read( storage, in );
+      }
+    }
+  }
+
+  private static void write( TextSizeStorage storage, DataOutputStream out ) throws IOException {
+    FontData[] fonts = storage.getFontList();
+    if( fonts.length > MAX_FONT_COUNT ) {
+      fonts = Arrays.copyOf( fonts, MAX_FONT_COUNT );
+    }
+    Map<TextSizeKey,Point> entries = storage.getEntries();
+    Map<Object,Integer> fontTable = new HashMap<>();
+    Map<Object,Integer> probeTextTable = new HashMap<>();
+    List<FontData> tableFonts = new ArrayList<>();
+    List<String> tableProbeTexts = new ArrayList<>();
+    for( FontData font : fonts ) {
+      addToTable( fontTable, tableFonts, font );
+    }
+    entries.keySet().removeIf( key -> getLength( key.getText() ) > MAX_STRING_LENGTH );
+    for( TextSizeKey key : entries.keySet() ) {
+      addToTable( fontTable, tableFonts, key.getFontData() );
+      addToTable( probeTextTable, tableProbeTexts, key.getProbeText() );
+    }
+    out.writeInt( MAGIC );
+    out.writeInt( VERSION );
+    out.writeInt( tableFonts.size() );
+    for( FontData font : tableFonts ) {
+      writeString( out, font.getName() );
+      out.writeInt( font.getHeight() );
+      out.writeInt( font.getStyle() );
+    }
+    out.writeInt( tableProbeTexts.size() );
+    for( String probeText : tableProbeTexts ) {
+      writeString( out, probeText );
+    }
+    out.writeInt( fonts.length );
+    for( FontData font : fonts ) {
+      out.writeInt( fontTable.get( font ).intValue() );
+    }
+    out.writeInt( entries.size() );
+    for( Map.Entry<TextSizeKey,Point> entry : entries.entrySet() ) {
+      TextSizeKey key = entry.getKey();
+      out.writeInt( probeTextTable.get( key.getProbeText() ).intValue() );
+      writePoint( out, key.getProbeSize() );
+      out.writeInt( fontTable.get( key.getFontData() ).intValue() );
+      writeString( out, key.getText() );
+      out.writeInt( key.getWrapWidth() );
+      out.writeInt( key.getMode() );
+      writePoint( out, entry.getValue() );
+    }
+  }
+
+  private static void read( TextSizeStorage storage, DataInputStream in ) throws IOException {
+    if( in.readInt() != MAGIC || in.readInt() != VERSION ) {
+      throw new IOException( "Not a text size snapshot or unsupported version" );
+    }
+    int maxEntryCount = storage.getMaximumStoreSize();
+    FontData[] tableFonts = new FontData[ readCount( in, MAX_FONT_COUNT + maxEntryCount ) ];
+    for( int i = 0; i < tableFonts.length; i++ ) {
+      tableFonts[ i ] = new FontData( readString( in ), in.readInt(), in.readInt() );
+    }
+    String[] tableProbeTexts = new String[ readCount( in, maxEntryCount ) ];
+    for( int i = 0; i < tableProbeTexts.length; i++ ) {
+      tableProbeTexts[ i ] = readString( in );
+    }
+    FontData[] fonts = new FontData[ readCount( in, MAX_FONT_COUNT ) ];
+    for( int i = 0; i < fonts.length; i++ ) {
+      fonts[ i ] = readTableEntry( in, tableFonts );
+    }
+    int entryCount = readCount( in, maxEntryCount );
+    Map<TextSizeKey,Point> entries = new LinkedHashMap<>();
+    for( int i = 0; i < entryCount; i++ ) {
+      String probeText = readTableEntry( in, tableProbeTexts );
+      Point probeSize = readPoint( in );
+      FontData fontData = readTableEntry( in, tableFonts );
+      String text = readString( in );
+      TextSizeKey key
+        = new TextSizeKey( probeText, probeSize, fontData, text, in.readInt(), in.readInt() );
+      entries.put( key, readPoint( in ) );
+    }
+    // only touch the storage once the whole snapshot has been read successfully
+    for( FontData font : fonts ) {
+      storage.storeFont( font );
+    }
+    for( Map.Entry<TextSizeKey,Point> entry : entries.entrySet() ) {
+      storage.storeTextSize( entry.getKey(), entry.getValue() );
+    }
+  }
+
+  private static <T> void addToTable( Map<Object,Integer> table, List<T> list, T value ) {
+    if( !table.containsKey( value ) ) {
+      table.put( value, Integer.valueOf( list.size() ) );
+      list.add( value );
+    }
+  }
+
+  private static <T> T readTableEntry( DataInputStream in, T[] table ) throws IOException {
+    int index = in.readInt();
+    if( index < 0 || index >= table.length ) {
+      throw new IOException( "Invalid table index in text size snapshot: " + index );
+    }
+    return table[ index ];
+  }
+
+  private static int readCount( DataInputStream in, int maxCount ) throws IOException {
+    int result = in.readInt();
+    if( result < 0 || result > maxCount ) {
+      throw new IOException( "Invalid count in text size snapshot: " + result );
+    }
+    return result;
+  }
+
+  private static void writeString( DataOutputStream out, String string ) throws IOException {
+    // DataOutputStream#writeUTF is limited to 64k bytes
+    byte[] bytes = string.getBytes( UTF_8 );
+    out.writeInt( bytes.length );
+    out.write( bytes );
+  }
+
+  private static String readString( DataInputStream in ) throws IOException {
+    byte[] bytes = new byte[ readCount( in, MAX_STRING_LENGTH ) ];
+    in.readFully( bytes );
+    return new String( bytes, UTF_8 );
+  }
+
+  private static int getLength( String string ) {
+    return string.getBytes( UTF_8 ).length;
+  }
+
+  private static void writePoint( DataOutputStream out, Point point ) throws IOException {
+    out.writeInt( point.x );
+    out.writeInt( point.y );
+  }
+
+  private static Point readPoint( DataInputStream in ) throws IOException {
+    return new Point( in.readInt(), in.readInt() );
+  }
+
+  private static DataOutputStream createOutputStream( File file ) throws IOException {
+    FileOutputStream out = new FileOutputStream( file );
+    return new DataOutputStream( new GZIPOutputStream( new BufferedOutputStream( out ) ) );
+  }
+
+  private static DataInputStream createInputStream( File file ) throws IOException {
+    FileInputStream in = new FileInputStream( file );
+    return new DataInputStream( new GZIPInputStream( new BufferedInputStream( in ) ) );
+  }
+
+  private TextSizeSnapshot() {
+    // prevent instantiation
+  }
+
+}
@@ -14,49 +14,67 @@ package org.eclipse.rap.rwt.internal.textsize;
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
 import java.io.Serializable;
-import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/*
+ * Stores measured text sizes. The store is split into segments with a lock of their own, so that
+ * sessions sharing the application scoped store rarely contend. Every segment keeps its entries
+ * in access order and evicts the least recently used entry as soon as it exceeds its share of the
+ * maximum store size.
+ */
 public final class TextSizeStorage implements Serializable {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
+  static final int DEFAULT_SEGMENT_COUNT = 16;
 
   private final SerializableLock lock;
   // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
-  private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
+  private final Segment[] segments;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+  private final AtomicLong evictionCount;
+  private volatile int maximumStoreSize;
 
 
-  private static class Entry implements Serializable {
-    private Point point;
-    private long timeStamp;
-  }
+  private final class Segment extends LinkedHashMap<TextSizeKey,Point> {
+
+    private static final long serialVersionUID = 1L;
 
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
+    private int capacity;
+
+    Segment() {
+      super( 16, 0.75f, true );
+    }
+
+    // access is guarded by 'this'
+    void setCapacity( int capacity ) {
+      this.capacity = capacity;
+      Iterator<TextSizeKey> iterator = keySet().iterator();
+      while( size() > capacity ) {
+        iterator.next();
+        iterator.remove();
+        evictionCount.incrementAndGet();
+      }
+    }
 
     @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
+    protected boolean removeEldestEntry( Map.Entry<TextSizeKey,Point> eldest ) {
+      boolean result = size() > capacity;
+      if( result ) {
+        evictionCount.incrementAndGet();
       }
       return result;
     }
@@ -64,9 +82,19 @@ public final class TextSizeStorage implements Serializable {
 
 
   public TextSizeStorage() {
+    this( DEFAULT_SEGMENT_COUNT );
+  }
+
+  TextSizeStorage( int segmentCount ) {
     lock = new SerializableLock();
-    data = new HashMap<>();
     fontDatas = new HashSet<>();
+    segments = new Segment[ segmentCount ];
+    for( int i = 0; i < segmentCount; i++ ) {
+      segments[ i ] = new Segment();
+    }
+    hitCount = new AtomicLong();
+    missCount = new AtomicLong();
+    evictionCount = new AtomicLong();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
@@ -85,27 +113,70 @@ public final class TextSizeStorage implements Serializable {
     }
   }
 
-  Point lookupTextSize( Integer key ) {
-    Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
+  Point lookupTextSize( TextSizeKey key ) {
+    Point result;
+    Segment segment = getSegment( key );
+    synchronized( segment ) {
+      result = segment.get( key );
+    }
+    if( result == null ) {
+      missCount.incrementAndGet();
+    } else {
+      hitCount.incrementAndGet();
+    }
+    return defensiveCopy( result );
+  }
+
+  void storeTextSize( TextSizeKey key, Point size ) {
+    Point point = defensiveCopy( size );
+    Segment segment = getSegment( key );
+    synchronized( segment ) {
+      segment.put( key, point );
+    }
+  }
+
+  /*
+   * Returns a copy of all stored sizes, the least recently used entries of each segment first.
+   */
+  Map<TextSizeKey,Point> getEntries() {
+    Map<TextSizeKey,Point> result = new LinkedHashMap<>();
+    for( Segment segment : segments ) {
+      synchronized( segment ) {
+        result.putAll( segment );
       }
     }
-    result = defensiveCopy( result );
     return result;
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
-      handleOverFlow();
+  int size() {
+    int result = 0;
+    for( Segment segment : segments ) {
+      synchronized( segment ) {
+        result += segment.size();
+      }
     }
+    return result;
+  }
+
+  /*
+   * The number of lookups that found a stored size, e.g. to monitor the effect of the store size.
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /*
+   * The number of lookups that did not find a stored size.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /*
+   * The number of sizes that have been discarded to stay within the maximum store size.
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
   }
 
   ////////////////////
@@ -113,34 +184,28 @@ public final class TextSizeStorage implements Serializable {
 
   void setMaximumStoreSize( int maximumStoreSize ) {
     checkLowerStoreSizeBoundary( maximumStoreSize );
-    calculateClearRange( maximumStoreSize );
     this.maximumStoreSize = maximumStoreSize;
-  }
-
-  int getMaximumStoreSize() {
-    return maximumStoreSize;
-  }
-
-  private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
+    int segmentCapacity = Math.max( 1, maximumStoreSize / segments.length );
+    for( Segment segment : segments ) {
+      synchronized( segment ) {
+        segment.setCapacity( segmentCapacity );
       }
     }
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
+  int getMaximumStoreSize() {
+    return maximumStoreSize;
   }
 
-
   //////////////////
   // helping methods
 
+  private Segment getSegment( TextSizeKey key ) {
+    int hash = key.hashCode();
+    hash ^= hash >>> 16;
+    return segments[ ( hash & Integer.MAX_VALUE ) % segments.length ];
+  }
+
   private static void checkLowerStoreSizeBoundary( int maximumStoreSize ) {
     if( maximumStoreSize < MIN_STORE_SIZE ) {
       Object[] param = { Integer.valueOf( MIN_STORE_SIZE ) };
@@ -153,14 +218,4 @@ public final class TextSizeStorage implements Serializable {
     return point == null ? null : new Point( point.x, point.y );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
-  }
-
-  private void calculateClearRange( int maximumStoreSize ) {
-    BigDecimal ten = new BigDecimal( 10 );
-    BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
-    clearRange = bdStoreSize.divide( ten, 0, BigDecimal.ROUND_HALF_UP ).intValue();
-  }
-
 }
@@ -26,7 +26,7 @@ final class TextSizeStorageUtil {
     Point result = null;
     if( ProbeResultStore.getInstance().containsProbeResult( fontData ) ) {
       TextSizeStorage textSizeStorage = getTextSizeStorage();
-      Integer key = getKey( fontData, string, wrapWidth, mode );
+      TextSizeKey key = getKey( fontData, string, wrapWidth, mode );
       result = textSizeStorage.lookupTextSize( key );
       if( result == null && wrapWidth > 0 ) {
         key = getKey( fontData, string, SWT.DEFAULT, mode );
@@ -48,23 +48,13 @@ final class TextSizeStorageUtil {
                      Point measuredTextSize )
   {
     checkFontExists( fontData );
-    Integer key = getKey( fontData, string, wrapWidth, mode );
+    TextSizeKey key = getKey( fontData, string, wrapWidth, mode );
     getTextSizeStorage().storeTextSize( key, measuredTextSize );
   }
 
-  static Integer getKey( FontData fontData, String string, int wrapWidth, int mode ) {
-    ProbeResultStore instance = ProbeResultStore.getInstance();
-    ProbeResult probeResult = instance.getProbeResult( fontData );
-    String probeText = probeResult.getProbe().getText();
-    Point probeSize = probeResult.getSize();
-    int hashCode = 1;
-    hashCode = 31 * hashCode + probeText.hashCode();
-    hashCode = 31 * hashCode + probeSize.hashCode();
-    hashCode = 31 * hashCode + fontData.hashCode();
-    hashCode = 31 * hashCode + string.hashCode();
-    hashCode = 31 * hashCode + wrapWidth;
-    hashCode = 31 * hashCode + mode;
-    return Integer.valueOf( hashCode );
+  static TextSizeKey getKey( FontData fontData, String string, int wrapWidth, int mode ) {
+    ProbeResult probeResult = ProbeResultStore.getInstance().getProbeResult( fontData );
+    return new TextSizeKey( probeResult, fontData, string, wrapWidth, mode );
   }
 
   static TextSizeStorage getTextSizeStorage() {
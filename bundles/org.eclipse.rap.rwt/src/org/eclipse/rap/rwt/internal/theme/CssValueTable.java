@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
+
+
+/**
+ * The conditional values of a theme for a single element and property, compiled for quick
+ * selection. The values of the fallback theme are appended to the values of the theme, so that
+ * the first match yields the same result as looking up the theme first and the fallback theme
+ * second.
+ * <p>
+ * Every distinct constraint is assigned a bit. A selector determines which of the constraints
+ * are met by a widget and obtains the value for the resulting bit mask. For a small number of
+ * constraints the value of every combination is computed in advance.
+ * </p>
+ */
+public final class CssValueTable {
+
+  private static final ConditionalValue[] NO_VALUES = new ConditionalValue[ 0 ];
+  // up to this number of distinct constraints, the selected values are kept in a lookup table
+  private static final int MAX_TABLE_CONSTRAINTS = 8;
+
+  private final ConditionalValue[] values;
+  private final String[] constraints;
+  private final long[] masks;
+  private final CssValue[] table;
+
+  public CssValueTable( ConditionalValue[] values, ConditionalValue[] fallbackValues ) {
+    this.values = concat( values, fallbackValues );
+    Map<String, Integer> indices = collectConstraints( this.values );
+    constraints = indices.keySet().toArray( new String[ indices.size() ] );
+    if( constraints.length <= Long.SIZE ) {
+      masks = createMasks( this.values, indices );
+      table = constraints.length <= MAX_TABLE_CONSTRAINTS ? createTable() : null;
+    } else {
+      masks = null;
+      table = null;
+    }
+  }
+
+  /**
+   * Returns all values of this table in the order of precedence.
+   */
+  public ConditionalValue[] getValues() {
+    return values;
+  }
+
+  /**
+   * Returns the distinct constraints of the values in this table. The index of a constraint in
+   * this array is the number of its bit in the mask passed to <code>select</code>.
+   */
+  public String[] getConstraints() {
+    return constraints;
+  }
+
+  /**
+   * Returns whether the values can be selected by a bit mask. This is not the case if the
+   * values contain more than 64 distinct constraints.
+   */
+  public boolean isCompiled() {
+    return masks != null;
+  }
+
+  /**
+   * Returns the first value whose constraints are all contained in the given bit mask of
+   * matching constraints, or <code>null</code> if there is no such value.
+   */
+  public CssValue select( long matchingConstraints ) {
+    if( table != null ) {
+      return table[ ( int )matchingConstraints ];
+    }
+    return find( matchingConstraints );
+  }
+
+  private CssValue find( long matchingConstraints ) {
+    for( int i = 0; i < masks.length; i++ ) {
+      if( ( masks[ i ] & ~matchingConstraints ) == 0 ) {
+        return values[ i ].value;
+      }
+    }
+    return null;
+  }
+
+  private CssValue[] createTable() {
+    CssValue[] result = new CssValue[ 1 << constraints.length ];
+    for( int i = 0; i < result.length; i++ ) {
+      result[ i ] = find( i );
+    }
+    return result;
+  }
+
+  private static ConditionalValue[] concat( ConditionalValue[] values,
+                                            ConditionalValue[] fallbackValues )
+  {
+    ConditionalValue[] first = values == null ? NO_VALUES : values;
+    ConditionalValue[] second = fallbackValues == null ? NO_VALUES : fallbackValues;
+    ConditionalValue[] result = new ConditionalValue[ first.length + second.length ];
+    System.arraycopy( first, 0, result, 0, first.length );
+    System.arraycopy( second, 0, result, first.length, second.length );
+    return result;
+  }
+
+  private static Map<String, Integer> collectConstraints( ConditionalValue[] values ) {
+    Map<String, Integer> result = new LinkedHashMap<>();
+    for( ConditionalValue value : values ) {
+      for( String constraint : value.constraints ) {
+        if( !result.containsKey( constraint ) ) {
+          result.put( constraint, Integer.valueOf( result.size() ) );
+        }
+      }
+    }
+    return result;
+  }
+
+  private static long[] createMasks( ConditionalValue[] values, Map<String, Integer> indices ) {
+    long[] result = new long[ values.length ];
+    for( int i = 0; i < values.length; i++ ) {
+      for( String constraint : values[ i ].constraints ) {
+        result[ i ] |= 1L << indices.get( constraint ).intValue();
+      }
+    }
+    return result;
+  }
+
+}
@@ -42,6 +42,21 @@ public final class SimpleSelector implements ValueSelector {
     return result;
   }
 
+  @Override
+  public CssValue select( Widget widget, CssValueTable table ) {
+    if( !table.isCompiled() ) {
+      return select( widget, table.getValues() );
+    }
+    String[] constraints = table.getConstraints();
+    long matchingConstraints = 0;
+    for( int i = 0; i < constraints.length; i++ ) {
+      if( contains( requiredConstraints, constraints[ i ] ) ) {
+        matchingConstraints |= 1L << i;
+      }
+    }
+    return table.select( matchingConstraints );
+  }
+
   private boolean matches( String[] constraints ) {
     boolean result = true;
     for( int i = 0; i < constraints.length && result; i++ ) {
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rap.rwt.internal.theme.css.CssFileReader;
+import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+
+
+/*
+ * Keeps parsed style sheets by file name and content hash. Parsed style sheets are immutable and
+ * can be shared by all applications. As the values of a style sheet reference the resource
+ * loader that has been used to read the file, a cache must only be used for a loader that lives
+ * at least as long as the cache.
+ */
+final class StyleSheetCache {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+
+  private final ResourceLoader loader;
+  private final Map<String, StyleSheet> styleSheets;
+
+  StyleSheetCache( ResourceLoader loader ) {
+    this.loader = loader;
+    styleSheets = new ConcurrentHashMap<>();
+  }
+
+  StyleSheet readStyleSheet( String fileName ) throws IOException {
+    InputStream inputStream = loader.getResourceAsStream( fileName );
+    if( inputStream == null ) {
+      throw new IllegalArgumentException( "Could not open resource " + fileName );
+    }
+    return readStyleSheet( inputStream, fileName );
+  }
+
+  /**
+   * Reads a style sheet from the given stream. The stream is closed by this method. The style
+   * sheet is parsed only if the content of the file has not been parsed before.
+   */
+  StyleSheet readStyleSheet( InputStream inputStream, String fileName ) throws IOException {
+    byte[] content;
+    try {
+      content = inputStream.readAllBytes();
+    } finally {
+      inputStream.close();
+    }
+    String key = fileName + "#" + createHash( content );
+    StyleSheet result = styleSheets.get( key );
+    if( result == null ) {
+      InputStream contentStream = new ByteArrayInputStream( content );
+      result = CssFileReader.readStyleSheet( contentStream, fileName, loader );
+      StyleSheet existing = styleSheets.putIfAbsent( key, result );
+      if( existing != null ) {
+        result = existing;
+      }
+    }
+    return result;
+  }
+
+  int size() {
+    return styleSheets.size();
+  }
+
+  private static String createHash( byte[] content ) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance( HASH_ALGORITHM );
+      return HexFormat.of().formatHex( digest.digest( content ) );
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+  }
+
+}
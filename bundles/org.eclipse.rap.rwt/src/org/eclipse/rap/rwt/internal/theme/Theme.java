@@ -15,8 +15,11 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.rap.rwt.internal.theme.css.CssElementHolder;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
 import org.eclipse.rap.rwt.service.ApplicationContext;
@@ -32,6 +35,7 @@ public class Theme {
   private final String name;
   private StyleSheetBuilder styleSheetBuilder;
   private CssValuesMap valuesMap;
+  private final Map<String, Map<String, CssValueTable>> valueTables;
 
   private String registeredLocation;
 
@@ -45,6 +49,7 @@ public class Theme {
     this.name = name != null ? name : "Unnamed Theme";
     jsId = createUniqueJsId( id );
     valuesMap = null;
+    valueTables = new ConcurrentHashMap<>();
     styleSheetBuilder = new StyleSheetBuilder();
     if( styleSheet != null ) {
       styleSheetBuilder.addStyleSheet( styleSheet );
@@ -103,6 +108,37 @@ public class Theme {
     return valuesMap;
   }
 
+  /**
+   * Returns the values of this theme for the given element and property, followed by the values
+   * of the given fallback theme. The table is created on first access and shared by all UI
+   * sessions.
+   */
+  public CssValueTable getValueTable( String elementName,
+                                      String propertyName,
+                                      Theme fallbackTheme )
+  {
+    Map<String, CssValueTable> tables
+      = valueTables.computeIfAbsent( elementName, key -> new ConcurrentHashMap<>() );
+    CssValueTable result = tables.get( propertyName );
+    if( result == null ) {
+      result = createValueTable( elementName, propertyName, fallbackTheme );
+      tables.put( propertyName, result );
+    }
+    return result;
+  }
+
+  private CssValueTable createValueTable( String elementName,
+                                          String propertyName,
+                                          Theme fallbackTheme )
+  {
+    ConditionalValue[] values = getValuesMap().getValues( elementName, propertyName );
+    ConditionalValue[] fallbackValues = null;
+    if( fallbackTheme != null && fallbackTheme != this ) {
+      fallbackValues = fallbackTheme.getValuesMap().getValues( elementName, propertyName );
+    }
+    return new CssValueTable( values, fallbackValues );
+  }
+
   public String getRegisteredLocation() {
     return registeredLocation;
   }
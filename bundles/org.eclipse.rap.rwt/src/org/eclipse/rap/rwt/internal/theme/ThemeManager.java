@@ -23,6 +23,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleAdapterUtil;
@@ -51,6 +57,11 @@ public class ThemeManager {
     }
   };
 
+  // the style sheets of RWT do not change while the class is loaded
+  static final StyleSheetCache STANDARD_STYLE_SHEETS = new StyleSheetCache( STANDARD_RESOURCE_LOADER );
+
+  private static final String THREAD_NAME = "RWT theme initializer";
+
   private static final String[] THEMEABLE_WIDGETS = {
     org.eclipse.swt.widgets.Widget.class.getName(),
     org.eclipse.swt.widgets.Control.class.getName(),
@@ -101,7 +112,7 @@ public class ThemeManager {
     themeableWidgets = new ThemeableWidgetHolder();
     appearances = new ArrayList<>();
     themeAdapterManager = new ThemeAdapterManager();
-    resolvedPackageNames = new HashMap<>();
+    resolvedPackageNames = new ConcurrentHashMap<>();
     initialized = false;
     createAndAddFallbackTheme();
     addDefaultThemableWidgets();
@@ -120,9 +131,15 @@ public class ThemeManager {
       initializeThemeableWidgets();
       Collection<Theme> allThemes = themes.values();
       ThemeableWidget[] allThemeableWidgets = themeableWidgets.getAll();
+      // themes are independent of each other, the themeable widgets are not modified anymore
+      List<Callable<Void>> tasks = new ArrayList<>();
       for( Theme theme : allThemes ) {
-        theme.initialize( allThemeableWidgets );
+        tasks.add( () -> {
+          theme.initialize( allThemeableWidgets );
+          return null;
+        } );
       }
+      runInParallel( tasks );
       initialized = true;
     }
   }
@@ -209,6 +226,15 @@ public class ThemeManager {
     return result;
   }
 
+  /**
+   * Returns the fallback theme that provides the values missing in other themes.
+   *
+   * @return the fallback theme, never <code>null</code>
+   */
+  public Theme getFallbackTheme() {
+    return fallbackTheme;
+  }
+
   /**
    * Returns a list of all registered themes.
    *
@@ -245,8 +271,80 @@ public class ThemeManager {
 
   private void initializeThemeableWidgets() {
     ThemeableWidget[] widgets = themeableWidgets.getAll();
+    List<Callable<List<String>>> tasks = new ArrayList<>();
     for( ThemeableWidget widget : widgets ) {
-      loadThemeableWidgetResources( widget );
+      tasks.add( () -> loadThemeableWidgetResources( widget ) );
+    }
+    List<List<String>> widgetAppearances = runInParallel( tasks );
+    // keep the order of the widgets for appearances and style sheets
+    for( int i = 0; i < widgets.length; i++ ) {
+      appearances.addAll( widgetAppearances.get( i ) );
+      if( widgets[ i ].defaultStyleSheet != null ) {
+        fallbackTheme.addStyleSheet( widgets[ i ].defaultStyleSheet );
+      }
+    }
+  }
+
+  private static <T> List<T> runInParallel( List<Callable<T>> tasks ) {
+    List<T> results = new ArrayList<>();
+    int threadCount = Math.min( tasks.size(), Runtime.getRuntime().availableProcessors() );
+    if( threadCount <= 1 ) {
+      for( Callable<T> task : tasks ) {
+        results.add( call( task ) );
+      }
+      return results;
+    }
+    ExecutorService executor = createExecutor( threadCount );
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for( Callable<T> task : tasks ) {
+        futures.add( executor.submit( task ) );
+      }
+      for( Future<T> future : futures ) {
+        results.add( getResult( future ) );
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return results;
+  }
+
+  private static ExecutorService createExecutor( int threadCount ) {
+    // theme definitions are read with a DocumentBuilderFactory that uses the context class loader
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    return Executors.newFixedThreadPool( threadCount, runnable -> {
+      Thread thread = new Thread( runnable, THREAD_NAME );
+      thread.setDaemon( true );
+      thread.setContextClassLoader( contextClassLoader );
+      return thread;
+    } );
+  }
+
+  private static <T> T call( Callable<T> task ) {
+    try {
+      return task.call();
+    } catch( RuntimeException exception ) {
+      throw exception;
+    } catch( Exception exception ) {
+      throw new ThemeManagerException( "Failed to initialize themes", exception );
+    }
+  }
+
+  private static <T> T getResult( Future<T> future ) {
+    try {
+      return future.get();
+    } catch( InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+      throw new ThemeManagerException( "Interrupted while initializing themes", exception );
+    } catch( ExecutionException exception ) {
+      Throwable cause = exception.getCause();
+      if( cause instanceof RuntimeException ) {
+        throw ( RuntimeException )cause;
+      }
+      if( cause instanceof Error ) {
+        throw ( Error )cause;
+      }
+      throw new ThemeManagerException( "Failed to initialize themes", cause );
     }
   }
 
@@ -256,23 +354,27 @@ public class ThemeManager {
     }
   }
 
-  private void loadThemeableWidgetResources( ThemeableWidget themeWidget ) {
+  /**
+   * Loads the theme definition and the default style sheet into the given themeable widget.
+   *
+   * @return the appearances found for the widget
+   */
+  private List<String> loadThemeableWidgetResources( ThemeableWidget themeWidget ) {
     String className = LifeCycleAdapterUtil.getSimpleClassName( themeWidget.className );
     String[] variants = LifeCycleAdapterUtil.getKitPackageVariants( themeWidget.className );
+    List<String> widgetAppearances = new ArrayList<>();
     boolean found = false;
     try {
       for( int i = 0; i < variants.length && !found ; i++ ) {
         found |= loadThemeDef( themeWidget, variants[ i ], className );
-        found |= loadAppearanceJs( themeWidget, variants[ i ], className );
+        found |= loadAppearanceJs( themeWidget, variants[ i ], className, widgetAppearances );
         found |= loadDefaultCss( themeWidget, variants[ i ], className );
       }
-      if( themeWidget.defaultStyleSheet != null ) {
-        fallbackTheme.addStyleSheet( themeWidget.defaultStyleSheet );
-      }
     } catch( IOException e ) {
       String msg = "Failed to initialize themeable widget: " + themeWidget.className;
       throw new ThemeManagerException( msg, e );
     }
+    return widgetAppearances;
   }
 
   private boolean loadThemeDef( ThemeableWidget themeWidget, String pkgName, String className )
@@ -298,7 +400,10 @@ public class ThemeManager {
     return result;
   }
 
-  private boolean loadAppearanceJs( ThemeableWidget themeWidget, String pkgName, String className )
+  private boolean loadAppearanceJs( ThemeableWidget themeWidget,
+                                    String pkgName,
+                                    String className,
+                                    List<String> widgetAppearances )
     throws IOException
   {
     boolean result = false;
@@ -308,7 +413,7 @@ public class ThemeManager {
     if( inStream != null ) {
       try {
         String content = AppearancesUtil.readAppearanceFile( inStream );
-        appearances.add( content );
+        widgetAppearances.add( content );
         result = true;
       } finally {
         inStream.close();
@@ -328,8 +433,12 @@ public class ThemeManager {
     if( inStream != null ) {
       try {
         // TODO [rst] Check for illegal element names in selector list
-        themeWidget.defaultStyleSheet
-          = CssFileReader.readStyleSheet( inStream, fileName, resLoader );
+        if( resLoader == STANDARD_RESOURCE_LOADER ) {
+          themeWidget.defaultStyleSheet = STANDARD_STYLE_SHEETS.readStyleSheet( inStream, fileName );
+        } else {
+          themeWidget.defaultStyleSheet
+            = CssFileReader.readStyleSheet( inStream, fileName, resLoader );
+        }
         result = true;
       } finally {
         inStream.close();
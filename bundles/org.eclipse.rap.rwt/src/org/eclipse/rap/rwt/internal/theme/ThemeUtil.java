@@ -23,10 +23,7 @@ import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
-import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
-import org.eclipse.rap.rwt.internal.theme.css.CssFileReader;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
-import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.widgets.Widget;
 
@@ -85,16 +82,10 @@ public final class ThemeUtil {
     return getApplicationContext().getThemeManager().getTheme( getCurrentThemeId() );
   }
 
-  private static Theme getFallbackTheme() {
-    ThemeManager themeManager = getApplicationContext().getThemeManager();
-    return themeManager.getTheme( ThemeManager.FALLBACK_THEME_ID );
-  }
-
   static StyleSheet readDefaultThemeStyleSheet() {
     StyleSheet result;
     try {
-      ResourceLoader resLoader = ThemeManager.STANDARD_RESOURCE_LOADER;
-      result = CssFileReader.readStyleSheet( DEFAULT_THEME_CSS, resLoader );
+      result = ThemeManager.STANDARD_STYLE_SHEETS.readStyleSheet( DEFAULT_THEME_CSS );
     } catch( IOException ioe ) {
       String msg = "Failed to load default theme: " + DEFAULT_THEME_CSS;
       throw new ThemeManagerException( msg, ioe );
@@ -143,18 +134,11 @@ public final class ThemeUtil {
                                       ValueSelector selector,
                                       Widget widget )
   {
-    Theme theme =  getApplicationContext().getThemeManager().getTheme( themeId );
-    CssValuesMap valuesMap = theme.getValuesMap();
-    ConditionalValue[] values = valuesMap.getValues( cssElement, cssProperty );
-    CssValue result = selector.select( widget, values );
-    if( result == null ) {
-      // resort to fallback theme
-      theme = getFallbackTheme();
-      valuesMap = theme.getValuesMap();
-      values = valuesMap.getValues( cssElement, cssProperty );
-      result = selector.select( widget, values );
-    }
-    return result;
+    ThemeManager themeManager = getApplicationContext().getThemeManager();
+    Theme theme = themeManager.getTheme( themeId );
+    CssValueTable table
+      = theme.getValueTable( cssElement, cssProperty, themeManager.getFallbackTheme() );
+    return selector.select( widget, table );
   }
 
   private ThemeUtil() {
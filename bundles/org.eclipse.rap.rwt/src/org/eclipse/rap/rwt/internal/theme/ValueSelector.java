@@ -22,4 +22,12 @@ public interface ValueSelector {
 
   CssValue select( Widget widget, ConditionalValue... values );
 
+  /**
+   * Selects a value from a compiled table of conditional values. The result is the same as
+   * selecting from the values of the table.
+   */
+  default CssValue select( Widget widget, CssValueTable table ) {
+    return select( widget, table.getValues() );
+  }
+
 }
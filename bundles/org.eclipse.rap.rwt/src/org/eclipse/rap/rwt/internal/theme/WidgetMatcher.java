@@ -25,17 +25,24 @@ public final class WidgetMatcher implements ValueSelector {
     boolean matches( Widget widget );
   }
 
+  // the number of style and variant combinations whose matching constraints are cached
+  private static final int MAX_CACHED_MATCHES = 1024;
+
   private final Map<String, Constraint> constraintMap;
+  private final Map<StaticMatchKey, Long> staticMatches;
 
   public WidgetMatcher() {
     // This map is accessed by all UI sessions simultaneously. However, We don't need to
     // synchronize get and put since constraints are deterministic, i.e. in case of concurrent
     // insertions one constraint overwriting the other is not critical.
     constraintMap = new ConcurrentHashMap<>();
+    // The same applies to the matches of the style and variant constraints.
+    staticMatches = new ConcurrentHashMap<>();
   }
 
   public void addStyle( String string, int style ) {
     constraintMap.put( "[" + string, createStyleConstraint( style ) );
+    staticMatches.clear();
   }
 
   public void addState( String string, Constraint constraint ) {
@@ -55,6 +62,55 @@ public final class WidgetMatcher implements ValueSelector {
     return result;
   }
 
+  @Override
+  public CssValue select( Widget widget, CssValueTable table ) {
+    if( !table.isCompiled() ) {
+      return select( widget, table.getValues() );
+    }
+    String[] constraints = table.getConstraints();
+    long matchingConstraints = getStaticMatches( widget, table );
+    for( int i = 0; i < constraints.length; i++ ) {
+      if( isState( constraints[ i ] ) ) {
+        Constraint constraint = getConstraint( constraints[ i ] );
+        if( constraint != null && constraint.matches( widget ) ) {
+          matchingConstraints |= 1L << i;
+        }
+      }
+    }
+    return table.select( matchingConstraints );
+  }
+
+  /*
+   * Style and variant constraints only depend on the style and the variant of a widget, their
+   * matches are therefore computed once per table, style and variant. The table also stands for
+   * the widget class, as tables are created per element.
+   */
+  private long getStaticMatches( Widget widget, CssValueTable table ) {
+    String variant = WidgetUtil.getVariant( widget );
+    StaticMatchKey key = new StaticMatchKey( table, widget.getStyle(), variant );
+    Long result = staticMatches.get( key );
+    if( result == null ) {
+      result = Long.valueOf( computeStaticMatches( widget, table.getConstraints() ) );
+      if( staticMatches.size() < MAX_CACHED_MATCHES ) {
+        staticMatches.put( key, result );
+      }
+    }
+    return result.longValue();
+  }
+
+  private long computeStaticMatches( Widget widget, String[] constraints ) {
+    long result = 0;
+    for( int i = 0; i < constraints.length; i++ ) {
+      if( !isState( constraints[ i ] ) ) {
+        Constraint constraint = getConstraint( constraints[ i ] );
+        if( constraint != null && constraint.matches( widget ) ) {
+          result |= 1L << i;
+        }
+      }
+    }
+    return result;
+  }
+
   private boolean matches( Widget widget, String[] constraints ) {
     for( String string : constraints ) {
       Constraint constraint = getConstraint( string );
@@ -97,4 +153,39 @@ public final class WidgetMatcher implements ValueSelector {
     return actualVariant != null && actualVariant.equals( variant );
   }
 
+  private static boolean isState( String constraint ) {
+    return constraint.startsWith( ":" );
+  }
+
+  private static final class StaticMatchKey {
+
+    private final CssValueTable table;
+    private final int style;
+    private final String variant;
+
+    StaticMatchKey( CssValueTable table, int style, String variant ) {
+      this.table = table;
+      this.style = style;
+      this.variant = variant;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( !( object instanceof StaticMatchKey ) ) {
+        return false;
+      }
+      StaticMatchKey other = ( StaticMatchKey )object;
+      return table == other.table
+          && style == other.style
+          && ( variant == null ? other.variant == null : variant.equals( other.variant ) );
+    }
+
+    @Override
+    public int hashCode() {
+      int result = System.identityHashCode( table );
+      result = 31 * result + style;
+      return 31 * result + ( variant == null ? 0 : variant.hashCode() );
+    }
+  }
+
 }
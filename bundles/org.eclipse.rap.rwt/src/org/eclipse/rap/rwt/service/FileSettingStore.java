@@ -11,6 +11,9 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.service;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
@@ -18,18 +21,29 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
 
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.service.SettingStoreWriter;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
 
 /**
  * A setting store implementation that persists all settings on the file system using Java
  * {@link Properties} files.
+ * <p>
+ * By default, every change is written immediately. If the system property
+ * <code>"org.eclipse.rap.rwt.settingStoreWriteDelay"</code> is set to a number of milliseconds,
+ * changes are written in the background after this delay, and when the UI session or the
+ * application is shut down. Files are replaced atomically, a crash while writing leaves the
+ * previous file intact.
+ * </p>
  *
  * @since 2.0
  */
@@ -45,7 +59,9 @@ public final class FileSettingStore implements SettingStore {
   private final File workDir;
   private final Properties props;
   private final Set<SettingStoreListener> listeners;
+  private final SettingStoreWriter writer;
   private String id;
+  private boolean dirty;
 
   /**
    * Creates an empty instance with a random unique ID. Use {@link #loadById(String)} to initialize
@@ -61,6 +77,7 @@ public final class FileSettingStore implements SettingStore {
     workDir = baseDirectory;
     props = new Properties();
     listeners = new HashSet<>();
+    writer = findWriter();
   }
 
   @Override
@@ -83,7 +100,7 @@ public final class FileSettingStore implements SettingStore {
       String oldValue = ( String )props.setProperty( name, value );
       if( !value.equals( oldValue ) ) {
         notifyListeners( name, oldValue, value );
-        persist();
+        changed();
       }
     }
   }
@@ -106,6 +123,9 @@ public final class FileSettingStore implements SettingStore {
   @Override
   public synchronized void loadById( String id ) throws IOException {
     ParamCheck.notNullOrEmpty( id, "id" );
+    if( dirty ) {
+      persist();
+    }
     this.id = id;
     notifyForEachAttribute( true );
     props.clear();
@@ -125,7 +145,7 @@ public final class FileSettingStore implements SettingStore {
     String oldValue = ( String )props.remove( name );
     if( oldValue != null ) {
       notifyListeners( name, oldValue, null );
-      persist();
+      changed();
     }
   }
 
@@ -160,12 +180,6 @@ public final class FileSettingStore implements SettingStore {
     return result;
   }
 
-  private BufferedOutputStream getOutputStream( String streamId )
-  throws FileNotFoundException {
-    File file = getStoreFile( streamId );
-    return new BufferedOutputStream( new FileOutputStream( file ) );
-  }
-
   private File getStoreFile( String fileName ) {
     return new File( workDir, fileName );
   }
@@ -203,13 +217,46 @@ public final class FileSettingStore implements SettingStore {
     }
   }
 
+  private void changed() throws IOException {
+    dirty = true;
+    if( writer == null || !writer.schedule( this, this::persistChanges ) ) {
+      persist();
+    }
+  }
+
+  private synchronized void persistChanges() {
+    if( dirty ) {
+      try {
+        persist();
+      } catch( IOException exception ) {
+        log( "Failed to write setting store: " + id, exception );
+      }
+    }
+  }
+
   private void persist() throws IOException {
-    BufferedOutputStream outputStream = getOutputStream( id );
+    // write to a temporary file first to not lose the previous settings when writing fails
+    File file = getStoreFile( id );
+    File tempFile = getStoreFile( id + ".tmp" );
+    BufferedOutputStream outputStream = new BufferedOutputStream( new FileOutputStream( tempFile ) );
     try {
       props.store( outputStream, FileSettingStore.class.getName() );
     } finally {
       outputStream.close();
     }
+    try {
+      Files.move( tempFile.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( tempFile.toPath(), file.toPath(), REPLACE_EXISTING );
+    }
+    dirty = false;
+  }
+
+  private static SettingStoreWriter findWriter() {
+    if( ContextProvider.hasContext() ) {
+      return ContextProvider.getApplicationContext().getSettingStoreWriter();
+    }
+    return null;
   }
 
   private static void checkWorkDir( File workDir ) {
@@ -24,6 +24,7 @@ import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
@@ -115,6 +116,7 @@ public class FileUpload extends Canvas {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.text = text;
   }
 
@@ -150,6 +152,7 @@ public class FileUpload extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -225,6 +228,7 @@ public class FileUpload extends Canvas {
    */
   public void setFilterExtensions( String[] extensions ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( extensions == null ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -299,6 +303,7 @@ public class FileUpload extends Canvas {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -327,6 +332,7 @@ public class FileUpload extends Canvas {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -380,6 +386,7 @@ public class FileUpload extends Canvas {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     // prevent setting a layout
   }
 
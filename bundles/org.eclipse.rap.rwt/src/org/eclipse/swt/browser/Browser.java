@@ -32,6 +32,7 @@ import org.eclipse.swt.events.DisposeListener;
 import org.eclipse.swt.internal.SWTEventListener;
 import org.eclipse.swt.internal.browser.browserkit.BrowserLCA;
 import org.eclipse.swt.internal.events.EventTypes;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IBrowserAdapter;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
@@ -137,6 +138,7 @@ public class Browser extends Composite {
    */
   public boolean setUrl( String url ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( url == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -193,6 +195,7 @@ public class Browser extends Composite {
    */
   public boolean setText( String html ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( html == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -397,6 +400,7 @@ public class Browser extends Composite {
    */
   public void addLocationListener( LocationListener listener ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -422,6 +426,7 @@ public class Browser extends Composite {
    */
   public void removeLocationListener( LocationListener listener ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     removeListener( EventTypes.LOCALTION_CHANGED, listener );
     removeListener( EventTypes.LOCALTION_CHANGING, listener );
   }
@@ -446,6 +451,7 @@ public class Browser extends Composite {
    */
   public void addProgressListener( ProgressListener listener ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -474,6 +480,7 @@ public class Browser extends Composite {
    */
   public void removeProgressListener( ProgressListener listener ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     removeListener( EventTypes.PROGRESS_CHANGED, listener );
     removeListener( EventTypes.PROGRESS_COMPLETED, listener );
   }
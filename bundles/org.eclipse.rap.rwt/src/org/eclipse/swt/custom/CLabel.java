@@ -33,6 +33,7 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.custom.clabelkit.CLabelLCA;
 import org.eclipse.swt.internal.custom.clabelkit.CLabelThemeAdapter;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
 import org.eclipse.swt.widgets.Canvas;
@@ -279,6 +280,7 @@ public class CLabel extends Canvas {
    */
   public void setAlignment( int align ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if ( align != SWT.LEFT && align != SWT.RIGHT && align != SWT.CENTER ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -319,6 +321,7 @@ public class CLabel extends Canvas {
    */
   public void setBackground( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( image != backgroundImage ) {
       backgroundImage = image;
       if( image != null ) {
@@ -390,6 +393,7 @@ public class CLabel extends Canvas {
    */
   public void setBackground( Color[] colors, int[] percents, boolean vertical ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( colors != null ) {
       if( percents == null || percents.length != colors.length - 1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -443,6 +447,7 @@ public class CLabel extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if ( image != this.image ) {
       this.image = image;
     }
@@ -461,6 +466,7 @@ public class CLabel extends Canvas {
    */
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( text == null ) {
       this.text = "";
     } else if( !text.equals( this.text ) ) {
@@ -552,6 +558,7 @@ public class CLabel extends Canvas {
    */
   public void setMargins( int leftMargin, int topMargin, int rightMargin, int bottomMargin ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.leftMargin = Math.max( 0, leftMargin );
     this.topMargin = Math.max( 0, topMargin );
     this.rightMargin = Math.max( 0, rightMargin );
@@ -572,6 +579,7 @@ public class CLabel extends Canvas {
    */
   public void setLeftMargin( int leftMargin ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( leftMargin >= 0 ) {
       this.leftMargin = leftMargin;
     }
@@ -603,6 +611,7 @@ public class CLabel extends Canvas {
    */
   public void setTopMargin( int topMargin ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( topMargin >= 0 ) {
       this.topMargin = topMargin;
     }
@@ -634,6 +643,7 @@ public class CLabel extends Canvas {
    */
   public void setRightMargin( int rightMargin ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( rightMargin >= 0 ) {
       this.rightMargin = rightMargin;
     }
@@ -665,6 +675,7 @@ public class CLabel extends Canvas {
    */
   public void setBottomMargin( int bottomMargin ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( bottomMargin >= 0 ) {
       this.bottomMargin = bottomMargin;
     }
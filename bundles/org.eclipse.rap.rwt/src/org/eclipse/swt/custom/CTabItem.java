@@ -26,6 +26,7 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.custom.ctabitemkit.CTabItemLCA;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
 import org.eclipse.swt.widgets.Control;
@@ -177,6 +178,7 @@ public class CTabItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -191,6 +193,7 @@ public class CTabItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( image != getImage() ) {
       super.setImage( image );
       if( !parent.updateTabHeight( false ) ) {
@@ -220,6 +223,7 @@ public class CTabItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -285,6 +289,7 @@ public class CTabItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( control != null ) {
       if( control.isDisposed() ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -321,6 +326,7 @@ public class CTabItem extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -369,6 +375,7 @@ public class CTabItem extends Item {
    */
   public void setShowClose( boolean close ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( ( parent.getStyle() & SWT.CLOSE ) == 0 && showClose != close ) {
       showClose = close;
       parent.updateItems();
@@ -15,6 +15,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
@@ -327,6 +328,7 @@ public class SashForm extends Composite {
   @Override
   public void setOrientation( int orientation ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( orientation == SWT.RIGHT_TO_LEFT || orientation == SWT.LEFT_TO_RIGHT ) {
       super.setOrientation( orientation );
       return;
@@ -385,6 +387,7 @@ public class SashForm extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     return;
   }
 
@@ -406,6 +409,7 @@ public class SashForm extends Composite {
    */
   public void setMaximizedControl( Control control ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( control == null ) {
       if( maxControl != null ) {
         this.maxControl = null;
@@ -438,6 +442,7 @@ public class SashForm extends Composite {
    */
   public void setSashWidth( int width ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( SASH_WIDTH == width ) {
       return;
     }
@@ -462,6 +467,7 @@ public class SashForm extends Composite {
    */
   public void setWeights( int... weights ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     Control[] cArray = getControls( false );
     if( weights == null || weights.length != cArray.length ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
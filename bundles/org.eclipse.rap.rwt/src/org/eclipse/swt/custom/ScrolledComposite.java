@@ -21,6 +21,7 @@ import org.eclipse.swt.events.ControlEvent;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.custom.scrolledcompositekit.ScrolledCompositeLCA;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Layout;
@@ -117,6 +118,7 @@ public class ScrolledComposite extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     // ignore - ScrolledComposite manages its own layout
   }
 
@@ -158,6 +160,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setOrigin( int left, int top ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( content != null && left >= 0 && top >= 0 ) {
       int x = left;
       int y = top;
@@ -220,6 +223,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setAlwaysShowScrollBars( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( !show != !alwaysShowScroll ) {
       alwaysShowScroll = show;
       ScrollBar hBar = getHorizontalBar();
@@ -298,6 +302,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setExpandHorizontal( boolean expand ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( expand != expandHorizontal ) {
       expandHorizontal = expand;
       // layout( false );
@@ -322,6 +327,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setExpandVertical( boolean expand ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( expand != expandVertical ) {
       expandVertical = expand;
       // layout( false );
@@ -429,6 +435,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setMinSize( int width, int height ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( width != minWidth || height != minHeight ) {
       minWidth = Math.max( 0, width );
       minHeight = Math.max( 0, height );
@@ -452,6 +459,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setContent( Control content ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.content != null && !this.content.isDisposed() ) {
       this.content.removeControlListener( contentListener );
       this.content.setBounds( new Rectangle( -200, -200, 0, 0 ) );
@@ -512,6 +520,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setShowFocusedControl( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( showFocusedControl != show ) {
       showFocusedControl = show;
       if( showFocusedControl ) {
@@ -559,6 +568,7 @@ public class ScrolledComposite extends Composite {
    */
   public void showControl( Control control ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( control == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
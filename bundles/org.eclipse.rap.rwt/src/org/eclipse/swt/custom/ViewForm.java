@@ -19,6 +19,7 @@ import org.eclipse.swt.events.DisposeListener;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Layout;
@@ -323,6 +324,7 @@ public class ViewForm extends Composite {
    */
   public void setContent( Control content ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( content != null && content.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -351,6 +353,7 @@ public class ViewForm extends Composite {
    */
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     return;
   }
 
@@ -381,6 +384,7 @@ public class ViewForm extends Composite {
    */
   public void setTopCenter( Control topCenter ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( topCenter != null && topCenter.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -410,6 +414,7 @@ public class ViewForm extends Composite {
    */
   public void setTopLeft( Control c ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( c != null && c.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -440,6 +445,7 @@ public class ViewForm extends Composite {
    */
   public void setTopRight( Control c ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( c != null && c.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -464,6 +470,7 @@ public class ViewForm extends Composite {
    */
   public void setBorderVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( showBorder == show )
       return;
     showBorder = show;
@@ -495,6 +502,7 @@ public class ViewForm extends Composite {
    */
   public void setTopCenterSeparate( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     separateTopCenter = show;
     layout(false);
   }
@@ -16,6 +16,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTError;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.internal.dnd.dragsourcekit.DragSourceLCA;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
@@ -369,6 +370,7 @@ public class DragSource extends Widget {
    *          dragged from this source
    */
   public void setTransfer( Transfer[] transferAgents ) {
+    DirtyWidgets.markDirty( this );
     this.transferAgents = transferAgents;
   }
 
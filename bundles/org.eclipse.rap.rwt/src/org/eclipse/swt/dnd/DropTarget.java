@@ -16,6 +16,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTError;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.internal.dnd.droptargetkit.DropTargetLCA;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
@@ -353,6 +354,7 @@ public class DropTarget extends Widget {
     if( transferAgents == null ) {
       DND.error( SWT.ERROR_NULL_ARGUMENT );
     }
+    DirtyWidgets.markDirty( this );
     this.transferAgents = transferAgents;
   }
 
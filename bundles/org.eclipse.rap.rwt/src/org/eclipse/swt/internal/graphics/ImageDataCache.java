@@ -11,46 +11,254 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.graphics.ImageData;
 
 
 /**
  * Cache for small image data, mainly for decorator images.
+ * <p>
+ * The cache holds at most a configurable number of bytes (see
+ * <code>RWTProperties#IMAGE_DATA_CACHE_SIZE</code>), counting data, alpha data and mask data.
+ * Only image data whose data is not larger than the entry size is cached. Lookups do not lock,
+ * they only mark the entry as recently used. When the cache is full, entries are evicted with the
+ * CLOCK algorithm, an approximation of LRU that gives recently used entries a second chance.
+ * </p>
  */
 final class ImageDataCache {
 
+  static final int DEFAULT_CACHE_SIZE = 4 * 1024 * 1024;
   /** Maximum size of image data that is being cached */
-  private static final int MAX_DATA_SIZE = 1024;
+  static final int DEFAULT_ENTRY_SIZE = 1024;
 
-  private final Map<InternalImage,ImageData> cache;
-  private final Object cacheLock;
+  private final long maxSize;
+  private final int maxEntrySize;
+  private final boolean softValues;
+  private final Map<InternalImage,Entry> cache;
+  private final ReferenceQueue<ImageData> clearedValues;
+  private final Object evictionLock;
+  private final AtomicLong byteSize;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+  private final AtomicLong evictionCount;
+  // the next entry to be considered for eviction in the circular list of all entries,
+  // access is guarded by 'evictionLock'
+  private Entry hand;
+
+  private static final class Entry {
+    final InternalImage key;
+    final int size;
+    private final ImageData strongValue;
+    private final SoftValue softValue;
+    volatile boolean referenced;
+    // access is guarded by 'evictionLock'
+    Entry previous;
+    Entry next;
+
+    Entry( InternalImage key,
+           ImageData value,
+           int size,
+           ReferenceQueue<ImageData> clearedValues )
+    {
+      this.key = key;
+      this.size = size;
+      strongValue = clearedValues == null ? value : null;
+      softValue = clearedValues == null ? null : new SoftValue( value, this, clearedValues );
+    }
+
+    ImageData getValue() {
+      return softValue != null ? softValue.get() : strongValue;
+    }
+  }
+
+  private static final class SoftValue extends SoftReference<ImageData> {
+    final Entry entry;
+
+    SoftValue( ImageData value, Entry entry, ReferenceQueue<ImageData> queue ) {
+      super( value, queue );
+      this.entry = entry;
+    }
+  }
 
   ImageDataCache() {
-    cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
+    this( RWTProperties.getImageDataCacheSize( DEFAULT_CACHE_SIZE ),
+          RWTProperties.getImageDataCacheEntrySize( DEFAULT_ENTRY_SIZE ),
+          RWTProperties.isImageDataCacheSoftValuesEnabled() );
+  }
+
+  ImageDataCache( long maxSize, int maxEntrySize, boolean softValues ) {
+    this.maxSize = maxSize;
+    this.maxEntrySize = maxEntrySize;
+    this.softValues = softValues;
+    cache = new ConcurrentHashMap<>();
+    clearedValues = new ReferenceQueue<>();
+    evictionLock = new Object();
+    byteSize = new AtomicLong();
+    hitCount = new AtomicLong();
+    missCount = new AtomicLong();
+    evictionCount = new AtomicLong();
   }
 
   ImageData getImageData( InternalImage internalImage ) {
     ParamCheck.notNull( internalImage, "internalImage" );
-    ImageData cached;
-    synchronized( cacheLock ) {
-      cached = cache.get( internalImage );
+    ImageData cached = null;
+    Entry entry = cache.get( internalImage );
+    if( entry != null ) {
+      cached = entry.getValue();
+      if( cached == null ) {
+        // the soft reference has been cleared
+        remove( entry );
+      } else {
+        entry.referenced = true;
+      }
+    }
+    if( cached == null ) {
+      missCount.incrementAndGet();
+      return null;
     }
-    return cached != null ? ( ImageData )cached.clone() : null;
+    hitCount.incrementAndGet();
+    return ( ImageData )cached.clone();
   }
 
   void putImageData( InternalImage internalImage, ImageData imageData ) {
     ParamCheck.notNull( internalImage, "internalImage" );
     ParamCheck.notNull( imageData, "imageData" );
-    if( imageData.data.length <= MAX_DATA_SIZE ) {
-      synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
-        cache.put( internalImage, ( ImageData )imageData.clone() );
+    int size = getSize( imageData );
+    if( imageData.data.length <= maxEntrySize && size <= maxSize ) {
+      ImageData copy = ( ImageData )imageData.clone();
+      Entry entry = new Entry( internalImage, copy, size, softValues ? clearedValues : null );
+      synchronized( evictionLock ) {
+        expungeClearedValues();
+        Entry previous = cache.put( internalImage, entry );
+        if( previous != null ) {
+          byteSize.addAndGet( -previous.size );
+          unlink( previous );
+        }
+        byteSize.addAndGet( size );
+        link( entry );
+        evict();
       }
     }
   }
+
+  int size() {
+    synchronized( evictionLock ) {
+      expungeClearedValues();
+    }
+    return cache.size();
+  }
+
+  long getByteSize() {
+    synchronized( evictionLock ) {
+      expungeClearedValues();
+    }
+    return byteSize.get();
+  }
+
+  long getHitCount() {
+    return hitCount.get();
+  }
+
+  long getMissCount() {
+    return missCount.get();
+  }
+
+  long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  double getHitRate() {
+    long hits = hitCount.get();
+    long requests = hits + missCount.get();
+    return requests == 0 ? 0 : ( double )hits / requests;
+  }
+
+  // access is guarded by 'evictionLock'
+  private void evict() {
+    while( byteSize.get() > maxSize ) {
+      Entry entry = hand;
+      if( entry.referenced ) {
+        entry.referenced = false;
+        hand = entry.next;
+      } else {
+        cache.remove( entry.key, entry );
+        byteSize.addAndGet( -entry.size );
+        unlink( entry );
+        evictionCount.incrementAndGet();
+      }
+    }
+  }
+
+  private void remove( Entry entry ) {
+    synchronized( evictionLock ) {
+      removeLocked( entry );
+    }
+  }
+
+  // access is guarded by 'evictionLock'
+  private void removeLocked( Entry entry ) {
+    if( cache.remove( entry.key, entry ) ) {
+      byteSize.addAndGet( -entry.size );
+      unlink( entry );
+    }
+  }
+
+  // access is guarded by 'evictionLock'
+  private void expungeClearedValues() {
+    Reference<? extends ImageData> reference = clearedValues.poll();
+    while( reference != null ) {
+      removeLocked( ( ( SoftValue )reference ).entry );
+      reference = clearedValues.poll();
+    }
+  }
+
+  // inserts the entry right before the hand, it is the last one to be considered for eviction
+  // access is guarded by 'evictionLock'
+  private void link( Entry entry ) {
+    if( hand == null ) {
+      entry.previous = entry;
+      entry.next = entry;
+      hand = entry;
+    } else {
+      entry.previous = hand.previous;
+      entry.next = hand;
+      hand.previous.next = entry;
+      hand.previous = entry;
+    }
+  }
+
+  // access is guarded by 'evictionLock'
+  private void unlink( Entry entry ) {
+    if( entry.next == entry ) {
+      hand = null;
+    } else {
+      entry.previous.next = entry.next;
+      entry.next.previous = entry.previous;
+      if( hand == entry ) {
+        hand = entry.next;
+      }
+    }
+    entry.previous = null;
+    entry.next = null;
+  }
+
+  private static int getSize( ImageData imageData ) {
+    int result = imageData.data.length;
+    if( imageData.alphaData != null ) {
+      result += imageData.alphaData.length;
+    }
+    if( imageData.maskData != null ) {
+      result += imageData.maskData.length;
+    }
+    return result;
+  }
+
 }
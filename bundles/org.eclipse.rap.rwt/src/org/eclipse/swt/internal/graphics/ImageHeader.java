@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import org.eclipse.swt.SWT;
+
+
+/*
+ * Reads the type and size of PNG, GIF, JPEG and BMP images from their file headers without
+ * decoding the pixel data.
+ */
+final class ImageHeader {
+
+  private static final int BMP_FILE_HEADER_SIZE = 14;
+  private static final int BMP_CORE_HEADER_SIZE = 12;
+  private static final int BMP_RLE8 = 1;
+  private static final int BMP_RLE4 = 2;
+
+  final int type;
+  final int width;
+  final int height;
+
+  ImageHeader( int type, int width, int height ) {
+    this.type = type;
+    this.width = width;
+    this.height = height;
+  }
+
+  /*
+   * Returns null if the format is not supported or the header can not be parsed. Callers have to
+   * fall back to decoding the image in this case.
+   */
+  static ImageHeader read( byte[] bytes ) {
+    ImageHeader result = null;
+    try {
+      if( isPNG( bytes ) ) {
+        result = readPNG( bytes );
+      } else if( isGIF( bytes ) ) {
+        result = readGIF( bytes );
+      } else if( isJPEG( bytes ) ) {
+        result = readJPEG( bytes );
+      } else if( isBMP( bytes ) ) {
+        result = readBMP( bytes );
+      }
+    } catch( @SuppressWarnings( "unused" ) ArrayIndexOutOfBoundsException truncated ) {
+      result = null;
+    }
+    if( result != null && ( result.width <= 0 || result.height <= 0 ) ) {
+      result = null;
+    }
+    return result;
+  }
+
+  ///////
+  // PNG
+
+  private static boolean isPNG( byte[] bytes ) {
+    return    bytes.length >= 8
+           && ( bytes[ 0 ] & 0xFF ) == 0x89
+           && bytes[ 1 ] == 'P'
+           && bytes[ 2 ] == 'N'
+           && bytes[ 3 ] == 'G'
+           && bytes[ 4 ] == 0x0D
+           && bytes[ 5 ] == 0x0A
+           && bytes[ 6 ] == 0x1A
+           && bytes[ 7 ] == 0x0A;
+  }
+
+  private static ImageHeader readPNG( byte[] bytes ) {
+    // the IHDR chunk must come first: length, type, width, height
+    if(    bytes[ 12 ] != 'I'
+        || bytes[ 13 ] != 'H'
+        || bytes[ 14 ] != 'D'
+        || bytes[ 15 ] != 'R' )
+    {
+      return null;
+    }
+    return new ImageHeader( SWT.IMAGE_PNG, readIntBE( bytes, 16 ), readIntBE( bytes, 20 ) );
+  }
+
+  ///////
+  // GIF
+
+  private static boolean isGIF( byte[] bytes ) {
+    return    bytes.length >= 6
+           && bytes[ 0 ] == 'G'
+           && bytes[ 1 ] == 'I'
+           && bytes[ 2 ] == 'F'
+           && bytes[ 3 ] == '8'
+           && ( bytes[ 4 ] == '7' || bytes[ 4 ] == '9' )
+           && bytes[ 5 ] == 'a';
+  }
+
+  private static ImageHeader readGIF( byte[] bytes ) {
+    // the decoded image has the size of the first frame, not the logical screen size
+    int offset = 6;
+    int flags = bytes[ offset + 4 ] & 0xFF;
+    offset += 7;
+    if( ( flags & 0x80 ) != 0 ) {
+      offset += 3 * ( 1 << ( ( flags & 0x07 ) + 1 ) );
+    }
+    while( true ) {
+      int block = bytes[ offset ] & 0xFF;
+      if( block == 0x2C ) {
+        int width = readShortLE( bytes, offset + 5 );
+        int height = readShortLE( bytes, offset + 7 );
+        return new ImageHeader( SWT.IMAGE_GIF, width, height );
+      } else if( block == 0x21 ) {
+        offset = skipSubBlocks( bytes, offset + 2 );
+      } else {
+        return null;
+      }
+    }
+  }
+
+  private static int skipSubBlocks( byte[] bytes, int offset ) {
+    int result = offset;
+    int size = bytes[ result ] & 0xFF;
+    while( size != 0 ) {
+      result += size + 1;
+      size = bytes[ result ] & 0xFF;
+    }
+    return result + 1;
+  }
+
+  ////////
+  // JPEG
+
+  private static boolean isJPEG( byte[] bytes ) {
+    return bytes.length >= 2 && ( bytes[ 0 ] & 0xFF ) == 0xFF && ( bytes[ 1 ] & 0xFF ) == 0xD8;
+  }
+
+  private static ImageHeader readJPEG( byte[] bytes ) {
+    int offset = 2;
+    while( true ) {
+      if( ( bytes[ offset ] & 0xFF ) != 0xFF ) {
+        return null;
+      }
+      int marker = bytes[ offset + 1 ] & 0xFF;
+      if( marker == 0xFF ) {
+        // fill byte
+        offset++;
+      } else if( marker == 0x01 || marker >= 0xD0 && marker <= 0xD7 ) {
+        // markers without a segment
+        offset += 2;
+      } else if( marker == 0xD9 || marker == 0xDA ) {
+        // end of image or start of scan before any frame header
+        return null;
+      } else if( isStartOfFrame( marker ) ) {
+        if( !isSupportedFrame( marker ) ) {
+          return null;
+        }
+        int height = readShortBE( bytes, offset + 5 );
+        int width = readShortBE( bytes, offset + 7 );
+        return new ImageHeader( SWT.IMAGE_JPEG, width, height );
+      } else {
+        offset += 2 + readShortBE( bytes, offset + 2 );
+      }
+    }
+  }
+
+  private static boolean isStartOfFrame( int marker ) {
+    // SOF0 - SOF15 except DHT (C4), JPG (C8) and DAC (CC)
+    return    marker >= 0xC0
+           && marker <= 0xCF
+           && marker != 0xC4
+           && marker != 0xC8
+           && marker != 0xCC;
+  }
+
+  private static boolean isSupportedFrame( int marker ) {
+    // baseline, extended sequential and progressive huffman coding, see JPEGFileFormat
+    return marker == 0xC0 || marker == 0xC1 || marker == 0xC2;
+  }
+
+  ///////
+  // BMP
+
+  private static boolean isBMP( byte[] bytes ) {
+    return bytes.length >= 2 && bytes[ 0 ] == 'B' && bytes[ 1 ] == 'M';
+  }
+
+  private static ImageHeader readBMP( byte[] bytes ) {
+    int infoHeaderSize = readIntLE( bytes, BMP_FILE_HEADER_SIZE );
+    if( infoHeaderSize <= BMP_CORE_HEADER_SIZE ) {
+      // OS/2 bitmaps are left to the decoder
+      return null;
+    }
+    int width = readIntLE( bytes, 18 );
+    // bottom-up bitmaps have a negative height
+    int height = Math.abs( readIntLE( bytes, 22 ) );
+    int compression = readIntLE( bytes, 30 );
+    boolean rle = compression == BMP_RLE8 || compression == BMP_RLE4;
+    return new ImageHeader( rle ? SWT.IMAGE_BMP_RLE : SWT.IMAGE_BMP, width, height );
+  }
+
+  //////////////////
+  // helping methods
+
+  private static int readIntBE( byte[] bytes, int offset ) {
+    return   ( bytes[ offset ] & 0xFF ) << 24
+           | ( bytes[ offset + 1 ] & 0xFF ) << 16
+           | ( bytes[ offset + 2 ] & 0xFF ) << 8
+           | bytes[ offset + 3 ] & 0xFF;
+  }
+
+  private static int readIntLE( byte[] bytes, int offset ) {
+    return   ( bytes[ offset + 3 ] & 0xFF ) << 24
+           | ( bytes[ offset + 2 ] & 0xFF ) << 16
+           | ( bytes[ offset + 1 ] & 0xFF ) << 8
+           | bytes[ offset ] & 0xFF;
+  }
+
+  private static int readShortBE( byte[] bytes, int offset ) {
+    return ( bytes[ offset ] & 0xFF ) << 8 | bytes[ offset + 1 ] & 0xFF;
+  }
+
+  private static int readShortLE( byte[] bytes, int offset ) {
+    return ( bytes[ offset + 1 ] & 0xFF ) << 8 | bytes[ offset ] & 0xFF;
+  }
+
+}
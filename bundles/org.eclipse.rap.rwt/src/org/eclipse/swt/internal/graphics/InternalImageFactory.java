@@ -11,7 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
@@ -47,13 +46,13 @@ public class InternalImageFactory {
   }
 
   public InternalImage findInternalImage( InputStream stream ) {
-    final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
-    final ImageData imageData = readImageData( bufferedStream );
-    final String path = createGeneratedImagePath( imageData );
+    final byte[] bytes = readBytes( stream );
+    final ImageHeader header = readImageHeader( bytes );
+    String path = createGeneratedImagePath( bytes, header );
     return cache.get( path, new InstanceCreator<String, InternalImage>() {
       @Override
       public InternalImage createInstance( String path ) {
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( path, bytes, header );
       }
     } );
   }
@@ -73,10 +72,7 @@ public class InternalImageFactory {
     return cache.get( key, new InstanceCreator<String, InternalImage>() {
       @Override
       public InternalImage createInstance( String key ) {
-        BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-        ImageData imageData = readImageData( bufferedStream );
-        String path = createGeneratedImagePath( imageData );
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( inputStream );
       }
     } );
   }
@@ -86,16 +82,23 @@ public class InternalImageFactory {
     RWT.getResourceManager().unregister( internalImage.getResourceName() );
   }
 
+  /*
+   * Reads type and size from the image header. Only formats that ImageHeader does not understand
+   * are decoded, the pixel data is decoded lazily by the ImageDataFactory otherwise. Hence an
+   * image with a valid header but corrupt pixel data is created without an error, the
+   * SWTException is thrown when its ImageData is requested.
+   */
+  static ImageHeader readImageHeader( byte[] bytes ) throws SWTException {
+    ImageHeader result = ImageHeader.read( bytes );
+    if( result == null ) {
+      ImageData imageData = readImageData( new ByteArrayInputStream( bytes ) );
+      result = new ImageHeader( getOutputFormat( imageData ), imageData.width, imageData.height );
+    }
+    return result;
+  }
+
   static ImageData readImageData( InputStream stream ) throws SWTException {
-    ////////////////////////////////////////////////////////////////////////////
-    // TODO: [fappel] Image size calculation and resource registration both
-    //                read the input stream. Because of this I use a workaround
-    //                with a BufferedInputStream. Resetting it after reading the
-    //                image size enables the ResourceManager to reuse it for
-    //                registration. Note that the order is crucial here, since
-    //                the ResourceManager seems to close the stream (shrug).
-    //                It would be nice to find a solution without reading the
-    //                stream twice.
+    // Resetting the stream after reading the image enables the caller to read it again
     stream.mark( Integer.MAX_VALUE );
     ImageData result = new ImageData( stream );
     try {
@@ -132,10 +135,18 @@ public class InternalImageFactory {
   }
 
   private static InternalImage createInternalImage( InputStream stream ) {
-    InputStream bufferedStream = new BufferedInputStream( stream );
-    ImageData imageData = readImageData( bufferedStream );
-    String path = createGeneratedImagePath( imageData );
-    return createInternalImage( path, bufferedStream, imageData );
+    byte[] bytes = readBytes( stream );
+    ImageHeader header = readImageHeader( bytes );
+    String path = createGeneratedImagePath( bytes, header );
+    return createInternalImage( path, bytes, header );
+  }
+
+  private static InternalImage createInternalImage( String path,
+                                                    byte[] bytes,
+                                                    ImageHeader header )
+  {
+    RWT.getResourceManager().register( path, new ByteArrayInputStream( bytes ) );
+    return new InternalImage( path, header.width, header.height, false );
   }
 
   private static InternalImage createInternalImage( String path,
@@ -146,6 +157,14 @@ public class InternalImageFactory {
     return new InternalImage( path, imageData.width, imageData.height, false );
   }
 
+  private static byte[] readBytes( InputStream stream ) {
+    try {
+      return stream.readAllBytes();
+    } catch( IOException ioe ) {
+      throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
+    }
+  }
+
   private static int getOutputFormat( ImageData imageData ) {
     int result = imageData.type;
     if( imageData.type == SWT.IMAGE_UNDEFINED ) {
@@ -155,9 +174,18 @@ public class InternalImageFactory {
   }
 
   private static String createGeneratedImagePath( ImageData data ) {
-    int outputFormat = getOutputFormat( data );
+    return "generated/" + getHash( data ) + getExtension( getOutputFormat( data ) );
+  }
+
+  private static String createGeneratedImagePath( byte[] bytes, ImageHeader header ) {
+    CRC32 crc32 = new CRC32();
+    crc32.update( bytes );
+    return "generated/" + Long.toHexString( crc32.getValue() ) + getExtension( header.type );
+  }
+
+  private static String getExtension( int format ) {
     String extension;
-    switch( outputFormat ) {
+    switch( format ) {
       case SWT.IMAGE_BMP:
       case SWT.IMAGE_BMP_RLE:
         extension = ".bmp";
@@ -179,8 +207,7 @@ public class InternalImageFactory {
         extension = ".png";
         break;
     }
-    String hash = getHash( data ) + extension;
-    return "generated/" + hash;
+    return extension;
   }
 
   /*
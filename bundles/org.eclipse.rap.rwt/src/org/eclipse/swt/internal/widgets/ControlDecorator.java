@@ -63,6 +63,7 @@ public class ControlDecorator extends Decorator {
 
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.image = image;
   }
 
@@ -73,6 +74,7 @@ public class ControlDecorator extends Decorator {
 
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     String newText = text == null ? "" : text;
     if( isMarkupEnabledFor( this ) && !isValidationDisabledFor( this ) ) {
       MarkupValidator.getInstance().validate( newText );
@@ -94,6 +96,7 @@ public class ControlDecorator extends Decorator {
 
   public void setShowOnlyOnFocus( boolean showOnlyOnFocus ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.showOnlyOnFocus != showOnlyOnFocus ) {
       this.showOnlyOnFocus = showOnlyOnFocus;
       if( showOnlyOnFocus ) {
@@ -111,6 +114,7 @@ public class ControlDecorator extends Decorator {
 
   public void setShowHover( boolean showHover ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.showHover = showHover;
   }
 
@@ -121,11 +125,13 @@ public class ControlDecorator extends Decorator {
 
   public void setMarginWidth( int marginWidth ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.marginWidth = marginWidth;
   }
 
   public void show() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     visible = true;
   }
 
@@ -204,6 +210,7 @@ public class ControlDecorator extends Decorator {
 
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -214,6 +221,7 @@ public class ControlDecorator extends Decorator {
 
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -377,11 +377,6 @@ public class ControlRemoteAdapter extends WidgetRemoteAdapter {
     cancelKeys = null;
   }
 
-  private Object readResolve() {
-    initialize();
-    return this;
-  }
-
   private boolean changed( boolean actualValue, boolean preservedValue, boolean defaultValue ) {
     return actualValue != ( isInitialized() ? preservedValue : defaultValue );
   }
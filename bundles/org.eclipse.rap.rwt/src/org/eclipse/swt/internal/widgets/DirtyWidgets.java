@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
+import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
+import org.eclipse.swt.widgets.Widget;
+
+
+/*
+ * Keeps track of the widgets of a display that have been touched since the last render phase.
+ * Used by the DisplayLCA to restrict readData, render and clearPreserved to these widgets instead
+ * of visiting the whole widget tree (see RWTProperties#DIRTY_TRACKING).
+ *
+ * Widgets are marked when they are created, when one of their children is created or disposed and
+ * right before one of their setters changes their state. Getters don't mark a widget, hence a
+ * layout pass that only reads the children of a composite doesn't mark them. Widgets whose LCA is
+ * not provided by RWT don't mark themselves in their setters, these are marked whenever one of
+ * their methods checks the widget (see #isMarkedOnAccess).
+ *
+ * Values of already rendered widgets are preserved lazily on the first mark after the last render
+ * phase, i.e. right before the widget is changed. Marking a widget that has not been rendered yet
+ * also marks its parent, hence the render phase can find all dirty widgets by descending from the
+ * ancestors of the rendered ones.
+ */
+public class DirtyWidgets {
+
+  private final Map<String, Widget> widgetsById;
+  private final Set<Widget> dirty;
+  private final Set<Widget> ancestors;
+  private final Set<Widget> preserved;
+  private final Map<Class<?>, Boolean> markedOnAccess;
+  private boolean reading;
+  private boolean rendering;
+
+  public DirtyWidgets() {
+    widgetsById = new HashMap<>();
+    dirty = new HashSet<>();
+    ancestors = new HashSet<>();
+    preserved = new HashSet<>();
+    markedOnAccess = new HashMap<>();
+  }
+
+  /**
+   * Marks the given widget as dirty if dirty tracking is enabled for its display. Meant to be
+   * called by widgets outside of the org.eclipse.swt.widgets package right before a setter changes
+   * their state.
+   */
+  public static void markDirty( Widget widget ) {
+    IDisplayAdapter displayAdapter = widget.getDisplay().getAdapter( IDisplayAdapter.class );
+    DirtyWidgets dirtyWidgets = displayAdapter.getDirtyWidgets();
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.mark( widget );
+    }
+  }
+
+  public void register( String id, Widget widget ) {
+    widgetsById.put( id, widget );
+  }
+
+  public void unregister( String id ) {
+    widgetsById.remove( id );
+  }
+
+  public Widget find( String id ) {
+    Widget widget = widgetsById.get( id );
+    return widget == null || widget.isDisposed() ? null : widget;
+  }
+
+  public void markCreated( Widget widget ) {
+    dirty.add( widget );
+  }
+
+  public boolean isMarked( Widget widget ) {
+    return reading ? preserved.contains( widget ) : dirty.contains( widget );
+  }
+
+  public void mark( Widget widget ) {
+    if( !isMarked( widget ) ) {
+      RemoteAdapter adapter = getAdapter( widget );
+      boolean rendered = adapter.isInitialized();
+      mark( widget, rendered );
+      Widget parent = adapter.getParent();
+      if( !rendered && parent != null && !parent.isDisposed() ) {
+        mark( parent );
+      }
+    }
+  }
+
+  public boolean isMarkedOnAccess( Widget widget ) {
+    Class<?> type = widget.getClass();
+    Boolean result = markedOnAccess.get( type );
+    if( result == null ) {
+      WidgetLCA<?> lca = widget.getAdapter( WidgetLCA.class );
+      result = Boolean.valueOf( lca != null && !isProvidedByRWT( lca.getClass() ) );
+      markedOnAccess.put( type, result );
+    }
+    return result.booleanValue();
+  }
+
+  public void mark( Widget widget, boolean rendered ) {
+    if( reading ) {
+      // values changed while reading data are already known to the client
+      preserved.add( widget );
+    } else if( dirty.add( widget ) && rendered ) {
+      preserved.add( widget );
+      if( rendering ) {
+        addAncestors( widget );
+      }
+      getLCA( widget ).preserveValues( widget );
+    }
+  }
+
+  public void markRendered( Widget widget ) {
+    preserved.add( widget );
+  }
+
+  public boolean isDirty( Widget widget ) {
+    return dirty.contains( widget );
+  }
+
+  public boolean isAncestor( Widget widget ) {
+    return ancestors.contains( widget );
+  }
+
+  public Set<Widget> getPreserved() {
+    return preserved;
+  }
+
+  public void beginReading() {
+    reading = true;
+  }
+
+  public void beginRendering() {
+    rendering = true;
+    for( Widget widget : dirty.toArray( new Widget[ dirty.size() ] ) ) {
+      addAncestors( widget );
+    }
+  }
+
+  public void reset() {
+    // widgets created before or while reading data have not been rendered yet
+    if( !reading ) {
+      dirty.clear();
+    }
+    ancestors.clear();
+    preserved.clear();
+    reading = false;
+    rendering = false;
+  }
+
+  private static boolean isProvidedByRWT( Class<?> type ) {
+    String name = type.getName();
+    return name.startsWith( "org.eclipse.swt." ) || name.startsWith( "org.eclipse.rap.rwt." );
+  }
+
+  private void addAncestors( Widget widget ) {
+    if( !widget.isDisposed() ) {
+      Widget parent = getAdapter( widget ).getParent();
+      while( parent != null && !parent.isDisposed() && ancestors.add( parent ) ) {
+        parent = getAdapter( parent ).getParent();
+      }
+    }
+  }
+
+}
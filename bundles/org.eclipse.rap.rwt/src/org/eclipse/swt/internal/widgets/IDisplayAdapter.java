@@ -39,4 +39,6 @@ public interface IDisplayAdapter {
   void notifyListeners( int eventType, Event event );
   boolean isListening( int eventType );
 
+  DirtyWidgets getDirtyWidgets();
+
 }
@@ -10,22 +10,16 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.io.StringReader;
 import java.text.MessageFormat;
-import java.util.Arrays;
+import java.text.ParseException;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
-
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.widgets.Widget;
-import org.xml.sax.Attributes;
-import org.xml.sax.InputSource;
-import org.xml.sax.helpers.DefaultHandler;
 
 
 public class MarkupValidator implements SerializableCompatibility {
@@ -34,31 +28,35 @@ public class MarkupValidator implements SerializableCompatibility {
   public static final String MARKUP_VALIDATION_DISABLED
     = "org.eclipse.rap.rwt.markupValidationDisabled";
 
-  private static final String DTD = createDTD();
+  // limits the memory held by the cache to about 200KB per UI session
+  static final int DEFAULT_CACHE_SIZE = 100;
+  // longer texts are validated again on every call
+  static final int MAX_CACHED_LENGTH = 1024;
+  private static final String[] ENTITY_NAMES = {
+    "quot", "amp", "apos", "lt", "gt", "nbsp", "ensp", "emsp", "ndash", "mdash"
+  };
+  private static final char[] ENTITY_VALUES = {
+    34, 38, 39, 60, 62, 160, 8194, 8195, 8211, 8212
+  };
   private static final Map<String, String[]> SUPPORTED_ELEMENTS = createSupportedElementsMap();
-  private transient final SAXParser saxParser;
+  private static final String[] ELEMENT_NAMES
+    = SUPPORTED_ELEMENTS.keySet().toArray( new String[ SUPPORTED_ELEMENTS.size() ] );
+
+  private final int cacheSize;
+  private transient Map<String, Boolean> validTexts;
 
   public static MarkupValidator getInstance() {
     return SingletonUtil.getSessionInstance( MarkupValidator.class );
   }
 
   public MarkupValidator() {
-    saxParser = createSAXParser();
+    cacheSize = RWTProperties.getMarkupValidationCacheSize( DEFAULT_CACHE_SIZE );
   }
 
   public void validate( String text ) {
-    StringBuilder markup = new StringBuilder();
-    markup.append( DTD );
-    markup.append( "<html>" );
-    markup.append( text );
-    markup.append( "</html>" );
-    InputSource inputSource = new InputSource( new StringReader( markup.toString() ) );
-    try {
-      saxParser.parse( inputSource, new MarkupHandler() );
-    } catch( RuntimeException exception ) {
-      throw exception;
-    } catch( Exception exception ) {
-      throw new IllegalArgumentException( "Failed to parse markup text", exception );
+    if( !isKnownValid( text ) ) {
+      new MarkupParser( text ).parse();
+      rememberValid( text );
     }
   }
 
@@ -66,32 +64,26 @@ public class MarkupValidator implements SerializableCompatibility {
     return Boolean.TRUE.equals( widget.getData( MARKUP_VALIDATION_DISABLED ) );
   }
 
-  private static SAXParser createSAXParser() {
-    SAXParser result = null;
-    SAXParserFactory parserFactory = SAXParserFactory.newInstance();
-    try {
-      result = parserFactory.newSAXParser();
-    } catch( Exception exception ) {
-      throw new RuntimeException( "Failed to create SAX parser", exception );
+  boolean isKnownValid( String text ) {
+    return validTexts != null && validTexts.get( text ) != null;
+  }
+
+  private void rememberValid( String text ) {
+    if( cacheSize > 0 && text.length() <= MAX_CACHED_LENGTH ) {
+      if( validTexts == null ) {
+        validTexts = createCache( cacheSize );
+      }
+      validTexts.put( text, Boolean.TRUE );
     }
-    return result;
   }
 
-  private static String createDTD() {
-    StringBuilder result = new StringBuilder();
-    result.append( "<!DOCTYPE html [" );
-    result.append( "<!ENTITY quot \"&#34;\">" );
-    result.append( "<!ENTITY amp \"&#38;\">" );
-    result.append( "<!ENTITY apos \"&#39;\">" );
-    result.append( "<!ENTITY lt \"&#60;\">" );
-    result.append( "<!ENTITY gt \"&#62;\">" );
-    result.append( "<!ENTITY nbsp \"&#160;\">" );
-    result.append( "<!ENTITY ensp \"&#8194;\">" );
-    result.append( "<!ENTITY emsp \"&#8195;\">" );
-    result.append( "<!ENTITY ndash \"&#8211;\">" );
-    result.append( "<!ENTITY mdash \"&#8212;\">" );
-    result.append( "]>" );
-    return result.toString();
+  private static Map<String, Boolean> createCache( int maxSize ) {
+    return new LinkedHashMap<String, Boolean>( 16, 0.75f, true ) {
+      @Override
+      protected boolean removeEldestEntry( Map.Entry<String, Boolean> eldest ) {
+        return size() > maxSize;
+      }
+    };
   }
 
   private static Map<String, String[]> createSupportedElementsMap() {
@@ -123,62 +115,470 @@ public class MarkupValidator implements SerializableCompatibility {
     return result;
   }
 
-  private static class MarkupHandler extends DefaultHandler {
+  /*
+   * Parses the markup as the content of an XML html element that declares the entities known to
+   * the client. Fails with the same errors as a SAX parser would, but does not create any objects
+   * for elements, attributes or text.
+   */
+  private static final class MarkupParser {
+
+    private final String text;
+    private final int length;
+    private int position;
+    // start and end offsets of the names of the open elements
+    private int[] openElements;
+    private int depth;
+    // start and end offsets of the names and values of the attributes of the current element
+    private int[] attributes;
+    private int attributeCount;
+
+    MarkupParser( String text ) {
+      this.text = text;
+      length = text.length();
+    }
+
+    void parse() {
+      while( position < length ) {
+        char ch = text.charAt( position );
+        if( ch == '<' ) {
+          parseMarkup();
+        } else if( ch == '&' ) {
+          parseReference();
+        } else if( ch == ']' && text.startsWith( "]]>", position ) ) {
+          throw parseError( "CDATA section end in content" );
+        } else {
+          position = checkCharacter( position );
+        }
+      }
+      if( depth > 0 ) {
+        throw parseError( "Element not closed" );
+      }
+    }
+
+    private void parseMarkup() {
+      if( text.startsWith( "</", position ) ) {
+        parseEndTag();
+      } else if( text.startsWith( "<!--", position ) ) {
+        parseComment();
+      } else if( text.startsWith( "<![CDATA[", position ) ) {
+        parseCDataSection();
+      } else if( text.startsWith( "<?", position ) ) {
+        parseProcessingInstruction();
+      } else {
+        parseStartTag();
+      }
+    }
+
+    private void parseStartTag() {
+      position++;
+      int nameStart = position;
+      int nameEnd = parseName();
+      attributeCount = 0;
+      boolean whitespace = skipWhitespace();
+      while( position < length && !isTagEnd() ) {
+        if( !whitespace ) {
+          throw parseError( "Whitespace expected" );
+        }
+        int attributeStart = position;
+        int attributeEnd = parseName();
+        skipWhitespace();
+        expect( '=' );
+        skipWhitespace();
+        int valueStart = position + 1;
+        int valueEnd = parseAttributeValue();
+        addAttribute( attributeStart, attributeEnd, valueStart, valueEnd );
+        whitespace = skipWhitespace();
+      }
+      boolean empty = text.startsWith( "/>", position );
+      if( empty ) {
+        position += 2;
+      } else {
+        expect( '>' );
+      }
+      checkDuplicateAttributes();
+      checkElement( nameStart, nameEnd );
+      if( !empty ) {
+        openElement( nameStart, nameEnd );
+      }
+    }
+
+    private boolean isTagEnd() {
+      return text.charAt( position ) == '>' || text.startsWith( "/>", position );
+    }
+
+    private int parseAttributeValue() {
+      char quote = position < length ? text.charAt( position ) : 0;
+      if( quote != '"' && quote != '\'' ) {
+        throw parseError( "Quoted attribute value expected" );
+      }
+      position++;
+      while( position < length && text.charAt( position ) != quote ) {
+        char ch = text.charAt( position );
+        if( ch == '<' ) {
+          throw parseError( "Character '<' in attribute value" );
+        } else if( ch == '&' ) {
+          parseReference();
+        } else {
+          position = checkCharacter( position );
+        }
+      }
+      int result = position;
+      expect( quote );
+      return result;
+    }
+
+    private void parseEndTag() {
+      position += 2;
+      int nameStart = position;
+      int nameEnd = parseName();
+      skipWhitespace();
+      expect( '>' );
+      if( depth == 0 || !isOpenElement( depth - 1, nameStart, nameEnd ) ) {
+        throw parseError( "End tag does not match start tag" );
+      }
+      depth--;
+    }
+
+    private void parseComment() {
+      position += 4;
+      int end = text.indexOf( "--", position );
+      if( end == -1 || !text.startsWith( "-->", end ) ) {
+        throw parseError( "Comment not closed" );
+      }
+      checkCharacters( end );
+      position = end + 3;
+    }
+
+    private void parseCDataSection() {
+      position += 9;
+      int end = text.indexOf( "]]>", position );
+      if( end == -1 ) {
+        throw parseError( "CDATA section not closed" );
+      }
+      checkCharacters( end );
+      position = end + 3;
+    }
+
+    private void parseProcessingInstruction() {
+      position += 2;
+      int targetStart = position;
+      int targetEnd = parseName();
+      if( targetEnd - targetStart == 3 && text.regionMatches( true, targetStart, "xml", 0, 3 ) ) {
+        throw parseError( "Reserved processing instruction target" );
+      }
+      if( !skipWhitespace() && !text.startsWith( "?>", position ) ) {
+        throw parseError( "Whitespace expected" );
+      }
+      int end = text.indexOf( "?>", position );
+      if( end == -1 ) {
+        throw parseError( "Processing instruction not closed" );
+      }
+      checkCharacters( end );
+      position = end + 2;
+    }
+
+    private void parseReference() {
+      position++;
+      if( position < length && text.charAt( position ) == '#' ) {
+        position++;
+        int codePoint = parseCharacterReference();
+        if( !isLegalCharacter( codePoint ) ) {
+          throw parseError( "Illegal character reference" );
+        }
+      } else {
+        int nameStart = position;
+        int nameEnd = parseName();
+        if( findEntity( nameStart, nameEnd ) == -1 ) {
+          throw parseError( "Undeclared entity" );
+        }
+      }
+      expect( ';' );
+    }
+
+    private int parseCharacterReference() {
+      int radix = 10;
+      if( position < length && text.charAt( position ) == 'x' ) {
+        radix = 16;
+        position++;
+      }
+      int start = position;
+      int result = 0;
+      int digit;
+      while( position < length && ( digit = digit( text.charAt( position ), radix ) ) != -1 ) {
+        // values beyond the range of unicode are illegal anyway, avoid the overflow
+        result = Math.min( result * radix + digit, Character.MAX_CODE_POINT + 1 );
+        position++;
+      }
+      if( position == start ) {
+        throw parseError( "Digits expected in character reference" );
+      }
+      return result;
+    }
+
+    // unlike Character#digit, XML only accepts ASCII digits in character references
+    private static int digit( char ch, int radix ) {
+      if( ch >= '0' && ch <= '9' ) {
+        return ch - '0';
+      }
+      if( radix == 16 && ch >= 'a' && ch <= 'f' ) {
+        return ch - 'a' + 10;
+      }
+      if( radix == 16 && ch >= 'A' && ch <= 'F' ) {
+        return ch - 'A' + 10;
+      }
+      return -1;
+    }
+
+    private int parseName() {
+      if( position >= length || !isNameStartChar( text.codePointAt( position ) ) ) {
+        throw parseError( "Name expected" );
+      }
+      position += Character.charCount( text.codePointAt( position ) );
+      while( position < length && isNameChar( text.codePointAt( position ) ) ) {
+        position += Character.charCount( text.codePointAt( position ) );
+      }
+      return position;
+    }
 
-    @Override
-    public void startElement( String uri, String localName, String name, Attributes attributes ) {
-      checkSupportedElements( name );
-      checkSupportedAttributes( name, attributes );
-      checkMandatoryAttributes( name, attributes );
+    private boolean skipWhitespace() {
+      int start = position;
+      while( position < length && isWhitespace( text.charAt( position ) ) ) {
+        position++;
+      }
+      return position > start;
     }
 
-    private static void checkSupportedElements( String elementName ) {
-      if( !SUPPORTED_ELEMENTS.containsKey( elementName ) ) {
-        throw new IllegalArgumentException( "Unsupported element in markup text: " + elementName );
+    private void expect( char expected ) {
+      if( position >= length || text.charAt( position ) != expected ) {
+        throw parseError( "Character '" + expected + "' expected" );
       }
+      position++;
     }
 
-    private static void checkSupportedAttributes( String elementName, Attributes attributes ) {
-      if( attributes.getLength() > 0 ) {
-        List<String> supportedAttributes = Arrays.asList( SUPPORTED_ELEMENTS.get( elementName ) );
-        int index = 0;
-        String attributeName = attributes.getQName( index );
-        while( attributeName != null ) {
-          if( !supportedAttributes.contains( attributeName ) ) {
-            String message = "Unsupported attribute \"{0}\" for element \"{1}\" in markup text";
-            message = MessageFormat.format( message, new Object[] { attributeName, elementName } );
-            throw new IllegalArgumentException( message );
+    private void checkCharacters( int end ) {
+      int index = position;
+      while( index < end ) {
+        index = checkCharacter( index );
+      }
+    }
+
+    private int checkCharacter( int index ) {
+      char ch = text.charAt( index );
+      if(    ch >= 0x20 && ch <= 0xD7FF
+          || ch == 0x9
+          || ch == 0xA
+          || ch == 0xD
+          || ch >= 0xE000 && ch <= 0xFFFD )
+      {
+        return index + 1;
+      }
+      if(    Character.isHighSurrogate( ch )
+          && index + 1 < length
+          && Character.isLowSurrogate( text.charAt( index + 1 ) ) )
+      {
+        return index + 2;
+      }
+      position = index;
+      throw parseError( "Illegal character" );
+    }
+
+    private void addAttribute( int nameStart, int nameEnd, int valueStart, int valueEnd ) {
+      if( attributes == null ) {
+        attributes = new int[ 16 ];
+      } else if( attributes.length < ( attributeCount + 1 ) * 4 ) {
+        int[] newAttributes = new int[ attributes.length * 2 ];
+        System.arraycopy( attributes, 0, newAttributes, 0, attributes.length );
+        attributes = newAttributes;
+      }
+      int offset = attributeCount * 4;
+      attributes[ offset ] = nameStart;
+      attributes[ offset + 1 ] = nameEnd;
+      attributes[ offset + 2 ] = valueStart;
+      attributes[ offset + 3 ] = valueEnd;
+      attributeCount++;
+    }
+
+    private void openElement( int nameStart, int nameEnd ) {
+      if( openElements == null ) {
+        openElements = new int[ 16 ];
+      } else if( openElements.length < ( depth + 1 ) * 2 ) {
+        int[] newOpenElements = new int[ openElements.length * 2 ];
+        System.arraycopy( openElements, 0, newOpenElements, 0, openElements.length );
+        openElements = newOpenElements;
+      }
+      openElements[ depth * 2 ] = nameStart;
+      openElements[ depth * 2 + 1 ] = nameEnd;
+      depth++;
+    }
+
+    private boolean isOpenElement( int index, int nameStart, int nameEnd ) {
+      int openStart = openElements[ index * 2 ];
+      int openEnd = openElements[ index * 2 + 1 ];
+      return regionEquals( openStart, openEnd, nameStart, nameEnd );
+    }
+
+    private void checkDuplicateAttributes() {
+      for( int i = 1; i < attributeCount; i++ ) {
+        for( int j = 0; j < i; j++ ) {
+          if( regionEquals( attributes[ i * 4 ], attributes[ i * 4 + 1 ],
+                            attributes[ j * 4 ], attributes[ j * 4 + 1 ] ) )
+          {
+            throw parseError( "Duplicate attribute" );
           }
-          index++;
-          attributeName = attributes.getQName( index );
         }
       }
     }
 
-    private static void checkMandatoryAttributes( String elementName, Attributes attributes ) {
-      checkIntAttribute( elementName, attributes, "img", "width" );
-      checkIntAttribute( elementName, attributes, "img", "height" );
+    private void checkElement( int nameStart, int nameEnd ) {
+      String elementName = findElementName( nameStart, nameEnd );
+      if( elementName == null ) {
+        String name = text.substring( nameStart, nameEnd );
+        throw new IllegalArgumentException( "Unsupported element in markup text: " + name );
+      }
+      checkSupportedAttributes( elementName );
+      if( "img".equals( elementName ) ) {
+        checkIntAttribute( elementName, "width" );
+        checkIntAttribute( elementName, "height" );
+      }
     }
 
-    private static void checkIntAttribute( String elementName,
-                                           Attributes attributes,
-                                           String checkedElementName,
-                                           String checkedAttributeName )
-    {
-      if( checkedElementName.equals( elementName ) ) {
-        String attribute = attributes.getValue( checkedAttributeName );
-        try {
-          Integer.parseInt( attribute );
-        } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
-          String message
-            = "Mandatory attribute \"{0}\" for element \"{1}\" is missing or not a valid integer";
-          Object[] arguments = new Object[] { checkedAttributeName, checkedElementName };
-          message = MessageFormat.format( message, arguments );
+    private void checkSupportedAttributes( String elementName ) {
+      String[] supportedAttributes = SUPPORTED_ELEMENTS.get( elementName );
+      for( int i = 0; i < attributeCount; i++ ) {
+        int nameStart = attributes[ i * 4 ];
+        int nameEnd = attributes[ i * 4 + 1 ];
+        if( find( supportedAttributes, nameStart, nameEnd ) == -1 ) {
+          String attributeName = text.substring( nameStart, nameEnd );
+          String message = "Unsupported attribute \"{0}\" for element \"{1}\" in markup text";
+          message = MessageFormat.format( message, new Object[] { attributeName, elementName } );
           throw new IllegalArgumentException( message );
         }
       }
     }
 
+    private void checkIntAttribute( String elementName, String attributeName ) {
+      String value = getAttributeValue( attributeName );
+      try {
+        Integer.parseInt( value );
+      } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+        String message
+          = "Mandatory attribute \"{0}\" for element \"{1}\" is missing or not a valid integer";
+        Object[] arguments = new Object[] { attributeName, elementName };
+        message = MessageFormat.format( message, arguments );
+        throw new IllegalArgumentException( message );
+      }
+    }
+
+    // Returns the attribute value with references replaced and whitespace normalized
+    private String getAttributeValue( String name ) {
+      for( int i = 0; i < attributeCount; i++ ) {
+        int nameStart = attributes[ i * 4 ];
+        int nameEnd = attributes[ i * 4 + 1 ];
+        if( nameEnd - nameStart == name.length() && text.startsWith( name, nameStart ) ) {
+          return decode( attributes[ i * 4 + 2 ], attributes[ i * 4 + 3 ] );
+        }
+      }
+      return null;
+    }
+
+    private String decode( int start, int end ) {
+      StringBuilder result = new StringBuilder( end - start );
+      int index = start;
+      while( index < end ) {
+        char ch = text.charAt( index );
+        if( ch == '&' ) {
+          int referenceEnd = text.indexOf( ';', index );
+          if( text.charAt( index + 1 ) == '#' ) {
+            boolean hex = text.charAt( index + 2 ) == 'x';
+            String digits = text.substring( index + ( hex ? 3 : 2 ), referenceEnd );
+            result.appendCodePoint( Integer.parseInt( digits, hex ? 16 : 10 ) );
+          } else {
+            result.append( ENTITY_VALUES[ findEntity( index + 1, referenceEnd ) ] );
+          }
+          index = referenceEnd + 1;
+        } else if( ch == '\r' && index + 1 < end && text.charAt( index + 1 ) == '\n' ) {
+          result.append( ' ' );
+          index += 2;
+        } else {
+          result.append( isWhitespace( ch ) ? ' ' : ch );
+          index++;
+        }
+      }
+      return result.toString();
+    }
+
+    private String findElementName( int nameStart, int nameEnd ) {
+      int index = find( ELEMENT_NAMES, nameStart, nameEnd );
+      return index == -1 ? null : ELEMENT_NAMES[ index ];
+    }
+
+    private int findEntity( int nameStart, int nameEnd ) {
+      return find( ENTITY_NAMES, nameStart, nameEnd );
+    }
+
+    private int find( String[] names, int nameStart, int nameEnd ) {
+      int nameLength = nameEnd - nameStart;
+      for( int i = 0; i < names.length; i++ ) {
+        if( names[ i ].length() == nameLength && text.startsWith( names[ i ], nameStart ) ) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private boolean regionEquals( int start1, int end1, int start2, int end2 ) {
+      int regionLength = end1 - start1;
+      return    regionLength == end2 - start2
+             && text.regionMatches( start1, text, start2, regionLength );
+    }
+
+    private IllegalArgumentException parseError( String reason ) {
+      ParseException cause = new ParseException( reason, position );
+      return new IllegalArgumentException( "Failed to parse markup text", cause );
+    }
+
+    private static boolean isWhitespace( char ch ) {
+      return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private static boolean isLegalCharacter( int codePoint ) {
+      return    codePoint == 0x9
+             || codePoint == 0xA
+             || codePoint == 0xD
+             || codePoint >= 0x20 && codePoint <= 0xD7FF
+             || codePoint >= 0xE000 && codePoint <= 0xFFFD
+             || codePoint >= 0x10000 && codePoint <= 0x10FFFF;
+    }
+
+    private static boolean isNameStartChar( int ch ) {
+      return    ch >= 'a' && ch <= 'z'
+             || ch >= 'A' && ch <= 'Z'
+             || ch == '_'
+             || ch == ':'
+             || ch >= 0xC0 && ch <= 0xD6
+             || ch >= 0xD8 && ch <= 0xF6
+             || ch >= 0xF8 && ch <= 0x2FF
+             || ch >= 0x370 && ch <= 0x37D
+             || ch >= 0x37F && ch <= 0x1FFF
+             || ch >= 0x200C && ch <= 0x200D
+             || ch >= 0x2070 && ch <= 0x218F
+             || ch >= 0x2C00 && ch <= 0x2FEF
+             || ch >= 0x3001 && ch <= 0xD7FF
+             || ch >= 0xF900 && ch <= 0xFDCF
+             || ch >= 0xFDF0 && ch <= 0xFFFD
+             || ch >= 0x10000 && ch <= 0xEFFFF;
+    }
+
+    private static boolean isNameChar( int ch ) {
+      return    isNameStartChar( ch )
+             || ch >= '0' && ch <= '9'
+             || ch == '-'
+             || ch == '.'
+             || ch == 0xB7
+             || ch >= 0x300 && ch <= 0x36F
+             || ch >= 0x203F && ch <= 0x2040;
+    }
+
   }
 
 }
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+
+
+/*
+ * Application scoped scheduler for the runnables of Display#timerExec. All displays of an
+ * application share a small pool of daemon threads (see RWTProperties#TIMER_EXEC_THREADS)
+ * instead of creating a timer thread per display. Idle threads are released after a while, the
+ * pool is disposed together with the application context.
+ */
+public class TimerExecService {
+
+  private static final String THREAD_NAME = "RWT timerExec scheduler";
+  private static final int DEFAULT_THREADS = 1;
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final Object lock;
+  private final AtomicLong firedCount;
+  private ScheduledThreadPoolExecutor executor;
+  private boolean disposed;
+
+  public TimerExecService() {
+    lock = new Object();
+    firedCount = new AtomicLong();
+  }
+
+  /*
+   * Returns null without scheduling the runnable if the service has already been disposed, i.e.
+   * the application context has been deactivated. A new executor would outlive the context.
+   */
+  public ScheduledFuture<?> schedule( Runnable runnable, long milliseconds ) {
+    synchronized( lock ) {
+      if( disposed ) {
+        return null;
+      }
+      return getExecutor().schedule( () -> {
+        firedCount.incrementAndGet();
+        runnable.run();
+      }, milliseconds, TimeUnit.MILLISECONDS );
+    }
+  }
+
+  public int getPendingCount() {
+    synchronized( lock ) {
+      return executor == null ? 0 : executor.getQueue().size();
+    }
+  }
+
+  public long getFiredCount() {
+    return firedCount.get();
+  }
+
+  public void dispose() {
+    synchronized( lock ) {
+      disposed = true;
+      if( executor != null ) {
+        for( Runnable task : executor.shutdownNow() ) {
+          ( ( Future<?> )task ).cancel( false );
+        }
+        executor = null;
+      }
+    }
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    if( executor == null ) {
+      executor = createExecutor();
+    }
+    return executor;
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    int threads = Math.max( 1, RWTProperties.getTimerExecThreads( DEFAULT_THREADS ) );
+    ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor( threads, runnable -> {
+      Thread thread = new Thread( runnable, THREAD_NAME );
+      thread.setDaemon( true );
+      return thread;
+    } );
+    // cancelled tasks must not stay in the queue until their delay has elapsed
+    result.setRemoveOnCancelPolicy( true );
+    result.setKeepAliveTime( KEEP_ALIVE_SECONDS, TimeUnit.SECONDS );
+    result.allowCoreThreadTimeOut( true );
+    return result;
+  }
+
+}
@@ -41,11 +41,6 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   public WidgetRemoteAdapter( String id ) {
     this.id = id;
-    initialize();
-  }
-
-  void initialize() {
-    preservedValues = new HashMap<>();
   }
 
   @Override
@@ -73,12 +68,16 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   @Override
   public void preserve( String propertyName, Object value ) {
+    // created on demand and released after rendering, most widgets are not changed in a request
+    if( preservedValues == null ) {
+      preservedValues = new HashMap<>();
+    }
     preservedValues.put( propertyName, value );
   }
 
   @Override
   public Object getPreserved( String propertyName ) {
-    return preservedValues.get( propertyName );
+    return preservedValues == null ? null : preservedValues.get( propertyName );
   }
 
   public void preserveListeners( long eventList ) {
@@ -122,7 +121,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   public void clearPreserved() {
     preserved = 0;
-    preservedValues.clear();
+    preservedValues = null;
     preservedListeners = 0;
     data = null;
     variant = null;
@@ -166,9 +165,4 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     }
   }
 
-  private Object readResolve() {
-    initialize();
-    return this;
-  }
-
 }
@@ -149,6 +149,7 @@ public class Button extends Control {
    */
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -221,6 +222,7 @@ public class Button extends Control {
    */
   public void setSelection( boolean selected ) {
     checkWidget();
+    markDirty();
     if( ( style & ( SWT.CHECK | SWT.RADIO | SWT.TOGGLE ) ) != 0 ) {
       this.selected = selected;
     }
@@ -265,6 +267,7 @@ public class Button extends Control {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.CHECK ) != 0 ) {
       this.grayed = grayed;
     }
@@ -302,6 +305,7 @@ public class Button extends Control {
    */
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -377,6 +381,7 @@ public class Button extends Control {
    // TODO [rst] Remove comments from javadoc when fully implemented
   public void setAlignment( int alignment ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.ARROW ) != 0 ) {
       if( ( style & ( SWT.UP | SWT.DOWN | SWT.LEFT | SWT.RIGHT ) ) != 0 ) {
         style &= ~( SWT.UP | SWT.DOWN | SWT.LEFT | SWT.RIGHT );
@@ -474,6 +479,7 @@ public class Button extends Control {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -501,6 +507,7 @@ public class Button extends Control {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -152,6 +152,7 @@ public class Composite extends Scrollable {
    */
   public void setLayout( Layout layout ) {
     checkWidget();
+    markDirty();
     this.layout = layout;
   }
 
@@ -195,6 +196,7 @@ public class Composite extends Scrollable {
    */
   public void setLayoutDeferred( boolean defer ) {
     checkWidget();
+    markDirty();
     if( !defer ) {
       if( --layoutCount == 0 ) {
         if( hasState( LAYOUT_CHILD ) || hasState( LAYOUT_NEEDED ) ) {
@@ -712,6 +714,7 @@ public class Composite extends Scrollable {
    */
   public void setBackgroundMode( int mode ) {
     checkWidget();
+    markDirty();
     backgroundMode = mode;
     for( Control child : children ) {
       child.updateBackgroundMode();
@@ -738,6 +741,7 @@ public class Composite extends Scrollable {
   @Override
   public boolean setFocus() {
     checkWidget();
+    markDirty();
     for( Control child : children ) {
       if( child.setFocus() ) {
         return true;
@@ -766,6 +770,7 @@ public class Composite extends Scrollable {
    */
   public void setTabList( Control[] tabList ) {
     checkWidget();
+    markDirty();
     Control[] newList = tabList;
     if( tabList != null ) {
       for( int i = 0; i < tabList.length; i++ ) {
@@ -88,6 +88,9 @@ public abstract class Control extends Widget implements Drawable {
     @Override
     public void setTabIndex( int index ) {
       if( takesFocus() ) {
+        if( tabIndex != index ) {
+          markDirty();
+        }
         getRemoteAdapter().preserveTabIndex( tabIndex );
         tabIndex = index;
       }
@@ -329,6 +332,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    markDirty();
     if( hasState( HIDDEN ) != !visible ) {
       preserveState( HIDDEN );
       internalSetVisible( visible );
@@ -419,6 +423,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    markDirty();
     if( hasState( DISABLED ) != !enabled ) {
       preserveState( DISABLED );
       internalSetEnabled( enabled );
@@ -512,6 +517,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setBackground( Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -578,6 +584,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setBackgroundImage( Image image ) {
     checkWidget();
+    markDirty();
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -625,6 +632,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setForeground( Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -744,6 +752,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setFont( Font font ) {
     checkWidget();
+    markDirty();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -796,6 +805,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setCursor( Cursor cursor ) {
     checkWidget();
+    markDirty();
     if( cursor != null && cursor.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -843,6 +853,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public boolean setFocus() {
     checkWidget();
+    markDirty();
     boolean result = false;
     if( ( style & SWT.NO_FOCUS ) == 0 ) {
       result = forceFocus();
@@ -865,6 +876,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public boolean forceFocus() {
     checkWidget();
+    markDirty();
     // if (display.focusEvent == SWT.FocusOut) return false;
     Shell shell = getShell(); // was: Decorations shell = menuShell();
     shell.setSavedFocus( this );
@@ -1378,6 +1390,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setLayoutData( Object layoutData ) {
     checkWidget();
+    markDirty();
     this.layoutData = layoutData;
   }
 
@@ -1407,6 +1420,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    markDirty();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -1463,6 +1477,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setMenu( Menu menu ) {
     checkWidget();
+    markDirty();
     if( this.menu != menu ) {
       if( menu != null ) {
         if( menu.isDisposed() ) {
@@ -1526,6 +1541,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void moveAbove( Control control ) {
     checkWidget();
+    markDirty();
     if( control != null && control.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1558,6 +1574,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void moveBelow( Control control ) {
     checkWidget();
+    markDirty();
     if( control != null && control.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1616,6 +1633,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addControlListener( ControlListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1643,6 +1661,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeControlListener( ControlListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1673,6 +1692,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addMouseListener( MouseListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1703,6 +1723,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeMouseListener( MouseListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1753,6 +1774,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addKeyListener( KeyListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1782,6 +1804,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeKeyListener( KeyListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1812,6 +1835,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addTraverseListener( TraverseListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1840,6 +1864,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeTraverseListener( TraverseListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1867,6 +1892,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addFocusListener( FocusListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1894,6 +1920,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeFocusListener( FocusListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1923,6 +1950,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addHelpListener( HelpListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1950,6 +1978,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeHelpListener( HelpListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1979,6 +2008,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addDragDetectListener( DragDetectListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2007,6 +2037,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeDragDetectListener( DragDetectListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2037,6 +2068,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addMenuDetectListener( MenuDetectListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2066,6 +2098,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeMenuDetectListener( MenuDetectListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2122,6 +2155,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setRedraw( boolean redraw ) {
     checkWidget();
+    markDirty();
     internalSetRedraw( redraw );
   }
 
@@ -2142,6 +2176,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void redraw() {
     checkWidget();
+    markDirty();
     internalSetRedraw( true );
   }
 
@@ -2178,6 +2213,7 @@ public abstract class Control extends Widget implements Drawable {
 //  * @see SWT#Paint
   public void redraw( int x, int y, int width, int height, boolean all ) {
     checkWidget();
+    markDirty();
     if( width > 0 && height > 0 ) {
       internalSetRedraw( true, x, y, width, height );
     }
@@ -2234,6 +2270,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public boolean setParent( Composite parent ) {
     checkWidget();
+    markDirty();
     if( parent == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2294,6 +2331,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setOrientation( int orientation ) {
     checkWidget();
+    markDirty();
     int flags = SWT.RIGHT_TO_LEFT | SWT.LEFT_TO_RIGHT;
     if( ( orientation & flags ) == 0 || ( orientation & flags ) == flags ) {
       return;
@@ -2385,6 +2423,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addGestureListener( GestureListener listener ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -2408,6 +2447,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeGestureListener( GestureListener listener ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -2437,6 +2477,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addTouchListener( TouchListener listener ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -2460,6 +2501,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeTouchListener( TouchListener listener ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -2477,6 +2519,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setTouchEnabled( boolean enabled ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -2598,10 +2641,14 @@ public abstract class Control extends Widget implements Drawable {
   }
 
   void _setBounds( Rectangle rectangle ) {
+    rectangle.width = Math.max( 0, rectangle.width );
+    rectangle.height = Math.max( 0, rectangle.height );
+    // layouts set the bounds of all children, only mark controls that actually move or resize
+    if( !rectangle.equals( bounds ) ) {
+      markDirty();
+    }
     getRemoteAdapter().preserveBounds( bounds );
     bounds = rectangle;
-    bounds.width = Math.max( 0, bounds.width );
-    bounds.height = Math.max( 0, bounds.height );
   }
 
   private void _setMenu( Menu menu ) {
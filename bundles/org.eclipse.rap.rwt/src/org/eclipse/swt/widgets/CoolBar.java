@@ -1225,6 +1225,7 @@ public class CoolBar extends Composite {
    */
   public void setLocked( boolean locked ) {
     checkWidget();
+    markDirty();
     if( isLocked != locked ) {
       redraw();
     }
@@ -1250,6 +1251,7 @@ public class CoolBar extends Composite {
    */
   public void setWrapIndices( int[] indices ) {
     checkWidget();
+    markDirty();
     int[] newIndices = indices;
     if ( newIndices == null )
       newIndices = new int[0];
@@ -1325,6 +1327,7 @@ public class CoolBar extends Composite {
    */
   public void setItemLayout( int[] itemOrder, int[] wrapIndices, Point[] sizes ) {
     checkWidget();
+    markDirty();
     setItemOrder( itemOrder );
     setWrapIndices( wrapIndices );
     setItemSizes( sizes );
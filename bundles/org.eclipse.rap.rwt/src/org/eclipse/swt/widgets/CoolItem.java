@@ -205,6 +205,7 @@ public class CoolItem extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -533,6 +534,7 @@ public class CoolItem extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -578,6 +580,7 @@ public class CoolItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    markDirty();
     if ( control != null ) {
       if ( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -616,6 +619,7 @@ public class CoolItem extends Item {
    */
   public void setMinimumSize( int width, int height ) {
     checkWidget();
+    markDirty();
     Point point = parent.fixPoint( width, height );
     minimumWidth = point.x;
     minimumHeight = point.y;
@@ -642,6 +646,7 @@ public class CoolItem extends Item {
    */
   public void setMinimumSize( Point size ) {
     checkWidget();
+    markDirty();
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -665,6 +670,7 @@ public class CoolItem extends Item {
    */
   public void setPreferredSize( int width, int height ) {
     checkWidget();
+    markDirty();
     ideal = true;
     Point point = parent.fixPoint( width, height );
     preferredWidth = Math.max( point.x, MINIMUM_WIDTH );
@@ -690,6 +696,7 @@ public class CoolItem extends Item {
    */
   public void setPreferredSize( Point size ) {
     checkWidget();
+    markDirty();
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
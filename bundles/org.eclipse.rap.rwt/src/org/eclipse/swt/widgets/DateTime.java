@@ -256,6 +256,7 @@ public class DateTime extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -284,6 +285,7 @@ public class DateTime extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -456,6 +458,7 @@ public class DateTime extends Composite {
    */
   public void setHours( int hours ) {
     checkWidget();
+    markDirty();
     if( checkTime( hours, getMinutes(), getSeconds() ) ) {
       rightNow.set( Calendar.HOUR_OF_DAY, hours );
       applyLimits();
@@ -478,6 +481,7 @@ public class DateTime extends Composite {
    */
   public void setMinutes( int minutes ) {
     checkWidget();
+    markDirty();
     if( checkTime( getHours(), minutes, getSeconds() ) ) {
       rightNow.set( Calendar.MINUTE, minutes );
       applyLimits();
@@ -500,6 +504,7 @@ public class DateTime extends Composite {
    */
   public void setSeconds( int seconds ) {
     checkWidget();
+    markDirty();
     if( checkTime( getHours(), getMinutes(), seconds ) ) {
       rightNow.set( Calendar.SECOND, seconds );
       applyLimits();
@@ -523,6 +528,7 @@ public class DateTime extends Composite {
    */
   public void setDay( int day ) {
     checkWidget();
+    markDirty();
     int month = rightNow.get( Calendar.MONTH );
     int year = rightNow.get( Calendar.YEAR );
     if( checkDate( year, month, day ) ) {
@@ -547,6 +553,7 @@ public class DateTime extends Composite {
    */
   public void setMonth( int month ) {
     checkWidget();
+    markDirty();
     int day = rightNow.get( Calendar.DATE );
     int year = rightNow.get( Calendar.YEAR );
     if( checkDate( year, month, day ) ) {
@@ -571,6 +578,7 @@ public class DateTime extends Composite {
    */
   public void setYear( int year ) {
     checkWidget();
+    markDirty();
     int day = rightNow.get( Calendar.DATE );
     int month = rightNow.get( Calendar.MONTH );
     if( checkDate( year, month, day ) ) {
@@ -594,6 +602,7 @@ public class DateTime extends Composite {
    */
   public void setMinimum( Date date ) {
     checkWidget();
+    markDirty();
     if( date == null ) {
       minimum = null;
       applyLimits();
@@ -618,6 +627,7 @@ public class DateTime extends Composite {
    */
   public void setMaximum( Date date ) {
     checkWidget();
+    markDirty();
     if( date == null ) {
       maximum = null;
       applyLimits();
@@ -648,6 +658,7 @@ public class DateTime extends Composite {
    */
   public void setDate( int year, int month, int day ) {
     checkWidget();
+    markDirty();
     if( checkDate( year, month, day ) ) {
       // reset
       ignoreLimits = true;
@@ -680,6 +691,7 @@ public class DateTime extends Composite {
    */
   public void setTime( int hours, int minutes, int seconds ) {
     checkWidget();
+    markDirty();
     if( checkTime( hours, minutes, seconds ) ) {
       setHours( hours );
       setMinutes( minutes );
@@ -85,6 +85,7 @@ public class Decorations extends Canvas {
    */
   public void setImages( Image[] images ) {
     checkWidget();
+    markDirty();
     if( images == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -148,6 +149,7 @@ public class Decorations extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     this.image = image;
   }
 
@@ -195,6 +197,7 @@ public class Decorations extends Canvas {
    */
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -237,6 +240,7 @@ public class Decorations extends Canvas {
    */
   public void setMenuBar( Menu menuBar ) {
     checkWidget();
+    markDirty();
     if( this.menuBar != menuBar ) {
       if( menuBar != null ) {
         if( menuBar.isDisposed() ) {
@@ -305,6 +309,7 @@ public class Decorations extends Canvas {
    */
   public void setDefaultButton( Button button ) {
     checkWidget();
+    markDirty();
     if( button != null ) {
       if( button.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
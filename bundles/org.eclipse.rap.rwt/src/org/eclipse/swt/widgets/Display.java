@@ -31,6 +31,7 @@ import java.util.Set;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.Adaptable;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
 import org.eclipse.rap.rwt.internal.lifecycle.IUIThreadHolder;
@@ -62,6 +63,7 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
@@ -249,6 +251,7 @@ public class Display extends Device implements Adaptable {
 
   private Synchronizer synchronizer;
   private TimerExecScheduler scheduler;
+  private transient DirtyWidgets dirtyWidgets;
 
   /**
    * Constructs a new instance of this class.
@@ -283,6 +286,9 @@ public class Display extends Device implements Adaptable {
     dpi = readDPI();
     depth = readDepth();
     synchronizer = new Synchronizer( this );
+    if( RWTProperties.isDirtyTrackingEnabled() ) {
+      dirtyWidgets = new DirtyWidgets();
+    }
     register();
   }
 
@@ -876,6 +882,13 @@ public class Display extends Device implements Adaptable {
 
   final void addShell( Shell shell ) {
     shells.add( shell );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markCreated( shell );
+    }
+  }
+
+  final DirtyWidgets getDirtyWidgets() {
+    return dirtyWidgets;
   }
 
   final void removeShell( Shell shell ) {
@@ -2476,6 +2489,11 @@ public class Display extends Device implements Adaptable {
       return Display.this.isListening( eventType );
     }
 
+    @Override
+    public DirtyWidgets getDirtyWidgets() {
+      return dirtyWidgets;
+    }
+
   }
 
 }
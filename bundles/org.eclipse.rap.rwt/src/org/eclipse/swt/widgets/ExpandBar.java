@@ -122,6 +122,7 @@ public class ExpandBar extends Composite {
    */
   public void addExpandListener( ExpandListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -150,6 +151,7 @@ public class ExpandBar extends Composite {
    */
   public void removeExpandListener( ExpandListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -411,6 +413,7 @@ public class ExpandBar extends Composite {
    */
   public void setSpacing( int spacing ) {
     checkWidget();
+    markDirty();
     if( spacing >= 0 ) {
       if( spacing != this.spacing ) {
         this.spacing = spacing;
@@ -319,6 +319,7 @@ public class ExpandItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    markDirty();
     if( control != null ) {
       if( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -355,6 +356,7 @@ public class ExpandItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    markDirty();
     this.expanded = expanded;
     parent.showItem( this );
   }
@@ -373,6 +375,7 @@ public class ExpandItem extends Item {
    */
   public void setHeight( int height ) {
     checkWidget();
+    markDirty();
     if( height >= 0 ) {
       setBounds( 0, 0, width, height, false, true );
       if( expanded ) {
@@ -384,6 +387,7 @@ public class ExpandItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     if( image != getImage() ) {
       super.setImage( image );
       updateBounds();
@@ -404,6 +408,7 @@ public class ExpandItem extends Item {
   @Override
   public void setText( String string ) {
     checkWidget();
+    markDirty();
     if( string == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
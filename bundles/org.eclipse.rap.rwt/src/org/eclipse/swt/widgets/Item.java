@@ -114,6 +114,7 @@ public abstract class Item extends Widget {
    */
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -152,6 +153,7 @@ public abstract class Item extends Widget {
    */
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -149,6 +149,7 @@ public class Label extends Control {
    */
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -196,6 +197,7 @@ public class Label extends Control {
   // TODO: The LCA does not yet handle images. So, setting an image currently
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       this.image = image;
       text = "";
@@ -233,6 +235,7 @@ public class Label extends Control {
    */
   public void setAlignment( int alignment ) {
     checkWidget();
+    markDirty();
     if(    ( style & SWT.SEPARATOR ) == 0
         && ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) != 0 )
     {
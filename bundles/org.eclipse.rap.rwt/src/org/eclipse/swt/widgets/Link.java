@@ -112,6 +112,7 @@ public class Link extends Control {
    */
   public void setText( String string ) {
     checkWidget();
+    markDirty();
     if( string == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -166,6 +167,7 @@ public class Link extends Control {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -193,6 +195,7 @@ public class Link extends Control {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
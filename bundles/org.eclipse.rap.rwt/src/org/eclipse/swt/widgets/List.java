@@ -239,6 +239,7 @@ public class List extends Scrollable {
   // TODO [rh] selection is not scrolled into view (see List.js)
   public void setSelection( int selection ) {
     checkWidget();
+    markDirty();
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -266,6 +267,7 @@ public class List extends Scrollable {
    */
   public void setSelection( int[] selection ) {
     checkWidget();
+    markDirty();
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -293,6 +295,7 @@ public class List extends Scrollable {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    markDirty();
     model.setSelection( start, end );
     updateFocusIndexAfterSelectionChange();
   }
@@ -321,6 +324,7 @@ public class List extends Scrollable {
    */
   public void setSelection( String[] selection ) {
     checkWidget();
+    markDirty();
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -339,6 +343,7 @@ public class List extends Scrollable {
    */
   public void select( int index ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.SINGLE ) != 0 ) {
       if( index >= 0 && index < model.getItemCount() ) {
         model.setSelection( index );
@@ -372,6 +377,7 @@ public class List extends Scrollable {
    */
   public void select( int[] indices ) {
     checkWidget();
+    markDirty();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -410,6 +416,7 @@ public class List extends Scrollable {
    */
   public void select( int start, int end ) {
     checkWidget();
+    markDirty();
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
       int count = model.getItemCount();
       if( count != 0 && start < count ) {
@@ -438,6 +445,7 @@ public class List extends Scrollable {
    */
   public void selectAll() {
     checkWidget();
+    markDirty();
     model.selectAll();
     updateFocusIndexAfterSelectionChange();
   }
@@ -452,6 +460,7 @@ public class List extends Scrollable {
    */
   public void deselectAll() {
     checkWidget();
+    markDirty();
     model.deselectAll();
     updateFocusIndexAfterSelectionChange();
   }
@@ -472,6 +481,7 @@ public class List extends Scrollable {
    */
   public void deselect( int index ) {
     checkWidget();
+    markDirty();
     removeFromSelection( index );
   }
 
@@ -494,6 +504,7 @@ public class List extends Scrollable {
    */
   public void deselect( int start, int end ) {
     checkWidget();
+    markDirty();
     if( start == 0 && end == model.getItemCount() - 1 ) {
       deselectAll();
     } else {
@@ -525,6 +536,7 @@ public class List extends Scrollable {
    */
   public void deselect( int [] indices ) {
     checkWidget();
+    markDirty();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -599,6 +611,7 @@ public class List extends Scrollable {
    */
   public void setTopIndex( int topIndex ) {
     checkWidget();
+    markDirty();
     int count = model.getItemCount();
     if( this.topIndex != topIndex && topIndex >= 0 && topIndex < count ) {
       this.topIndex = topIndex;
@@ -638,6 +651,7 @@ public class List extends Scrollable {
    */
   public void showSelection() {
     checkWidget();
+    markDirty();
     int index = getSelectionIndex();
     if( index != -1 ) {
       int itemCount = getVisibleItemCount();
@@ -687,6 +701,7 @@ public class List extends Scrollable {
    */
   public void add( String string ) {
     checkWidget();
+    markDirty();
     model.add( string );
     updateFocusIndexAfterItemChange();
     updateScrollBars();
@@ -717,6 +732,7 @@ public class List extends Scrollable {
    */
   public void add( String string, int index ) {
     checkWidget();
+    markDirty();
     model.add( string, index );
     updateFocusIndexAfterItemChange();
     updateScrollBars();
@@ -738,6 +754,7 @@ public class List extends Scrollable {
    */
   public void remove( int index ) {
     checkWidget();
+    markDirty();
     model.remove( index );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -762,6 +779,7 @@ public class List extends Scrollable {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    markDirty();
     model.remove( start, end );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -785,6 +803,7 @@ public class List extends Scrollable {
    */
   public void remove( int[] indices ) {
     checkWidget();
+    markDirty();
     model.remove( indices );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -809,6 +828,7 @@ public class List extends Scrollable {
    */
   public void remove( String string ) {
     checkWidget();
+    markDirty();
     model.remove( string );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -825,6 +845,7 @@ public class List extends Scrollable {
    */
   public void removeAll() {
     checkWidget();
+    markDirty();
     model.removeAll();
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -851,6 +872,7 @@ public class List extends Scrollable {
    */
   public void setItem( int index, String string ) {
     checkWidget();
+    markDirty();
     validateMarkup( new String[] { string } );
     model.setItem( index, string );
     updateScrollBars();
@@ -872,6 +894,7 @@ public class List extends Scrollable {
    */
   public void setItems( String[] items ) {
     checkWidget();
+    markDirty();
     validateMarkup( items );
     model.setItems( items );
     updateScrollBars();
@@ -1034,6 +1057,7 @@ public class List extends Scrollable {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1061,6 +1085,7 @@ public class List extends Scrollable {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
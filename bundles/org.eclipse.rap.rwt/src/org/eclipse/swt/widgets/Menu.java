@@ -336,6 +336,7 @@ public class Menu extends Widget {
    */
   public void setOrientation( int orientation ) {
     checkWidget();
+    markDirty();
     if( ( style & ( SWT.BAR | SWT.DROP_DOWN ) ) == 0 ) {
       int flags = SWT.RIGHT_TO_LEFT | SWT.LEFT_TO_RIGHT;
       if( ( orientation & flags ) == 0 || ( orientation & flags ) == flags ) {
@@ -385,6 +386,7 @@ public class Menu extends Widget {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    markDirty();
     if( ( style & ( SWT.BAR | SWT.DROP_DOWN ) ) == 0 ) {
       if( this.visible != visible ) {
         this.visible = visible;
@@ -467,6 +469,7 @@ public class Menu extends Widget {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    markDirty();
     removeState( DISABLED );
     if( !enabled ) {
       addState( DISABLED );
@@ -622,6 +625,7 @@ public class Menu extends Widget {
    */
   public void setDefaultItem( MenuItem item ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -700,6 +704,7 @@ public class Menu extends Widget {
    */
   public void addMenuListener( MenuListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -727,6 +732,7 @@ public class Menu extends Widget {
    */
   public void removeMenuListener( MenuListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -756,6 +762,7 @@ public class Menu extends Widget {
    */
   public void addHelpListener( HelpListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -783,6 +790,7 @@ public class Menu extends Widget {
    */
   public void removeHelpListener( HelpListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
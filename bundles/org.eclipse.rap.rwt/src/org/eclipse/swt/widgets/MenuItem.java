@@ -179,6 +179,7 @@ public class MenuItem extends Item {
    */
   public void setMenu( Menu menu ) {
     checkWidget();
+    markDirty();
     if( this.menu != menu ) {
       if( ( style & SWT.CASCADE ) == 0 ) {
         SWT.error( SWT.ERROR_MENUITEM_NOT_CASCADE );
@@ -241,6 +242,7 @@ public class MenuItem extends Item {
    */
   public void setID( int id ) {
     checkWidget();
+    markDirty();
     if( id < 0 ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -279,6 +281,7 @@ public class MenuItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       super.setImage( image );
     }
@@ -299,6 +302,7 @@ public class MenuItem extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    markDirty();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -346,6 +350,7 @@ public class MenuItem extends Item {
    */
   public void setAccelerator( int accelerator ) {
     checkWidget();
+    markDirty();
     if( accelerator != 0 ) {
       if( acceleratorBinding == null ) {
         acceleratorBinding = new AcceleratorBinding( this );
@@ -397,6 +402,7 @@ public class MenuItem extends Item {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    markDirty();
     removeState( DISABLED );
     if( !enabled ) {
       addState( DISABLED );
@@ -479,6 +485,7 @@ public class MenuItem extends Item {
    */
   public void setSelection( boolean selection ) {
     checkWidget();
+    markDirty();
     if( ( style & ( SWT.CHECK | SWT.RADIO ) ) != 0 ) {
       this.selection = selection;
     }
@@ -513,6 +520,7 @@ public class MenuItem extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -540,6 +548,7 @@ public class MenuItem extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -569,6 +578,7 @@ public class MenuItem extends Item {
    */
   public void addHelpListener( HelpListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -596,6 +606,7 @@ public class MenuItem extends Item {
    */
   public void removeHelpListener( HelpListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -624,6 +635,7 @@ public class MenuItem extends Item {
    */
   public void addArmListener( ArmListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -651,6 +663,7 @@ public class MenuItem extends Item {
    */
   public void removeArmListener( ArmListener listener ) {
     checkWidget();
+    markDirty();
     removeListener( SWT.Arm, listener );
   }
 
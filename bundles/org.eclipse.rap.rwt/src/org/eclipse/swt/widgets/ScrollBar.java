@@ -176,6 +176,7 @@ public class ScrollBar extends Widget {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    markDirty();
     boolean isVisible = !hasState( HIDDEN );
     if( isVisible != visible ) {
       if( visible ) {
@@ -245,6 +246,7 @@ public class ScrollBar extends Widget {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    markDirty();
     if( enabled ) {
       removeState( DISABLED );
     } else {
@@ -349,6 +351,7 @@ public class ScrollBar extends Widget {
    */
   public void setThumb( int thumb ) {
     checkWidget();
+    markDirty();
     this.thumb = thumb;
   }
 
@@ -382,6 +385,7 @@ public class ScrollBar extends Widget {
    */
   public void setMaximum( int maximum ) {
     checkWidget();
+    markDirty();
     this.maximum = maximum;
   }
 
@@ -415,6 +419,7 @@ public class ScrollBar extends Widget {
    */
   public void setMinimum( int minimum ) {
     checkWidget();
+    markDirty();
     this.minimum = minimum;
   }
 
@@ -432,6 +437,7 @@ public class ScrollBar extends Widget {
    */
   public void setSelection( int selection ) {
     checkWidget();
+    markDirty();
     if( this.selection != selection ) {
       this.selection = selection;
     }
@@ -489,6 +495,7 @@ public class ScrollBar extends Widget {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -516,6 +523,7 @@ public class ScrollBar extends Widget {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
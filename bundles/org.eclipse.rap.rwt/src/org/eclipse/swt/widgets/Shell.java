@@ -474,6 +474,7 @@ public class Shell extends Decorations {
    */
   public void setActive() {
     checkWidget();
+    markDirty();
     if( isVisible() ) {
       display.setActiveShell( this );
     }
@@ -501,6 +502,7 @@ public class Shell extends Decorations {
    */
   public void forceActive() {
     checkWidget();
+    markDirty();
     setActive();
   }
 
@@ -653,6 +655,7 @@ public class Shell extends Decorations {
   @Override
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    markDirty();
     if( getEnabled() != enabled ) {
       super.setEnabled( enabled );
       if( enabled ) {
@@ -681,6 +684,7 @@ public class Shell extends Decorations {
   @Override
   public void setVisible( boolean visible ) {
     checkWidget();
+    markDirty();
     boolean wasVisible = getVisible();
     super.setVisible( visible );
     // Emulate OS behavior: in SWT, a layout is triggered during
@@ -714,6 +718,7 @@ public class Shell extends Decorations {
    */
   public void open() {
     checkWidget();
+    markDirty();
     // Order of setActiveShell/bringToTop/setVisible is crucial
     display.setActiveShell( this );
     bringToTop();
@@ -740,6 +745,7 @@ public class Shell extends Decorations {
    */
   public void close() {
     checkWidget();
+    markDirty();
     ProcessActionRunner.add( new Runnable() {
       @Override
       public void run() {
@@ -772,6 +778,7 @@ public class Shell extends Decorations {
    */
   public void setAlpha( int alpha ) {
     checkWidget();
+    markDirty();
     this.alpha = alpha & 0xFF;
   }
 
@@ -807,6 +814,7 @@ public class Shell extends Decorations {
    */
   public void setModified ( boolean modified ) {
     checkWidget();
+    markDirty();
     this.modified = modified;
   }
 
@@ -843,6 +851,7 @@ public class Shell extends Decorations {
    */
   public void setMinimumSize( int width, int height ) {
     checkWidget();
+    markDirty();
     minWidth = Math.max( MIN_WIDTH_LIMIT, width );
     minHeight = Math.max( getMinHeightLimit(), height );
     Point size = getSize();
@@ -872,6 +881,7 @@ public class Shell extends Decorations {
    */
   public void setMinimumSize( Point size ) {
     checkWidget();
+    markDirty();
     if( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -950,6 +960,7 @@ public class Shell extends Decorations {
    */
   public void addShellListener( ShellListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -978,6 +989,7 @@ public class Shell extends Decorations {
    */
   public void removeShellListener( ShellListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1112,6 +1124,7 @@ public class Shell extends Decorations {
    */
   public void setMinimized( boolean minimized ) {
     checkWidget();
+    markDirty();
     if( minimized ) {
       mode |= MODE_MINIMIZED;
     } else {
@@ -1147,6 +1160,7 @@ public class Shell extends Decorations {
    */
   public void setMaximized( boolean maximized ) {
     checkWidget();
+    markDirty();
     if( ( mode & MODE_FULLSCREEN ) == 0 ) {
       if( maximized ) {
         if( ( mode & MODE_MAXIMIZED ) == 0 ) {
@@ -1230,6 +1244,7 @@ public class Shell extends Decorations {
    */
   public void setFullScreen( boolean fullScreen ) {
     checkWidget();
+    markDirty();
     if( ( ( mode & MODE_FULLSCREEN ) != 0 ) != fullScreen ) {
       if( fullScreen ) {
         setActive();
@@ -154,6 +154,7 @@ public class Slider extends Control {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -181,6 +182,7 @@ public class Slider extends Control {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -334,6 +336,7 @@ public class Slider extends Control {
    */
   public void setIncrement( int value ) {
     checkWidget();
+    markDirty();
     if( value >= 1 && value <= maximum - minimum ) {
       increment = value;
     }
@@ -354,6 +357,7 @@ public class Slider extends Control {
    */
   public void setMaximum( int value ) {
     checkWidget();
+    markDirty();
     if( 0 <= minimum && minimum < value ) {
       maximum = value;
       if( selection > maximum - thumb ) {
@@ -381,6 +385,7 @@ public class Slider extends Control {
    */
   public void setMinimum( int value ) {
     checkWidget();
+    markDirty();
     if( 0 <= value && value < maximum ) {
       minimum = value;
       if( selection < minimum ) {
@@ -408,6 +413,7 @@ public class Slider extends Control {
    */
   public void setPageIncrement( int value ) {
     checkWidget();
+    markDirty();
     if( value >= 1 && value <= maximum - minimum ) {
       pageIncrement = value;
     }
@@ -427,6 +433,7 @@ public class Slider extends Control {
    */
   public void setSelection( int value ) {
     checkWidget();
+    markDirty();
     if( value < minimum ) {
       selection = minimum;
     } else if ( value > maximum - thumb ) {
@@ -452,6 +459,7 @@ public class Slider extends Control {
    */
   public void setThumb( int value ) {
     checkWidget();
+    markDirty();
     if( value >= 1 ) {
       thumb = value;
     }
@@ -490,6 +498,7 @@ public class Slider extends Control {
                          int pageIncrement )
   {
     checkWidget();
+    markDirty();
     if( selection >= minimum && selection <= maximum ) {
       this.selection = selection;
     }
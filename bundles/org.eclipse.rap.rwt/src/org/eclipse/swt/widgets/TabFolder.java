@@ -281,6 +281,7 @@ public class TabFolder extends Composite {
    */
   public void setSelection( TabItem item ) {
     checkWidget();
+    markDirty();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -304,6 +305,7 @@ public class TabFolder extends Composite {
    */
   public void setSelection( TabItem[] items ) {
     checkWidget();
+    markDirty();
     if( items == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -472,6 +474,7 @@ public class TabFolder extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -499,6 +502,7 @@ public class TabFolder extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
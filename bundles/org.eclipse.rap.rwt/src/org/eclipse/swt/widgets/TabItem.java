@@ -176,6 +176,7 @@ public class TabItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    markDirty();
     if( control != null ) {
       if( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -269,6 +270,7 @@ public class TabItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     int index = parent.indexOf( this );
     if( index > -1 ) {
       super.setImage( image );
@@ -290,6 +292,7 @@ public class TabItem extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    markDirty();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -543,6 +543,7 @@ public class Table extends Composite {
    */
   public void setColumnOrder( int[] order ) {
     checkWidget();
+    markDirty();
     if( order == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -633,6 +634,7 @@ public class Table extends Composite {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    markDirty();
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount && !isInDispose() ) {
@@ -815,6 +817,7 @@ public class Table extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    markDirty();
     while( itemCount > 0 ) {
       removeItem( itemCount - 1 );
     }
@@ -841,6 +844,7 @@ public class Table extends Composite {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    markDirty();
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < itemCount ) ) {
         error( SWT.ERROR_INVALID_RANGE );
@@ -869,6 +873,7 @@ public class Table extends Composite {
    */
   public void remove( int index ) {
     checkWidget();
+    markDirty();
     if( !( 0 <= index && index < itemCount ) ) {
       SWT.error( SWT.ERROR_ITEM_NOT_REMOVED );
     }
@@ -895,6 +900,7 @@ public class Table extends Composite {
    */
   public void remove( int[] indices ) {
     checkWidget();
+    markDirty();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -941,6 +947,7 @@ public class Table extends Composite {
    */
   public void clear( int index ) {
     checkWidget();
+    markDirty();
     if( index < 0 || index >= itemCount ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -973,6 +980,7 @@ public class Table extends Composite {
    */
   public void clear( int start, int end ) {
     checkWidget();
+    markDirty();
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < itemCount ) ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -1006,6 +1014,7 @@ public class Table extends Composite {
    */
   public void clearAll() {
     checkWidget();
+    markDirty();
     for( int i = 0; i < itemCount; i++ ) {
       TableItem item = items[ i ];
       if( item != null ) {
@@ -1037,6 +1046,7 @@ public class Table extends Composite {
    */
   public void clear( int[] indices ) {
     checkWidget();
+    markDirty();
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1105,6 +1115,7 @@ public class Table extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget();
+    markDirty();
     deselectAll();
     select( index );
     setFocusIndex( index );
@@ -1150,6 +1161,7 @@ public class Table extends Composite {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    markDirty();
     deselectAll();
     select( start, end );
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
@@ -1208,6 +1220,7 @@ public class Table extends Composite {
    */
   public void setSelection( int[] indices ) {
     checkWidget();
+    markDirty();
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1240,6 +1253,7 @@ public class Table extends Composite {
    */
   public void setSelection( TableItem item ) {
     checkWidget();
+    markDirty();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1272,6 +1286,7 @@ public class Table extends Composite {
    */
   public void setSelection( TableItem[] items ) {
     checkWidget();
+    markDirty();
     if( items == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1347,6 +1362,7 @@ public class Table extends Composite {
    */
   public void select( int index ) {
     checkWidget();
+    markDirty();
     if( index >= 0 && index < itemCount ) {
       if( ( style & SWT.SINGLE ) != 0 ) {
         selection = new int[] { index };
@@ -1387,6 +1403,7 @@ public class Table extends Composite {
    */
   public void select( int start, int end ) {
     checkWidget();
+    markDirty();
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
       if( itemCount != 0 && start < itemCount ) {
         int adjustedStart = Math.max( 0, start );
@@ -1427,6 +1444,7 @@ public class Table extends Composite {
    */
   public void select( int[] indices ) {
     checkWidget();
+    markDirty();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1453,6 +1471,7 @@ public class Table extends Composite {
   //      selectAll is called. Compare how SWT handles this.
   public void selectAll() {
     checkWidget();
+    markDirty();
     if( ( style & SWT.SINGLE ) == 0 ) {
       setSelection( getItems() );
     }
@@ -1472,6 +1491,7 @@ public class Table extends Composite {
    */
   public void deselect( int index ) {
     checkWidget();
+    markDirty();
     removeFromSelection( index );
   }
 
@@ -1492,6 +1512,7 @@ public class Table extends Composite {
    */
   public void deselect( int start, int end ) {
     checkWidget();
+    markDirty();
     if( start == 0 && end == itemCount - 1 ) {
       deselectAll();
     } else {
@@ -1521,6 +1542,7 @@ public class Table extends Composite {
    */
   public void deselect( int[] indices ) {
     checkWidget();
+    markDirty();
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1539,6 +1561,7 @@ public class Table extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    markDirty();
     selection = EMPTY_SELECTION;
   }
 
@@ -1559,6 +1582,7 @@ public class Table extends Composite {
    */
   public void setTopIndex( int topIndex ) {
     checkWidget();
+    markDirty();
     if( this.topIndex != topIndex && topIndex >= 0 && topIndex < itemCount ) {
       this.topIndex = topIndex;
       adjustTopIndex();
@@ -1605,6 +1629,7 @@ public class Table extends Composite {
    */
   public void showItem( TableItem item ) {
     checkWidget();
+    markDirty();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1642,6 +1667,7 @@ public class Table extends Composite {
    */
   public void showColumn( TableColumn column ) {
     checkWidget();
+    markDirty();
     if( column == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1693,6 +1719,7 @@ public class Table extends Composite {
    */
   public void showSelection() {
     checkWidget();
+    markDirty();
     int index = getSelectionIndex();
     if( index != -1 ) {
       showItem( _getItem( index ) );
@@ -1720,6 +1747,7 @@ public class Table extends Composite {
    */
   public void setHeaderVisible( boolean headerVisible ) {
     checkWidget();
+    markDirty();
     boolean changed = headerVisible != this.headerVisible;
     this.headerVisible = headerVisible;
     if( changed ) {
@@ -1765,6 +1793,7 @@ public class Table extends Composite {
    */
   public void setHeaderBackground( Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1803,6 +1832,7 @@ public class Table extends Composite {
    */
   public void setHeaderForeground( Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1865,6 +1895,7 @@ public class Table extends Composite {
    */
   public void setLinesVisible( boolean linesVisible ) {
     checkWidget();
+    markDirty();
     this.linesVisible = linesVisible;
   }
 
@@ -1885,6 +1916,7 @@ public class Table extends Composite {
    */
   public void setSortColumn( TableColumn column ) {
     checkWidget();
+    markDirty();
     if( column != null && column.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1923,6 +1955,7 @@ public class Table extends Composite {
    */
   public void setSortDirection( int direction ) {
     checkWidget();
+    markDirty();
     if( ( direction & ( SWT.UP | SWT.DOWN ) ) != 0 || direction == SWT.NONE ) {
       sortDirection = direction;
     }
@@ -2061,6 +2094,7 @@ public class Table extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2088,6 +2122,7 @@ public class Table extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
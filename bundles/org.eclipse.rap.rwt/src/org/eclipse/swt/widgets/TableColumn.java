@@ -185,6 +185,7 @@ public class TableColumn extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    markDirty();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -224,6 +225,7 @@ public class TableColumn extends Item {
    */
   public void setAlignment( int alignment ) {
     checkWidget();
+    markDirty();
     if( ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) != 0 ) {
       style &= ~( SWT.LEFT | SWT.RIGHT | SWT.CENTER );
       style |= alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER );
@@ -266,6 +268,7 @@ public class TableColumn extends Item {
    */
   public void setWidth( int width ) {
     checkWidget();
+    markDirty();
     if( width >= 0 ) {
       this.width = width;
       parent.updateScrollBars();
@@ -315,6 +318,7 @@ public class TableColumn extends Item {
    */
   public void setMoveable( boolean moveable ) {
     checkWidget();
+    markDirty();
     this.moveable = moveable;
   }
 
@@ -357,6 +361,7 @@ public class TableColumn extends Item {
    */
   public void setResizable( boolean resizable ) {
     checkWidget();
+    markDirty();
     this.resizable = resizable;
   }
 
@@ -401,6 +406,7 @@ public class TableColumn extends Item {
    */
   public void addControlListener( ControlListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -428,6 +434,7 @@ public class TableColumn extends Item {
    */
   public void removeControlListener( ControlListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -461,6 +468,7 @@ public class TableColumn extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -488,6 +496,7 @@ public class TableColumn extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
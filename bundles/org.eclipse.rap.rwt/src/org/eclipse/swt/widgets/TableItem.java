@@ -15,6 +15,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import java.util.Arrays;
+import java.util.function.IntFunction;
 
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
@@ -24,7 +25,6 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.ITableItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
@@ -49,11 +49,19 @@ import org.eclipse.swt.internal.widgets.tableitemkit.TableItemLCA;
  */
 public class TableItem extends Item {
 
+  private static final int UNKNOWN_WIDTH = -1;
+
   private transient TableItemAdapter tableItemAdapter;
   final Table parent;
   boolean cached;
   int index;
-  private Data[] data;
+  // cell data is kept in one array per attribute, each created when first used
+  private String[] texts;
+  private int[] textWidths;
+  private Image[] images;
+  private Font[] cellFonts;
+  private Color[] cellBackgrounds;
+  private Color[] cellForegrounds;
   private boolean checked;
   private boolean grayed;
   private Color background;
@@ -178,6 +186,7 @@ public class TableItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     setText( 0, text );
   }
 
@@ -197,6 +206,7 @@ public class TableItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -205,10 +215,12 @@ public class TableItem extends Item {
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !text.equals( data[ index ].text ) ) {
-        data[ index ].text = text;
-        data[ index ].textWidth = Data.UNKNOWN_WIDTH;
+      if( !text.equals( getCellText( index ) ) ) {
+        // the item metrics of the parent depend on the cell, hence preserve them first
+        parent.markDirty();
+        ensureTexts( count );
+        texts[ index ] = text;
+        setTextWidth( index, UNKNOWN_WIDTH );
         markCached();
         if( parent.getColumnCount() == 0 ) {
           parent.updateScrollBars();
@@ -235,6 +247,7 @@ public class TableItem extends Item {
    */
   public void setText( String[] strings ) {
     checkWidget();
+    markDirty();
     if( strings == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -269,11 +282,7 @@ public class TableItem extends Item {
     if( !parent.checkData( this, parent.indexOf( this ) ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
-    String result = "";
-    if( hasData( index ) ) {
-      result = data[ index ].text;
-    }
-    return result;
+    return getCellText( index );
   }
 
   ////////////////////////////
@@ -282,6 +291,7 @@ public class TableItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     setImage( 0, image );
   }
 
@@ -301,15 +311,18 @@ public class TableItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    markDirty();
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].image, image ) ) {
-        parent.updateColumnImageCount( index, data[ index ].image, image );
-        data[ index ].image = image;
+      Image oldImage = get( images, index );
+      if( !equals( oldImage, image ) ) {
+        parent.markDirty();
+        parent.updateColumnImageCount( index, oldImage, image );
+        images = ensureLength( images, count, Image[]::new );
+        images[ index ] = image;
         parent.updateItemImageSize( image );
         markCached();
         if( parent.getColumnCount() == 0 ) {
@@ -336,6 +349,7 @@ public class TableItem extends Item {
    */
   public void setImage( Image[] images ) {
     checkWidget();
+    markDirty();
     if( images == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -376,11 +390,7 @@ public class TableItem extends Item {
   }
 
   Image getImageInternal( int index ) {
-    Image result = null;
-    if( hasData( index ) ) {
-      result = data[ index ].image;
-    }
-    return result;
+    return get( images, index );
   }
 
   ////////////////////
@@ -403,6 +413,7 @@ public class TableItem extends Item {
    */
   public void setBackground( Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -456,14 +467,15 @@ public class TableItem extends Item {
    */
   public void setBackground( int index, Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].background, color ) ) {
-        data[ index ].background = color;
+      if( !equals( get( cellBackgrounds, index ), color ) ) {
+        cellBackgrounds = ensureLength( cellBackgrounds, count, Color[]::new );
+        cellBackgrounds[ index ] = color;
         markCached();
         parent.redraw();
       }
@@ -487,8 +499,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result = getBackground();
-    if( hasData( index ) && data[ index ].background != null ) {
-      result = data[ index ].background;
+    if( get( cellBackgrounds, index ) != null ) {
+      result = cellBackgrounds[ index ];
     }
     return result;
   }
@@ -513,6 +525,7 @@ public class TableItem extends Item {
    */
   public void setForeground( Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -565,14 +578,15 @@ public class TableItem extends Item {
    */
   public void setForeground( int index, Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( data[ index ].foreground, color ) ) {
-        data[ index ].foreground = color;
+      if( !equals( get( cellForegrounds, index ), color ) ) {
+        cellForegrounds = ensureLength( cellForegrounds, count, Color[]::new );
+        cellForegrounds[ index ] = color;
         markCached();
         parent.redraw();
       }
@@ -597,8 +611,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Color result = getForeground();
-    if( hasData( index ) && data[ index ].foreground != null ) {
-      result = data[ index ].foreground;
+    if( get( cellForegrounds, index ) != null ) {
+      result = cellForegrounds[ index ];
     }
     return result;
   }
@@ -620,10 +634,12 @@ public class TableItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    markDirty();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     if( !equals( this.font, font ) ) {
+      parent.markDirty();
       this.font = font;
       clearTextWidths();
       markCached();
@@ -677,15 +693,17 @@ public class TableItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    markDirty();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     int count = Math.max( 1, parent.getColumnCount() );
     if( index >= 0 && index < count ) {
-      ensureData( index, count );
-      if( !equals( font, data[ index ].font ) ) {
-        data[ index ].font = font;
-        data[ index ].textWidth = Data.UNKNOWN_WIDTH;
+      if( !equals( font, get( cellFonts, index ) ) ) {
+        parent.markDirty();
+        cellFonts = ensureLength( cellFonts, count, Font[]::new );
+        cellFonts[ index ] = font;
+        setTextWidth( index, UNKNOWN_WIDTH );
         markCached();
         parent.redraw();
       }
@@ -710,8 +728,8 @@ public class TableItem extends Item {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
     Font result = getFont();
-    if( hasData( index ) && data[ index ].font != null ) {
-      result = data[ index ].font;
+    if( get( cellFonts, index ) != null ) {
+      result = cellFonts[ index ];
     }
     return result;
   }
@@ -734,6 +752,7 @@ public class TableItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    markDirty();
     if( ( parent.style & SWT.CHECK ) != 0 ) {
       if( this.checked != checked ) {
         this.checked = checked;
@@ -779,6 +798,7 @@ public class TableItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    markDirty();
     if( ( parent.style & SWT.CHECK ) != 0 ) {
       if( this.grayed != grayed ) {
         this.grayed = grayed;
@@ -1030,30 +1050,29 @@ public class TableItem extends Item {
 
   private int getTextWidth( int index, Font font ) {
     int result = 0;
-    if( hasData( index ) ) {
-      if( data[ index ].textWidth == Data.UNKNOWN_WIDTH ) {
-        data[ index ].textWidth = parent.getStringExtent( font, data[ index ].text ).x;
+    if( get( texts, index ) != null ) {
+      if( textWidths[ index ] == UNKNOWN_WIDTH ) {
+        textWidths[ index ] = parent.getStringExtent( font, texts[ index ] ).x;
       }
-      result = data[ index ].textWidth;
+      result = textWidths[ index ];
     }
     return result;
   }
 
   void clearTextWidths() {
-    if( data != null ) {
-      for( int i = 0; i < data.length; i++ ) {
-        if( data[ i ] != null ) {
-          data[ i ].textWidth = Data.UNKNOWN_WIDTH;
-        }
-      }
+    if( textWidths != null ) {
+      Arrays.fill( textWidths, UNKNOWN_WIDTH );
     }
   }
 
   boolean hasTextWidthBuffer( int index ) {
-    if( hasData( index ) ) {
-      return data[ index ].textWidth != Data.UNKNOWN_WIDTH;
+    return get( texts, index ) != null && textWidths[ index ] != UNKNOWN_WIDTH;
+  }
+
+  private void setTextWidth( int index, int width ) {
+    if( textWidths != null && index < textWidths.length ) {
+      textWidths[ index ] = width;
     }
-    return false;
   }
 
   private int getSpacing( int index ) {
@@ -1068,27 +1087,38 @@ public class TableItem extends Item {
   // Manage item data (texts, images, etc)
 
   final void shiftData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length + 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index;
-      System.arraycopy( data, index, newData, index + 1, offSet );
-      data = newData;
+    if( parent.getColumnCount() > 1 ) {
+      if( texts != null && texts.length > index ) {
+        textWidths = insertCell( textWidths, index );
+      }
+      texts = insertCell( texts, index );
+      images = insertCell( images, index );
+      cellFonts = insertCell( cellFonts, index );
+      cellBackgrounds = insertCell( cellBackgrounds, index );
+      cellForegrounds = insertCell( cellForegrounds, index );
     }
   }
 
   final void removeData( int index ) {
-    if( data != null && data.length > index && parent.getColumnCount() > 1 ) {
-      Data[] newData = new Data[ data.length - 1 ];
-      System.arraycopy( data, 0, newData, 0, index );
-      int offSet = data.length - index - 1;
-      System.arraycopy( data, index + 1, newData, index, offSet );
-      data = newData;
+    if( parent.getColumnCount() > 1 ) {
+      if( texts != null && texts.length > index ) {
+        textWidths = removeCell( textWidths, index );
+      }
+      texts = removeCell( texts, index );
+      images = removeCell( images, index );
+      cellFonts = removeCell( cellFonts, index );
+      cellBackgrounds = removeCell( cellBackgrounds, index );
+      cellForegrounds = removeCell( cellForegrounds, index );
     }
   }
 
   final void clear() {
-    data = null;
+    texts = null;
+    textWidths = null;
+    images = null;
+    cellFonts = null;
+    cellBackgrounds = null;
+    cellForegrounds = null;
     checked = false;
     grayed = false;
     parent.updateScrollBars();
@@ -1125,21 +1155,64 @@ public class TableItem extends Item {
     }
   }
 
-  private void ensureData( int index, int columnCount ) {
-    if( data == null ) {
-      data = new Data[ columnCount ];
-    } else if( data.length < columnCount ) {
-      Data[] newData = new Data[ columnCount ];
-      System.arraycopy( data, 0, newData, 0, data.length );
-      data = newData;
+  private String getCellText( int index ) {
+    String result = get( texts, index );
+    return result == null ? "" : result;
+  }
+
+  private void ensureTexts( int columnCount ) {
+    int length = texts == null ? 0 : texts.length;
+    if( length < columnCount ) {
+      texts = ensureLength( texts, columnCount, String[]::new );
+      textWidths = textWidths == null ? new int[ columnCount ] : Arrays.copyOf( textWidths, columnCount );
+      Arrays.fill( textWidths, length, columnCount, UNKNOWN_WIDTH );
+    }
+  }
+
+  private static <T> T[] ensureLength( T[] array, int length, IntFunction<T[]> factory ) {
+    T[] result = array;
+    if( array == null ) {
+      result = factory.apply( length );
+    } else if( array.length < length ) {
+      result = Arrays.copyOf( array, length );
     }
-    if( data[ index ] == null ) {
-      data[ index ] = new Data();
+    return result;
+  }
+
+  private static <T> T get( T[] array, int index ) {
+    return array != null && index >= 0 && index < array.length ? array[ index ] : null;
+  }
+
+  private static <T> T[] insertCell( T[] array, int index ) {
+    T[] result = array;
+    if( array != null && array.length > index ) {
+      result = Arrays.copyOf( array, array.length + 1 );
+      System.arraycopy( array, index, result, index + 1, array.length - index );
+      result[ index ] = null;
+    }
+    return result;
+  }
+
+  private static int[] insertCell( int[] array, int index ) {
+    int[] result = Arrays.copyOf( array, array.length + 1 );
+    System.arraycopy( array, index, result, index + 1, array.length - index );
+    result[ index ] = UNKNOWN_WIDTH;
+    return result;
+  }
+
+  private static <T> T[] removeCell( T[] array, int index ) {
+    T[] result = array;
+    if( array != null && array.length > index ) {
+      result = Arrays.copyOf( array, array.length - 1 );
+      System.arraycopy( array, index + 1, result, index, array.length - index - 1 );
     }
+    return result;
   }
 
-  private boolean hasData( int index ) {
-    return data != null && index >= 0 && index < data.length && data[ index ] != null;
+  private static int[] removeCell( int[] array, int index ) {
+    int[] result = Arrays.copyOf( array, array.length - 1 );
+    System.arraycopy( array, index + 1, result, index, array.length - index - 1 );
+    return result;
   }
 
   private static boolean equals( Object object1, Object object2 ) {
@@ -1184,10 +1257,10 @@ public class TableItem extends Item {
     public String[] getTexts() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       String[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          String text = data[ i ] == null ? "" : data[ i ].text;
-          if( !"".equals( text ) ) {
+      if( texts != null ) {
+        for( int i = 0; i < texts.length; i++ ) {
+          String text = texts[ i ];
+          if( text != null && !"".equals( text ) ) {
             if( result == null ) {
               result = new String[ columnCount ];
               Arrays.fill( result, "" );
@@ -1203,9 +1276,9 @@ public class TableItem extends Item {
     public Image[] getImages() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       Image[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Image image = data[ i ] == null ? null : data[ i ].image;
+      if( images != null ) {
+        for( int i = 0; i < images.length; i++ ) {
+          Image image = images[ i ];
           if( image != null ) {
             if( result == null ) {
               result = new Image[ columnCount ];
@@ -1221,9 +1294,9 @@ public class TableItem extends Item {
     public Color[] getCellBackgrounds() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color background = data[ i ] == null ? null : data[ i ].background;
+      if( cellBackgrounds != null ) {
+        for( int i = 0; i < cellBackgrounds.length; i++ ) {
+          Color background = cellBackgrounds[ i ];
           if( background != null ) {
             if( result == null ) {
               result = new Color[ columnCount ];
@@ -1239,9 +1312,9 @@ public class TableItem extends Item {
     public Color[] getCellForegrounds() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       Color[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Color foreground = data[ i ] == null ? null : data[ i ].foreground;
+      if( cellForegrounds != null ) {
+        for( int i = 0; i < cellForegrounds.length; i++ ) {
+          Color foreground = cellForegrounds[ i ];
           if( foreground != null ) {
             if( result == null ) {
               result = new Color[ columnCount ];
@@ -1257,9 +1330,9 @@ public class TableItem extends Item {
     public Font[] getCellFonts() {
       int columnCount = Math.max( 1, getParent().getColumnCount() );
       Font[] result = null;
-      if( data != null ) {
-        for( int i = 0; i < data.length; i++ ) {
-          Font font = data[ i ] == null ? null : data[ i ].font;
+      if( cellFonts != null ) {
+        for( int i = 0; i < cellFonts.length; i++ ) {
+          Font font = cellFonts[ i ];
           if( font != null ) {
             if( result == null ) {
               result = new Font[ columnCount ];
@@ -1273,14 +1346,4 @@ public class TableItem extends Item {
 
   }
 
-  private static final class Data implements SerializableCompatibility {
-    static final int UNKNOWN_WIDTH = -1;
-    String text = "";
-    int textWidth = UNKNOWN_WIDTH;
-    Image image;
-    Font font;
-    Color background;
-    Color foreground;
-  }
-
 }
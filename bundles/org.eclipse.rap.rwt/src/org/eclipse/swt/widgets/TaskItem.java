@@ -197,6 +197,7 @@ public class TaskItem extends Item {
    */
   public void setMenu( Menu menu ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -228,6 +229,7 @@ public class TaskItem extends Item {
    */
   public void setOverlayImage( Image overlayImage ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -258,6 +260,7 @@ public class TaskItem extends Item {
    */
   public void setOverlayText( String overlayText ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -287,6 +290,7 @@ public class TaskItem extends Item {
    */
   public void setProgress( int progress ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -326,6 +330,7 @@ public class TaskItem extends Item {
    */
   public void setProgressState( int progressState ) {
     checkWidget();
+    markDirty();
   }
 
 }
@@ -178,6 +178,7 @@ public class Text extends Scrollable {
    */
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -225,6 +226,7 @@ public class Text extends Scrollable {
    */
   public void setTextChars( char[] text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -316,6 +318,7 @@ public class Text extends Scrollable {
   // TODO [rh] fire VerifyEvent missing
   public void append( String string ) {
     checkWidget();
+    markDirty();
     if( string == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -376,6 +379,7 @@ public class Text extends Scrollable {
    */
   public void setMessage( String message ) {
     checkWidget();
+    markDirty();
     if( message == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -427,6 +431,7 @@ public class Text extends Scrollable {
    */
   public void setEchoChar( char echo ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.MULTI ) == 0 ) {
       echoChar = echo;
     }
@@ -481,6 +486,7 @@ public class Text extends Scrollable {
    */
   public void setTextLimit( int textLimit ) {
     checkWidget();
+    markDirty();
     if( textLimit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -553,6 +559,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( int start ) {
     checkWidget();
+    markDirty();
     setSelection( start, start );
  }
 
@@ -583,6 +590,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    markDirty();
     int validatedStart = selection.x;
     int validatedEnd = selection.y;
     if( start >= 0 && end >= start ) {
@@ -627,6 +635,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( Point selection ) {
     checkWidget();
+    markDirty();
     if( selection == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -696,6 +705,7 @@ public class Text extends Scrollable {
    */
   public void clearSelection() {
     checkWidget();
+    markDirty();
     selection.x = selection.y;
   }
 
@@ -709,6 +719,7 @@ public class Text extends Scrollable {
    */
   public void selectAll() {
     checkWidget();
+    markDirty();
     selection.x = 0;
     selection.y = text.length();
   }
@@ -744,6 +755,7 @@ public class Text extends Scrollable {
    */
   public void setEditable( boolean editable ) {
     checkWidget();
+    markDirty();
     style &= ~SWT.READ_ONLY;
     if( !editable ) {
       style |= SWT.READ_ONLY;
@@ -783,6 +795,7 @@ public class Text extends Scrollable {
    */
   public void insert( String string ) {
     checkWidget();
+    markDirty();
     if( string == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -886,6 +899,7 @@ public class Text extends Scrollable {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -913,6 +927,7 @@ public class Text extends Scrollable {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -941,6 +956,7 @@ public class Text extends Scrollable {
    */
   public void addModifyListener( ModifyListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -967,6 +983,7 @@ public class Text extends Scrollable {
    */
   public void removeModifyListener( ModifyListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -994,6 +1011,7 @@ public class Text extends Scrollable {
    */
   public void addVerifyListener( VerifyListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1020,6 +1038,7 @@ public class Text extends Scrollable {
    */
   public void removeVerifyListener( VerifyListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1045,6 +1064,7 @@ public class Text extends Scrollable {
    */
   public void cut() {
     checkWidget();
+    markDirty();
     if( ( style & SWT.READ_ONLY ) == 0 ) {
       try {
         Clipboard clipboard = new Clipboard( display );
@@ -1107,6 +1127,7 @@ public class Text extends Scrollable {
    */
   public void paste() {
     checkWidget();
+    markDirty();
     if( ( style & SWT.READ_ONLY ) == 0 ) {
       try {
         Clipboard clipboard = new Clipboard( display );
@@ -17,16 +17,16 @@ import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 
 
 class TimerExecScheduler implements SerializableCompatibility {
@@ -34,7 +34,6 @@ class TimerExecScheduler implements SerializableCompatibility {
   final Display display;
   final ServerPushManager serverPushManager;
   private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
@@ -44,9 +43,8 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
       TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      scheduleTask( task, milliseconds );
     }
   }
 
@@ -61,21 +59,24 @@ class TimerExecScheduler implements SerializableCompatibility {
     synchronized( display.getDeviceLock() ) {
       Collection<TimerExecTask> tasksToCancel = new ArrayList<>( tasks );
       tasksToCancel.forEach( task -> task.cancel() );
-      if( timer != null ) {
-        timer.cancel();
-      }
       tasks.clear();
     }
   }
 
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
+  private void scheduleTask( TimerExecTask task, long milliseconds ) {
+    ScheduledFuture<?> future = getTimerExecService().schedule( task, milliseconds );
+    if( future == null ) {
+      // the application context has been deactivated, the task will never run
+      tasks.remove( task );
+      task.cancel();
+    } else {
+      task.setFuture( future, milliseconds );
     }
   }
 
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
+  TimerExecService getTimerExecService() {
+    UISession uiSession = display.getAdapter( IDisplayAdapter.class ).getUISession();
+    return ( ( ApplicationContextImpl )uiSession.getApplicationContext() ).getTimerExecService();
   }
 
   private TimerExecTask findOrAddTask( Runnable runnable ) {
@@ -107,7 +108,7 @@ class TimerExecScheduler implements SerializableCompatibility {
     return null;
   }
 
-  void removeTask( TimerTask task ) {
+  void removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
       tasks.remove( task );
     }
@@ -115,11 +116,9 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
-      if( tasks.size() > 0 ) {
-        initializeTimer();
-        for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
-        }
+      long now = System.currentTimeMillis();
+      for( TimerExecTask task : new ArrayList<>( tasks ) ) {
+        scheduleTask( task, Math.max( 0, task.scheduledExecutionTime() - now ) );
       }
     }
   }
@@ -10,15 +10,17 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements Runnable, SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long scheduledExecutionTime;
+  private transient ScheduledFuture<?> future;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -37,14 +39,27 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
+  boolean cancel() {
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    return cancelFuture();
+  }
+
+  void setFuture( ScheduledFuture<?> future, long milliseconds ) {
+    cancelFuture();
+    this.future = future;
+    scheduledExecutionTime = System.currentTimeMillis() + milliseconds;
+  }
+
+  long scheduledExecutionTime() {
+    return scheduledExecutionTime;
   }
 
   Runnable getRunnable() {
     return runnable;
   }
 
+  private boolean cancelFuture() {
+    return future != null && future.cancel( false );
+  }
+
 }
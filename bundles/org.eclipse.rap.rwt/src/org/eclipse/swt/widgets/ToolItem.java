@@ -196,6 +196,7 @@ public class ToolItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -208,6 +209,7 @@ public class ToolItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       super.setImage( image );
       parent.layoutItems();
@@ -235,6 +237,7 @@ public class ToolItem extends Item {
    */
   public void setDisabledImage( Image image ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       disabledImage = image;
       parent.layoutItems();
@@ -281,6 +284,7 @@ public class ToolItem extends Item {
    */
   public void setHotImage( Image image ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       hotImage = image;
       parent.layoutItems();
@@ -324,6 +328,7 @@ public class ToolItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    markDirty();
     if( control != null ) {
       if( control.isDisposed() ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -373,6 +378,7 @@ public class ToolItem extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    markDirty();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -429,6 +435,7 @@ public class ToolItem extends Item {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    markDirty();
     if( enabled ) {
       removeState( DISABLED );
     } else {
@@ -677,6 +684,7 @@ public class ToolItem extends Item {
    */
   public void setWidth( int width ) {
     checkWidget();
+    markDirty();
     if( ( style & SWT.SEPARATOR ) != 0 && width >= 0 ) {
       computedWidth = false;
       this.width = width;
@@ -730,6 +738,7 @@ public class ToolItem extends Item {
    */
   public void setSelection( boolean selected ) {
     checkWidget();
+    markDirty();
     if( ( style & ( SWT.CHECK | SWT.RADIO ) ) != 0 ) {
       this.selected = selected;
     }
@@ -765,6 +774,7 @@ public class ToolItem extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -792,6 +802,7 @@ public class ToolItem extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -173,6 +173,7 @@ public class ToolTip extends Widget {
    */
   public void setAutoHide( boolean autoHide ) {
     checkWidget();
+    markDirty();
     this.autoHide = autoHide;
   }
 
@@ -238,6 +239,7 @@ public class ToolTip extends Widget {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    markDirty();
     this.visible = visible;
   }
 
@@ -272,6 +274,7 @@ public class ToolTip extends Widget {
    */
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -312,6 +315,7 @@ public class ToolTip extends Widget {
    */
   public void setMessage( String message ) {
     checkWidget();
+    markDirty();
     if( message == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -400,6 +404,7 @@ public class ToolTip extends Widget {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -427,6 +432,7 @@ public class ToolTip extends Widget {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -122,6 +122,7 @@ public class TrayItem extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -179,6 +180,7 @@ public class TrayItem extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -198,6 +200,7 @@ public class TrayItem extends Item {
    */
   public void setToolTipText( String value ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -214,6 +217,7 @@ public class TrayItem extends Item {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -239,6 +243,7 @@ public class TrayItem extends Item {
    */
   public void addMenuDetectListener( MenuDetectListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -266,6 +271,7 @@ public class TrayItem extends Item {
    */
   public void removeMenuDetectListener( MenuDetectListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -286,6 +292,7 @@ public class TrayItem extends Item {
    */
   public void setToolTip( ToolTip toolTip ) {
     checkWidget();
+    markDirty();
   }
 
   /**
@@ -143,8 +143,9 @@ public class Tree extends Composite {
   private boolean hasHScrollBar;
   private Point itemImageSize;
   LayoutCache layoutCache;
-  boolean isFlatIndexValid;
   private int visibleItemsCount;
+  private TreeRowIndex rowIndex;
+  private boolean isTopItemIndexValid;
   private int preloadedItems;
 
   /**
@@ -266,6 +267,7 @@ public class Tree extends Composite {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    markDirty();
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount ) {
@@ -427,6 +429,7 @@ public class Tree extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    markDirty();
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
@@ -435,6 +438,7 @@ public class Tree extends Composite {
       }
     }
     setTreeEmpty();
+    invalidateFlatIndex();
     selection = EMPTY_SELECTION;
   }
 
@@ -457,6 +461,7 @@ public class Tree extends Composite {
    */
   public void showItem( TreeItem item ) {
     checkWidget();
+    markDirty();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -504,6 +509,7 @@ public class Tree extends Composite {
    */
   public void setTopItem( TreeItem item ) {
     checkWidget();
+    markDirty();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -538,8 +544,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = getVisibleItem( getTopItemIndex() );
     }
     return result;
   }
@@ -548,12 +553,12 @@ public class Tree extends Composite {
     if( index != topItemIndex ) {
       topItemIndex = index;
       adjustTopItemIndex();
-      updateAllItems();
+      resolveVisibleItems();
     }
   }
 
   int getTopItemIndex() {
-    if( !isVisibleItemsCountValid() ) {
+    if( !isTopItemIndexValid ) {
       adjustTopItemIndex();
     }
     return topItemIndex;
@@ -579,6 +584,7 @@ public class Tree extends Composite {
    */
   public void showColumn( TreeColumn column ) {
     checkWidget();
+    markDirty();
     if( column == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -630,6 +636,7 @@ public class Tree extends Composite {
    */
   public void showSelection() {
     checkWidget();
+    markDirty();
     if( selection.length == 0 ) {
       return;
     }
@@ -696,6 +703,7 @@ public class Tree extends Composite {
    */
   public void setSelection( TreeItem selection ) {
     checkWidget();
+    markDirty();
     if( selection == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -727,6 +735,7 @@ public class Tree extends Composite {
    */
   public void setSelection( TreeItem[] selection ) {
     checkWidget();
+    markDirty();
     if( selection == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -787,6 +796,7 @@ public class Tree extends Composite {
    */
   public void select( TreeItem item ) {
     checkWidget();
+    markDirty();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -819,6 +829,7 @@ public class Tree extends Composite {
    */
   public void selectAll() {
     checkWidget();
+    markDirty();
     if( ( style & SWT.MULTI ) != 0 ) {
       final java.util.List<TreeItem> allItems = new ArrayList<>();
       WidgetTreeUtil.accept( this, new WidgetTreeVisitor() {
@@ -854,6 +865,7 @@ public class Tree extends Composite {
    */
   public void deselect( TreeItem item ) {
     checkWidget();
+    markDirty();
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -879,6 +891,7 @@ public class Tree extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    markDirty();
     selection = EMPTY_SELECTION;
   }
 
@@ -900,6 +913,7 @@ public class Tree extends Composite {
    */
   public void setLinesVisible( boolean value ) {
     checkWidget();
+    markDirty();
     if( linesVisible == value ) {
       return; /* no change */
     }
@@ -967,6 +981,7 @@ public class Tree extends Composite {
    */
   public void clear( int index, boolean recursive ) {
     checkWidget();
+    markDirty();
     if( index < 0 || index >= itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1012,9 +1027,8 @@ public class Tree extends Composite {
     }
     TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
+    if( 0 <= index && index < getVisibleItemsCount() ) {
+      result = getVisibleItem( index );
     }
     return result;
   }
@@ -1062,6 +1076,7 @@ public class Tree extends Composite {
    */
   public void clearAll( boolean recursive ) {
     checkWidget();
+    markDirty();
     for( int i = 0; i < itemCount; i++ ) {
       TreeItem item = items[ i ];
       if( item != null ) {
@@ -1205,6 +1220,7 @@ public class Tree extends Composite {
    */
   public void setHeaderVisible( boolean value ) {
     checkWidget();
+    markDirty();
     if( headerVisible != value ) {
       headerVisible = value;
       layoutCache.invalidateHeaderHeight();
@@ -1249,6 +1265,7 @@ public class Tree extends Composite {
    */
   public void setHeaderBackground( Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1287,6 +1304,7 @@ public class Tree extends Composite {
    */
   public void setHeaderForeground( Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1422,6 +1440,7 @@ public class Tree extends Composite {
    */
   public void setColumnOrder( int[] order ) {
     checkWidget();
+    markDirty();
     if( order == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1476,6 +1495,7 @@ public class Tree extends Composite {
    */
   public void setSortColumn( TreeColumn column ) {
     checkWidget();
+    markDirty();
     if( column != null && column.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1504,6 +1524,7 @@ public class Tree extends Composite {
    */
   public void setSortDirection( int direction ) {
     checkWidget();
+    markDirty();
     if( direction != SWT.UP && direction != SWT.DOWN && direction != SWT.NONE )
     {
       return;
@@ -1618,6 +1639,7 @@ public class Tree extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1644,6 +1666,7 @@ public class Tree extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1670,6 +1693,7 @@ public class Tree extends Composite {
    */
   public void addTreeListener( TreeListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1696,6 +1720,7 @@ public class Tree extends Composite {
    */
   public void removeTreeListener( TreeListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2166,7 +2191,7 @@ public class Tree extends Composite {
   void notifyResize( Point oldSize ) {
     if( !oldSize.equals( getSize() ) && !TextSizeUtil.isTemporaryResize() ) {
       clearCachedHeights();
-      updateAllItems();
+      resolveVisibleItems();
       updateScrollBars();
       adjustTopItemIndex();
     }
@@ -2179,6 +2204,7 @@ public class Tree extends Composite {
   }
 
   private void adjustTopItemIndex() {
+    isTopItemIndexValid = true;
     int visibleItems = getVisibleItemsCount();
     int visibleRows = getVisibleRowCount( false );
     int correction = visibleRows == 0 ? 1 : 0;
@@ -2202,7 +2228,7 @@ public class Tree extends Composite {
 
   private int getVisibleItemsCount() {
     if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
+      getRowIndex();
     }
     return visibleItemsCount;
   }
@@ -2211,56 +2237,76 @@ public class Tree extends Composite {
     return visibleItemsCount != -1;
   }
 
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
-      }
-    }
-    return result;
+  int getRowOffset( int index ) {
+    return getRowIndex().getOffset( index );
   }
 
-  void updateAllItems() {
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex );
+  private TreeRowIndex getRowIndex() {
+    if( rowIndex == null ) {
+      rowIndex = new TreeRowIndex( items, itemCount );
+      visibleItemsCount = rowIndex.getTotal();
     }
-    isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
+    return rowIndex;
   }
 
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
+  void updateFlatIndex( int index, int delta ) {
+    isTopItemIndexValid = false;
+    if( isVisibleItemsCountValid() ) {
+      visibleItemsCount += delta;
+      if( rowIndex != null ) {
+        rowIndex.add( index, delta );
       }
-      checkData( item, index );
     }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
+  }
+
+  private void updateFlatIndexOnItemsChanged( int delta ) {
+    // the positions of the items have changed, the row index is rebuilt on demand
+    rowIndex = null;
+    isTopItemIndexValid = false;
+    if( isVisibleItemsCountValid() ) {
+      visibleItemsCount += delta;
     }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex );
+  }
+
+  /*
+   * Returns the item at the given flat index by descending the row indices of the expanded
+   * items. If resolve is true, a virtual item is created and its data is requested.
+   */
+  private TreeItem getVisibleItem( int flatIndex, boolean resolve ) {
+    TreeItem parentItem = null;
+    int offset = flatIndex;
+    while( true ) {
+      TreeRowIndex index = parentItem == null ? getRowIndex() : parentItem.getRowIndex();
+      int itemIndex = index.indexOf( offset );
+      offset -= index.getOffset( itemIndex );
+      if( offset == 0 ) {
+        if( !resolve ) {
+          return parentItem == null ? items[ itemIndex ] : parentItem.items[ itemIndex ];
+        }
+        TreeItem item = parentItem == null ? _getItem( itemIndex ) : parentItem._getItem( itemIndex );
+        return checkData( item, itemIndex ) ? item : null;
       }
+      parentItem = parentItem == null ? items[ itemIndex ] : parentItem.items[ itemIndex ];
+      offset--;
     }
-    return newFlatIndex;
   }
 
-  private boolean shouldResolveItem( int flatIndex ) {
-    int visibleRows = getVisibleRowCount( true );
-    int topIndex = getTopItemIndex();
-    int startIndex = topIndex - preloadedItems;
-    int endIndex = topIndex + visibleRows + preloadedItems;
-    return isVirtual() ? flatIndex >= startIndex && flatIndex < endIndex : false;
+  private TreeItem getVisibleItem( int flatIndex ) {
+    return getVisibleItem( flatIndex, false );
+  }
+
+  void resolveVisibleItems() {
+    if( isVirtual() ) {
+      int visibleRows = getVisibleRowCount( true );
+      int topIndex = getTopItemIndex();
+      int startIndex = Math.max( 0, topIndex - preloadedItems );
+      int endIndex = topIndex + visibleRows + preloadedItems;
+      int flatIndex = startIndex;
+      while( flatIndex < endIndex && flatIndex < getVisibleItemsCount() && !isDisposed() ) {
+        getVisibleItem( flatIndex, true );
+        flatIndex++;
+      }
+    }
   }
 
   final boolean checkData( TreeItem item, int index ) {
@@ -2281,7 +2327,8 @@ public class Tree extends Composite {
 
   void invalidateFlatIndex() {
     visibleItemsCount = -1;
-    isFlatIndexValid = false;
+    rowIndex = null;
+    isTopItemIndexValid = false;
   }
 
   private static int checkStyle( int style ) {
@@ -2338,13 +2385,7 @@ public class Tree extends Composite {
   boolean needsVScrollBar() {
     int availableHeight = getClientArea().height;
     int height = getHeaderHeight();
-    height += itemCount * getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        height += item.getInnerHeight();
-      }
-    }
+    height += getVisibleItemsCount() * getItemHeight();
     return height > availableHeight;
   }
 
@@ -2411,9 +2452,11 @@ public class Tree extends Composite {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    updateFlatIndexOnItemsChanged( 1 );
   }
 
   void destroyItem( int index ) {
+    updateFlatIndexOnItemsChanged( -TreeRowIndex.getRowCount( items[ index ] ) );
     itemCount--;
     if( itemCount == 0 ) {
       setTreeEmpty();
@@ -2504,7 +2547,7 @@ public class Tree extends Composite {
 
     @Override
     public void checkData() {
-      updateAllItems();
+      resolveVisibleItems();
     }
 
     @Override
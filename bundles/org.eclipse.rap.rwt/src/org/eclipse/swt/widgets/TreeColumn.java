@@ -168,6 +168,7 @@ public class TreeColumn extends Item {
    */
   public void addControlListener( ControlListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -194,6 +195,7 @@ public class TreeColumn extends Item {
    */
   public void removeControlListener( ControlListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -226,6 +228,7 @@ public class TreeColumn extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -252,6 +255,7 @@ public class TreeColumn extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -440,6 +444,7 @@ public class TreeColumn extends Item {
    */
   public void setAlignment( int alignment ) {
     checkWidget();
+    markDirty();
     if( ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) == 0 ) {
       return;
     }
@@ -471,6 +476,7 @@ public class TreeColumn extends Item {
    */
   public void setMoveable( boolean moveable ) {
     checkWidget();
+    markDirty();
     this.moveable = moveable;
   }
 
@@ -487,6 +493,7 @@ public class TreeColumn extends Item {
    */
   public void setResizable( boolean value ) {
     checkWidget();
+    markDirty();
     resizable = value;
   }
 
@@ -499,6 +506,7 @@ public class TreeColumn extends Item {
   @Override
   public void setText( String value ) {
     checkWidget();
+    markDirty();
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -521,6 +529,7 @@ public class TreeColumn extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    markDirty();
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -542,6 +551,7 @@ public class TreeColumn extends Item {
    */
   public void setWidth( int value ) {
     checkWidget();
+    markDirty();
     if( value >= 0 && width != value ) {
       width = value;
       parent.updateScrollBars();
@@ -67,7 +67,8 @@ public class TreeItem extends Item {
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
+  private int visibleChildCount;
+  private TreeRowIndex rowIndex;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -222,7 +223,6 @@ public class TreeItem extends Item {
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
-    parent.invalidateFlatIndex();
     setEmpty();
     if( create ) {
       int numberOfItems;
@@ -266,9 +266,11 @@ public class TreeItem extends Item {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    updateFlatIndexOnItemsChanged( 1 );
   }
 
   private void destroyItem( int index ) {
+    updateFlatIndexOnItemsChanged( -TreeRowIndex.getRowCount( items[ index ] ) );
     itemCount--;
     if( itemCount == 0 ) {
       setEmpty();
@@ -358,15 +360,17 @@ public class TreeItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    markDirty();
     if( this.expanded != expanded && ( !expanded || itemCount > 0 ) ) {
       this.expanded = expanded;
       if( !expanded ) {
         updateSelection();
       }
       markCached();
-      parent.invalidateFlatIndex();
+      int delta = getVisibleChildCount();
+      updateParentFlatIndex( expanded ? delta : -delta );
       parent.updateScrollBars();
-      parent.updateAllItems();
+      parent.resolveVisibleItems();
     }
   }
 
@@ -528,6 +532,7 @@ public class TreeItem extends Item {
    */
   public void setBackground( int index, Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -561,6 +566,7 @@ public class TreeItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    markDirty();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -568,6 +574,7 @@ public class TreeItem extends Item {
     if( index >= 0 && index < count ) {
       ensureData( index, count );
       if( !equals( font, data[ index ].font ) ) {
+        parent.markDirty();
         data[ index ].font = font;
         data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
         markCached();
@@ -595,6 +602,7 @@ public class TreeItem extends Item {
    */
   public void setForeground( int index, Color color ) {
     checkWidget();
+    markDirty();
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -627,10 +635,12 @@ public class TreeItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    markDirty();
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     if( !equals( this.font, font ) ) {
+      parent.markDirty();
       this.font = font;
       markCached();
       if( parent.getColumnCount() == 0 ) {
@@ -683,6 +693,7 @@ public class TreeItem extends Item {
    */
   public void setBackground( Color value ) {
     checkWidget();
+    markDirty();
     if( value != null && value.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -758,6 +769,7 @@ public class TreeItem extends Item {
    */
   public void setForeground( Color value ) {
     checkWidget();
+    markDirty();
     if( value != null && value.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -780,6 +792,7 @@ public class TreeItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    markDirty();
     if( ( parent.getStyle() & SWT.CHECK ) != 0 ) {
       if( this.checked != checked ) {
         this.checked = checked;
@@ -819,6 +832,7 @@ public class TreeItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    markDirty();
     if( ( parent.getStyle() & SWT.CHECK ) != 0 ) {
       if( this.grayed != grayed ) {
         this.grayed = grayed;
@@ -933,6 +947,7 @@ public class TreeItem extends Item {
    */
   public void setText( String[] value ) {
     checkWidget();
+    markDirty();
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -957,6 +972,7 @@ public class TreeItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    markDirty();
     setText( 0, text );
   }
 
@@ -974,6 +990,7 @@ public class TreeItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    markDirty();
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -984,6 +1001,8 @@ public class TreeItem extends Item {
     if( index >= 0 && index < count ) {
       ensureData( index, count );
       if( !text.equals( data[ index ].text ) ) {
+        // the item metrics of the parent depend on the cell, hence preserve them first
+        parent.markDirty();
         data[ index ].text = text;
         data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
         markCached();
@@ -1108,6 +1127,7 @@ public class TreeItem extends Item {
    */
   public void clear( int index, boolean recursive ) {
     checkWidget();
+    markDirty();
     if( index < 0 || index >= itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1126,6 +1146,7 @@ public class TreeItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    markDirty();
     setImage( 0, image );
   }
 
@@ -1146,6 +1167,7 @@ public class TreeItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    markDirty();
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1153,6 +1175,7 @@ public class TreeItem extends Item {
     if( index >= 0 && index < count ) {
       ensureData( index, count );
       if( !equals( data[ index ].image, image ) ) {
+        parent.markDirty();
         parent.updateColumnImageCount( index, data[ index ].image, image );
         data[ index ].image = image;
         data[ index ].preferredWidthBuffer = Data.UNKNOWN_WIDTH;
@@ -1183,6 +1206,7 @@ public class TreeItem extends Item {
    */
   public void setImage( Image[] value ) {
     checkWidget();
+    markDirty();
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1383,6 +1407,7 @@ public class TreeItem extends Item {
    */
   public void removeAll() {
     checkWidget();
+    markDirty();
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
@@ -1391,6 +1416,7 @@ public class TreeItem extends Item {
       }
     }
     setEmpty();
+    invalidateFlatIndex();
   }
 
   /**
@@ -1405,6 +1431,7 @@ public class TreeItem extends Item {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    markDirty();
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount ) {
@@ -1426,7 +1453,7 @@ public class TreeItem extends Item {
         }
       }
       itemCount = newItemCount;
-      parent.invalidateFlatIndex();
+      invalidateFlatIndex();
       parent.updateScrollBars();
       parent.redraw();
     }
@@ -1452,7 +1479,6 @@ public class TreeItem extends Item {
       parent.destroyItem( index );
     }
     if( !parent.isInDispose() ) {
-      parent.invalidateFlatIndex();
       parent.removeFromSelection( this );
       parent.updateScrollBars();
     }
@@ -1478,14 +1504,84 @@ public class TreeItem extends Item {
   }
 
   int getFlatIndex() {
-    if( !parent.isFlatIndexValid ) {
-      parent.updateAllItems();
+    if( parentItem == null ) {
+      return parent.getRowOffset( index );
     }
-    return flatIndex;
+    return parentItem.getFlatIndex() + 1 + parentItem.getRowOffset( index );
   }
 
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+  /*
+   * The number of visible rows below this item, regardless of its own expanded state. Kept up
+   * to date incrementally on expand, collapse, create and dispose. A value of -1 means unknown,
+   * in which case the count of all expanded ancestors is unknown, too.
+   */
+  int getVisibleChildCount() {
+    if( visibleChildCount == -1 ) {
+      getRowIndex();
+    }
+    return visibleChildCount;
+  }
+
+  int getRowCount() {
+    return expanded ? 1 + getVisibleChildCount() : 1;
+  }
+
+  int getRowOffset( int index ) {
+    return getRowIndex().getOffset( index );
+  }
+
+  TreeRowIndex getRowIndex() {
+    if( rowIndex == null ) {
+      rowIndex = new TreeRowIndex( items, itemCount );
+      visibleChildCount = rowIndex.getTotal();
+    }
+    return rowIndex;
+  }
+
+  void updateFlatIndex( int index, int delta ) {
+    if( visibleChildCount != -1 ) {
+      visibleChildCount += delta;
+      if( rowIndex != null ) {
+        rowIndex.add( index, delta );
+      }
+      if( expanded ) {
+        updateParentFlatIndex( delta );
+      }
+    }
+  }
+
+  void invalidateFlatIndex() {
+    boolean wasValid = visibleChildCount != -1;
+    visibleChildCount = -1;
+    rowIndex = null;
+    if( wasValid && expanded ) {
+      if( parentItem == null ) {
+        parent.invalidateFlatIndex();
+      } else {
+        parentItem.invalidateFlatIndex();
+      }
+    }
+  }
+
+  private void updateFlatIndexOnItemsChanged( int delta ) {
+    // the positions of the children have changed, the row index is rebuilt on demand
+    rowIndex = null;
+    if( visibleChildCount != -1 ) {
+      visibleChildCount += delta;
+      if( expanded ) {
+        updateParentFlatIndex( delta );
+      }
+    }
+  }
+
+  private void updateParentFlatIndex( int delta ) {
+    if( delta != 0 ) {
+      if( parentItem == null ) {
+        parent.updateFlatIndex( index, delta );
+      } else {
+        parentItem.updateFlatIndex( index, delta );
+      }
+    }
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
@@ -1524,14 +1620,7 @@ public class TreeItem extends Item {
   }
 
   int getInnerHeight() {
-    int innerHeight = itemCount * parent.getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        innerHeight += item.getInnerHeight();
-      }
-    }
-    return innerHeight;
+    return getVisibleChildCount() * parent.getItemHeight();
   }
 
   void markCached() {
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/*
+ * Prefix sums (Fenwick tree) over the number of visible rows of the direct children of a tree
+ * or tree item. A child occupies one row plus the visible rows of its own children when it is
+ * expanded. Allows to compute the row offset of a child and to find the child at a given row
+ * offset in O(log n).
+ */
+final class TreeRowIndex implements SerializableCompatibility {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int[] sums;
+  private final int size;
+  private int total;
+
+  TreeRowIndex( TreeItem[] items, int itemCount ) {
+    size = itemCount;
+    sums = new int[ itemCount + 1 ];
+    int sum = 0;
+    for( int i = 1; i <= itemCount; i++ ) {
+      int rowCount = getRowCount( items[ i - 1 ] );
+      sum += rowCount;
+      sums[ i ] += rowCount;
+      int next = i + ( i & -i );
+      if( next <= itemCount ) {
+        sums[ next ] += sums[ i ];
+      }
+    }
+    total = sum;
+  }
+
+  int getTotal() {
+    return total;
+  }
+
+  void add( int index, int delta ) {
+    total += delta;
+    for( int i = index + 1; i <= size; i += i & -i ) {
+      sums[ i ] += delta;
+    }
+  }
+
+  // Returns the number of rows occupied by the children before the given index
+  int getOffset( int index ) {
+    int result = 0;
+    for( int i = Math.min( index, size ); i > 0; i -= i & -i ) {
+      result += sums[ i ];
+    }
+    return result;
+  }
+
+  // Returns the index of the child that occupies the row at the given offset
+  int indexOf( int offset ) {
+    int result = 0;
+    int remaining = offset;
+    for( int step = Integer.highestOneBit( Math.max( 1, size ) ); step > 0; step >>= 1 ) {
+      int next = result + step;
+      if( next <= size && sums[ next ] <= remaining ) {
+        result = next;
+        remaining -= sums[ next ];
+      }
+    }
+    return result;
+  }
+
+  static int getRowCount( TreeItem item ) {
+    return item == null ? 1 : item.getRowCount();
+  }
+
+}
@@ -32,6 +32,7 @@ import org.eclipse.swt.internal.SWTEventListener;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
@@ -158,6 +159,11 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     display = parent.display;
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
+    DirtyWidgets dirtyWidgets = display.getDirtyWidgets();
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markCreated( this );
+      parent.markDirty();
+    }
   }
 
   /**
@@ -241,6 +247,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void setData( Object data ) {
     checkWidget();
+    markDirty();
     if( hasState( KEYED_DATA ) ) {
       ( ( Object[] )this.data )[ 0 ] = data;
     } else {
@@ -315,6 +322,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void setData( String key, Object value ) {
     checkWidget();
+    markDirty();
     if( key == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -449,6 +457,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void addDisposeListener( DisposeListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -475,6 +484,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void removeDisposeListener( DisposeListener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -513,6 +523,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void addListener( int eventType, Listener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -549,6 +560,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void removeListener( int eventType, Listener listener ) {
     checkWidget();
+    markDirty();
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -836,6 +848,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
       if( !isValidThread() ) {
         error( SWT.ERROR_THREAD_INVALID_ACCESS );
       }
+      markParentDirty();
       if( !hasState( DISPOSE_SENT ) ) {
         addState( DISPOSE_SENT );
         notifyListeners( SWT.Dispose, new Event() );
@@ -848,6 +861,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
         releaseParent();
         releaseWidget();
         getAdapter( RemoteAdapter.class ).markDisposed( this );
+        unregisterDirtyTracking();
       }
     }
   }
@@ -958,6 +972,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     if( hasState( DISPOSED ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
+    markAccessed();
   }
 
   /*
@@ -1030,6 +1045,34 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     state &= ~flag;
   }
 
+  void markDirty() {
+    DirtyWidgets dirtyWidgets = display.getDirtyWidgets();
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.mark( this );
+    }
+  }
+
+  private void markAccessed() {
+    DirtyWidgets dirtyWidgets = display.getDirtyWidgets();
+    if( dirtyWidgets != null && dirtyWidgets.isMarkedOnAccess( this ) ) {
+      dirtyWidgets.mark( this );
+    }
+  }
+
+  private void markParentDirty() {
+    Widget parent = remoteAdapter == null ? null : remoteAdapter.getParent();
+    if( parent != null && !parent.isInDispose() && !parent.isDisposed() ) {
+      parent.markDirty();
+    }
+  }
+
+  private void unregisterDirtyTracking() {
+    DirtyWidgets dirtyWidgets = display.getDirtyWidgets();
+    if( dirtyWidgets != null && remoteAdapter instanceof WidgetRemoteAdapter ) {
+      dirtyWidgets.unregister( remoteAdapter.getId() );
+    }
+  }
+
   private void preserveListeners() {
     WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )ensureRemoteAdapter();
     if( !( adapter ).hasPreservedListeners() ) {
@@ -1040,12 +1083,21 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
   private RemoteAdapter ensureRemoteAdapter() {
     if( remoteAdapter == null ) {
       remoteAdapter = createRemoteAdapter( null );
+      registerDirtyTracking();
     } else if( remoteAdapter instanceof ParentHolderRemoteAdapter ) {
       remoteAdapter = createRemoteAdapter( remoteAdapter.getParent() );
+      registerDirtyTracking();
     }
     return remoteAdapter;
   }
 
+  private void registerDirtyTracking() {
+    DirtyWidgets dirtyWidgets = display.getDirtyWidgets();
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.register( remoteAdapter.getId(), this );
+    }
+  }
+
   private RemoteAdapter createRemoteAdapter( Widget parent ) {
     String id = IdGenerator.getInstance( RWT.getUISession( display ) ).createId( this );
     return createRemoteAdapter( parent, id );
@@ -23,8 +23,10 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
@@ -47,6 +49,7 @@ import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
@@ -66,8 +69,16 @@ public class DisplayLCA {
   private static final String PROP_DISABLE_SHUTDOWN_REQUEST = "disableShutdownRequest";
 
   public void readData( Display display ) {
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.beginReading();
+    }
     handleOperations( display );
-    visitWidgets( display );
+    if( dirtyWidgets != null ) {
+      visitTargetWidgets( dirtyWidgets );
+    } else {
+      visitWidgets( display );
+    }
     DNDSupport.handleOperations();
     RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
   }
@@ -80,7 +91,8 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveActiveKeys( display );
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
-    if( adapter.isInitialized() ) {
+    // with dirty tracking, widget values are preserved when a widget is marked dirty
+    if( adapter.isInitialized() && getDirtyWidgets( display ) == null ) {
       for( Shell shell : getShells( display ) ) {
         WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
           @Override
@@ -116,14 +128,24 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      for( Widget widget : dirtyWidgets.getPreserved() ) {
+        if( !widget.isDisposed() ) {
           ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
-          return true;
         }
-      } );
+      }
+      dirtyWidgets.reset();
+    } else {
+      for( Shell shell : getShells( display ) ) {
+        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
+          @Override
+          public boolean visit( Widget widget ) {
+            ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+            return true;
+          }
+        } );
+      }
     }
   }
 
@@ -151,6 +173,19 @@ public class DisplayLCA {
     }
   }
 
+  private static void visitTargetWidgets( DirtyWidgets dirtyWidgets ) {
+    Set<String> targets = new LinkedHashSet<>();
+    for( Operation operation : ProtocolUtil.getClientMessage().getOperations() ) {
+      targets.add( operation.getTarget() );
+    }
+    for( String target : targets ) {
+      Widget widget = dirtyWidgets.find( target );
+      if( widget != null ) {
+        getLCA( widget ).readData( widget );
+      }
+    }
+  }
+
   private static void renderOverflow( Display display ) {
     if( !getAdapter( display ).isInitialized() ) {
       String overflow = getEntryPointProperties().get( WebClient.PAGE_OVERFLOW );
@@ -181,7 +216,11 @@ public class DisplayLCA {
   }
 
   private static void renderShells( Display display ) throws IOException {
-    RenderVisitor visitor = new RenderVisitor();
+    DirtyWidgets dirtyWidgets = getDirtyWidgets( display );
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.beginRendering();
+    }
+    RenderVisitor visitor = new RenderVisitor( dirtyWidgets );
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, visitor );
       visitor.reThrowProblem();
@@ -302,13 +341,29 @@ public class DisplayLCA {
     return getDisplayAdapter( display ).getShells();
   }
 
+  private static DirtyWidgets getDirtyWidgets( Display display ) {
+    return getDisplayAdapter( display ).getDirtyWidgets();
+  }
+
   private static final class RenderVisitor implements WidgetTreeVisitor {
 
+    private final DirtyWidgets dirtyWidgets;
     private IOException ioProblem;
 
+    RenderVisitor( DirtyWidgets dirtyWidgets ) {
+      this.dirtyWidgets = dirtyWidgets;
+    }
+
     @Override
     public boolean visit( Widget widget ) {
       ioProblem = null;
+      if( dirtyWidgets != null ) {
+        if( !dirtyWidgets.isDirty( widget ) ) {
+          // descend only into subtrees that contain dirty widgets
+          return dirtyWidgets.isAncestor( widget );
+        }
+        dirtyWidgets.markRendered( widget );
+      }
       try {
         render( widget );
         runRenderRunnables( widget );
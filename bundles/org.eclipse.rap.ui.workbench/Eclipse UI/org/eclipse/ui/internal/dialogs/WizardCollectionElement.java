@@ -25,7 +25,9 @@ import org.eclipse.ui.IPluginContribution;
 import org.eclipse.ui.ISharedImages;
 import org.eclipse.ui.activities.WorkbenchActivityHelper;
 import org.eclipse.ui.internal.WorkbenchImages;
+import org.eclipse.ui.internal.WorkbenchMessages;
 import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
+import org.eclipse.ui.internal.registry.WizardsRegistryReader;
 import org.eclipse.ui.model.AdaptableList;
 import org.eclipse.ui.model.IWorkbenchAdapter;
 import org.eclipse.ui.wizards.IWizardCategory;
@@ -206,6 +208,13 @@ public class WizardCollectionElement extends AdaptableList implements
      * Returns the label for this collection.
      */
     public String getLabel(Object o) {
+    	// RAP: wizard registries are shared by all UI sessions, the label of the "Other" category
+    	// has to be translated for the current session
+    	if (configElement == null
+    			&& WizardsRegistryReader.UNCATEGORIZED_WIZARD_CATEGORY.equals(id)) {
+    		return WorkbenchMessages.get().NewWizardsRegistryReader_otherCategory;
+    	}
+    	// RAPEND
     	return configElement != null ? configElement
 				.getAttribute(IWorkbenchRegistryConstants.ATT_NAME) : name;
     }
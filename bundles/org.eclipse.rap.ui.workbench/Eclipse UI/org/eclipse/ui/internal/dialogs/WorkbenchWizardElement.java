@@ -59,7 +59,10 @@ public class WorkbenchWizardElement extends WorkbenchAdapter implements
 
 	private static final String [] PROJECT_TAGS = new String[] {TAG_PROJECT};
 
-	private String[] keywordLabels;
+	// RAP: wizard elements are shared by all UI sessions, the keyword labels are
+	// resolved on every call to translate them for the locale of the session
+//	private String[] keywordLabels;
+	// RAPEND
 
     
     /**
@@ -342,18 +345,20 @@ public class WorkbenchWizardElement extends WorkbenchAdapter implements
 	}
 
 	public String[] getKeywordLabels() {
-		if (keywordLabels == null) {
+		// RAP: do not cache the labels, see keywordLabels
+//		if (keywordLabels == null) {
 
 			IConfigurationElement[] children = configurationElement
 					.getChildren(IWorkbenchRegistryConstants.TAG_KEYWORD_REFERENCE);
-			keywordLabels = new String[children.length];
+			String[] keywordLabels = new String[children.length];
 			KeywordRegistry registry = KeywordRegistry.getInstance();
 			for (int i = 0; i < children.length; i++) {
 				String id = children[i]
 						.getAttribute(IWorkbenchRegistryConstants.ATT_ID);
 				keywordLabels[i] = registry.getKeywordLabel(id);
 			}
-		}
+//		}
+		// RAPEND
 		return keywordLabels;
 	}
 }
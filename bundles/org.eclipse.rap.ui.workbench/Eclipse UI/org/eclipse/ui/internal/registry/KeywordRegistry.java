@@ -51,6 +51,8 @@ public final class KeywordRegistry implements IExtensionChangeHandler {
 	/**
 	 * Map of id->labels.
 	 */
+	// RAP: maps ids to configuration elements, the labels are read on access to
+	// translate them for the locale of the current session
 	private Map internalKeywordMap = new HashMap();
 	
 	/**
@@ -73,9 +75,11 @@ public final class KeywordRegistry implements IExtensionChangeHandler {
 		IConfigurationElement[] elements = extension.getConfigurationElements();
 		for (int i = 0; i < elements.length; i++) {
 			if (elements[i].getName().equals(TAG_KEYWORD)) {
-				String name = elements[i].getAttribute(ATT_LABEL);
+				// RAP: keep the configuration element, see internalKeywordMap
+//				String name = elements[i].getAttribute(ATT_LABEL);
 				String id = elements[i].getAttribute(ATT_ID);
-				internalKeywordMap.put(id, name);
+				internalKeywordMap.put(id, elements[i]);
+				// RAPEND
 				PlatformUI.getWorkbench().getExtensionTracker().registerObject(
 						extension, id, IExtensionTracker.REF_WEAK);
 			}
@@ -94,7 +98,11 @@ public final class KeywordRegistry implements IExtensionChangeHandler {
 	 * @return the label or <code>null</code>
 	 */
 	public String getKeywordLabel(String id) {
-		return (String) internalKeywordMap.get(id);
+		// RAP: read the label for the locale of the current session
+//		return (String) internalKeywordMap.get(id);
+		IConfigurationElement element = (IConfigurationElement) internalKeywordMap.get(id);
+		return element == null ? null : element.getAttribute(ATT_LABEL);
+		// RAPEND
 	}
 
 	/* (non-Javadoc)
@@ -20,6 +20,8 @@ import org.eclipse.ui.wizards.IWizardRegistry;
  * Abstract base class for various workbench wizards.
  * 
  */
+// RAP: registries are shared by all UI sessions, access is synchronized since the registry
+// may be disposed and read again by another session at any time
 public abstract class AbstractWizardRegistry implements IWizardRegistry {
 
 	private boolean initialized = false;
@@ -38,7 +40,7 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	/**
 	 * Dispose of this registry.
 	 */
-	public void dispose() {
+	public synchronized void dispose() {
 		primaryWizards = null;
 		wizardElements = null;
 		initialized = false;
@@ -55,7 +57,7 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	 * 
 	 * @see org.eclipse.ui.wizards.IWizardRegistry#findCategory(java.lang.String)
 	 */
-	public IWizardCategory findCategory(String id) {
+	public synchronized IWizardCategory findCategory(String id) {
 		initialize();
 		return wizardElements.findCategory(id);
 	}
@@ -65,7 +67,7 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	 * 
 	 * @see org.eclipse.ui.wizards.IWizardRegistry#findWizard(java.lang.String)
 	 */
-	public IWizardDescriptor findWizard(String id) {
+	public synchronized IWizardDescriptor findWizard(String id) {
 		initialize();
 		return wizardElements.findWizard(id, true);
 	}
@@ -75,7 +77,7 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	 * 
 	 * @see org.eclipse.ui.wizards.IWizardRegistry#getPrimaryWizards()
 	 */
-	public IWizardDescriptor[] getPrimaryWizards() {
+	public synchronized IWizardDescriptor[] getPrimaryWizards() {
 		initialize();
 		return primaryWizards;
 	}
@@ -85,7 +87,7 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	 * 
 	 * @see org.eclipse.ui.wizards.IWizardRegistry#getRootCategory()
 	 */
-	public IWizardCategory getRootCategory() {
+	public synchronized IWizardCategory getRootCategory() {
 		initialize();
 		return wizardElements;
 	}
@@ -95,7 +97,7 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	 * 
 	 * @return the wizard elements
 	 */
-	protected WizardCollectionElement getWizardElements() {
+	protected synchronized WizardCollectionElement getWizardElements() {
 		initialize();
 		return wizardElements;
 	}
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.wizards;
 
+import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
@@ -30,8 +31,9 @@ public class ExportWizardRegistry extends AbstractExtensionWizardRegistry {
 	 * @return the singleton instance of this class
 	 */
 	public static synchronized ExportWizardRegistry getInstance() {		
-      // RAP [rst] session singleton
-	  return SingletonUtil.getSessionInstance( ExportWizardRegistry.class );
+	  // RAP: application singleton, the wizards are shared by all UI sessions
+	  return SingletonUtil.getUniqueInstance( ExportWizardRegistry.class,
+	                                       RWT.getApplicationContext() );
 //		if (singleton == null) {
 //			singleton = new ExportWizardRegistry();
 //		}
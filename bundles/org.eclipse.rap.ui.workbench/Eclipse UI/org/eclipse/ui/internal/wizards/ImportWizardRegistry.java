@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.wizards;
 
+import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
@@ -30,8 +31,9 @@ public class ImportWizardRegistry extends AbstractExtensionWizardRegistry {
 	 * @return the singleton instance of this class
 	 */
 	public static synchronized ImportWizardRegistry getInstance() {		
-	    // RAP [rst] session singleton
-        return SingletonUtil.getSessionInstance( ImportWizardRegistry.class );
+        // RAP: application singleton, the wizards are shared by all UI sessions
+        return SingletonUtil.getUniqueInstance( ImportWizardRegistry.class,
+                                             RWT.getApplicationContext() );
 //		if (singleton == null) {
 //			singleton = new ImportWizardRegistry();
 //		}
@@ -0,0 +1,543 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.RegistryFactory;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.commands.MBindingContext;
+import org.eclipse.e4.ui.model.application.commands.MBindingTable;
+import org.eclipse.e4.ui.model.application.commands.MCommand;
+import org.eclipse.e4.ui.model.application.commands.MCommandsFactory;
+import org.eclipse.e4.ui.model.application.commands.MHandler;
+import org.eclipse.e4.ui.model.application.commands.MKeyBinding;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MAdvancedFactory;
+import org.eclipse.e4.ui.model.application.ui.advanced.MArea;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainer;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MStackElement;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimBar;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
+import org.eclipse.e4.ui.model.application.ui.menu.MDirectMenuItem;
+import org.eclipse.e4.ui.model.application.ui.menu.MDirectToolItem;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuElement;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuFactory;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.e4.ui.workbench.modeling.ElementMatcher;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Compares the results of the {@link ModelIndex} with the recursive search of the
+ * {@link ModelServiceImpl} that it replaces.
+ */
+public class ModelIndex_Test {
+
+	private static final String DUPLICATE_ID = "duplicate";
+	private static final String TAG = "tagged";
+
+	private static final int[] SEARCH_FLAGS = {
+		EModelService.ANYWHERE,
+		EModelService.OUTSIDE_PERSPECTIVE,
+		EModelService.IN_ACTIVE_PERSPECTIVE,
+		EModelService.IN_ANY_PERSPECTIVE,
+		EModelService.IN_SHARED_AREA,
+		EModelService.IN_TRIM,
+		EModelService.IN_MAIN_MENU,
+		EModelService.IN_PART,
+		EModelService.PRESENTATION,
+		EModelService.GLOBAL,
+		EModelService.IN_ANY_PERSPECTIVE | EModelService.IN_PART,
+		EModelService.IN_ACTIVE_PERSPECTIVE | EModelService.IN_SHARED_AREA,
+		EModelService.OUTSIDE_PERSPECTIVE | EModelService.IN_TRIM | EModelService.IN_MAIN_MENU
+	};
+
+	private IEclipseContext context;
+	private SynchronousEventBroker eventBroker;
+	private ModelServiceImpl modelService;
+	private ModelIndex index;
+
+	private MApplication application;
+	private MTrimmedWindow window;
+	private MPerspectiveStack perspectiveStack;
+	private MPerspective perspective1;
+	private MPerspective perspective2;
+	private MPartStack stack1;
+	private MPartStack stack2;
+	private MPart part1;
+	private MPart part2;
+	private MPart sharedPart;
+	private MPart editor;
+	private MArea area;
+	private MPlaceholder sharedPartPlaceholder1;
+	private MPlaceholder sharedPartPlaceholder2;
+	private MPlaceholder areaPlaceholder;
+
+	@Before
+	public void setUp() {
+		eventBroker = new SynchronousEventBroker();
+		context = EclipseContextFactory.create();
+		context.set(IEventBroker.class, eventBroker);
+		context.set(IExtensionRegistry.class, RegistryFactory.getRegistry());
+		application = MApplicationFactory.INSTANCE.createApplication();
+		context.set(MApplication.class, application);
+		((Notifier) application).eAdapters().add(new UIEventPublisher(context));
+		createModel();
+		modelService = new ModelServiceImpl(context);
+		index = new ModelIndex(application);
+		eventBroker.subscribe(UIEvents.UIModelTopicBase + UIEvents.TOPIC_SEP
+				+ UIEvents.ALL_SUB_TOPICS, null, index, true);
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(ModelServiceImpl.MODEL_INDEX_PROPERTY);
+		context.dispose();
+	}
+
+	@Test
+	public void testFindElements_forEachSearchFlag() {
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_throughPlaceholder() {
+		List<MPart> elements = index.findElements(perspective2, "shared", MPart.class, null,
+				EModelService.IN_ANY_PERSPECTIVE);
+
+		assertEquals(Collections.singletonList(sharedPart), elements);
+	}
+
+	@Test
+	public void testFindElements_sharedElementOnce() {
+		List<MPart> elements = index.findElements(application, "shared", MPart.class, null,
+				EModelService.IN_ANY_PERSPECTIVE);
+
+		assertEquals(Collections.singletonList(sharedPart), elements);
+	}
+
+	@Test
+	public void testFindElements_inSharedAreaOnlyWithFlag() {
+		List<MPart> withoutFlag = index.findElements(perspective1, "editor", MPart.class, null,
+				EModelService.IN_ANY_PERSPECTIVE);
+		List<MPart> withFlag = index.findElements(perspective1, "editor", MPart.class, null,
+				EModelService.IN_ANY_PERSPECTIVE | EModelService.IN_SHARED_AREA);
+
+		assertEquals(Collections.emptyList(), withoutFlag);
+		assertEquals(Collections.singletonList(editor), withFlag);
+	}
+
+	@Test
+	public void testFindElements_sharedAreaBelowPerspectiveStackIsNotAnswered() {
+		List<MPart> elements = index.findElements(perspectiveStack, "editor", MPart.class, null,
+				EModelService.IN_SHARED_AREA);
+
+		assertNull(elements);
+	}
+
+	@Test
+	public void testFindElements_resultOrder() {
+		List<MUIElement> elements = index.findElements(application, DUPLICATE_ID,
+				MUIElement.class, null, EModelService.ANYWHERE);
+
+		assertTrue(elements.size() > 3);
+		assertEquals(findRecursive(application, DUPLICATE_ID, MUIElement.class, null,
+				EModelService.ANYWHERE), elements);
+	}
+
+	@Test
+	public void testFindElements_afterAdd() {
+		MPart part = createPart(DUPLICATE_ID);
+		part.getTags().add(TAG);
+
+		stack2.getChildren().add(0, part);
+
+		assertSearchesMatch();
+		assertTrue(index.findElements(application, DUPLICATE_ID, MPart.class, null,
+				EModelService.ANYWHERE).contains(part));
+	}
+
+	@Test
+	public void testFindElements_afterAddOfSubtree() {
+		MPerspective perspective = MAdvancedFactory.INSTANCE.createPerspective();
+		MPartStack stack = MBasicFactory.INSTANCE.createPartStack();
+		stack.getChildren().add(createPart(DUPLICATE_ID));
+		stack.getChildren().add(createPlaceholder(sharedPart));
+		perspective.getChildren().add(stack);
+
+		perspectiveStack.getChildren().add(perspective);
+
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_afterRemove() {
+		stack1.getChildren().remove(part1);
+
+		assertSearchesMatch();
+		assertFalse(index.findElements(application, null, MPart.class, null,
+				EModelService.ANYWHERE).contains(part1));
+	}
+
+	@Test
+	public void testFindElements_afterRemoveOfPlaceholder() {
+		stack2.getChildren().remove(sharedPartPlaceholder2);
+
+		assertSearchesMatch();
+		assertEquals(Collections.emptyList(), index.findElements(perspective2, "shared",
+				MPart.class, null, EModelService.IN_ANY_PERSPECTIVE));
+	}
+
+	@Test
+	public void testFindElements_afterRemoveOfSubtree() {
+		perspectiveStack.getChildren().remove(perspective2);
+
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_afterMoveToOtherContainer() {
+		stack1.getChildren().add(0, part2);
+
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_afterMoveWithinContainer() {
+		EList<MStackElement> children = (EList<MStackElement>) stack1.getChildren();
+
+		children.move(children.size() - 1, 0);
+
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_afterSelectedPerspectiveChange() {
+		perspectiveStack.setSelectedElement(perspective2);
+
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_afterIdChange() {
+		part1.setElementId("changed");
+		part2.setElementId(DUPLICATE_ID);
+
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_afterTagChange() {
+		part1.getTags().remove(TAG);
+		part2.getTags().add(TAG);
+
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_afterPlaceholderRefChange() {
+		sharedPartPlaceholder2.setRef(part1);
+
+		assertSearchesMatch();
+	}
+
+	@Test
+	public void testFindElements_withoutCriteria() {
+		assertNull(index.findElements(application, null, null, null, EModelService.ANYWHERE));
+	}
+
+	@Test
+	public void testModelService_withoutIndexProperty() throws Exception {
+		modelService.findElements(application, DUPLICATE_ID, MPart.class, null);
+
+		assertNull(getModelIndex(modelService));
+	}
+
+	@Test
+	public void testModelService_withIndexProperty() throws Exception {
+		System.setProperty(ModelServiceImpl.MODEL_INDEX_PROPERTY, "true");
+
+		List<MPart> elements = modelService.findElements(application, DUPLICATE_ID, MPart.class,
+				null);
+
+		assertNotNull(getModelIndex(modelService));
+		assertEquals(findRecursive(application, DUPLICATE_ID, MPart.class, null,
+				EModelService.ANYWHERE), elements);
+	}
+
+	private void assertSearchesMatch() {
+		List<MUIElement> roots = Arrays.<MUIElement> asList(application, window, perspectiveStack,
+				perspective1, perspective2, stack1, part1, area, sharedPartPlaceholder1);
+		for (MUIElement root : roots) {
+			if (EcoreUtil.getRootContainer((EObject) root) != application) {
+				continue;
+			}
+			for (int flags : SEARCH_FLAGS) {
+				assertSearchMatches(root, DUPLICATE_ID, null, null, flags);
+				assertSearchMatches(root, "shared", MPart.class, null, flags);
+				assertSearchMatches(root, null, MPart.class, null, flags);
+				assertSearchMatches(root, null, MPlaceholder.class, null, flags);
+				assertSearchMatches(root, null, MHandler.class, null, flags);
+				assertSearchMatches(root, null, MCommand.class, null, flags);
+				assertSearchMatches(root, null, MBindingContext.class, null, flags);
+				assertSearchMatches(root, null, MKeyBinding.class, null, flags);
+				assertSearchMatches(root, null, MMenuElement.class, null, flags);
+				assertSearchMatches(root, null, MToolBar.class, null, flags);
+				assertSearchMatches(root, null, MWindow.class, null, flags);
+				assertSearchMatches(root, null, null, Collections.singletonList(TAG), flags);
+				assertSearchMatches(root, null, MPart.class, Collections.singletonList(TAG), flags);
+			}
+		}
+	}
+
+	private <T> void assertSearchMatches(MUIElement root, String id, Class<T> clazz,
+			List<String> tags, int flags) {
+		List<T> expected = findRecursive(root, id, clazz, tags, flags);
+		List<T> actual = index.findElements(root, id, clazz, tags, flags);
+		String search = "id=" + id + ", class=" + clazz + ", tags=" + tags + ", flags=" + flags
+				+ ", root=" + root.getElementId();
+		if (answersFromIndex(root, flags)) {
+			assertNotNull("not answered from index: " + search, actual);
+		}
+		if (actual != null) {
+			assertEquals(search, expected, actual);
+		}
+	}
+
+	/*
+	 * The recursive search looks for shared areas anywhere below a perspective stack if only
+	 * IN_SHARED_AREA is given, the index leaves these searches to the recursive search.
+	 */
+	private boolean answersFromIndex(MUIElement root, int flags) {
+		boolean perspectivesSearched = (flags & (EModelService.IN_ANY_PERSPECTIVE
+				| EModelService.IN_ACTIVE_PERSPECTIVE)) != 0;
+		boolean aboveOrAtPerspectiveStack = root == application || root == window
+				|| root == perspectiveStack;
+		return perspectivesSearched || (flags & EModelService.IN_SHARED_AREA) == 0
+				|| !aboveOrAtPerspectiveStack;
+	}
+
+	private <T> List<T> findRecursive(MUIElement root, String id, Class<T> clazz,
+			List<String> tags, int flags) {
+		return modelService.findElements(root, clazz, flags, new ElementMatcher(id, clazz, tags));
+	}
+
+	private void createModel() {
+		application.setElementId("application");
+		application.getHandlers().add(createHandler());
+		MCommand command = MCommandsFactory.INSTANCE.createCommand();
+		command.setElementId(DUPLICATE_ID);
+		application.getCommands().add(command);
+		MBindingContext bindingContext = MCommandsFactory.INSTANCE.createBindingContext();
+		bindingContext.getChildren().add(MCommandsFactory.INSTANCE.createBindingContext());
+		application.getBindingContexts().add(bindingContext);
+		MBindingTable bindingTable = MCommandsFactory.INSTANCE.createBindingTable();
+		MKeyBinding keyBinding = MCommandsFactory.INSTANCE.createKeyBinding();
+		keyBinding.getTags().add(TAG);
+		bindingTable.getBindings().add(keyBinding);
+		application.getBindingTables().add(bindingTable);
+
+		window = MBasicFactory.INSTANCE.createTrimmedWindow();
+		window.setElementId("window");
+		window.getHandlers().add(createHandler());
+		window.setMainMenu(createMenu());
+		MTrimBar trimBar = MBasicFactory.INSTANCE.createTrimBar();
+		trimBar.getChildren().add(createToolBar());
+		window.getTrimBars().add(trimBar);
+		MWindow detachedWindow = MBasicFactory.INSTANCE.createWindow();
+		MPartStack detachedStack = MBasicFactory.INSTANCE.createPartStack();
+		detachedStack.getChildren().add(createPart(DUPLICATE_ID));
+		detachedWindow.getChildren().add(detachedStack);
+		window.getWindows().add(detachedWindow);
+		application.getChildren().add(window);
+
+		sharedPart = createPart("shared");
+		sharedPart.getMenus().add(createMenu());
+		editor = createPart("editor");
+		editor.getTags().add(TAG);
+		MPartStack editorStack = MBasicFactory.INSTANCE.createPartStack();
+		editorStack.getChildren().add(editor);
+		area = MAdvancedFactory.INSTANCE.createArea();
+		area.setElementId("area");
+		area.getChildren().add(editorStack);
+		window.getSharedElements().add(sharedPart);
+		window.getSharedElements().add(area);
+
+		part1 = createPart(DUPLICATE_ID);
+		part1.getTags().add(TAG);
+		part1.getMenus().add(createMenu());
+		part1.setToolbar(createToolBar());
+		part1.getHandlers().add(createHandler());
+		sharedPartPlaceholder1 = createPlaceholder(sharedPart);
+		sharedPartPlaceholder1.setElementId("placeholder");
+		stack1 = MBasicFactory.INSTANCE.createPartStack();
+		stack1.setElementId("stack1");
+		stack1.getChildren().add(part1);
+		stack1.getChildren().add(sharedPartPlaceholder1);
+		areaPlaceholder = createPlaceholder(area);
+		MPartSashContainer sash = MBasicFactory.INSTANCE.createPartSashContainer();
+		sash.getChildren().add(stack1);
+		sash.getChildren().add(areaPlaceholder);
+		perspective1 = MAdvancedFactory.INSTANCE.createPerspective();
+		perspective1.setElementId("perspective1");
+		perspective1.getChildren().add(sash);
+		MWindow perspectiveWindow = MBasicFactory.INSTANCE.createWindow();
+		MPartStack perspectiveWindowStack = MBasicFactory.INSTANCE.createPartStack();
+		perspectiveWindowStack.getChildren().add(createPart(DUPLICATE_ID));
+		perspectiveWindow.getChildren().add(perspectiveWindowStack);
+		perspective1.getWindows().add(perspectiveWindow);
+
+		part2 = createPart("part2");
+		sharedPartPlaceholder2 = createPlaceholder(sharedPart);
+		stack2 = MBasicFactory.INSTANCE.createPartStack();
+		stack2.getChildren().add(part2);
+		stack2.getChildren().add(sharedPartPlaceholder2);
+		perspective2 = MAdvancedFactory.INSTANCE.createPerspective();
+		perspective2.setElementId("perspective2");
+		perspective2.getChildren().add(stack2);
+
+		perspectiveStack = MAdvancedFactory.INSTANCE.createPerspectiveStack();
+		perspectiveStack.setElementId("perspectiveStack");
+		perspectiveStack.getChildren().add(perspective1);
+		perspectiveStack.getChildren().add(perspective2);
+		perspectiveStack.setSelectedElement(perspective1);
+		window.getChildren().add(perspectiveStack);
+	}
+
+	private static MPart createPart(String id) {
+		MPart part = MBasicFactory.INSTANCE.createPart();
+		part.setElementId(id);
+		return part;
+	}
+
+	private static MPlaceholder createPlaceholder(MUIElement ref) {
+		MPlaceholder placeholder = MAdvancedFactory.INSTANCE.createPlaceholder();
+		placeholder.setRef(ref);
+		return placeholder;
+	}
+
+	private static MHandler createHandler() {
+		MHandler handler = MCommandsFactory.INSTANCE.createHandler();
+		handler.setElementId(DUPLICATE_ID);
+		return handler;
+	}
+
+	private static MMenu createMenu() {
+		MMenu menu = MMenuFactory.INSTANCE.createMenu();
+		MDirectMenuItem item = MMenuFactory.INSTANCE.createDirectMenuItem();
+		item.setElementId(DUPLICATE_ID);
+		item.getTags().add(TAG);
+		menu.getChildren().add(item);
+		return menu;
+	}
+
+	private static MToolBar createToolBar() {
+		MToolBar toolBar = MMenuFactory.INSTANCE.createToolBar();
+		MDirectToolItem item = MMenuFactory.INSTANCE.createDirectToolItem();
+		item.setElementId(DUPLICATE_ID);
+		toolBar.getChildren().add(item);
+		return toolBar;
+	}
+
+	private static Object getModelIndex(ModelServiceImpl modelService) throws Exception {
+		Field field = ModelServiceImpl.class.getDeclaredField("modelIndex");
+		field.setAccessible(true);
+		return field.get(modelService);
+	}
+
+	/*
+	 * Delivers events synchronously to the handlers of matching topics, as the index has to be
+	 * updated together with the model.
+	 */
+	private static class SynchronousEventBroker implements IEventBroker {
+
+		private final Map<EventHandler, String> handlers = new LinkedHashMap<EventHandler, String>();
+
+		@Override
+		public boolean send(String topic, Object data) {
+			@SuppressWarnings("unchecked")
+			Event event = new Event(topic, (Map<String, ?>) data);
+			for (Map.Entry<EventHandler, String> entry : new ArrayList<Map.Entry<EventHandler, String>>(
+					handlers.entrySet())) {
+				if (matches(entry.getValue(), topic)) {
+					entry.getKey().handleEvent(event);
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean post(String topic, Object data) {
+			return send(topic, data);
+		}
+
+		@Override
+		public boolean subscribe(String topic, EventHandler eventHandler) {
+			return subscribe(topic, null, eventHandler, false);
+		}
+
+		@Override
+		public boolean subscribe(String topic, String filter, EventHandler eventHandler,
+				boolean headless) {
+			handlers.put(eventHandler, topic);
+			return true;
+		}
+
+		@Override
+		public boolean unsubscribe(EventHandler eventHandler) {
+			return handlers.remove(eventHandler) != null;
+		}
+
+		private static boolean matches(String subscribedTopic, String topic) {
+			if (subscribedTopic.endsWith(UIEvents.ALL_SUB_TOPICS)) {
+				String prefix = subscribedTopic.substring(0, subscribedTopic.length() - 1);
+				return topic.startsWith(prefix);
+			}
+			return subscribedTopic.equals(topic);
+		}
+	}
+
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.internal.registry.ExtensionRegistry;
+import org.eclipse.core.runtime.ContributorFactoryOSGi;
+import org.eclipse.core.runtime.IContributor;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.RegistryFactory;
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.commands.MCommand;
+import org.eclipse.e4.ui.model.application.commands.MCommandsFactory;
+import org.eclipse.e4.ui.model.application.commands.MHandler;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.model.fragment.MFragmentFactory;
+import org.eclipse.e4.ui.model.fragment.MModelFragments;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+
+public class ModelTemplate_Test {
+
+	private static final URI DEFINITION = URI.createURI("platform:/plugin/test/Application.e4xmi");
+	private static final String COMMAND_ID = "test.command";
+	private static final String MODEL_EXTENSION_POINT = "org.eclipse.e4.workbench.model";
+
+	private IEclipseContext context;
+	private E4XMIResource templateResource;
+	private MApplication templateApplication;
+	private MHandler templateHandler;
+	private MCommand importedCommand;
+	private ModelTemplate template;
+
+	@Before
+	public void setUp() {
+		context = EclipseContextFactory.create();
+		context.set(Logger.class, new WorkbenchLogger(null));
+		context.set(IExtensionRegistry.class, RegistryFactory.getRegistry());
+		templateResource = new E4XMIResource(DEFINITION);
+		templateApplication = MApplicationFactory.INSTANCE.createApplication();
+		templateApplication.setElementId("test.application");
+		MTrimmedWindow window = MBasicFactory.INSTANCE.createTrimmedWindow();
+		window.setElementId("test.window");
+		MPart part = MBasicFactory.INSTANCE.createPart();
+		part.setElementId("test.part");
+		window.getChildren().add(part);
+		templateApplication.getChildren().add(window);
+		templateResource.getContents().add((EObject) templateApplication);
+		// merged fragment: a handler that refers to the command by an import
+		MModelFragments fragments = MFragmentFactory.INSTANCE.createModelFragments();
+		importedCommand = MCommandsFactory.INSTANCE.createCommand();
+		importedCommand.setElementId(COMMAND_ID);
+		fragments.getImports().add(importedCommand);
+		templateHandler = MCommandsFactory.INSTANCE.createHandler();
+		templateHandler.setElementId("test.handler");
+		templateHandler.setCommand(importedCommand);
+		templateApplication.getHandlers().add(templateHandler);
+		List<MApplicationElement> imports = new ArrayList<MApplicationElement>();
+		imports.add(importedCommand);
+		List<MApplicationElement> addedElements = new ArrayList<MApplicationElement>();
+		addedElements.add(templateHandler);
+		template = new ModelTemplate(templateResource, true, imports, addedElements);
+	}
+
+	@After
+	public void tearDown() {
+		ModelTemplate.clear();
+		context.dispose();
+	}
+
+	@Test
+	public void testCopyInto_createsEqualButIndependentModels() {
+		addCommand(templateApplication);
+
+		E4XMIResource first = load();
+		E4XMIResource second = load();
+
+		EObject firstApplication = first.getContents().get(0);
+		EObject secondApplication = second.getContents().get(0);
+		assertTrue(EcoreUtil.equals(firstApplication, secondApplication));
+		Set<EObject> firstObjects = getAllObjects(firstApplication);
+		for (EObject object : getAllObjects(secondApplication)) {
+			assertFalse(firstObjects.contains(object));
+		}
+		for (EObject object : getAllObjects((EObject) templateApplication)) {
+			assertFalse(firstObjects.contains(object));
+		}
+	}
+
+	@Test
+	public void testCopyInto_keepsElementIdsAndXmiIds() {
+		E4XMIResource copy = load();
+
+		TreeIterator<EObject> templateObjects = EcoreUtil.getAllProperContents(templateResource,
+				false);
+		TreeIterator<EObject> copiedObjects = EcoreUtil.getAllProperContents(copy, false);
+		while (templateObjects.hasNext()) {
+			EObject templateObject = templateObjects.next();
+			EObject copiedObject = copiedObjects.next();
+			assertEquals(templateResource.getID(templateObject), copy.getID(copiedObject));
+			assertEquals(((MApplicationElement) templateObject).getElementId(),
+					((MApplicationElement) copiedObject).getElementId());
+		}
+		assertFalse(copiedObjects.hasNext());
+	}
+
+	@Test
+	public void testCopyInto_resolvesImportsInEveryCopy() {
+		addCommand(templateApplication);
+
+		MApplication first = (MApplication) load().getContents().get(0);
+		MApplication second = (MApplication) load().getContents().get(0);
+
+		assertSame(first.getCommands().get(0), first.getHandlers().get(0).getCommand());
+		assertSame(second.getCommands().get(0), second.getHandlers().get(0).getCommand());
+		assertNotSame(first.getCommands().get(0), second.getCommands().get(0));
+		assertSame(importedCommand, templateHandler.getCommand());
+	}
+
+	@Test
+	public void testCopyInto_resolvesImportsAfterProcessors() {
+		List<MApplicationElement> addedElements = new ArrayList<MApplicationElement>();
+		E4XMIResource copy = new E4XMIResource(DEFINITION);
+		template.copyInto(copy, addedElements);
+		MApplication application = (MApplication) copy.getContents().get(0);
+		// a processor that runs after the fragments contributes the imported command
+		MCommand command = addCommand(application);
+
+		resolveImports(application, addedElements);
+
+		assertSame(command, application.getHandlers().get(0).getCommand());
+	}
+
+	@Test
+	public void testGet_afterModelExtensionIsAdded() throws Exception {
+		IExtensionRegistry registry = RegistryFactory.getRegistry();
+		int generation = ModelTemplate.getGeneration(registry);
+		ModelTemplate.register(DEFINITION, template, generation);
+		Object token = ((ExtensionRegistry) registry).getTemporaryUserToken();
+		IContributor contributor = ContributorFactoryOSGi
+				.createContributor(FrameworkUtil.getBundle(ModelTemplate.class));
+		String contribution = "<plugin><extension id=\"modelTemplateTest\" point=\""
+				+ MODEL_EXTENSION_POINT + "\"><fragment uri=\"fragment.e4xmi\"/></extension></plugin>";
+		byte[] bytes = contribution.getBytes(StandardCharsets.UTF_8);
+		registry.addContribution(new ByteArrayInputStream(bytes), contributor, false,
+				"modelTemplateTest", null, token);
+		try {
+			waitForInvalidation();
+
+			assertNull(ModelTemplate.get(DEFINITION));
+			// a template that has been built from the outdated extensions is not registered
+			ModelTemplate outdated = createOtherTemplate();
+			assertSame(outdated, ModelTemplate.register(DEFINITION, outdated, generation));
+			assertNull(ModelTemplate.get(DEFINITION));
+		} finally {
+			for (IExtension extension : registry.getExtensions(contributor)) {
+				if (MODEL_EXTENSION_POINT.equals(extension.getExtensionPointUniqueIdentifier())) {
+					registry.removeExtension(extension, token);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testRegister_keepsFirstTemplate() {
+		int generation = ModelTemplate.getGeneration(RegistryFactory.getRegistry());
+
+		ModelTemplate registered = ModelTemplate.register(DEFINITION, template, generation);
+		ModelTemplate other = ModelTemplate.register(DEFINITION, createOtherTemplate(), generation);
+
+		assertSame(template, registered);
+		assertSame(template, other);
+		assertSame(template, ModelTemplate.get(DEFINITION));
+	}
+
+	private E4XMIResource load() {
+		List<MApplicationElement> addedElements = new ArrayList<MApplicationElement>();
+		E4XMIResource copy = new E4XMIResource(DEFINITION);
+		template.copyInto(copy, addedElements);
+		resolveImports((MApplication) copy.getContents().get(0), addedElements);
+		return copy;
+	}
+
+	private void resolveImports(MApplication application, List<MApplicationElement> addedElements) {
+		IEclipseContext sessionContext = context.createChild();
+		try {
+			sessionContext.set(MApplication.class, application);
+			ModelAssembler assembler = ContextInjectionFactory.make(ModelAssembler.class,
+					sessionContext);
+			assembler.resolveImports(template.getImports(), addedElements);
+		} finally {
+			sessionContext.dispose();
+		}
+	}
+
+	private static MCommand addCommand(MApplication application) {
+		MCommand command = MCommandsFactory.INSTANCE.createCommand();
+		command.setElementId(COMMAND_ID);
+		command.setCommandName("Test Command");
+		application.getCommands().add(command);
+		return command;
+	}
+
+	private static ModelTemplate createOtherTemplate() {
+		E4XMIResource resource = new E4XMIResource(DEFINITION);
+		resource.getContents().add((EObject) MApplicationFactory.INSTANCE.createApplication());
+		return new ModelTemplate(resource, false, Collections.<MApplicationElement> emptyList(),
+				Collections.<MApplicationElement> emptyList());
+	}
+
+	private static Set<EObject> getAllObjects(EObject root) {
+		Set<EObject> result = Collections.newSetFromMap(new IdentityHashMap<EObject, Boolean>());
+		result.add(root);
+		TreeIterator<EObject> iterator = root.eAllContents();
+		while (iterator.hasNext()) {
+			result.add(iterator.next());
+		}
+		return result;
+	}
+
+	private static void waitForInvalidation() throws InterruptedException {
+		// registry events are delivered asynchronously
+		long timeout = System.currentTimeMillis() + 5000;
+		while (ModelTemplate.get(DEFINITION) != null && System.currentTimeMillis() < timeout) {
+			Thread.sleep(20);
+		}
+	}
+}
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -293,6 +294,28 @@ public class Grid_Test {
     assertEquals( 2, grid.indexOf( items[ 4 ] ) );
   }
 
+  @Test
+  public void testIndexOf_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( grid, SWT.NONE, 1 );
+
+    assertEquals( 1, grid.indexOf( items[ 1 ] ) );
+    assertEquals( 2, grid.indexOf( item ) );
+    assertEquals( 5, grid.indexOf( items[ 4 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterInsertChild() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( items[ 0 ], SWT.NONE, 0 );
+
+    assertEquals( 1, grid.indexOf( item ) );
+    assertEquals( 2, grid.indexOf( items[ 1 ] ) );
+    assertEquals( 5, grid.indexOf( items[ 4 ] ) );
+  }
+
   @Test
   public void testGetColumnCount() {
     createGridColumns( grid, 5, SWT.NONE );
@@ -721,6 +744,31 @@ public class Grid_Test {
     assertTrue( Arrays.equals( expected, grid.getCellSelection() ) );
   }
 
+  @Test
+  public void testIsCellSelected_afterColumnDisposal() {
+    createGridColumns( grid, 3, SWT.NONE );
+    createGridItems( grid, 3, 0 );
+    grid.setCellSelectionEnabled( true );
+    grid.setCellSelection( new Point[] { new Point( 2, 2 ) } );
+
+    grid.getColumn( 1 ).dispose();
+
+    assertTrue( grid.isCellSelected( new Point( 1, 2 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 2, 2 ) ) );
+  }
+
+  @Test
+  public void testGetCellSelection_returnsCopies() {
+    createGridColumns( grid, 3, SWT.NONE );
+    createGridItems( grid, 3, 0 );
+    grid.setCellSelectionEnabled( true );
+    grid.setCellSelection( new Point[] { new Point( 1, 1 ) } );
+
+    grid.getCellSelection()[ 0 ].x = 2;
+
+    assertTrue( grid.isCellSelected( new Point( 1, 1 ) ) );
+  }
+
   @Test
   public void testIsCellSelectionEnabled_Initial() {
     assertFalse( grid.isCellSelectionEnabled() );
@@ -1594,6 +1642,19 @@ public class Grid_Test {
     assertEquals( 3, grid.getRootItemCount() );
   }
 
+  @Test
+  public void testRemoveByIndices_UnsortedIndices() {
+    GridItem[] items = createGridItems( grid, 3, 3 );
+
+    grid.remove( new int[]{ 1, 9, 5 } );
+
+    assertEquals( 9, grid.getItemCount() );
+    assertTrue( items[ 1 ].isDisposed() );
+    assertTrue( items[ 5 ].isDisposed() );
+    assertTrue( items[ 9 ].isDisposed() );
+    assertEquals( 8, grid.indexOf( items[ 11 ] ) );
+  }
+
   @Test( expected = IllegalArgumentException.class )
   public void testRemoveByIndices_InvalidIndex() {
     createGridItems( grid, 3, 3 );
@@ -1638,6 +1699,27 @@ public class Grid_Test {
     assertTrue( Arrays.equals( indicies, grid.getSelectionIndices() ) );
   }
 
+  @Test
+  public void testGetSelectionIndicies_AfterInsert() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridItems( grid, 3, 3 );
+    grid.setSelection( new int[]{ 5, 1 } );
+
+    new GridItem( grid, SWT.NONE, 0 );
+
+    assertTrue( Arrays.equals( new int[]{ 6, 2 }, grid.getSelectionIndices() ) );
+  }
+
+  @Test
+  public void testGetSelectionIndicies_AfterSelectAll() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridItems( grid, 3, 1 );
+
+    grid.selectAll();
+
+    assertTrue( Arrays.equals( new int[]{ 0, 1, 2, 3, 4, 5 }, grid.getSelectionIndices() ) );
+  }
+
   @Test
   public void testGetSelectionIndicies_WithoutSelection() {
     assertTrue( Arrays.equals( new int[ 0 ], grid.getSelectionIndices() ) );
@@ -2297,6 +2379,53 @@ public class Grid_Test {
     assertEquals( 31, grid.getHeaderHeight() );
   }
 
+  @Test
+  public void testGetHeaderHeight_withWordWrap_afterColumnResize() {
+    grid.setHeaderVisible( true );
+    grid.setAutoHeight( true );
+    GridColumn[] columns = createGridColumns( grid, 3, SWT.NONE );
+    columns[ 1 ].setHeaderWordWrap( true );
+    columns[ 1 ].setText( "foo bar" );
+    // fill the cache
+    grid.getHeaderHeight();
+
+    columns[ 1 ].setWidth( 200 );
+
+    assertEquals( 35, grid.getHeaderHeight() );
+  }
+
+  @Test
+  public void testGetHeaderHeight_afterColumnResize_keepsTextHeightsOfOtherColumns() {
+    grid.setHeaderVisible( true );
+    grid.setAutoHeight( true );
+    GridColumn[] columns = createGridColumns( grid, 3, SWT.NONE );
+    columns[ 0 ].setHeaderWordWrap( true );
+    columns[ 1 ].setHeaderWordWrap( true );
+    grid.getHeaderHeight();
+    Object textHeight0 = grid.layoutCache.headerTextHeights.get( columns[ 0 ] );
+    Object textHeight1 = grid.layoutCache.headerTextHeights.get( columns[ 1 ] );
+
+    columns[ 1 ].setWidth( 200 );
+    grid.getHeaderHeight();
+
+    assertSame( textHeight0, grid.layoutCache.headerTextHeights.get( columns[ 0 ] ) );
+    assertNotSame( textHeight1, grid.layoutCache.headerTextHeights.get( columns[ 1 ] ) );
+  }
+
+  @Test
+  public void testGetHeaderHeight_afterColumnDispose_discardsTextHeights() {
+    grid.setHeaderVisible( true );
+    grid.setFooterVisible( true );
+    GridColumn[] columns = createGridColumns( grid, 3, SWT.NONE );
+    grid.getHeaderHeight();
+    grid.getFooterHeight();
+
+    columns[ 0 ].dispose();
+
+    assertFalse( grid.layoutCache.headerTextHeights.containsKey( columns[ 0 ] ) );
+    assertFalse( grid.layoutCache.footerTextHeights.containsKey( columns[ 0 ] ) );
+  }
+
   @Test
   public void testGetFooterHeight_Initial() {
     createGridColumns( grid, 3, SWT.NONE );
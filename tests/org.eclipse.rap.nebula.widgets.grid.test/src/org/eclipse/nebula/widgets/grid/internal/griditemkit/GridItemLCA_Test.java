@@ -377,7 +377,7 @@ public class GridItemLCA_Test {
 
     TestMessage message = Fixture.getProtocolMessage();
     JsonValue actual = message.findSetProperty( item, "images" );
-    String expected = "[null, null, [\"rwt-resources/generated/90fb0bfe.gif\",58,12]]";
+    String expected = "[null, null, [\"rwt-resources/generated/c337807e.gif\",58,12]]";
     assertEquals( JsonArray.readFrom( expected ), actual );
   }
 
@@ -393,8 +393,8 @@ public class GridItemLCA_Test {
 
     TestMessage message = Fixture.getProtocolMessage();
     JsonValue actual = message.findSetProperty( item, "images" );
-    String expected = "[[\"rwt-resources/generated/90fb0bfe.gif\",58,12], "
-                    + "null, [\"rwt-resources/generated/90fb0bfe.gif\",58,12]]";
+    String expected = "[[\"rwt-resources/generated/c337807e.gif\",58,12], "
+                    + "null, [\"rwt-resources/generated/c337807e.gif\",58,12]]";
     assertEquals( JsonArray.readFrom( expected ), actual );
   }
 
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -32,12 +33,14 @@ import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.Application;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.DefaultEntryPointFactory;
 import org.eclipse.rap.rwt.internal.lifecycle.TestEntryPoint;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
@@ -54,6 +57,7 @@ import org.eclipse.rap.rwt.service.SettingStoreFactory;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.service.UISessionEvent;
 import org.eclipse.rap.rwt.service.UIThreadListener;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
@@ -71,6 +75,7 @@ public class ApplicationContextImpl_Test {
   private static final String STYLE_SHEET = "resources/theme/TestExample.css";
   private static final String STYLE_SHEET_CONTRIBUTION = "resources/theme/TestExample2.css";
   private static final String SERVICE_HANDLER_ID = "SERVICE_HANDLER_ID";
+  private static final String TEXT_SIZE_SNAPSHOT = "ROOT_entryPoint_entryPointViaFactory.textsize";
   private SettingStoreFactory settingStoreFactory;
   private ServiceHandler serviceHandler;
   private ApplicationContextImpl applicationContext;
@@ -274,6 +279,67 @@ public class ApplicationContextImpl_Test {
     checkStartupPageTemplateHasBeenReset();
   }
 
+  @Test
+  public void testDeactivate_savesTextSizeSnapshot() {
+    File directory = new File( Fixture.TEMP_DIR, "textsize" );
+    System.setProperty( RWTProperties.TEXT_SIZE_SNAPSHOT_DIRECTORY, directory.getPath() );
+    try {
+      applicationContext = new ApplicationContextImpl( createConfiguration(), createServletContext() );
+      applicationContext.activate();
+
+      applicationContext.deactivate();
+
+      assertTrue( new File( directory, TEXT_SIZE_SNAPSHOT ).isFile() );
+    } finally {
+      System.clearProperty( RWTProperties.TEXT_SIZE_SNAPSHOT_DIRECTORY );
+      FileUtil.delete( directory );
+    }
+  }
+
+  @Test
+  public void testActivate_withInvalidTextSizeSnapshot() throws IOException {
+    File directory = new File( Fixture.TEMP_DIR, "textsize" );
+    directory.mkdirs();
+    Files.write( new File( directory, TEXT_SIZE_SNAPSHOT ).toPath(), new byte[] { 1, 2, 3 } );
+    System.setProperty( RWTProperties.TEXT_SIZE_SNAPSHOT_DIRECTORY, directory.getPath() );
+    try {
+      ServletContext servletContext = createServletContext();
+      applicationContext = new ApplicationContextImpl( createConfiguration(), servletContext );
+
+      applicationContext.activate();
+
+      assertTrue( applicationContext.isActive() );
+      verify( servletContext ).log( anyString(), any( IOException.class ) );
+    } finally {
+      applicationContext.deactivate();
+      System.clearProperty( RWTProperties.TEXT_SIZE_SNAPSHOT_DIRECTORY );
+      FileUtil.delete( directory );
+    }
+  }
+
+  @Test
+  public void testActivate_withTextSizeSnapshotOfOtherApplication() {
+    File directory = new File( Fixture.TEMP_DIR, "textsize" );
+    System.setProperty( RWTProperties.TEXT_SIZE_SNAPSHOT_DIRECTORY, directory.getPath() );
+    ApplicationContextImpl otherApplicationContext
+      = new ApplicationContextImpl( createConfiguration(), createServletContext() );
+    try {
+      otherApplicationContext.activate();
+      ServletContext servletContext = createServletContext();
+      applicationContext = new ApplicationContextImpl( createConfiguration(), servletContext );
+      applicationContext.activate();
+
+      applicationContext.deactivate();
+
+      verify( servletContext ).log( contains( "used by another application" ) );
+      assertFalse( new File( directory, TEXT_SIZE_SNAPSHOT ).exists() );
+    } finally {
+      otherApplicationContext.deactivate();
+      System.clearProperty( RWTProperties.TEXT_SIZE_SNAPSHOT_DIRECTORY );
+      FileUtil.delete( directory );
+    }
+  }
+
   @Test
   public void testSetToServletContext() {
     ServletContext servletContext = Fixture.createServletContext();
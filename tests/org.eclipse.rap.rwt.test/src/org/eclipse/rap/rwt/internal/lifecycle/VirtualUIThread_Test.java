@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class VirtualUIThread_Test {
+
+  private static final ThreadFactory PLATFORM_THREADS = runnable -> {
+    Thread thread = new Thread( runnable );
+    thread.setDaemon( true );
+    return thread;
+  };
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  @Test
+  public void testGetLock() {
+    VirtualUIThread uiThread = createUIThread( () -> {} );
+
+    assertTrue( uiThread.getLock() instanceof Lock );
+  }
+
+  @Test
+  public void testGetCurrent() throws InterruptedException {
+    AtomicReference<IUIThreadHolder> current = new AtomicReference<>();
+    VirtualUIThread uiThread = createUIThread( () -> {
+      current.set( VirtualUIThread.getCurrent() );
+    } );
+
+    uiThread.getThread().start();
+    uiThread.getThread().join();
+
+    assertSame( uiThread, current.get() );
+  }
+
+  @Test
+  public void testSwitchThread() {
+    StringBuilder log = new StringBuilder();
+    VirtualUIThread uiThread = createParkingUIThread( log, new AtomicInteger() );
+
+    startUIThread( uiThread );
+    log.append( "request" );
+    RWTLifeCycle.runLocked( uiThread, () -> uiThread.switchThread() );
+
+    assertEquals( "uirequestui", log.toString() );
+  }
+
+  @Test
+  public void testTerminateThread() {
+    AtomicInteger terminated = new AtomicInteger();
+    VirtualUIThread uiThread = createParkingUIThread( new StringBuilder(), terminated );
+    uiThread.setUISession( ContextProvider.getUISession() );
+    startUIThread( uiThread );
+
+    uiThread.terminateThread();
+
+    assertFalse( uiThread.getThread().isAlive() );
+    assertEquals( 1, terminated.get() );
+  }
+
+  @Test( timeout = 60000 )
+  public void testSwitchThread_alternatesStrictlyUnderLoad() throws Exception {
+    int requestThreadCount = 4;
+    int uiThreadCount = 200;
+    int rounds = 50;
+    AtomicInteger terminated = new AtomicInteger();
+    AtomicIntegerArray uiSteps = new AtomicIntegerArray( uiThreadCount );
+    List<VirtualUIThread> uiThreads = new ArrayList<>( uiThreadCount );
+    for( int i = 0; i < uiThreadCount; i++ ) {
+      VirtualUIThread uiThread = createCountingUIThread( uiSteps, i, terminated );
+      uiThread.setUISession( ContextProvider.getUISession() );
+      startUIThread( uiThread );
+      uiThreads.add( uiThread );
+    }
+    List<String> violations = Collections.synchronizedList( new ArrayList<String>() );
+
+    ExecutorService requestThreads = Executors.newFixedThreadPool( requestThreadCount );
+    List<Future<?>> results = new ArrayList<>();
+    for( int i = 0; i < uiThreadCount; i++ ) {
+      int index = i;
+      VirtualUIThread uiThread = uiThreads.get( index );
+      results.add( requestThreads.submit( () -> {
+        for( int round = 1; round <= rounds; round++ ) {
+          RWTLifeCycle.runLocked( uiThread, () -> uiThread.switchThread() );
+          // every switch must hand over to exactly one step of the UI thread
+          int steps = uiSteps.get( index );
+          if( steps != round + 1 ) {
+            violations.add( "UI thread " + index + " ran " + steps + " steps in round " + round );
+          }
+        }
+      } ) );
+    }
+    for( Future<?> result : results ) {
+      result.get();
+    }
+    requestThreads.shutdown();
+    for( VirtualUIThread uiThread : uiThreads ) {
+      uiThread.terminateThread();
+    }
+
+    assertEquals( Collections.emptyList(), violations );
+    assertEquals( uiThreadCount, terminated.get() );
+    for( int i = 0; i < uiThreadCount; i++ ) {
+      assertEquals( rounds + 1, uiSteps.get( i ) );
+    }
+  }
+
+  @Test
+  public void testManyParkedUIThreads_occupyFewPlatformThreads() {
+    assumeTrue( VirtualUIThread.isSupported() );
+    int count = 10000;
+    int platformThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+    AtomicInteger terminated = new AtomicInteger();
+    List<VirtualUIThread> uiThreads = new ArrayList<>( count );
+    for( int i = 0; i < count; i++ ) {
+      VirtualUIThread uiThread = createParkingUIThread( new StringBuilder(), terminated );
+      uiThread.setUISession( ContextProvider.getUISession() );
+      startUIThread( uiThread );
+      uiThreads.add( uiThread );
+    }
+
+    int additionalPlatformThreads
+      = ManagementFactory.getThreadMXBean().getThreadCount() - platformThreads;
+    for( VirtualUIThread uiThread : uiThreads ) {
+      uiThread.terminateThread();
+    }
+
+    assertTrue( additionalPlatformThreads < count / 10 );
+    assertEquals( count, terminated.get() );
+  }
+
+  /*
+   * Uses virtual threads where available and daemon platform threads otherwise, the hand-off
+   * protocol is the same.
+   */
+  private static VirtualUIThread createUIThread( Runnable runnable ) {
+    if( VirtualUIThread.isSupported() ) {
+      return new VirtualUIThread( runnable );
+    }
+    return new VirtualUIThread( runnable, PLATFORM_THREADS );
+  }
+
+  private static VirtualUIThread createCountingUIThread( AtomicIntegerArray steps,
+                                                         int index,
+                                                         AtomicInteger terminated )
+  {
+    AtomicReference<VirtualUIThread> holder = new AtomicReference<>();
+    VirtualUIThread result = createUIThread( () -> {
+      VirtualUIThread uiThread = holder.get();
+      try {
+        RWTLifeCycle.runLocked( uiThread, () -> {
+          while( true ) {
+            steps.incrementAndGet( index );
+            uiThread.switchThread();
+          }
+        } );
+      } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError error ) {
+        ContextProvider.releaseContextHolder();
+        terminated.incrementAndGet();
+      }
+    } );
+    holder.set( result );
+    return result;
+  }
+
+  private static VirtualUIThread createParkingUIThread( StringBuilder log,
+                                                        AtomicInteger terminated )
+  {
+    AtomicReference<VirtualUIThread> holder = new AtomicReference<>();
+    VirtualUIThread result = createUIThread( () -> {
+      VirtualUIThread uiThread = holder.get();
+      try {
+        RWTLifeCycle.runLocked( uiThread, () -> {
+          while( true ) {
+            log.append( "ui" );
+            uiThread.switchThread();
+          }
+        } );
+      } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError error ) {
+        ContextProvider.releaseContextHolder();
+        terminated.incrementAndGet();
+      }
+    } );
+    holder.set( result );
+    return result;
+  }
+
+  private static void startUIThread( VirtualUIThread uiThread ) {
+    RWTLifeCycle.runLocked( uiThread, () -> {
+      uiThread.getThread().start();
+      uiThread.switchThread();
+    } );
+  }
+
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StreamingProtocolMessageWriter_Test {
+
+  private ProtocolMessageWriter writer;
+
+  @Before
+  public void setUp() {
+    writer = new StreamingProtocolMessageWriter();
+  }
+
+  @Test
+  public void testEmptyMessage() {
+    Message message = writer.createMessage();
+
+    assertTrue( message.getHead().isEmpty() );
+    assertTrue( message.getOperations().isEmpty() );
+    assertEquals( "{\"head\":{},\"operations\":[]}", message.toString() );
+  }
+
+  @Test
+  public void testCreateMessageTwice() {
+    writer.createMessage();
+    try {
+      writer.createMessage();
+      fail();
+    } catch( IllegalStateException expected ) {
+    }
+  }
+
+  @Test
+  public void testAppendHead() {
+    writer.appendHead( "requestCounter", 1 );
+
+    Message message = writer.createMessage();
+
+    assertEquals( 1, message.getHead().get( "requestCounter" ).asInt() );
+    assertEquals( 1, message.toJson().get( "head" ).asObject().get( "requestCounter" ).asInt() );
+  }
+
+  @Test
+  public void testHeadChangedAfterCreateMessage() {
+    writer.appendDestroy( "w1" );
+    ResponseMessage message = writer.createMessage();
+
+    message.getHead().add( "test", true );
+
+    String expected = "{\"head\":{\"test\":true},\"operations\":[[\"destroy\",\"w1\"]]}";
+    assertEquals( expected, message.toString() );
+    assertEquals( JsonObject.readFrom( expected ), message.toJson() );
+  }
+
+  @Test
+  public void testWriteTo() throws IOException {
+    writer.appendHead( "requestCounter", 1 );
+    writer.appendDestroy( "w1" );
+    ResponseMessage message = writer.createMessage();
+    StringWriter stringWriter = new StringWriter();
+
+    message.writeTo( stringWriter );
+
+    String expected = "{\"head\":{\"requestCounter\":1},\"operations\":[[\"destroy\",\"w1\"]]}";
+    assertEquals( expected, stringWriter.toString() );
+  }
+
+  @Test
+  public void testMergesSetIntoCreate() {
+    writer.appendCreate( "w1", "rwt.widgets.Button" );
+    writer.appendSet( "w1", "text", "foo" );
+
+    Message message = writer.createMessage();
+
+    assertEquals( 1, message.getOperations().size() );
+    CreateOperation operation = ( CreateOperation )message.getOperations().get( 0 );
+    assertEquals( "foo", operation.getProperties().get( "text" ).asString() );
+  }
+
+  @Test
+  public void testMergesConsecutiveSetOperations() {
+    writer.appendSet( "w1", "text", "foo" );
+    writer.appendSet( "w1", "enabled", false );
+    writer.appendSet( "w2", "text", "bar" );
+
+    Message message = writer.createMessage();
+
+    assertEquals( 2, message.getOperations().size() );
+    SetOperation operation = ( SetOperation )message.getOperations().get( 0 );
+    assertEquals( "foo", operation.getProperties().get( "text" ).asString() );
+    assertTrue( operation.getProperties().get( "enabled" ).isFalse() );
+  }
+
+  @Test
+  public void testMergesConsecutiveListenOperations() {
+    writer.appendListen( "w1", "Selection", true );
+    writer.appendListen( "w1", "FocusIn", false );
+
+    Message message = writer.createMessage();
+
+    assertEquals( 1, message.getOperations().size() );
+    ListenOperation operation = ( ListenOperation )message.getOperations().get( 0 );
+    assertTrue( operation.getProperties().get( "Selection" ).isTrue() );
+    assertTrue( operation.getProperties().get( "FocusIn" ).isFalse() );
+  }
+
+  @Test
+  public void testGetOperations_isUnmodifiable() {
+    writer.appendDestroy( "w1" );
+
+    Message message = writer.createMessage();
+    try {
+      message.getOperations().clear();
+      fail();
+    } catch( UnsupportedOperationException expected ) {
+    }
+    assertEquals( 1, message.getOperations().size() );
+  }
+
+  @Test
+  public void testCreatesSameJsonAsProtocolMessageWriter() {
+    ProtocolMessageWriter expected = new ProtocolMessageWriter();
+    appendOperations( expected );
+    appendOperations( writer );
+
+    assertEquals( expected.createMessage().toJson(), writer.createMessage().toJson() );
+  }
+
+  @Test
+  public void testCreateMessage_reusesPooledBuffer() {
+    writer.appendDestroy( "w1" );
+    writer.createMessage();
+
+    ProtocolMessageWriter nextWriter = new StreamingProtocolMessageWriter();
+    nextWriter.appendDestroy( "w2" );
+
+    String expected = "{\"head\":{},\"operations\":[[\"destroy\",\"w2\"]]}";
+    assertEquals( expected, nextWriter.createMessage().toString() );
+  }
+
+  private static void appendOperations( ProtocolMessageWriter writer ) {
+    writer.appendHead( "requestCounter", 23 );
+    writer.appendCreate( "w1", "rwt.widgets.Shell" );
+    writer.appendSet( "w1", "style", "BORDER" );
+    writer.appendListen( "w1", "Activate", true );
+    writer.appendSet( "w2", "bounds", 42 );
+    writer.appendSet( "w2", "visible", true );
+    writer.appendCall( "w1", "focus", new JsonObject().add( "x", 1.5 ) );
+    writer.appendDestroy( "w3" );
+  }
+
+}
@@ -19,6 +19,9 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -26,6 +29,10 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.HttpSessionBindingListener;
 
@@ -46,6 +53,7 @@ import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 
 public class ServerPushManager_Test {
@@ -263,7 +271,7 @@ public class ServerPushManager_Test {
     manager.activateServerPushFor( HANDLE_1 );
 
     // must not block
-    manager.processRequest( ContextProvider.getResponse() );
+    manager.processRequest( ContextProvider.getRequest(), ContextProvider.getResponse() );
   }
 
   @Test
@@ -534,6 +542,121 @@ public class ServerPushManager_Test {
     }
   }
 
+  @Test
+  public void testProcessRequest_suspendsAsyncRequest() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    HttpServletRequest request = mockAsyncRequest( asyncContext );
+    manager.setRequestCheckInterval( 500 );
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).setTimeout( 500 );
+    verify( asyncContext, never() ).complete();
+  }
+
+  @Test
+  public void testProcessRequest_doesNotSuspendAsyncRequestWhenInactive() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    HttpServletRequest request = mockAsyncRequest( asyncContext );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( request, never() ).startAsync();
+  }
+
+  @Test
+  public void testWakeClient_completesSuspendedRequest() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testWakeClient_keepsSuspendedRequestWithoutRunnables() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.wakeClient();
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext, never() ).complete();
+  }
+
+  @Test
+  public void testDeactivateServerPush_completesSuspendedRequest() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessRequest_completesPreviouslySuspendedRequest() {
+    AsyncContext asyncContext1 = mock( AsyncContext.class );
+    AsyncContext asyncContext2 = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext1 ), ContextProvider.getResponse() );
+
+    manager.processRequest( mockAsyncRequest( asyncContext2 ), ContextProvider.getResponse() );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext1 ).complete();
+    verify( asyncContext2, never() ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_completedOnTimeout() throws IOException {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+    ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass( AsyncListener.class );
+    verify( asyncContext ).addListener( listener.capture() );
+
+    listener.getValue().onTimeout( new AsyncEvent( asyncContext ) );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_completedOnSessionTermination() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    ( ( UISessionImpl )ContextProvider.getUISession() ).shutdown();
+
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testSuspendedRequest_releasedOnError() throws IOException {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+    ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass( AsyncListener.class );
+    verify( asyncContext ).addListener( listener.capture() );
+
+    listener.getValue().onError( new AsyncEvent( asyncContext ) );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext, never() ).complete();
+  }
+
   @Test
   public void testResponseHeaders() throws IOException {
     TestResponse response = ( TestResponse )ContextProvider.getResponse();
@@ -591,6 +714,13 @@ public class ServerPushManager_Test {
     ContextProvider.getUISession().setAttribute( "org.eclipse.swt.display", display );
   }
 
+  private static HttpServletRequest mockAsyncRequest( AsyncContext asyncContext ) {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    when( request.isAsyncSupported() ).thenReturn( Boolean.TRUE );
+    when( request.startAsync() ).thenReturn( asyncContext );
+    return request;
+  }
+
   private static ServiceContext createServiceContext( TestResponse response ) {
     UISession uiSession = ContextProvider.getContext().getUISession();
     TestRequest request = new TestRequest();
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.BufferedResponse.Policy;
+import org.junit.After;
+import org.junit.Test;
+
+
+public class BufferedResponse_Test {
+
+  private static final String SMALL_JSON = "{\"head\":{\"requestCounter\":1},\"operations\":[]}";
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.REPLAY_BUFFER_POLICY );
+  }
+
+  @Test
+  public void testCreate_plain() throws IOException {
+    BufferedResponse response = BufferedResponse.create( bytes( SMALL_JSON ), Policy.PLAIN, 0 );
+
+    assertFalse( response.isCompressed() );
+    assertEquals( bytes( SMALL_JSON ).length, response.getSize() );
+    assertEquals( SMALL_JSON, write( response ) );
+  }
+
+  @Test
+  public void testCreate_compressed() throws IOException {
+    String json = createLargeJson();
+
+    BufferedResponse response = BufferedResponse.create( bytes( json ), Policy.COMPRESSED, 0 );
+
+    assertTrue( response.isCompressed() );
+    assertTrue( response.getSize() < json.length() );
+    assertEquals( json, write( response ) );
+  }
+
+  @Test
+  public void testCreate_autoWithoutLimit() {
+    BufferedResponse response
+      = BufferedResponse.create( bytes( createLargeJson() ), Policy.AUTO, 0 );
+
+    assertFalse( response.isCompressed() );
+  }
+
+  @Test
+  public void testCreate_autoWithinLimit() {
+    String json = createLargeJson();
+
+    BufferedResponse response
+      = BufferedResponse.create( bytes( json ), Policy.AUTO, json.length() );
+
+    assertFalse( response.isCompressed() );
+  }
+
+  @Test
+  public void testCreate_autoExceedingLimit() throws IOException {
+    String json = createLargeJson();
+
+    BufferedResponse response
+      = BufferedResponse.create( bytes( json ), Policy.AUTO, json.length() / 2 );
+
+    assertTrue( response.isCompressed() );
+    assertEquals( json, write( response ) );
+  }
+
+  @Test
+  public void testCreate_autoExceedingLimitAfterCompression() {
+    assertNull( BufferedResponse.create( bytes( createLargeJson() ), Policy.AUTO, 10 ) );
+  }
+
+  @Test
+  public void testCreate_none() {
+    assertNull( BufferedResponse.create( bytes( SMALL_JSON ), Policy.NONE, 0 ) );
+  }
+
+  @Test
+  public void testCreate_exceedsLimit() {
+    assertNull( BufferedResponse.create( bytes( SMALL_JSON ), Policy.PLAIN, 10 ) );
+  }
+
+  @Test
+  public void testCreate_withoutLimit() {
+    String json = createLargeJson();
+
+    BufferedResponse response = BufferedResponse.create( bytes( json ), Policy.PLAIN, 0 );
+
+    assertEquals( bytes( json ).length, response.getSize() );
+  }
+
+  @Test
+  public void testCreate_limitAppliesToCompressedSize() {
+    String json = createLargeJson();
+
+    assertNotNull( BufferedResponse.create( bytes( json ), Policy.COMPRESSED, json.length() / 2 ) );
+  }
+
+  @Test
+  public void testCreate_preservesNonAsciiCharacters() throws IOException {
+    String json = "{\"text\":\"äöü €\"}";
+
+    assertEquals( json, write( BufferedResponse.create( bytes( json ), Policy.COMPRESSED, 0 ) ) );
+  }
+
+  @Test
+  public void testGetPolicy_default() {
+    assertEquals( Policy.PLAIN, BufferedResponse.getPolicy() );
+  }
+
+  @Test
+  public void testGetPolicy_fromSystemProperty() {
+    System.setProperty( RWTProperties.REPLAY_BUFFER_POLICY, "Compressed" );
+
+    assertEquals( Policy.COMPRESSED, BufferedResponse.getPolicy() );
+  }
+
+  @Test
+  public void testGetPolicy_withInvalidValue() {
+    System.setProperty( RWTProperties.REPLAY_BUFFER_POLICY, "foo" );
+
+    assertEquals( Policy.PLAIN, BufferedResponse.getPolicy() );
+  }
+
+  private static byte[] bytes( String json ) {
+    return json.getBytes( UTF_8 );
+  }
+
+  private static String write( BufferedResponse response ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    response.writeTo( outputStream );
+    return new String( outputStream.toByteArray(), UTF_8 );
+  }
+
+  private static String createLargeJson() {
+    StringBuilder builder = new StringBuilder( "{\"head\":{},\"operations\":[" );
+    for( int i = 0; i < 1000; i++ ) {
+      builder.append( i == 0 ? "" : "," );
+      builder.append( "[\"set\",\"w" + i + "\",{\"text\":\"foo\"}]" );
+    }
+    return builder.append( "]}" ).toString();
+  }
+
+}
@@ -11,11 +11,15 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.service;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -117,6 +121,130 @@ public class ContextProvider_Test {
     assertFalse( hasContext.get() );
   }
 
+  @Test( expected = IllegalStateException.class )
+  public void testSetContext_withThread_failsIfThreadIsMapped() {
+    Thread thread = new Thread();
+    ContextProvider.setContext( mockServiceContext(), thread );
+
+    ContextProvider.setContext( mockServiceContext(), thread );
+  }
+
+  @Test
+  public void testSetContext_withThread_afterDisposeContext() {
+    Thread thread = new Thread();
+    ContextProvider.setContext( mockServiceContext(), thread );
+    ContextProvider.disposeContext( thread );
+
+    ContextProvider.setContext( mockServiceContext(), thread );
+    ContextProvider.disposeContext( thread );
+  }
+
+  @Test
+  public void testGetContext_withThreads_concurrently() throws Exception {
+    int threadCount = 8;
+    ServiceContext[] serviceContexts = new ServiceContext[ threadCount ];
+    AtomicReferenceArray<ServiceContext> foundContexts = new AtomicReferenceArray<>( threadCount );
+    Thread[] threads = new Thread[ threadCount ];
+    for( int i = 0; i < threadCount; i++ ) {
+      int index = i;
+      threads[ i ] = new Thread( () -> {
+        for( int j = 0; j < 1000; j++ ) {
+          foundContexts.set( index, ContextProvider.getContext() );
+        }
+      } );
+      threads[ i ].setDaemon( true );
+      serviceContexts[ i ] = mockServiceContext();
+      ContextProvider.setContext( serviceContexts[ i ], threads[ i ] );
+    }
+
+    for( Thread thread : threads ) {
+      thread.start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    for( int i = 0; i < threadCount; i++ ) {
+      assertSame( serviceContexts[ i ], foundContexts.get( i ) );
+      ContextProvider.disposeContext( threads[ i ] );
+    }
+    assertFalse( ContextProvider.hasContext() );
+  }
+
+  @Test
+  public void testGetContext_whileOtherThreadsAreMapped() throws Exception {
+    int threadCount = 4;
+    ServiceContext[] serviceContexts = new ServiceContext[ threadCount ];
+    AtomicInteger lostContexts = new AtomicInteger();
+    AtomicBoolean running = new AtomicBoolean( true );
+    Thread[] threads = new Thread[ threadCount ];
+    for( int i = 0; i < threadCount; i++ ) {
+      int index = i;
+      threads[ i ] = new Thread( () -> {
+        while( running.get() ) {
+          if( ContextProvider.getContext() != serviceContexts[ index ] ) {
+            lostContexts.incrementAndGet();
+          }
+        }
+      } );
+      threads[ i ].setDaemon( true );
+      serviceContexts[ i ] = mockServiceContext();
+      ContextProvider.setContext( serviceContexts[ i ], threads[ i ] );
+      threads[ i ].start();
+    }
+
+    // map and dispose many other threads to make the map grow and shrink during lookups
+    try {
+      Thread[] otherThreads = new Thread[ 1000 ];
+      for( int round = 0; round < 10; round++ ) {
+        for( int i = 0; i < otherThreads.length; i++ ) {
+          otherThreads[ i ] = new Thread();
+          ContextProvider.setContext( mockServiceContext(), otherThreads[ i ] );
+        }
+        for( Thread otherThread : otherThreads ) {
+          ContextProvider.disposeContext( otherThread );
+        }
+      }
+    } finally {
+      running.set( false );
+      for( Thread thread : threads ) {
+        thread.join();
+      }
+    }
+
+    assertEquals( 0, lostContexts.get() );
+    for( Thread thread : threads ) {
+      ContextProvider.disposeContext( thread );
+    }
+  }
+
+  @Test
+  public void testKeys_areEqualSymmetrically() {
+    Thread thread = new Thread();
+    ContextProvider.ThreadKey threadKey = new ContextProvider.ThreadKey( thread, null );
+    ContextProvider.LookupKey lookupKey = new ContextProvider.LookupKey( thread );
+
+    assertEquals( threadKey, lookupKey );
+    assertEquals( lookupKey, threadKey );
+    assertEquals( threadKey.hashCode(), lookupKey.hashCode() );
+  }
+
+  @Test
+  public void testKeys_ofCollectedThread() {
+    Thread thread = new Thread();
+    ContextProvider.ThreadKey threadKey = new ContextProvider.ThreadKey( thread, null );
+    ContextProvider.ThreadKey otherThreadKey = new ContextProvider.ThreadKey( thread, null );
+    ContextProvider.LookupKey lookupKey = new ContextProvider.LookupKey( thread );
+
+    threadKey.clear();
+
+    assertEquals( threadKey, threadKey );
+    assertFalse( threadKey.equals( lookupKey ) );
+    assertFalse( lookupKey.equals( threadKey ) );
+    assertFalse( threadKey.equals( otherThreadKey ) );
+    assertFalse( otherThreadKey.equals( threadKey ) );
+  }
+
   private static ServiceContext mockServiceContext() {
     return new ServiceContext( mock( HttpServletRequest.class ),
                                mock( HttpServletResponse.class ),
@@ -38,6 +38,7 @@ import jakarta.servlet.http.HttpSession;
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
@@ -279,6 +280,51 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( firstResponse, secondResponse );
   }
 
+  @Test
+  public void testSendBufferedResponse_withCompressionAboveLimit() throws IOException {
+    System.setProperty( RWTProperties.REPLAY_BUFFER_POLICY, "auto" );
+    System.setProperty( RWTProperties.REPLAY_BUFFER_LIMIT, "1" );
+    try {
+      simulateUiRequest();
+      RequestCounter.getInstance().nextRequestId();
+      int requestCounter = RequestCounter.getInstance().nextRequestId();
+      Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+      service( serviceHandler );
+
+      simulateUiRequest();
+      Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+      service( serviceHandler );
+    } finally {
+      System.clearProperty( RWTProperties.REPLAY_BUFFER_POLICY );
+      System.clearProperty( RWTProperties.REPLAY_BUFFER_LIMIT );
+    }
+
+    // even compressed, the response exceeds the limit and is not kept
+    assertEquals( HttpServletResponse.SC_PRECONDITION_FAILED, getResponse().getStatus() );
+  }
+
+  @Test
+  public void testSendBufferedResponse_withoutReplayBuffer() throws IOException {
+    System.setProperty( RWTProperties.REPLAY_BUFFER_POLICY, "none" );
+    try {
+      simulateUiRequest();
+      RequestCounter.getInstance().nextRequestId();
+      int requestCounter = RequestCounter.getInstance().nextRequestId();
+      Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+      service( serviceHandler );
+
+      simulateUiRequest();
+      Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+      service( serviceHandler );
+    } finally {
+      System.clearProperty( RWTProperties.REPLAY_BUFFER_POLICY );
+    }
+
+    assertEquals( HttpServletResponse.SC_PRECONDITION_FAILED, getResponse().getStatus() );
+    JsonObject message = JsonObject.readFrom( getResponse().getContent() );
+    assertEquals( "invalid request counter", getError( message ) );
+  }
+
   @Test
   public void testWritesValidJson() throws IOException {
     simulateUiRequest();
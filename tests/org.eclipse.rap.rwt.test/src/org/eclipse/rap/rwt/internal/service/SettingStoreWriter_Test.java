@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+
+public class SettingStoreWriter_Test {
+
+  private static final long LONG_DELAY = 60000;
+
+  private final List<String> log = new ArrayList<>();
+  private SettingStoreWriter writer;
+
+  @After
+  public void tearDown() {
+    if( writer != null ) {
+      writer.dispose();
+    }
+  }
+
+  @Test
+  public void testSchedule_withoutDelay() {
+    writer = new SettingStoreWriter( 0, 10 );
+
+    boolean scheduled = writer.schedule( "store", createWrite( "write" ) );
+
+    assertFalse( scheduled );
+    assertFalse( writer.isEnabled() );
+    assertEquals( 0, writer.getPendingCount() );
+  }
+
+  @Test
+  public void testSchedule_coalescesWritesOfSameStore() {
+    writer = new SettingStoreWriter( LONG_DELAY, 10 );
+
+    writer.schedule( "store", createWrite( "first" ) );
+    writer.schedule( "store", createWrite( "second" ) );
+    writer.flush();
+
+    assertEquals( 1, log.size() );
+    assertEquals( "second", log.get( 0 ) );
+  }
+
+  @Test
+  public void testSchedule_withFullQueue() {
+    writer = new SettingStoreWriter( LONG_DELAY, 1 );
+    writer.schedule( "store1", createWrite( "write1" ) );
+
+    boolean scheduled = writer.schedule( "store2", createWrite( "write2" ) );
+
+    assertFalse( scheduled );
+    assertEquals( 1, writer.getPendingCount() );
+  }
+
+  @Test
+  public void testSchedule_withFullQueueReplacesPendingWrite() {
+    writer = new SettingStoreWriter( LONG_DELAY, 1 );
+    writer.schedule( "store", createWrite( "write1" ) );
+
+    boolean scheduled = writer.schedule( "store", createWrite( "write2" ) );
+
+    assertTrue( scheduled );
+    assertEquals( 1, writer.getPendingCount() );
+  }
+
+  @Test
+  public void testSchedule_executesWriteAfterDelay() throws InterruptedException {
+    writer = new SettingStoreWriter( 1, 10 );
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    writer.schedule( "store", new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    } );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testFlushStore() {
+    writer = new SettingStoreWriter( LONG_DELAY, 10 );
+    writer.schedule( "store1", createWrite( "write1" ) );
+    writer.schedule( "store2", createWrite( "write2" ) );
+
+    writer.flush( "store1" );
+
+    assertEquals( 1, log.size() );
+    assertEquals( "write1", log.get( 0 ) );
+    assertEquals( 1, writer.getPendingCount() );
+  }
+
+  @Test
+  public void testFlush_continuesAfterFailedWrite() {
+    writer = new SettingStoreWriter( LONG_DELAY, 10 );
+    writer.schedule( "store1", new Runnable() {
+      @Override
+      public void run() {
+        throw new RuntimeException();
+      }
+    } );
+    writer.schedule( "store2", createWrite( "write2" ) );
+
+    writer.flush();
+
+    assertEquals( 1, log.size() );
+    assertEquals( 0, writer.getPendingCount() );
+  }
+
+  @Test
+  public void testDispose_executesPendingWrites() {
+    writer = new SettingStoreWriter( LONG_DELAY, 10 );
+    writer.schedule( "store", createWrite( "write" ) );
+
+    writer.dispose();
+
+    assertEquals( 1, log.size() );
+    assertEquals( 0, writer.getPendingCount() );
+  }
+
+  @Test
+  public void testSchedule_afterDispose() throws Exception {
+    writer = new SettingStoreWriter( 1, 10 );
+    writer.dispose();
+
+    boolean scheduled = writer.schedule( "store", createWrite( "write" ) );
+
+    assertFalse( scheduled );
+    assertEquals( 0, writer.getPendingCount() );
+    assertNull( getExecutor( writer ) );
+  }
+
+  private static Object getExecutor( SettingStoreWriter writer ) throws Exception {
+    Field field = SettingStoreWriter.class.getDeclaredField( "executor" );
+    field.setAccessible( true );
+    return field.get( writer );
+  }
+
+  private Runnable createWrite( final String name ) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        log.add( name );
+      }
+    };
+  }
+
+}
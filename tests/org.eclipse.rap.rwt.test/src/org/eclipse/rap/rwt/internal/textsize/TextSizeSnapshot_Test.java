@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeSnapshot_Test {
+
+  private static final FontData FONT_DATA_1 = new FontData( "arial", 10, SWT.NORMAL );
+  private static final FontData FONT_DATA_2 = new FontData( "helvetia", 12, SWT.BOLD );
+  private static final ProbeResult PROBE_RESULT
+    = new ProbeResult( new Probe( FONT_DATA_1 ), new Point( 2, 10 ) );
+
+  private File tempDir;
+  private File file;
+  private TextSizeStorage storage;
+
+  @Before
+  public void setUp() {
+    tempDir = FileUtil.createTempDir();
+    file = new File( tempDir, "textsize.snapshot" );
+    storage = new TextSizeStorage();
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( tempDir );
+  }
+
+  @Test
+  public void testSaveAndLoad() throws IOException {
+    TextSizeKey key = createKey( FONT_DATA_1, "foo" );
+    storage.storeFont( FONT_DATA_1 );
+    storage.storeFont( FONT_DATA_2 );
+    storage.storeTextSize( key, new Point( 23, 42 ) );
+
+    TextSizeSnapshot.save( storage, file );
+    TextSizeStorage restored = new TextSizeStorage();
+    TextSizeSnapshot.load( restored, file );
+
+    assertEquals( asSet( storage.getFontList() ), asSet( restored.getFontList() ) );
+    assertEquals( new Point( 23, 42 ), restored.lookupTextSize( key ) );
+  }
+
+  @Test
+  public void testSaveAndLoad_preservesAllKeyParts() throws IOException {
+    TextSizeKey key = new TextSizeKey( PROBE_RESULT, FONT_DATA_2, "foo\nbar \u20ac", 100, 2 );
+    storage.storeTextSize( key, new Point( 23, 42 ) );
+
+    TextSizeSnapshot.save( storage, file );
+    TextSizeStorage restored = new TextSizeStorage();
+    TextSizeSnapshot.load( restored, file );
+
+    assertEquals( new Point( 23, 42 ), restored.lookupTextSize( key ) );
+    assertNull( restored.lookupTextSize( createKey( FONT_DATA_2, "foo\nbar \u20ac" ) ) );
+  }
+
+  @Test
+  public void testSave_doesNotLeaveTemporaryFile() throws IOException {
+    TextSizeSnapshot.save( storage, file );
+
+    assertArrayEquals( new String[] { file.getName() }, tempDir.list() );
+  }
+
+  @Test
+  public void testSave_replacesExistingSnapshot() throws IOException {
+    storage.storeTextSize( createKey( FONT_DATA_1, "foo" ), new Point( 1, 1 ) );
+    TextSizeSnapshot.save( storage, file );
+
+    TextSizeSnapshot.save( new TextSizeStorage(), file );
+    TextSizeStorage restored = new TextSizeStorage();
+    TextSizeSnapshot.load( restored, file );
+
+    assertEquals( 0, restored.size() );
+  }
+
+  @Test
+  public void testLoad_withMissingFile() throws IOException {
+    TextSizeSnapshot.load( storage, file );
+
+    assertEquals( 0, storage.size() );
+  }
+
+  @Test
+  public void testLoad_withInvalidFile() throws IOException {
+    try( FileOutputStream out = new FileOutputStream( file ) ) {
+      out.write( new byte[] { 1, 2, 3 } );
+    }
+
+    try {
+      TextSizeSnapshot.load( storage, file );
+      fail();
+    } catch( IOException expected ) {
+    }
+    assertEquals( 0, storage.size() );
+    assertEquals( 0, storage.getFontList().length );
+  }
+
+  @Test
+  public void testLoad_withOversizedCount() throws IOException {
+    // magic, version and a font table count above the limit
+    writeInts( 0x52545353, 1, Integer.MAX_VALUE );
+
+    try {
+      TextSizeSnapshot.load( storage, file );
+      fail();
+    } catch( IOException expected ) {
+    }
+    assertEquals( 0, storage.getFontList().length );
+  }
+
+  @Test
+  public void testLoad_withOversizedStringLength() throws IOException {
+    // magic, version, one table font and the length of its name
+    writeInts( 0x52545353, 1, 1, TextSizeSnapshot.MAX_STRING_LENGTH + 1 );
+
+    try {
+      TextSizeSnapshot.load( storage, file );
+      fail();
+    } catch( IOException expected ) {
+    }
+    assertEquals( 0, storage.getFontList().length );
+  }
+
+  @Test
+  public void testSave_skipsOversizedText() throws IOException {
+    char[] chars = new char[ TextSizeSnapshot.MAX_STRING_LENGTH + 1 ];
+    Arrays.fill( chars, 'x' );
+    storage.storeTextSize( createKey( FONT_DATA_1, new String( chars ) ), new Point( 1, 1 ) );
+    storage.storeTextSize( createKey( FONT_DATA_1, "foo" ), new Point( 2, 2 ) );
+
+    TextSizeSnapshot.save( storage, file );
+    TextSizeStorage restored = new TextSizeStorage();
+    TextSizeSnapshot.load( restored, file );
+
+    assertEquals( 1, restored.size() );
+    assertEquals( new Point( 2, 2 ), restored.lookupTextSize( createKey( FONT_DATA_1, "foo" ) ) );
+  }
+
+  @Test
+  public void testGetFileName() {
+    String fileName = TextSizeSnapshot.getFileName( "/myapp", Arrays.asList( "/app", "/admin" ) );
+
+    assertEquals( "myapp_admin_app.textsize", fileName );
+  }
+
+  @Test
+  public void testGetFileName_withoutContextPath() {
+    String fileName = TextSizeSnapshot.getFileName( "", Arrays.asList( "/app" ) );
+
+    assertEquals( "ROOT_app.textsize", fileName );
+  }
+
+  @Test
+  public void testAcquire() {
+    try {
+      assertTrue( TextSizeSnapshot.acquire( file ) );
+      assertFalse( TextSizeSnapshot.acquire( new File( tempDir, file.getName() ) ) );
+    } finally {
+      TextSizeSnapshot.release( file );
+    }
+  }
+
+  @Test
+  public void testAcquire_afterRelease() {
+    TextSizeSnapshot.acquire( file );
+    TextSizeSnapshot.release( file );
+
+    try {
+      assertTrue( TextSizeSnapshot.acquire( file ) );
+    } finally {
+      TextSizeSnapshot.release( file );
+    }
+  }
+
+  @Test
+  public void testSave_createsDirectory() throws IOException {
+    File nestedFile = new File( new File( tempDir, "nested" ), file.getName() );
+
+    TextSizeSnapshot.save( storage, nestedFile );
+
+    assertTrue( nestedFile.isFile() );
+  }
+
+  private void writeInts( int... values ) throws IOException {
+    try( DataOutputStream out
+           = new DataOutputStream( new GZIPOutputStream( new FileOutputStream( file ) ) ) )
+    {
+      for( int value : values ) {
+        out.writeInt( value );
+      }
+    }
+  }
+
+  private static Set<FontData> asSet( FontData[] fontDatas ) {
+    return new HashSet<>( Arrays.asList( fontDatas ) );
+  }
+
+  private static TextSizeKey createKey( FontData fontData, String text ) {
+    return new TextSizeKey( PROBE_RESULT, fontData, text, SWT.DEFAULT, 0 );
+  }
+
+}
@@ -110,7 +110,7 @@ public class TextSizeStorageUtil_Test {
 
   @Test
   public void testGetKey() {
-    Set<Integer> takenKeys = new HashSet<Integer>();
+    Set<TextSizeKey> takenKeys = new HashSet<TextSizeKey>();
     StringBuilder generatedText = new StringBuilder();
     for( int i = 0; i < 100; i++ ) {
       generatedText.append( "a" );
@@ -118,12 +118,31 @@ public class TextSizeStorageUtil_Test {
       Probe probe = new Probe( text, FONT_DATA );
       Point size = new Point( 1, 2 );
       ProbeResultStore.getInstance().createProbeResult( probe, size );
-      Integer key = TextSizeStorageUtil.getKey( FONT_DATA, text, SWT.DEFAULT, MODE );
+      TextSizeKey key = TextSizeStorageUtil.getKey( FONT_DATA, text, SWT.DEFAULT, MODE );
       assertFalse( takenKeys.contains( key ) );
       takenKeys.add( key );
     }
   }
 
+  @Test
+  public void testGetKey_withCollidingHashCodes() {
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+    // "Aa" and "BB" have the same String#hashCode
+    TextSizeKey key1 = TextSizeStorageUtil.getKey( FONT_DATA, "Aa", SWT.DEFAULT, MODE );
+    TextSizeKey key2 = TextSizeStorageUtil.getKey( FONT_DATA, "BB", SWT.DEFAULT, MODE );
+
+    assertEquals( key1.hashCode(), key2.hashCode() );
+    assertNotEquals( key1, key2 );
+  }
+
+  @Test
+  public void testLookup_withCollidingHashCodes() {
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+    TextSizeStorageUtil.store( FONT_DATA, "Aa", SWT.DEFAULT, MODE, new Point( 10, 10 ) );
+
+    assertNull( TextSizeStorageUtil.lookup( FONT_DATA, "BB", SWT.DEFAULT, MODE ) );
+  }
+
   @Test
   public void testSessionScopedStore() {
     Point storedSize = new Point( 100, 10 );
@@ -31,8 +31,10 @@ import org.junit.Test;
 public class TextSizeStorage_Test {
   private static final FontData FONT_DATA_1 = new FontData( "arial", 10, SWT.NORMAL );
   private static final FontData FONT_DATA_2 = new FontData( "helvetia", 12, SWT.NORMAL );
-  private static final Integer KEY_FIRST = new Integer( 0 );
-  private static final Integer KEY_OVERFLOW = new Integer( Integer.MAX_VALUE );
+  private static final ProbeResult PROBE_RESULT
+    = new ProbeResult( new Probe( FONT_DATA_1 ), new Point( 2, 10 ) );
+  private static final TextSizeKey KEY_FIRST = createKey( 0 );
+  private static final TextSizeKey KEY_OVERFLOW = createKey( Integer.MAX_VALUE );
   private static final Point SIZE_FIRST = new Point( 0, 0 );
   private static final Point SIZE_OVERFLOW = new Point( -1, -1 );
   private static final String STORE_SIZE_SYSPROP = "org.eclipse.rap.rwt.textSizeStoreSize";
@@ -64,7 +66,7 @@ public class TextSizeStorage_Test {
 
   @Test
   public void testTextSizeStorage() {
-    Integer key = new Integer( 1 );
+    TextSizeKey key = createKey( 1 );
     Point size = new Point( 1, 4 );
     storage.storeTextSize( key, size );
 
@@ -76,6 +78,7 @@ public class TextSizeStorage_Test {
 
   @Test
   public void testStorageOverflowHandling() {
+    storage = new TextSizeStorage( 1 );
     populateUntilOverflowThresholdIsReached();
     updateTimestampOnFirstEntry();
 
@@ -86,6 +89,31 @@ public class TextSizeStorage_Test {
     checkRangeCleanup();
   }
 
+  @Test
+  public void testStorageOverflowHandling_withSegments() {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+
+    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE * 3; i++ ) {
+      storage.storeTextSize( createKey( i ), new Point( i, i ) );
+    }
+
+    assertTrue( storage.size() <= TextSizeStorage.MIN_STORE_SIZE );
+    assertEquals( TextSizeStorage.MIN_STORE_SIZE * 3 - storage.size(), storage.getEvictionCount() );
+  }
+
+  @Test
+  public void testLookupTextSize_countsHitsAndMisses() {
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_FIRST );
+    storage.lookupTextSize( KEY_OVERFLOW );
+
+    assertEquals( 2, storage.getHitCount() );
+    assertEquals( 1, storage.getMissCount() );
+    assertEquals( 0, storage.getEvictionCount() );
+  }
+
   @Test
   public void testMaximumStoreSize() {
     int maximumStoreSize = 2000;
@@ -95,6 +123,21 @@ public class TextSizeStorage_Test {
     assertEquals( maximumStoreSize, storage.getMaximumStoreSize() );
   }
 
+  @Test
+  public void testMaximumStoreSize_shrinksStore() {
+    storage = new TextSizeStorage( 1 );
+    storage.setMaximumStoreSize( 2000 );
+    for( int i = 0; i < 2000; i++ ) {
+      storage.storeTextSize( createKey( i ), new Point( i, i ) );
+    }
+
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+
+    assertEquals( TextSizeStorage.MIN_STORE_SIZE, storage.size() );
+    assertNull( storage.lookupTextSize( createKey( 999 ) ) );
+    assertEquals( new Point( 1000, 1000 ), storage.lookupTextSize( createKey( 1000 ) ) );
+  }
+
   @Test
   public void testSetTooSmallMaximumStoreSize() {
     try {
@@ -119,8 +162,8 @@ public class TextSizeStorage_Test {
 
   private void populateUntilOverflowThresholdIsReached() {
     storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
-    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE - 1; i++ ) {
-      Integer key = new Integer( i );
+    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE; i++ ) {
+      TextSizeKey key = createKey( i );
       Point point = new Point( i, i );
       storage.storeTextSize( key, point );
     }
@@ -131,12 +174,13 @@ public class TextSizeStorage_Test {
   }
 
   private void checkRangeCleanup() {
-    assertNull( storage.lookupTextSize( new Integer( 99 ) ) );
+    assertNull( storage.lookupTextSize( createKey( 1 ) ) );
+    assertEquals( 1, storage.getEvictionCount() );
   }
 
   private void checkLatestEntriesExist() {
     assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_OVERFLOW ) );
-    assertEquals( new Point( 101, 101 ), storage.lookupTextSize( new Integer( 101 ) ) );
+    assertEquals( new Point( 2, 2 ), storage.lookupTextSize( createKey( 2 ) ) );
   }
 
   private void checkTimestampOrdering() {
@@ -146,4 +190,8 @@ public class TextSizeStorage_Test {
   private void forceOverflow() {
     storage.storeTextSize( KEY_OVERFLOW, SIZE_OVERFLOW );
   }
+
+  private static TextSizeKey createKey( int index ) {
+    return new TextSizeKey( PROBE_RESULT, FONT_DATA_1, "text" + index, SWT.DEFAULT, 0 );
+  }
 }
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
+import org.junit.Test;
+
+
+public class CssValueTable_Test {
+
+  private static final CssColor RED = CssColor.valueOf( "red" );
+  private static final CssColor BLUE = CssColor.valueOf( "blue" );
+  private static final CssColor GREEN = CssColor.valueOf( "green" );
+
+  @Test
+  public void testGetValues_appendsFallbackValues() {
+    ConditionalValue value = new ConditionalValue( RED, "[BORDER" );
+    ConditionalValue fallbackValue = new ConditionalValue( BLUE );
+
+    CssValueTable table = new CssValueTable( values( value ), values( fallbackValue ) );
+
+    assertArrayEquals( values( value, fallbackValue ), table.getValues() );
+  }
+
+  @Test
+  public void testGetValues_withoutValues() {
+    CssValueTable table = new CssValueTable( null, null );
+
+    assertEquals( 0, table.getValues().length );
+    assertNull( table.select( 0 ) );
+  }
+
+  @Test
+  public void testGetConstraints_areDistinct() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[BORDER", ":hover" ),
+      new ConditionalValue( BLUE, "[BORDER" )
+    };
+    ConditionalValue[] fallbackValues = { new ConditionalValue( GREEN, ":hover" ) };
+
+    CssValueTable table = new CssValueTable( values, fallbackValues );
+
+    assertArrayEquals( new String[] { "[BORDER", ":hover" }, table.getConstraints() );
+  }
+
+  @Test
+  public void testSelect_returnsFirstMatch() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[BORDER", ":hover" ),
+      new ConditionalValue( BLUE, "[BORDER" ),
+      new ConditionalValue( GREEN )
+    };
+
+    CssValueTable table = new CssValueTable( values, null );
+
+    assertSame( RED, table.select( 3 ) );
+    assertSame( BLUE, table.select( 1 ) );
+    assertSame( GREEN, table.select( 2 ) );
+    assertSame( GREEN, table.select( 0 ) );
+  }
+
+  @Test
+  public void testSelect_fallsBackToFallbackValues() {
+    CssValueTable table = new CssValueTable( values( new ConditionalValue( RED, ":hover" ) ),
+                                             values( new ConditionalValue( BLUE ) ) );
+
+    assertSame( RED, table.select( 1 ) );
+    assertSame( BLUE, table.select( 0 ) );
+  }
+
+  @Test
+  public void testSelect_withoutMatch() {
+    CssValueTable table = new CssValueTable( values( new ConditionalValue( RED, ":hover" ) ),
+                                             null );
+
+    assertNull( table.select( 0 ) );
+  }
+
+  @Test
+  public void testSelect_withManyConstraints() {
+    CssValueTable table = new CssValueTable( createValues( 20 ), null );
+
+    assertTrue( table.isCompiled() );
+    assertSame( RED, table.select( 1L << 19 ) );
+    assertNull( table.select( 1L << 20 ) );
+  }
+
+  @Test
+  public void testIsCompiled_withTooManyConstraints() {
+    CssValueTable table = new CssValueTable( createValues( 65 ), null );
+
+    assertFalse( table.isCompiled() );
+  }
+
+  private static ConditionalValue[] createValues( int count ) {
+    ConditionalValue[] result = new ConditionalValue[ count ];
+    for( int i = 0; i < count; i++ ) {
+      result[ i ] = new ConditionalValue( RED, ".variant" + i );
+    }
+    return result;
+  }
+
+  private static ConditionalValue[] values( ConditionalValue... values ) {
+    return values;
+  }
+
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StyleSheetCache_Test {
+
+  private static final String DEFAULT_THEME_CSS = "resource/theme/default.css";
+
+  private StyleSheetCache cache;
+
+  @Before
+  public void setUp() {
+    cache = new StyleSheetCache( ThemeManager.STANDARD_RESOURCE_LOADER );
+  }
+
+  @Test
+  public void testReadStyleSheet() throws IOException {
+    StyleSheet styleSheet = cache.readStyleSheet( createStream( "Button { color: red; }" ), "a.css" );
+
+    assertEquals( 1, styleSheet.getStyleRules().length );
+  }
+
+  @Test
+  public void testReadStyleSheet_returnsCachedStyleSheetForSameContent() throws IOException {
+    StyleSheet styleSheet1 = cache.readStyleSheet( createStream( "Button { color: red; }" ), "a.css" );
+    StyleSheet styleSheet2 = cache.readStyleSheet( createStream( "Button { color: red; }" ), "a.css" );
+
+    assertSame( styleSheet1, styleSheet2 );
+    assertEquals( 1, cache.size() );
+  }
+
+  @Test
+  public void testReadStyleSheet_parsesChangedContent() throws IOException {
+    StyleSheet styleSheet1 = cache.readStyleSheet( createStream( "Button { color: red; }" ), "a.css" );
+    StyleSheet styleSheet2 = cache.readStyleSheet( createStream( "Label { color: red; }" ), "a.css" );
+
+    assertNotSame( styleSheet1, styleSheet2 );
+    assertEquals( 2, cache.size() );
+  }
+
+  @Test
+  public void testReadStyleSheet_distinguishesFileNames() throws IOException {
+    StyleSheet styleSheet1 = cache.readStyleSheet( createStream( "Button { color: red; }" ), "a.css" );
+    StyleSheet styleSheet2 = cache.readStyleSheet( createStream( "Button { color: red; }" ), "b.css" );
+
+    assertNotSame( styleSheet1, styleSheet2 );
+  }
+
+  @Test
+  public void testReadStyleSheet_fromLoader() throws IOException {
+    StyleSheet styleSheet1 = cache.readStyleSheet( DEFAULT_THEME_CSS );
+    StyleSheet styleSheet2 = cache.readStyleSheet( DEFAULT_THEME_CSS );
+
+    assertSame( styleSheet1, styleSheet2 );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testReadStyleSheet_failsWithMissingResource() throws IOException {
+    cache.readStyleSheet( "does/not/exist.css" );
+  }
+
+  private static InputStream createStream( String css ) {
+    return new ByteArrayInputStream( css.getBytes( UTF_8 ) );
+  }
+
+}
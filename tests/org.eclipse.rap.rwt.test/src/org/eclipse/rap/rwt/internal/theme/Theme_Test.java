@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.theme.ThemeTestUtil.RESOURCE_LOADER;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -79,6 +80,37 @@ public class Theme_Test {
     assertEquals( "#aaaaaa", values[ 1 ].value.toDefaultString() );
   }
 
+  @Test
+  public void testGetValueTable_appendsFallbackValues() throws Exception {
+    String css = "Button.special { color: #bbbbbb; }\n";
+    Theme theme = new Theme( "some.id", "Test", ThemeTestUtil.createStyleSheet( css ) );
+    String fallbackCss = "Button { color: #aaaaaa; }\n";
+    StyleSheet fallbackStyleSheet = ThemeTestUtil.createStyleSheet( fallbackCss );
+    Theme fallbackTheme = new Theme( "fallback.id", "Fallback", fallbackStyleSheet );
+    ThemeableWidget[] widgets = new ThemeableWidget[] { createSimpleButtonWidget() };
+    theme.initialize( widgets );
+    fallbackTheme.initialize( widgets );
+
+    CssValueTable table = theme.getValueTable( "Button", "color", fallbackTheme );
+
+    ConditionalValue[] values = table.getValues();
+    assertEquals( 2, values.length );
+    assertEquals( "#bbbbbb", values[ 0 ].value.toDefaultString() );
+    assertEquals( "#aaaaaa", values[ 1 ].value.toDefaultString() );
+  }
+
+  @Test
+  public void testGetValueTable_isCached() throws Exception {
+    StyleSheet styleSheet = ThemeTestUtil.createStyleSheet( "Button { color: #aaaaaa; }\n" );
+    Theme theme = new Theme( "some.id", "Test", styleSheet );
+    theme.initialize( new ThemeableWidget[] { createSimpleButtonWidget() } );
+
+    CssValueTable table = theme.getValueTable( "Button", "color", theme );
+
+    assertSame( table, theme.getValueTable( "Button", "color", theme ) );
+    assertEquals( 1, table.getValues().length );
+  }
+
   @Test( expected = IllegalStateException.class )
   public void test_Uninitialized() throws Exception {
     StyleSheet styleSheet = ThemeTestUtil.getStyleSheet( TEST_SYNTAX_CSS );
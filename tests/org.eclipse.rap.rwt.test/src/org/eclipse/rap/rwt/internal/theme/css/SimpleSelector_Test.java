@@ -13,6 +13,7 @@ package org.eclipse.rap.rwt.internal.theme.css;
 import static org.junit.Assert.assertEquals;
 
 import org.eclipse.rap.rwt.internal.theme.CssColor;
+import org.eclipse.rap.rwt.internal.theme.CssValueTable;
 import org.eclipse.rap.rwt.internal.theme.SimpleSelector;
 import org.junit.Test;
 
@@ -47,4 +48,16 @@ public class SimpleSelector_Test {
     assertEquals( RED, selector.select( null, values ) );
   }
 
+  @Test
+  public void testSelect_withTable() {
+    ConditionalValue value1 = new ConditionalValue( RED, "[BORDER", ":selected" );
+    ConditionalValue value2 = new ConditionalValue( BLUE, ".special" );
+    ConditionalValue value3 = new ConditionalValue( GREEN );
+    CssValueTable table = new CssValueTable( new ConditionalValue[] { value1, value2 },
+                                             new ConditionalValue[] { value3 } );
+
+    assertEquals( RED, new SimpleSelector( "[BORDER", ":selected" ).select( null, table ) );
+    assertEquals( GREEN, SimpleSelector.DEFAULT.select( null, table ) );
+  }
+
 }
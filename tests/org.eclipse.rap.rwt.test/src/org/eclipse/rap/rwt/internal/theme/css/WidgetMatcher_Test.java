@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.theme.CssColor;
 import org.eclipse.rap.rwt.internal.theme.CssValue;
+import org.eclipse.rap.rwt.internal.theme.CssValueTable;
 import org.eclipse.rap.rwt.internal.theme.WidgetMatcher;
 import org.eclipse.rap.rwt.internal.theme.WidgetMatcher.Constraint;
 import org.eclipse.rap.rwt.testfixture.TestContext;
@@ -168,4 +169,111 @@ public class WidgetMatcher_Test {
     assertEquals( BLUE, result );
   }
 
+  @Test
+  public void testSelect_withTable_returnsFirstMatch() {
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    matcher.addStyle( "PUSH", SWT.PUSH );
+    matcher.addState( "selected", ALWAYS_FALSE );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[BORDER", "[PUSH", ":selected" ),
+      new ConditionalValue( BLUE, "[BORDER", "[PUSH" ),
+      new ConditionalValue( GREEN, "[BORDER" )
+    };
+    Widget widget = new Button( shell, SWT.PUSH | SWT.BORDER );
+
+    CssValue result = matcher.select( widget, new CssValueTable( values, null ) );
+
+    assertEquals( BLUE, result );
+  }
+
+  @Test
+  public void testSelect_withTable_fallsBackToFallbackValues() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    widget.setData( RWT.CUSTOM_VARIANT, "special" );
+    ConditionalValue[] values = { new ConditionalValue( RED, ".other" ) };
+    ConditionalValue[] fallbackValues = {
+      new ConditionalValue( BLUE, ".special" ),
+      new ConditionalValue( GREEN )
+    };
+
+    CssValue result = matcher.select( widget, new CssValueTable( values, fallbackValues ) );
+
+    assertSame( BLUE, result );
+  }
+
+  @Test
+  public void testSelect_withTable_evaluatesStatesOnEveryCall() {
+    final boolean[] selected = { false };
+    matcher.addStyle( "PUSH", SWT.PUSH );
+    matcher.addState( "selected", new Constraint() {
+      @Override
+      public boolean matches( Widget widget ) {
+        return selected[ 0 ];
+      }
+    } );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[PUSH", ":selected" ),
+      new ConditionalValue( BLUE, "[PUSH" )
+    };
+    CssValueTable table = new CssValueTable( values, null );
+    Widget widget = new Button( shell, SWT.PUSH );
+
+    CssValue unselected = matcher.select( widget, table );
+    selected[ 0 ] = true;
+    CssValue result = matcher.select( widget, table );
+
+    assertSame( BLUE, unselected );
+    assertSame( RED, result );
+  }
+
+  @Test
+  public void testSelect_withTable_afterVariantChange() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ".special" ),
+      new ConditionalValue( BLUE )
+    };
+    CssValueTable table = new CssValueTable( values, null );
+    Widget widget = new Button( shell, SWT.PUSH );
+
+    CssValue withoutVariant = matcher.select( widget, table );
+    widget.setData( RWT.CUSTOM_VARIANT, "special" );
+    CssValue result = matcher.select( widget, table );
+
+    assertSame( BLUE, withoutVariant );
+    assertSame( RED, result );
+  }
+
+  @Test
+  public void testSelect_withTable_distinguishesStyles() {
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[BORDER" ),
+      new ConditionalValue( BLUE )
+    };
+    CssValueTable table = new CssValueTable( values, null );
+
+    CssValue withoutBorder = matcher.select( new Button( shell, SWT.PUSH ), table );
+    CssValue result = matcher.select( new Button( shell, SWT.PUSH | SWT.BORDER ), table );
+
+    assertSame( BLUE, withoutBorder );
+    assertSame( RED, result );
+  }
+
+  @Test
+  public void testSelect_withTable_usesStylesAddedLater() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[BORDER" ),
+      new ConditionalValue( BLUE )
+    };
+    CssValueTable table = new CssValueTable( values, null );
+    Widget widget = new Button( shell, SWT.PUSH | SWT.BORDER );
+
+    CssValue beforeStyleAdded = matcher.select( widget, table );
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    CssValue result = matcher.select( widget, table );
+
+    assertSame( BLUE, beforeStyleAdded );
+    assertSame( RED, result );
+  }
+
 }
@@ -12,12 +12,14 @@
 package org.eclipse.rap.rwt.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.util.Enumeration;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -285,6 +287,23 @@ public class FileSettingStore_Test {
     assertNotNull( lastEvent.getNewValue() );
   }
 
+  @Test
+  public void testSetAttribute_replacesStoreFile() throws Exception {
+    File workDir = new File( Fixture.TEMP_DIR, createUniqueId() );
+    workDir.mkdirs();
+    SettingStore fileStore = new FileSettingStore( workDir );
+    fileStore.loadById( "storeId" );
+
+    fileStore.setAttribute( "key", "value" );
+    fileStore.setAttribute( "key", "value2" );
+
+    assertEquals( 1, workDir.list().length );
+    assertFalse( new File( workDir, "storeId.tmp" ).exists() );
+    SettingStore otherStore = new FileSettingStore( workDir );
+    otherStore.loadById( "storeId" );
+    assertEquals( "value2", otherStore.getAttribute( "key" ) );
+  }
+
   @Test
   public void testGetId() {
     assertNotNull( store.getId() );
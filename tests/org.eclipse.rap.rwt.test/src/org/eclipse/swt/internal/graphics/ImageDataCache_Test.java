@@ -13,16 +13,22 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Map;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -62,6 +68,19 @@ public class ImageDataCache_Test {
     assertNull( cache.getImageData( internalImage ) );
   }
 
+  @Test
+  public void testIconWithAlphaIsCached() {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = new ImageData( 16, 16, 32, new PaletteData( 0xFF, 0xFF00, 0xFF0000 ) );
+    imageData.alphaData = new byte[ 16 * 16 ];
+    InternalImage internalImage = new InternalImage( "testpath", 16, 16, false );
+
+    cache.putImageData( internalImage, imageData );
+
+    assertNotNull( cache.getImageData( internalImage ) );
+    assertEquals( 1280, cache.getByteSize() );
+  }
+
   @Test
   public void testSafeCopiesReturned() throws IOException {
     ImageDataCache cache = new ImageDataCache();
@@ -88,6 +107,150 @@ public class ImageDataCache_Test {
     assertEqualsImageData( copyData1, copyData2 );
   }
 
+  @Test
+  public void testEvictsWhenCacheSizeIsExceeded() {
+    ImageDataCache cache = new ImageDataCache( 300, 200, false );
+    InternalImage image1 = createInternalImage();
+    InternalImage image2 = createInternalImage();
+    InternalImage image3 = createInternalImage();
+
+    cache.putImageData( image1, createImageData( 100 ) );
+    cache.putImageData( image2, createImageData( 100 ) );
+    cache.putImageData( image3, createImageData( 160 ) );
+
+    assertNull( cache.getImageData( image1 ) );
+    assertNotNull( cache.getImageData( image2 ) );
+    assertNotNull( cache.getImageData( image3 ) );
+    assertEquals( 260, cache.getByteSize() );
+    assertEquals( 1, cache.getEvictionCount() );
+  }
+
+  @Test
+  public void testKeepsRecentlyUsedEntries() {
+    ImageDataCache cache = new ImageDataCache( 300, 200, false );
+    InternalImage image1 = createInternalImage();
+    InternalImage image2 = createInternalImage();
+    InternalImage image3 = createInternalImage();
+    cache.putImageData( image1, createImageData( 100 ) );
+    cache.putImageData( image2, createImageData( 100 ) );
+
+    cache.getImageData( image1 );
+    cache.putImageData( image3, createImageData( 160 ) );
+
+    assertNotNull( cache.getImageData( image1 ) );
+    assertNull( cache.getImageData( image2 ) );
+    assertNotNull( cache.getImageData( image3 ) );
+  }
+
+  @Test
+  public void testReplaceEntry() {
+    ImageDataCache cache = new ImageDataCache( 300, 200, false );
+    InternalImage image = createInternalImage();
+
+    cache.putImageData( image, createImageData( 100 ) );
+    cache.putImageData( image, createImageData( 160 ) );
+
+    assertEquals( 1, cache.size() );
+    assertEquals( 160, cache.getByteSize() );
+  }
+
+  @Test
+  public void testStatistics() {
+    ImageDataCache cache = new ImageDataCache( 300, 200, false );
+    InternalImage image = createInternalImage();
+    cache.putImageData( image, createImageData( 100 ) );
+
+    cache.getImageData( image );
+    cache.getImageData( image );
+    cache.getImageData( image );
+    cache.getImageData( createInternalImage() );
+
+    assertEquals( 1, cache.size() );
+    assertEquals( 3, cache.getHitCount() );
+    assertEquals( 1, cache.getMissCount() );
+    assertEquals( 0.75, cache.getHitRate(), 0.001 );
+  }
+
+  @Test
+  public void testSoftValues() {
+    ImageDataCache cache = new ImageDataCache( 300, 200, true );
+    InternalImage image = createInternalImage();
+    ImageData imageData = createImageData( 100 );
+
+    cache.putImageData( image, imageData );
+
+    assertEqualsImageData( imageData, cache.getImageData( image ) );
+  }
+
+  @Test
+  public void testClearedSoftValueIsNotCounted() throws Exception {
+    ImageDataCache cache = new ImageDataCache( 300, 200, true );
+    InternalImage image = createInternalImage();
+    cache.putImageData( image, createImageData( 100 ) );
+
+    Reference<?> softValue = getSoftValue( cache, image );
+    softValue.clear();
+    softValue.enqueue();
+
+    assertEquals( 0, cache.getByteSize() );
+    assertEquals( 0, cache.size() );
+  }
+
+  @Test
+  public void testClearedSoftValueDoesNotCauseEviction() throws Exception {
+    ImageDataCache cache = new ImageDataCache( 300, 200, true );
+    InternalImage image1 = createInternalImage();
+    InternalImage image2 = createInternalImage();
+    cache.putImageData( image1, createImageData( 160 ) );
+    Reference<?> softValue = getSoftValue( cache, image1 );
+    softValue.clear();
+    softValue.enqueue();
+
+    cache.putImageData( image2, createImageData( 160 ) );
+
+    assertEquals( 160, cache.getByteSize() );
+    assertEquals( 0, cache.getEvictionCount() );
+  }
+
+  @Test
+  public void testCacheSizeFromSystemProperty() {
+    System.setProperty( RWTProperties.IMAGE_DATA_CACHE_SIZE, "150" );
+    try {
+      ImageDataCache cache = new ImageDataCache();
+      InternalImage image1 = createInternalImage();
+      InternalImage image2 = createInternalImage();
+
+      cache.putImageData( image1, createImageData( 100 ) );
+      cache.putImageData( image2, createImageData( 100 ) );
+
+      assertEquals( 1, cache.size() );
+    } finally {
+      System.clearProperty( RWTProperties.IMAGE_DATA_CACHE_SIZE );
+    }
+  }
+
+  private static Reference<?> getSoftValue( ImageDataCache cache, InternalImage image )
+    throws Exception
+  {
+    Field cacheField = ImageDataCache.class.getDeclaredField( "cache" );
+    cacheField.setAccessible( true );
+    Object entry = ( ( Map<?,?> )cacheField.get( cache ) ).get( image );
+    Field softValueField = entry.getClass().getDeclaredField( "softValue" );
+    softValueField.setAccessible( true );
+    return ( Reference<?> )softValueField.get( entry );
+  }
+
+  private static InternalImage createInternalImage() {
+    return new InternalImage( "testpath", 10, 10, false );
+  }
+
+  private static ImageData createImageData( int size ) {
+    // 8 bit depth with 4 byte scanline padding: one byte per pixel
+    ImageData result = new ImageData( 4, size / 4, 8, new PaletteData( 0xFF, 0xFF00, 0xFF0000 ) );
+    assertEquals( size, result.data.length );
+    return result;
+  }
+
   private ImageData getImageData( String resource ) throws IOException {
     InputStream inputStream = getClass().getClassLoader().getResourceAsStream( resource );
     try {
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+
+public class ImageHeader_Test {
+
+  private static final ClassLoader CLASS_LOADER = ImageHeader_Test.class.getClassLoader();
+
+  @Test
+  public void testRead_PNG() throws IOException {
+    ImageHeader header = ImageHeader.read( readBytes( Fixture.IMAGE_100x50 ) );
+
+    assertHeader( SWT.IMAGE_PNG, 100, 50, header );
+  }
+
+  @Test
+  public void testRead_GIF() throws IOException {
+    ImageHeader header = ImageHeader.read( readBytes( Fixture.IMAGE1 ) );
+
+    assertHeader( SWT.IMAGE_GIF, 58, 12, header );
+  }
+
+  @Test
+  public void testRead_JPEG() {
+    ImageHeader header = ImageHeader.read( createImage( SWT.IMAGE_JPEG ) );
+
+    assertHeader( SWT.IMAGE_JPEG, 37, 21, header );
+  }
+
+  @Test
+  public void testRead_BMP() {
+    ImageHeader header = ImageHeader.read( createImage( SWT.IMAGE_BMP ) );
+
+    assertHeader( SWT.IMAGE_BMP, 37, 21, header );
+  }
+
+  @Test
+  public void testRead_matchesDecodedImage() {
+    for( int format : new int[] { SWT.IMAGE_PNG, SWT.IMAGE_GIF, SWT.IMAGE_JPEG, SWT.IMAGE_BMP } ) {
+      byte[] bytes = createImage( format );
+      ImageData imageData = new ImageData( new ByteArrayInputStream( bytes ) );
+
+      assertHeader( imageData.type, imageData.width, imageData.height, ImageHeader.read( bytes ) );
+    }
+  }
+
+  @Test
+  public void testRead_withUnknownFormat() {
+    assertNull( ImageHeader.read( new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 } ) );
+  }
+
+  @Test
+  public void testRead_withEmptyArray() {
+    assertNull( ImageHeader.read( new byte[ 0 ] ) );
+  }
+
+  @Test
+  public void testRead_withTruncatedHeader() throws IOException {
+    byte[] bytes = readBytes( Fixture.IMAGE_100x50 );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( bytes, 18 ) ) );
+  }
+
+  @Test
+  public void testRead_withTruncatedJPEG() {
+    byte[] bytes = createImage( SWT.IMAGE_JPEG );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( bytes, 10 ) ) );
+  }
+
+  private static void assertHeader( int type, int width, int height, ImageHeader header ) {
+    assertEquals( type, header.type );
+    assertEquals( width, header.width );
+    assertEquals( height, header.height );
+  }
+
+  private static byte[] createImage( int format ) {
+    PaletteData palette = format == SWT.IMAGE_GIF
+                        ? new PaletteData( new RGB[] { new RGB( 0, 0, 0 ), new RGB( 255, 0, 0 ) } )
+                        : new PaletteData( 0xFF0000, 0xFF00, 0xFF );
+    int depth = format == SWT.IMAGE_GIF ? 1 : 24;
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { new ImageData( 37, 21, depth, palette ) };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] readBytes( String resource ) throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( resource );
+    try {
+      return stream.readAllBytes();
+    } finally {
+      stream.close();
+    }
+  }
+
+}
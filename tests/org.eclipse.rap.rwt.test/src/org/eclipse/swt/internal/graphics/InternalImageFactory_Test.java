@@ -13,25 +13,33 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
@@ -216,6 +224,66 @@ public class InternalImageFactory_Test {
     assertTrue( internalImage.getResourceName().endsWith( ".png" ) );
   }
 
+  @Test
+  public void testImageExtension_JPEG() {
+    InputStream stream = createInputStream( createImageDataWithoutType(), SWT.IMAGE_JPEG );
+
+    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+
+    assertTrue( internalImage.getResourceName().endsWith( ".jpg" ) );
+    assertEquals( new Rectangle( 0, 0, 48, 48 ), internalImage.getBounds() );
+  }
+
+  @Test
+  public void testImageExtension_BMP() {
+    InputStream stream = createInputStream( createImageDataWithoutType(), SWT.IMAGE_BMP );
+
+    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+
+    assertTrue( internalImage.getResourceName().endsWith( ".bmp" ) );
+    assertEquals( new Rectangle( 0, 0, 48, 48 ), internalImage.getBounds() );
+  }
+
+  @Test
+  public void testFindInternalImage_registersOriginalBytes() throws IOException {
+    byte[] bytes = readBytes( Fixture.IMAGE_100x50 );
+
+    InternalImage internalImage
+      = internalImageFactory.findInternalImage( new ByteArrayInputStream( bytes ) );
+
+    String resourceName = internalImage.getResourceName();
+    InputStream content = RWT.getResourceManager().getRegisteredContent( resourceName );
+    try {
+      assertArrayEquals( bytes, content.readAllBytes() );
+    } finally {
+      content.close();
+    }
+  }
+
+  @Test( expected = SWTException.class )
+  public void testFindInternalImage_withInvalidImage() {
+    InputStream stream = new ByteArrayInputStream( new byte[] { 1, 2, 3 } );
+
+    internalImageFactory.findInternalImage( stream );
+  }
+
+  @Test
+  public void testFindInternalImage_withCorruptImageData() throws IOException {
+    // keep the signature and the IHDR chunk, but cut off the pixel data
+    byte[] bytes = Arrays.copyOf( readBytes( Fixture.IMAGE_100x50 ), 33 );
+
+    InternalImage internalImage
+      = internalImageFactory.findInternalImage( new ByteArrayInputStream( bytes ) );
+
+    assertEquals( new Rectangle( 0, 0, 100, 50 ), internalImage.getBounds() );
+    try {
+      internalImage.getImageData();
+      fail();
+    } catch( SWTException expected ) {
+      assertEquals( SWT.ERROR_INVALID_IMAGE, expected.code );
+    }
+  }
+
   @Test
   public void testDestroyInternalImage_deregisterFromResourceManager() throws IOException {
     InputStream stream1 = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
@@ -243,6 +311,23 @@ public class InternalImageFactory_Test {
     assertNotSame( internalImage1, internalImage2 );
   }
 
+  private static InputStream createInputStream( ImageData imageData, int format ) {
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return new ByteArrayInputStream( outputStream.toByteArray() );
+  }
+
+  private static byte[] readBytes( String resource ) throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( resource );
+    try {
+      return stream.readAllBytes();
+    } finally {
+      stream.close();
+    }
+  }
+
   private ImageData createImageDataWithoutType() {
     PaletteData paletteData = new PaletteData( new RGB[]{
       new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
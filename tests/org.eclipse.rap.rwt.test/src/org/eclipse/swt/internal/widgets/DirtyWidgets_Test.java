@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.RWTProperties.DIRTY_TRACKING;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class DirtyWidgets_Test {
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  private Display display;
+  private Shell shell;
+  private DirtyWidgets dirtyWidgets;
+
+  @Before
+  public void setUp() {
+    System.setProperty( DIRTY_TRACKING, "true" );
+    display = new Display();
+    shell = new Shell( display );
+    dirtyWidgets = display.getAdapter( IDisplayAdapter.class ).getDirtyWidgets();
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( DIRTY_TRACKING );
+  }
+
+  @Test
+  public void testMarkCreated() {
+    Button button = new Button( shell, SWT.PUSH );
+
+    assertTrue( dirtyWidgets.isDirty( shell ) );
+    assertTrue( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testMarkCreated_marksParent() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Fixture.markInitialized( composite );
+    dirtyWidgets.reset();
+
+    new Button( composite, SWT.PUSH );
+
+    assertTrue( dirtyWidgets.isDirty( composite ) );
+  }
+
+  @Test
+  public void testSetter_marksDirty() {
+    Button button = new Button( shell, SWT.PUSH );
+    dirtyWidgets.reset();
+
+    button.setText( "new" );
+
+    assertTrue( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testGetter_doesNotMarkDirty() {
+    Button button = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( button );
+    dirtyWidgets.reset();
+
+    button.getText();
+    button.getBounds();
+    button.computeSize( SWT.DEFAULT, SWT.DEFAULT );
+
+    assertFalse( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testSetBounds_marksDirty() {
+    Button button = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( button );
+    dirtyWidgets.reset();
+
+    button.setBounds( 1, 2, 3, 4 );
+
+    assertTrue( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testSetBounds_withUnchangedBounds_doesNotMarkDirty() {
+    Button button = new Button( shell, SWT.PUSH );
+    button.setBounds( 1, 2, 3, 4 );
+    Fixture.markInitialized( button );
+    dirtyWidgets.reset();
+
+    button.setBounds( 1, 2, 3, 4 );
+
+    assertFalse( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testLayout_withUnchangedBounds_doesNotMarkChildren() {
+    shell.setLayout( new FillLayout() );
+    Button button = new Button( shell, SWT.PUSH );
+    shell.setSize( 100, 100 );
+    shell.layout();
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( button );
+    dirtyWidgets.reset();
+
+    shell.layout();
+
+    assertFalse( dirtyWidgets.isDirty( shell ) );
+    assertFalse( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testMark_preservesRenderedWidget() {
+    Button button = new Button( shell, SWT.PUSH );
+    button.setText( "old" );
+    Fixture.markInitialized( button );
+    dirtyWidgets.reset();
+
+    button.setText( "new" );
+
+    assertEquals( "old", getAdapter( button ).getPreserved( "text" ) );
+    assertTrue( dirtyWidgets.getPreserved().contains( button ) );
+  }
+
+  @Test
+  public void testMark_unrenderedWidgetMarksParent() {
+    Fixture.markInitialized( shell );
+    Button button = new Button( shell, SWT.PUSH );
+    dirtyWidgets.reset();
+
+    button.setText( "new" );
+
+    assertTrue( dirtyWidgets.isDirty( button ) );
+    assertTrue( dirtyWidgets.isDirty( shell ) );
+    assertFalse( dirtyWidgets.getPreserved().contains( button ) );
+  }
+
+  @Test
+  public void testMark_whileReading() {
+    Button button = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( button );
+    dirtyWidgets.reset();
+    dirtyWidgets.beginReading();
+
+    button.setText( "new" );
+
+    assertFalse( dirtyWidgets.isDirty( button ) );
+    assertTrue( dirtyWidgets.getPreserved().contains( button ) );
+    assertNull( getAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testBeginRendering_collectsAncestors() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Button button = new Button( composite, SWT.PUSH );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( composite );
+    Fixture.markInitialized( button );
+    dirtyWidgets.reset();
+
+    button.setText( "new" );
+    dirtyWidgets.beginRendering();
+
+    assertTrue( dirtyWidgets.isAncestor( composite ) );
+    assertTrue( dirtyWidgets.isAncestor( shell ) );
+    assertFalse( dirtyWidgets.isAncestor( button ) );
+  }
+
+  @Test
+  public void testDispose_marksParent() {
+    Button button = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( shell );
+    dirtyWidgets.reset();
+
+    button.dispose();
+
+    assertTrue( dirtyWidgets.isDirty( shell ) );
+  }
+
+  @Test
+  public void testFind() {
+    Button button = new Button( shell, SWT.PUSH );
+
+    assertSame( button, dirtyWidgets.find( getId( button ) ) );
+  }
+
+  @Test
+  public void testFind_disposedWidget() {
+    Button button = new Button( shell, SWT.PUSH );
+    String id = getId( button );
+
+    button.dispose();
+
+    assertNull( dirtyWidgets.find( id ) );
+  }
+
+  @Test
+  public void testReset_whileReading_keepsCreatedWidgets() {
+    dirtyWidgets.reset();
+    dirtyWidgets.beginReading();
+    Button button = new Button( shell, SWT.PUSH );
+
+    dirtyWidgets.reset();
+
+    assertTrue( dirtyWidgets.isDirty( button ) );
+  }
+
+  @Test
+  public void testBeginRendering_collectsAncestorsOfCreatedWidgets() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( composite );
+    dirtyWidgets.reset();
+    dirtyWidgets.beginReading();
+    Button button = new Button( composite, SWT.PUSH );
+    dirtyWidgets.reset();
+
+    dirtyWidgets.beginRendering();
+
+    assertTrue( dirtyWidgets.isDirty( button ) );
+    assertTrue( dirtyWidgets.isAncestor( composite ) );
+    assertTrue( dirtyWidgets.isAncestor( shell ) );
+  }
+
+  @Test
+  public void testReset() {
+    Button button = new Button( shell, SWT.PUSH );
+    dirtyWidgets.markRendered( button );
+
+    dirtyWidgets.reset();
+
+    assertFalse( dirtyWidgets.isDirty( button ) );
+    assertTrue( dirtyWidgets.getPreserved().isEmpty() );
+  }
+
+}
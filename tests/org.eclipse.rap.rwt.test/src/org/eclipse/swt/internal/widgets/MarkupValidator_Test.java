@@ -11,11 +11,14 @@
 package org.eclipse.swt.internal.widgets;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+
 import org.eclipse.swt.widgets.Widget;
 import org.junit.Before;
 import org.junit.Test;
@@ -96,6 +99,31 @@ public class MarkupValidator_Test {
     }
   }
 
+  @Test
+  public void testValidate_withHexadecimalEntities() {
+    String markup = "foo &#x26; &#x3C; &#x3c; bar";
+
+    try {
+      validator.validate( markup );
+    } catch( Exception ex ) {
+      fail( ex.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_withNonAsciiDigitsInNumericEntity() {
+    // ARABIC-INDIC DIGIT THREE and NINE
+    String markup = "foo &#\u0663\u0669; bar";
+
+    try {
+      validator.validate( markup );
+      fail( "validation should throw an exception" );
+    } catch( Exception expected ) {
+      assertTrue( expected instanceof IllegalArgumentException );
+      assertEquals( "Failed to parse markup text", expected.getMessage() );
+    }
+  }
+
   @Test
   public void testValidate_NotWellFormedMarkup() {
     String markup = "<b>foo<br/><i>bar</i>";
@@ -164,6 +192,125 @@ public class MarkupValidator_Test {
     }
   }
 
+  @Test
+  public void testValidate_withCommentAndCDataSection() {
+    String markup = "<!-- comment --><b><![CDATA[<foo>]]></b>";
+
+    try {
+      validator.validate( markup );
+    } catch( Exception ex ) {
+      fail( ex.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_UndeclaredEntity() {
+    String markup = "foo &copy; bar";
+
+    try {
+      validator.validate( markup );
+      fail( "validation should throw an exception" );
+    } catch( Exception expected ) {
+      assertTrue( expected instanceof IllegalArgumentException );
+      assertEquals( "Failed to parse markup text", expected.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_DuplicateAttribute() {
+    String markup = "<span id=\"foo\" id=\"bar\">bar</span>";
+
+    try {
+      validator.validate( markup );
+      fail( "validation should throw an exception" );
+    } catch( Exception expected ) {
+      assertTrue( expected instanceof IllegalArgumentException );
+      assertEquals( "Failed to parse markup text", expected.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_UnclosedElement() {
+    String markup = "<b>foo";
+
+    try {
+      validator.validate( markup );
+      fail( "validation should throw an exception" );
+    } catch( Exception expected ) {
+      assertTrue( expected instanceof IllegalArgumentException );
+      assertEquals( "Failed to parse markup text", expected.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_ClosedEnclosingElement() {
+    String markup = "foo</html><html>";
+
+    try {
+      validator.validate( markup );
+      fail( "validation should throw an exception" );
+    } catch( Exception expected ) {
+      assertTrue( expected instanceof IllegalArgumentException );
+      assertEquals( "Failed to parse markup text", expected.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_IntAttributeWithCharacterReference() {
+    String markup = "<img src=\"image.png\" width=\"10\" height=\"&#49;0\" />";
+
+    try {
+      validator.validate( markup );
+    } catch( Exception ex ) {
+      fail( ex.getMessage() );
+    }
+  }
+
+  @Test
+  public void testValidate_remembersValidMarkup() {
+    String markup = "<b>foo</b>";
+
+    validator.validate( markup );
+
+    assertTrue( validator.isKnownValid( markup ) );
+  }
+
+  @Test
+  public void testValidate_doesNotRememberInvalidMarkup() {
+    String markup = "<ul>foo</ul>";
+
+    try {
+      validator.validate( markup );
+      fail( "validation should throw an exception" );
+    } catch( IllegalArgumentException expected ) {
+    }
+
+    assertFalse( validator.isKnownValid( markup ) );
+  }
+
+  @Test
+  public void testValidate_doesNotRememberLongMarkup() {
+    String markup = "<b>" + repeat( 'x', MarkupValidator.MAX_CACHED_LENGTH ) + "</b>";
+
+    validator.validate( markup );
+
+    assertFalse( validator.isKnownValid( markup ) );
+  }
+
+  @Test
+  public void testValidate_forgetsLeastRecentlyUsedMarkup() {
+    validator.validate( "<b>0</b>" );
+    validator.validate( "<b>1</b>" );
+    for( int i = 2; i <= MarkupValidator.DEFAULT_CACHE_SIZE; i++ ) {
+      validator.validate( "<b>" + i + "</b>" );
+      validator.validate( "<b>0</b>" );
+    }
+
+    assertTrue( validator.isKnownValid( "<b>0</b>" ) );
+    assertFalse( validator.isKnownValid( "<b>1</b>" ) );
+    assertTrue( validator.isKnownValid( "<b>2</b>" ) );
+  }
+
   @Test
     public void testIsValidationDisabledFor() {
       Widget widget = mock( Widget.class );
@@ -172,4 +319,10 @@ public class MarkupValidator_Test {
       assertTrue( MarkupValidator.isValidationDisabledFor( widget ) );
     }
 
+  private static String repeat( char ch, int count ) {
+    char[] chars = new char[ count ];
+    Arrays.fill( chars, ch );
+    return new String( chars );
+  }
+
 }
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TimerExecService_Test {
+
+  private TimerExecService service;
+
+  @Before
+  public void setUp() {
+    service = new TimerExecService();
+  }
+
+  @After
+  public void tearDown() {
+    service.dispose();
+  }
+
+  @Test
+  public void testSchedule_runsRunnable() {
+    Runnable runnable = mock( Runnable.class );
+
+    service.schedule( runnable, 1 );
+
+    verify( runnable, timeout( 5000 ) ).run();
+  }
+
+  @Test
+  public void testGetPendingCount() {
+    service.schedule( mock( Runnable.class ), 60000 );
+    service.schedule( mock( Runnable.class ), 60000 );
+
+    assertEquals( 2, service.getPendingCount() );
+  }
+
+  @Test
+  public void testGetPendingCount_initially() {
+    assertEquals( 0, service.getPendingCount() );
+  }
+
+  @Test
+  public void testGetPendingCount_afterCancel() {
+    ScheduledFuture<?> future = service.schedule( mock( Runnable.class ), 60000 );
+
+    future.cancel( false );
+
+    assertEquals( 0, service.getPendingCount() );
+  }
+
+  @Test
+  public void testGetFiredCount() throws Exception {
+    service.schedule( mock( Runnable.class ), 1 ).get();
+    service.schedule( mock( Runnable.class ), 1 ).get();
+
+    assertEquals( 2, service.getFiredCount() );
+  }
+
+  @Test
+  public void testDispose_discardsPendingTasks() {
+    ScheduledFuture<?> future = service.schedule( mock( Runnable.class ), 60000 );
+
+    service.dispose();
+
+    assertTrue( future.isCancelled() );
+    assertEquals( 0, service.getPendingCount() );
+  }
+
+  @Test
+  public void testSchedule_afterDispose() throws Exception {
+    CountDownLatch ran = new CountDownLatch( 1 );
+    service.dispose();
+
+    ScheduledFuture<?> future = service.schedule( () -> ran.countDown(), 0 );
+
+    assertNull( future );
+    assertFalse( ran.await( 100, TimeUnit.MILLISECONDS ) );
+    assertNull( getExecutor( service ) );
+    assertEquals( 0, service.getPendingCount() );
+  }
+
+  private static Object getExecutor( TimerExecService service ) throws Exception {
+    Field field = TimerExecService.class.getDeclaredField( "executor" );
+    field.setAccessible( true );
+    return field.get( service );
+  }
+
+}
@@ -115,6 +115,22 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreserved( "prop" ) );
   }
 
+  @Test
+  public void testGetPreserved_initial() {
+    assertNull( adapter.getPreserved( "prop" ) );
+  }
+
+  @Test
+  public void testPreserveProperty_afterClear() {
+    Object value = new Object();
+    adapter.preserve( "prop", new Object() );
+    adapter.clearPreserved();
+
+    adapter.preserve( "prop", value );
+
+    assertSame( value, adapter.getPreserved( "prop" ) );
+  }
+
   @Test
   public void testPreserveProperty_isTransient() throws Exception {
     adapter.preserve( "prop", new Object() );
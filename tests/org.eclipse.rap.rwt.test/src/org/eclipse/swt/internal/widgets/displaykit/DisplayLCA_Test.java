@@ -19,6 +19,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.testfixture.internal.Fixture.getProtocolMessage;
+import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -45,10 +46,12 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.RWTLifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
@@ -71,8 +74,10 @@ import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Button;
@@ -81,6 +86,11 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.swt.widgets.Widget;
 import org.junit.After;
 import org.junit.Before;
@@ -107,6 +117,7 @@ public class DisplayLCA_Test {
   public void tearDown() {
     Fixture.tearDown();
     setEnableUiTests( false );
+    System.clearProperty( RWTProperties.DIRTY_TRACKING );
   }
 
   @Test
@@ -666,6 +677,181 @@ public class DisplayLCA_Test {
     assertNull( message.findSetOperation( displayId, "disableShutdownRequest" ) );
   }
 
+  @Test
+  public void testRender_withDirtyTracking_rendersChangedWidget() throws IOException {
+    createDisplayWithDirtyTracking();
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    executeLifeCycle( null );
+
+    Fixture.fakeNewRequest();
+    executeLifeCycle( () -> button.setText( "changed" ) );
+
+    TestMessage message = getProtocolMessage();
+    assertEquals( "changed", message.findSetProperty( button, "text" ).asString() );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_skipsUntouchedWidget() throws IOException {
+    createDisplayWithDirtyTracking();
+    Shell shell = new Shell( display );
+    shell.setLayout( new FillLayout() );
+    Button button = new Button( shell, SWT.PUSH );
+    RenderCountingLCA lca = new RenderCountingLCA();
+    Composite untouched = new CustomLCAWidget( shell, lca );
+    shell.setSize( 200, 100 );
+    shell.layout();
+    executeLifeCycle( null );
+
+    Fixture.fakeNewRequest();
+    executeLifeCycle( () -> {
+      button.setText( "changed" );
+      untouched.getBounds();
+      untouched.getChildren();
+      shell.layout();
+    } );
+
+    assertEquals( 1, lca.renderCount );
+    assertNotNull( getProtocolMessage().findSetOperation( button, "text" ) );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersCreatedAndDisposedWidgets() throws IOException {
+    createDisplayWithDirtyTracking();
+    Shell shell = new Shell( display );
+    Composite composite = new Composite( shell, SWT.NONE );
+    Button disposed = new Button( composite, SWT.PUSH );
+    executeLifeCycle( null );
+
+    Fixture.fakeNewRequest();
+    Button[] created = new Button[ 1 ];
+    executeLifeCycle( () -> {
+      created[ 0 ] = new Button( composite, SWT.PUSH );
+      created[ 0 ].setText( "created" );
+      disposed.dispose();
+    } );
+
+    TestMessage message = getProtocolMessage();
+    assertNotNull( message.findCreateOperation( created[ 0 ] ) );
+    assertEquals( "created", message.findCreateProperty( created[ 0 ], "text" ).asString() );
+    assertNotNull( message.findDestroyOperation( disposed ) );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_doesNotEchoValuesReadFromClient() throws IOException {
+    createDisplayWithDirtyTracking();
+    Shell shell = new Shell( display );
+    Text text = new Text( shell, SWT.SINGLE );
+    executeLifeCycle( null );
+
+    Fixture.fakeNewRequest();
+    Fixture.fakeSetProperty( getId( text ), "text", "typed" );
+    executeLifeCycle( () -> text.setEditable( false ) );
+
+    TestMessage message = getProtocolMessage();
+    assertEquals( "typed", text.getText() );
+    assertNull( message.findSetOperation( text, "text" ) );
+    assertFalse( message.findSetProperty( text, "editable" ).asBoolean() );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersTableItemHeightForFirstImage()
+    throws IOException
+  {
+    createDisplayWithDirtyTracking();
+    Shell shell = new Shell( display );
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    item.setText( "item" );
+    Image image = createImage( display, Fixture.IMAGE_100x50 );
+    executeLifeCycle( null );
+
+    Fixture.fakeNewRequest();
+    executeLifeCycle( () -> item.setImage( image ) );
+
+    TestMessage message = getProtocolMessage();
+    assertEquals( table.getItemHeight(), message.findSetProperty( table, "itemHeight" ).asInt() );
+    assertNotNull( message.findSetOperation( table, "itemMetrics" ) );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersTableItemMetricsForWiderText()
+    throws IOException
+  {
+    createDisplayWithDirtyTracking();
+    Shell shell = new Shell( display );
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    item.setText( "item" );
+    executeLifeCycle( null );
+
+    Fixture.fakeNewRequest();
+    executeLifeCycle( () -> item.setText( "a considerably wider item text" ) );
+
+    assertNotNull( getProtocolMessage().findSetOperation( table, "itemMetrics" ) );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersTreeItemHeightForFirstImage()
+    throws IOException
+  {
+    createDisplayWithDirtyTracking();
+    Shell shell = new Shell( display );
+    Tree tree = new Tree( shell, SWT.NONE );
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    item.setText( "item" );
+    Image image = createImage( display, Fixture.IMAGE_100x50 );
+    executeLifeCycle( null );
+
+    Fixture.fakeNewRequest();
+    executeLifeCycle( () -> item.setImage( image ) );
+
+    TestMessage message = getProtocolMessage();
+    assertEquals( tree.getItemHeight(), message.findSetProperty( tree, "itemHeight" ).asInt() );
+    assertNotNull( message.findSetOperation( tree, "itemMetrics" ) );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersTreeItemMetricsForWiderText()
+    throws IOException
+  {
+    createDisplayWithDirtyTracking();
+    Shell shell = new Shell( display );
+    Tree tree = new Tree( shell, SWT.NONE );
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    item.setText( "item" );
+    executeLifeCycle( null );
+
+    Fixture.fakeNewRequest();
+    executeLifeCycle( () -> item.setText( "a considerably wider item text" ) );
+
+    assertNotNull( getProtocolMessage().findSetOperation( tree, "itemMetrics" ) );
+  }
+
+  private void createDisplayWithDirtyTracking() {
+    display.dispose();
+    System.setProperty( RWTProperties.DIRTY_TRACKING, "true" );
+    display = new Display();
+  }
+
+  /*
+   * Runs the phases of a request like the ReadData, ProcessAction and Render phases of the life
+   * cycle do.
+   */
+  private void executeLifeCycle( Runnable processAction ) throws IOException {
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    displayLCA.readData( display );
+    displayLCA.clearPreserved( display );
+    displayLCA.preserveValues( display );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    if( processAction != null ) {
+      processAction.run();
+    }
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+  }
+
   private static void setEnableUiTests( boolean value ) {
     Field field;
     try {
@@ -703,6 +889,14 @@ public class DisplayLCA_Test {
     }
   }
 
+  private static class RenderCountingLCA extends TestWidgetLCA {
+    int renderCount;
+    @Override
+    public void renderChanges( Widget widget ) throws IOException {
+      renderCount++;
+    }
+  }
+
   private static class CustomLCAWidget extends Composite {
     private static final long serialVersionUID = 1L;
 
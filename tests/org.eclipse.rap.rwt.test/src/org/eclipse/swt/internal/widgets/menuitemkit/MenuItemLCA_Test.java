@@ -562,7 +562,7 @@ public class MenuItemLCA_Test {
 
     TestMessage message = Fixture.getProtocolMessage();
     JsonArray expected
-      = new JsonArray().add( "rwt-resources/generated/90fb0bfe.gif" ).add( 58 ).add( 12 );
+      = new JsonArray().add( "rwt-resources/generated/c337807e.gif" ).add( 58 ).add( 12 );
     assertEquals( expected, message.findSetProperty( item, "image" ) );
   }
 
@@ -445,7 +445,7 @@ public class TableItemLCA_Test {
     TestMessage message = Fixture.getProtocolMessage();
     JsonArray expected = new JsonArray();
     expected.add( JsonValue.NULL );
-    expected.add( new JsonArray().add( "rwt-resources/generated/90fb0bfe.gif" ).add( 58 ).add( 12 ) );
+    expected.add( new JsonArray().add( "rwt-resources/generated/c337807e.gif" ).add( 58 ).add( 12 ) );
     assertEquals( expected, message.findSetProperty( item, "images" ) );
   }
 
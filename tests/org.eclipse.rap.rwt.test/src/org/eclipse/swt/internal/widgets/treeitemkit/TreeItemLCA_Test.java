@@ -480,7 +480,7 @@ public class TreeItemLCA_Test {
     TestMessage message = Fixture.getProtocolMessage();
     JsonArray expected = new JsonArray()
       .add( JsonValue.NULL )
-      .add( new JsonArray().add( "rwt-resources/generated/90fb0bfe.gif" ).add( 58 ).add( 12 ) );
+      .add( new JsonArray().add( "rwt-resources/generated/c337807e.gif" ).add( 58 ).add( 12 ) );
     assertEquals( expected, message.findSetProperty( item, "images" ) );
   }
 
@@ -1100,6 +1100,56 @@ public class TableItem_Test {
     assertEquals( "cell0", item.getText( 0 ) );
   }
 
+  @Test
+  public void testInsertColumn_ShiftData_MixedCells() {
+    Table table = new Table( shell, SWT.BORDER );
+    for( int i = 0; i < 3; i++ ) {
+      new TableColumn( table, SWT.NONE );
+    }
+    TableItem item = new TableItem( table, SWT.NONE );
+    item.setText( 2, "cell2" );
+    item.setImage( 0, image );
+    new TableColumn( table, SWT.NONE, 1 );
+    assertEquals( image, item.getImage( 0 ) );
+    assertNull( item.getImage( 1 ) );
+    assertEquals( "", item.getText( 2 ) );
+    assertEquals( "cell2", item.getText( 3 ) );
+  }
+
+  @Test
+  public void testRemoveColumn_RemoveData() {
+    Table table = new Table( shell, SWT.BORDER );
+    for( int i = 0; i < 3; i++ ) {
+      new TableColumn( table, SWT.NONE );
+    }
+    TableItem item = new TableItem( table, SWT.NONE );
+    for( int i = 0; i < 3; i++ ) {
+      item.setText( i, "cell" + i );
+    }
+    item.setImage( 2, image );
+    table.getColumn( 1 ).dispose();
+    assertEquals( "cell0", item.getText( 0 ) );
+    assertEquals( "cell2", item.getText( 1 ) );
+    assertEquals( image, item.getImage( 1 ) );
+    assertNull( item.getImage( 0 ) );
+  }
+
+  @Test
+  public void testTextWidthBuffer() {
+    Table table = new Table( shell, SWT.BORDER );
+    new TableColumn( table, SWT.NONE );
+    new TableColumn( table, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    item.setText( 1, "cell1" );
+    table.getColumn( 1 ).pack();
+    assertTrue( item.hasTextWidthBuffer( 1 ) );
+    assertFalse( item.hasTextWidthBuffer( 0 ) );
+
+    item.setFont( 1, new Font( display, "Arial", 20, SWT.BOLD ) );
+
+    assertFalse( item.hasTextWidthBuffer( 1 ) );
+  }
+
   @Test
   public void testMarkCachedOnSetChecked() {
     Table table = new Table( shell, SWT.VIRTUAL | SWT.CHECK );
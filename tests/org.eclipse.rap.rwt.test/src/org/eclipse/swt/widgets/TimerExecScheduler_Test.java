@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
@@ -18,16 +19,17 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -39,17 +41,17 @@ public class TimerExecScheduler_Test {
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private TimerExecService service;
 
   @Before
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    timer = mock( Timer.class );
+    service = mock( TimerExecService.class );
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
-        return timer;
+      TimerExecService getTimerExecService() {
+        return service;
       }
       @Override
       TimerExecTask createTask( Runnable runnable ) {
@@ -73,7 +75,7 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 23, runnable );
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
+    verify( service ).schedule( taskCaptor.capture(), eq( 23L ) );
     assertSame( runnable, taskCaptor.getValue().getRunnable() );
   }
 
@@ -85,8 +87,8 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 42, runnable );
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
+    verify( service ).schedule( taskCaptor.capture(), eq( 23L ) );
+    verify( service ).schedule( taskCaptor.capture(), eq( 42L ) );
     assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
   }
 
@@ -98,7 +100,7 @@ public class TimerExecScheduler_Test {
     scheduler.cancel( runnable );
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
+    verify( service ).schedule( taskCaptor.capture(), eq( 23L ) );
     verify( taskCaptor.getValue() ).cancel();
   }
 
@@ -116,8 +118,8 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 42, runnable );
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
+    verify( service ).schedule( taskCaptor.capture(), eq( 23L ) );
+    verify( service ).schedule( taskCaptor.capture(), eq( 42L ) );
     assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
   }
 
@@ -145,16 +147,33 @@ public class TimerExecScheduler_Test {
   }
 
   @Test
-  public void testDispose_cancelsTimerAndTask() {
+  public void testDispose_cancelsTask() {
     Runnable runnable = mock( Runnable.class );
     scheduler.schedule( 23, runnable );
 
     scheduler.dispose();
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).cancel();
+    verify( service ).schedule( taskCaptor.capture(), eq( 23L ) );
     verify( taskCaptor.getValue() ).cancel();
   }
 
+  @Test
+  public void testDispose_doesNotDisposeSharedService() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+
+    scheduler.dispose();
+
+    verify( service, never() ).dispose();
+  }
+
+  @Test
+  public void testSchedule_usesServiceOfApplicationContext() {
+    scheduler = new TimerExecScheduler( display );
+
+    TimerExecService service = scheduler.getTimerExecService();
+
+    assertSame( getApplicationContext().getTimerExecService(), service );
+  }
+
 }
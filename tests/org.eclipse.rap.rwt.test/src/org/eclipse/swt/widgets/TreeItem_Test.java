@@ -2128,6 +2128,48 @@ public class TreeItem_Test {
     assertEquals( 1, subItem.getFlatIndex() );
   }
 
+  @Test
+  public void testUpdateFlatIndicesOnItemCreate() {
+    TreeItem item2 = new TreeItem( tree, SWT.NONE );
+    TreeItem subItem = new TreeItem( item2, SWT.NONE );
+    item2.setExpanded( true );
+
+    new TreeItem( item, SWT.NONE );
+    new TreeItem( tree, SWT.NONE, 0 );
+
+    assertEquals( 2, item2.getFlatIndex() );
+    assertEquals( 3, subItem.getFlatIndex() );
+  }
+
+  @Test
+  public void testUpdateFlatIndicesOnNestedItemExpand() {
+    TreeItem subItem = new TreeItem( item, SWT.NONE );
+    new TreeItem( subItem, SWT.NONE );
+    new TreeItem( subItem, SWT.NONE );
+    TreeItem item2 = new TreeItem( tree, SWT.NONE );
+    item.setExpanded( true );
+
+    subItem.setExpanded( true );
+
+    assertEquals( 4, item2.getFlatIndex() );
+  }
+
+  @Test
+  public void testUpdateFlatIndicesOnCollapsedItemChange() {
+    TreeItem subItem = new TreeItem( item, SWT.NONE );
+    TreeItem item2 = new TreeItem( tree, SWT.NONE );
+    item.setExpanded( true );
+    item.setExpanded( false );
+
+    new TreeItem( item, SWT.NONE );
+    subItem.dispose();
+    item.setItemCount( 3 );
+
+    assertEquals( 1, item2.getFlatIndex() );
+    item.setExpanded( true );
+    assertEquals( 4, item2.getFlatIndex() );
+  }
+
   @Test
   public void testGetCreatedItems_DoesNotContainNullItems() {
     tree = new Tree( shell, SWT.VIRTUAL );
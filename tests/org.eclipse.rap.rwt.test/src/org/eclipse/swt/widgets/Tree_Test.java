@@ -1532,6 +1532,67 @@ public class Tree_Test {
     assertEquals( tree.getItem( 6 ), tree.getTopItem() );
   }
 
+  @Test
+  public void testTopItemOnItemCollapse() {
+    createTreeItems( tree, 10 );
+    new TreeItem( tree.getItem( 9 ), SWT.NONE );
+    new TreeItem( tree.getItem( 9 ), SWT.NONE );
+    tree.getItem( 9 ).setExpanded( true );
+    int visibleItems = 3;
+    tree.setSize( 100, visibleItems * tree.getItemHeight() );
+    tree.setTopItem( tree.getItem( 9 ).getItem( 1 ) );
+
+    tree.getItem( 9 ).setExpanded( false );
+
+    assertEquals( tree.getItem( 7 ), tree.getTopItem() );
+  }
+
+  @Test
+  public void testTopItem_withNestedExpandedItems() {
+    tree.setSize( 100, 100 );
+    TreeItem[] items = createTreeItems( tree, 3 );
+    TreeItem subItem = new TreeItem( items[ 0 ], SWT.NONE );
+    new TreeItem( subItem, SWT.NONE );
+    TreeItem subSubItem = new TreeItem( subItem, SWT.NONE );
+    items[ 0 ].setExpanded( true );
+    subItem.setExpanded( true );
+
+    tree.getAdapter( ITreeAdapter.class ).setTopItemIndex( 3 );
+
+    assertSame( subSubItem, tree.getTopItem() );
+  }
+
+  @Test
+  public void testGetItemByPoint_withExpandedItems() {
+    tree.setSize( 100, 100 );
+    TreeItem[] items = createTreeItems( tree, 3 );
+    new TreeItem( items[ 0 ], SWT.NONE );
+    new TreeItem( items[ 0 ], SWT.NONE );
+    items[ 0 ].setExpanded( true );
+    int itemHeight = tree.getItemHeight();
+
+    assertSame( items[ 1 ], tree.getItem( new Point( 10, 3 * itemHeight + 1 ) ) );
+    assertNull( tree.getItem( new Point( 10, 5 * itemHeight + 1 ) ) );
+  }
+
+  @Test
+  public void testVirtualExpand_resolvesVisibleItemsOnly() {
+    LoggingListener log = new LoggingListener();
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setSize( 100, 10 * tree.getItemHeight() );
+    tree.setItemCount( 1 );
+    TreeItem item = tree.getItem( 0 );
+    item.setItemCount( 10000 );
+    tree.addListener( SWT.SetData, log );
+
+    item.setExpanded( true );
+
+    assertTrue( log.getItems().size() < 100 );
+    assertTrue( log.getItems().contains( item.getItem( 0 ) ) );
+    assertEquals( 1, item.getItem( 0 ).getFlatIndex() );
+    assertEquals( 9000, item.getItem( 8999 ).getFlatIndex() );
+  }
+
   @Test
   public void testTopItemOnTemporaryResize() {
     tree.setSize( 100, 100 );
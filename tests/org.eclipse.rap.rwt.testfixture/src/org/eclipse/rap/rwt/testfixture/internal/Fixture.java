@@ -25,6 +25,8 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
@@ -476,7 +478,7 @@ public final class Fixture {
   }
 
   public static void executeLifeCycleFromServerThread() {
-    IUIThreadHolder threadHolder = registerCurrentThreadAsUIThreadHolder();
+    FakeUIThreadHolder threadHolder = registerCurrentThreadAsUIThreadHolder();
     Thread serverThread = fakeRequestThread( threadHolder );
     simulateRequest( threadHolder, serverThread );
     RWTLifeCycle lifeCycle
@@ -561,24 +563,24 @@ public final class Fixture {
   private static void simulateRequest( IUIThreadHolder threadHolder, Thread serverThread ) {
     RWTLifeCycle lifeCycle
       = ( RWTLifeCycle )getApplicationContext().getLifeCycleFactory().getLifeCycle();
-    synchronized( threadHolder.getLock() ) {
+    RWTLifeCycle.runLocked( threadHolder, () -> {
       serverThread.start();
       try {
         lifeCycle.sleep();
       } catch( ThreadDeath e ) {
         throw new RuntimeException( e );
       }
-    }
+    } );
   }
 
-  private static Thread fakeRequestThread( final IUIThreadHolder threadHolder ) {
+  private static Thread fakeRequestThread( final FakeUIThreadHolder threadHolder ) {
     final RWTLifeCycle lifeCycle
       = ( RWTLifeCycle )getApplicationContext().getLifeCycleFactory().getLifeCycle();
     final ServiceContext context = ContextProvider.getContext();
     Thread result = new Thread( new Runnable() {
       @Override
       public void run() {
-        synchronized( threadHolder.getLock() ) {
+        RWTLifeCycle.runLocked( threadHolder, () -> {
           ContextProvider.setContext( context );
           try {
             try {
@@ -589,47 +591,16 @@ public final class Fixture {
             }
           } finally {
             ContextProvider.releaseContextHolder();
-            threadHolder.notifyAll();
+            threadHolder.wakeUp();
           }
-        }
+        } );
       }
     }, "ServerThread" );
     return result;
   }
 
-  private static IUIThreadHolder registerCurrentThreadAsUIThreadHolder() {
-    final IUIThreadHolder result = new IUIThreadHolder() {
-      private final Thread thread = Thread.currentThread();
-
-      @Override
-      public void setServiceContext( ServiceContext serviceContext ) {
-      }
-      @Override
-      public void switchThread() {
-        synchronized( getLock() ) {
-          notifyAll();
-          try {
-            wait();
-          } catch( InterruptedException e ) {
-            throw new RuntimeException( e );
-          }
-        }
-      }
-      @Override
-      public void updateServiceContext() {
-      }
-      @Override
-      public void terminateThread() {
-      }
-      @Override
-      public Thread getThread() {
-        return thread;
-      }
-      @Override
-      public Object getLock() {
-        return this;
-      }
-    };
+  private static FakeUIThreadHolder registerCurrentThreadAsUIThreadHolder() {
+    FakeUIThreadHolder result = new FakeUIThreadHolder( Thread.currentThread() );
     LifeCycleUtil.setUIThread( getUISession(), result );
     return result;
   }
@@ -656,6 +627,68 @@ public final class Fixture {
     // prevent instantiation
   }
 
+  /*
+   * Uses the test thread as UI thread. Like the UI thread holders of the life cycle, it has to be
+   * locked with RWTLifeCycle#runLocked instead of synchronizing on getLock().
+   */
+  private static class FakeUIThreadHolder implements IUIThreadHolder {
+
+    private final Thread thread;
+    private final ReentrantLock lock;
+    private final Condition switched;
+
+    FakeUIThreadHolder( Thread thread ) {
+      this.thread = thread;
+      lock = new ReentrantLock();
+      switched = lock.newCondition();
+    }
+
+    @Override
+    public void setServiceContext( ServiceContext serviceContext ) {
+    }
+
+    @Override
+    public void switchThread() {
+      lock.lock();
+      try {
+        switched.signalAll();
+        switched.await();
+      } catch( InterruptedException e ) {
+        throw new RuntimeException( e );
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void wakeUp() {
+      lock.lock();
+      try {
+        switched.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void updateServiceContext() {
+    }
+
+    @Override
+    public void terminateThread() {
+    }
+
+    @Override
+    public Thread getThread() {
+      return thread;
+    }
+
+    @Override
+    public Object getLock() {
+      return lock;
+    }
+
+  }
+
   private static class FixtureApplicationConfiguration implements ApplicationConfiguration {
     @Override
     public void configure( Application application ) {
@@ -231,17 +231,15 @@ public class TestResponse implements HttpServletResponse {
   }
 
   public String getContent() {
-    String result = "";
     if( printWriter != null ) {
       printWriter.flush();
-      ByteArrayOutputStream content = outStream.getContent();
-      try {
-        result = content.toString( characterEncoding );
-      } catch( UnsupportedEncodingException exception ) {
-        throw new RuntimeException( exception );
-      }
     }
-    return result;
+    ByteArrayOutputStream content = outStream.getContent();
+    try {
+      return content.toString( characterEncoding );
+    } catch( UnsupportedEncodingException exception ) {
+      throw new RuntimeException( exception );
+    }
   }
 
   public void clearContent() {
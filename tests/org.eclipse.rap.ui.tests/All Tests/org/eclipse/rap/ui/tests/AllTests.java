@@ -11,6 +11,7 @@
 package org.eclipse.rap.ui.tests;
 
 import org.eclipse.jface.internal.util.SerializableEventManagerTest;
+import org.eclipse.jface.resource.SharedResourcesTest;
 import org.eclipse.jface.tests.viewers.Bug264226TableViewerTest;
 
 import junit.framework.Test;
@@ -32,6 +33,7 @@ public class AllTests {
       // RAP JFace Tests
       suite.addTestSuite( Bug264226TableViewerTest.class );
       suite.addTestSuite(SerializableEventManagerTest.class );
+      suite.addTestSuite( SharedResourcesTest.class );
       // Cleanup
       suite.addTestSuite( Cleanup.class );
       return suite;
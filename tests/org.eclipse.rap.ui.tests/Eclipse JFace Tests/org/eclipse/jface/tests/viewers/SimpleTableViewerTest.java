@@ -11,6 +11,8 @@
 
 package org.eclipse.jface.tests.viewers;
 
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.viewers.CellLabelProvider;
 import org.eclipse.jface.viewers.ColumnLabelProvider;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.ILabelProviderListener;
@@ -19,11 +21,15 @@ import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.jface.viewers.ViewerCell;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.ui.tests.harness.util.Mocks;
 
 /**
@@ -160,4 +166,76 @@ public class SimpleTableViewerTest extends ViewerTestCase {
 		tableViewer.getTable().dispose();
 		assertEquals(1, disposeCounter[0]);
 	}
+
+	public void testChangedCellCount() {
+		tableViewer.setTrackChangedCells(true);
+		tableViewer.setLabelProvider(new LabelProvider());
+		assertEquals(tableViewer.getTable().getItemCount(), tableViewer.getChangedCellCount());
+
+		tableViewer.resetChangedCellCount();
+		tableViewer.refresh();
+		assertEquals(0, tableViewer.getChangedCellCount());
+
+		fRootElement.getFirstChild().setLabel("changed");
+		tableViewer.refresh();
+		assertEquals(1, tableViewer.getChangedCellCount());
+	}
+
+	public void testUnchangedCellsAreNotUpdated() {
+		tableViewer.setTrackChangedCells(true);
+		tableViewer.setLabelProvider(new ElementLabelProvider());
+		TableItem item = tableViewer.getTable().getItem(0);
+		item.setText("outside");
+
+		tableViewer.refresh();
+		assertEquals("outside", item.getText());
+
+		fRootElement.getFirstChild().setLabel("changed");
+		tableViewer.refresh();
+		assertEquals("changed", item.getText());
+	}
+
+	public void testChangedCellsAfterItemReuse() {
+		tableViewer.setTrackChangedCells(true);
+		tableViewer.setLabelProvider(new ElementLabelProvider());
+		TestElement first = fRootElement.getFirstChild();
+		fRootElement.getChildAt(1).setLabel(first.getLabel());
+		tableViewer.refresh();
+
+		fRootElement.basicDeleteChild(first);
+		tableViewer.refresh();
+
+		assertEquals(first.getLabel(), tableViewer.getTable().getItem(0).getText());
+	}
+
+	public void testBufferedLabelsAreReadFromCell() {
+		tableViewer.setTrackChangedCells(true);
+		final Color color = tableViewer.getTable().getDisplay().getSystemColor(SWT.COLOR_RED);
+		final Font font = JFaceResources.getBoldFont();
+		final int[] wrongReads = new int[1];
+		final int[] updates = new int[1];
+		tableViewer.setLabelProvider(new CellLabelProvider() {
+			public void update(ViewerCell cell) {
+				updates[0]++;
+				cell.setText("text");
+				cell.setForeground(color);
+				cell.setBackground(color);
+				cell.setFont(font);
+				if (!"text".equals(cell.getText()) || cell.getForeground() != color
+						|| cell.getBackground() != color || cell.getFont() != font) {
+					wrongReads[0]++;
+				}
+			}
+		});
+		tableViewer.refresh();
+
+		assertTrue(updates[0] > 0);
+		assertEquals(0, wrongReads[0]);
+	}
+
+	private static class ElementLabelProvider extends LabelProvider {
+		public String getText(Object element) {
+			return ((TestElement) element).getLabel();
+		}
+	}
 }
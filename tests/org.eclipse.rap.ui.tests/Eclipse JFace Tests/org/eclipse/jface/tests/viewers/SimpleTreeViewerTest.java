@@ -25,6 +25,7 @@ import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerSorter;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.TreeItem;
 
 /**
  * @since 3.2
@@ -122,4 +123,36 @@ public class SimpleTreeViewerTest extends ViewerTestCase {
 		treeViewer.setLabelProvider(new TableAndTreeLabelProvider());
 		assertEquals("right", treeViewer.getTree().getItem(0).getText());
 	}
+
+	public void testChangedCellCount() {
+		treeViewer.setTrackChangedCells(true);
+		treeViewer.setLabelProvider(new LabelProvider());
+		assertEquals(treeViewer.getTree().getItemCount(), treeViewer.getChangedCellCount());
+
+		treeViewer.resetChangedCellCount();
+		treeViewer.refresh();
+		assertEquals(0, treeViewer.getChangedCellCount());
+
+		fRootElement.getFirstChild().setLabel("changed");
+		treeViewer.refresh();
+		assertEquals(1, treeViewer.getChangedCellCount());
+	}
+
+	public void testUnchangedCellsAreNotUpdated() {
+		treeViewer.setTrackChangedCells(true);
+		treeViewer.setLabelProvider(new LabelProvider() {
+			public String getText(Object element) {
+				return ((TestElement) element).getLabel();
+			}
+		});
+		TreeItem item = treeViewer.getTree().getItem(0);
+		item.setText("outside");
+
+		treeViewer.refresh();
+		assertEquals("outside", item.getText());
+
+		fRootElement.getFirstChild().setLabel("changed");
+		treeViewer.refresh();
+		assertEquals("changed", item.getText());
+	}
 }
@@ -339,4 +339,18 @@ public class VirtualTableViewerTest extends TableViewerTest {
 		Set selectedSet = new HashSet(result.toList());
 		assertTrue("Elements do not match ", childrenSet.equals(selectedSet));
 	}
+
+	public void testChangedCellsAfterClear() {
+		TableViewer viewer = (TableViewer) fViewer;
+		viewer.setTrackChangedCells(true);
+		viewer.refresh();
+		TableItem item = viewer.getTable().getItem(0);
+		String text = item.getText();
+
+		// clears all items of the virtual table
+		viewer.refresh();
+
+		assertTrue(text.length() > 0);
+		assertEquals(text, item.getText());
+	}
 }
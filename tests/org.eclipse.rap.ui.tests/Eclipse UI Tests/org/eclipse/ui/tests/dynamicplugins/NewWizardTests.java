@@ -10,8 +10,22 @@
  *******************************************************************************/
 package org.eclipse.ui.tests.dynamicplugins;
 
+import java.util.Locale;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.client.Client;
+import org.eclipse.rap.rwt.client.service.ClientService;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.client.ClientSelector;
+import org.eclipse.rap.rwt.internal.lifecycle.ContextUtil;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.testfixture.internal.TestHttpSession;
 import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.dialogs.WorkbenchWizardElement;
 import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
+import org.eclipse.ui.internal.registry.KeywordRegistry;
 import org.eclipse.ui.wizards.IWizardRegistry;
 import org.eclipse.ui.wizards.IWizardDescriptor;
 
@@ -22,6 +36,8 @@ public class NewWizardTests extends DynamicTestCase {
 
 	private static final String WIZARD_ID = "org.eclipse.newNewWizard1.newNewWizard1";
 
+	private static final String KEYWORD_ID = "org.eclipse.newNewWizard1.keyword";
+
 	/**
 	 *
 	 */
@@ -47,6 +63,93 @@ public class NewWizardTests extends DynamicTestCase {
 		}
 	}
 
+	// RAP: the wizard registries are shared by all UI sessions
+	public void testRegistryIsSharedBetweenSessions() {
+		final IWizardRegistry registry = WorkbenchPlugin.getDefault().getNewWizardRegistry();
+		runInOtherSession(Locale.ENGLISH, new Runnable() {
+			public void run() {
+				assertSame(registry, WorkbenchPlugin.getDefault().getNewWizardRegistry());
+			}
+		});
+	}
+
+	public void testExtensionChangesInOtherSession() {
+		Runnable findWizard = new Runnable() {
+			public void run() {
+				IWizardRegistry registry = WorkbenchPlugin.getDefault().getNewWizardRegistry();
+				assertNotNull(registry.findWizard(WIZARD_ID));
+			}
+		};
+		Runnable findNoWizard = new Runnable() {
+			public void run() {
+				IWizardRegistry registry = WorkbenchPlugin.getDefault().getNewWizardRegistry();
+				assertNull(registry.findWizard(WIZARD_ID));
+			}
+		};
+
+		runInOtherSession(Locale.ENGLISH, findNoWizard);
+		getBundle();
+		runInOtherSession(Locale.ENGLISH, findWizard);
+		removeBundle();
+		runInOtherSession(Locale.ENGLISH, findNoWizard);
+	}
+
+	public void testKeywordLabelsPerSession() {
+		// the keyword registry tracks extensions with the workbench of this session
+		KeywordRegistry.getInstance();
+		getBundle();
+		final IWizardRegistry registry = WorkbenchPlugin.getDefault().getNewWizardRegistry();
+		final String[][] keywordLabels = new String[2][];
+		final String[] expected = new String[2];
+
+		runInOtherSession(Locale.ENGLISH, new Runnable() {
+			public void run() {
+				WorkbenchWizardElement wizard = (WorkbenchWizardElement) registry.findWizard(WIZARD_ID);
+				keywordLabels[0] = wizard.getKeywordLabels();
+				expected[0] = getKeywordElement().getAttribute("label");
+			}
+		});
+		runInOtherSession(Locale.GERMAN, new Runnable() {
+			public void run() {
+				WorkbenchWizardElement wizard = (WorkbenchWizardElement) registry.findWizard(WIZARD_ID);
+				keywordLabels[1] = wizard.getKeywordLabels();
+				expected[1] = getKeywordElement().getAttribute("label");
+			}
+		});
+
+		assertEquals(1, keywordLabels[0].length);
+		assertEquals(expected[0], keywordLabels[0][0]);
+		assertEquals(1, keywordLabels[1].length);
+		assertEquals(expected[1], keywordLabels[1][0]);
+	}
+
+	private static IConfigurationElement getKeywordElement() {
+		IConfigurationElement[] elements = Platform.getExtensionRegistry()
+				.getConfigurationElementsFor(WorkbenchPlugin.PI_WORKBENCH,
+						IWorkbenchRegistryConstants.PL_KEYWORDS);
+		for (int i = 0; i < elements.length; i++) {
+			if (KEYWORD_ID.equals(elements[i].getAttribute("id"))) {
+				return elements[i];
+			}
+		}
+		fail("keyword not found: " + KEYWORD_ID);
+		return null;
+	}
+
+	private static void runInOtherSession(Locale locale, Runnable runnable) {
+		ApplicationContextImpl applicationContext
+			= (ApplicationContextImpl) RWT.getApplicationContext();
+		UISessionImpl uiSession = new UISessionImpl(applicationContext, new TestHttpSession());
+		uiSession.setAttribute(ClientSelector.SELECTED_CLIENT, new Client() {
+			public <T extends ClientService> T getService(Class<T> type) {
+				return null;
+			}
+		});
+		uiSession.setLocale(locale);
+		ContextUtil.runNonUIThreadWithFakeContext(uiSession, runnable);
+	}
+	// RAPEND
+
 	/**
 	 * @param wizard
 	 */
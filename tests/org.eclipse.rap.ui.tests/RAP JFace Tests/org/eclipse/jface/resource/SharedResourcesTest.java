@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.resource;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.dialogs.Dialog;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.testfixture.internal.TestHttpSession;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.widgets.Display;
+
+/*
+ * Font definitions and default image descriptors are shared by the UI sessions of an
+ * application, the registries that hold them are not.
+ */
+public class SharedResourcesTest extends TestCase {
+
+	// a font definition that is bundled with JFace and defines the banner font
+	private static final String FONT_LOCATION = "org.eclipse.jface.resource.jfacefonts_linux"; //$NON-NLS-1$
+
+	public void testFontDataChangeDoesNotLeakIntoOtherSession() throws Throwable {
+		FontRegistry registry = new FontRegistry(FONT_LOCATION);
+		FontData fontData = registry.getFontData(JFaceResources.BANNER_FONT)[0];
+		int height = fontData.getHeight();
+		final FontData[][] otherFontData = new FontData[1][];
+
+		fontData.setHeight(height + 10);
+		runInOtherSession(new Runnable() {
+			public void run() {
+				FontRegistry otherRegistry = new FontRegistry(FONT_LOCATION);
+				otherFontData[0] = otherRegistry.getFontData(JFaceResources.BANNER_FONT);
+			}
+		});
+
+		assertNotSame(fontData, otherFontData[0][0]);
+		assertEquals(height, otherFontData[0][0].getHeight());
+	}
+
+	public void testDefaultImageDescriptorsAreSharedBetweenSessions() throws Throwable {
+		ImageRegistry registry = JFaceResources.getImageRegistry();
+		final ImageRegistry[] otherRegistry = new ImageRegistry[1];
+		final ImageDescriptor[] otherDescriptor = new ImageDescriptor[1];
+
+		runInOtherSession(new Runnable() {
+			public void run() {
+				otherRegistry[0] = JFaceResources.getImageRegistry();
+				otherDescriptor[0] = otherRegistry[0].getDescriptor(Dialog.DLG_IMG_MESSAGE_INFO);
+			}
+		});
+
+		assertNotNull(otherDescriptor[0]);
+		assertSame(registry.getDescriptor(Dialog.DLG_IMG_MESSAGE_INFO), otherDescriptor[0]);
+		assertNotSame(registry, otherRegistry[0]);
+	}
+
+	private static void runInOtherSession(final Runnable runnable) throws Throwable {
+		final ApplicationContextImpl applicationContext = ContextProvider.getApplicationContext();
+		final Throwable[] exception = new Throwable[1];
+		Thread thread = new Thread(new Runnable() {
+			public void run() {
+				TestRequest request = new TestRequest();
+				TestHttpSession httpSession = new TestHttpSession();
+				request.setSession(httpSession);
+				UISessionImpl uiSession = new UISessionImpl(applicationContext, httpSession);
+				ContextProvider.setContext(new ServiceContext(request, new TestResponse(), uiSession));
+				try {
+					Display display = new Display();
+					try {
+						runnable.run();
+					} finally {
+						display.dispose();
+					}
+				} catch (Throwable throwable) {
+					exception[0] = throwable;
+				} finally {
+					ContextProvider.disposeContext();
+				}
+			}
+		});
+		thread.start();
+		thread.join();
+		if (exception[0] != null) {
+			throw exception[0];
+		}
+	}
+}